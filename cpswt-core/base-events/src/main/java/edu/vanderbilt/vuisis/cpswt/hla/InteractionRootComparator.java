@@ -33,21 +33,29 @@ package edu.vanderbilt.vuisis.cpswt.hla;
 import java.util.Comparator;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot;
 
+/**
+ * Orders interactions by timestamp, then (if both are derived from
+ * InteractionRoot.C2WInteractionRoot) by "actualLogicalGenerationTime", then by unique id.
+ * Compares the sort keys cached in the interactions (see {@link InteractionRoot#updateSortKey()}).
+ */
 public class InteractionRootComparator implements Comparator<InteractionRoot> {
+
+    static {
+        InteractionRoot.set_sort_key_generation_time_parameter(
+                C2WInteractionRoot.get_hla_class_name(), "actualLogicalGenerationTime"
+        );
+    }
+
     public int compare(InteractionRoot interactionRoot1, InteractionRoot interactionRoot2) {
 
-        final int timeCompare = Double.compare(interactionRoot1.getTime(), interactionRoot2.getTime());
+        final int timeCompare = Double.compare(interactionRoot1.getSortKeyTime(), interactionRoot2.getSortKeyTime());
         if (timeCompare != 0) {
             return timeCompare;
         }
 
-        if (
-                interactionRoot1.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name()) &&
-                        interactionRoot2.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())
-        ) {
+        if (interactionRoot1.getSortKeyHasGenerationTime() && interactionRoot2.getSortKeyHasGenerationTime()) {
             final int actualLogicalGenerationTimeCompare = Double.compare(
-                    (double)interactionRoot1.getParameter("actualLogicalGenerationTime"),
-                    (double)interactionRoot2.getParameter("actualLogicalGenerationTime")
+                    interactionRoot1.getSortKeyGenerationTime(), interactionRoot2.getSortKeyGenerationTime()
             );
             if (actualLogicalGenerationTimeCompare != 0) {
                 return actualLogicalGenerationTimeCompare;
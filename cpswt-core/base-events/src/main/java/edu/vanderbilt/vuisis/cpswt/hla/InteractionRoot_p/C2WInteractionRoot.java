@@ -158,6 +158,18 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _actualLogicalGenerationTime_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime");
+
+    private static final ClassAndPropertyName _federateFilter_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot", "federateFilter");
+
+    private static final ClassAndPropertyName _federateSequence_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot", "federateSequence");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -168,15 +180,9 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "federateFilter"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "federateSequence"
-        ));
+        classAndPropertyNameSet.add(_actualLogicalGenerationTime_key);
+        classAndPropertyNameSet.add(_federateFilter_key);
+        classAndPropertyNameSet.add(_federateSequence_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -186,17 +192,11 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
-        ));
+        allClassAndPropertyNameSet.add(_actualLogicalGenerationTime_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "federateFilter"
-        ));
+        allClassAndPropertyNameSet.add(_federateFilter_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot", "federateSequence"
-        ));
+        allClassAndPropertyNameSet.add(_federateSequence_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -205,13 +205,13 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
+        key = _actualLogicalGenerationTime_key;
         _classAndPropertyNameInitialValueMap.put(key, (double)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "federateFilter");
+        key = _federateFilter_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "federateSequence");
+        key = _federateSequence_key;
         _classAndPropertyNameInitialValueMap.put(key, "[]");
 
         commonInit(get_hla_class_name());
@@ -433,8 +433,9 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @param value the new value for the "actualLogicalGenerationTime" parameter
      */
     public void set_actualLogicalGenerationTime(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
+        ClassAndPropertyName key = _actualLogicalGenerationTime_key;
         classAndPropertyNameValueMap.put(key, value);
+        invalidateSortKey();
     }
 
     /**
@@ -443,7 +444,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @return the value of the "actualLogicalGenerationTime" parameter
      */
     public double get_actualLogicalGenerationTime() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
+        ClassAndPropertyName key = _actualLogicalGenerationTime_key;
         return (double)classAndPropertyNameValueMap.get(key);
     }
 
@@ -454,7 +455,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @param value the new value for the "federateFilter" parameter
      */
     public void set_federateFilter(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "federateFilter");
+        ClassAndPropertyName key = _federateFilter_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -464,7 +465,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @return the value of the "federateFilter" parameter
      */
     public String get_federateFilter() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "federateFilter");
+        ClassAndPropertyName key = _federateFilter_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -475,7 +476,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @param value the new value for the "federateSequence" parameter
      */
     public void set_federateSequence(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "federateSequence");
+        ClassAndPropertyName key = _federateSequence_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -485,7 +486,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @return the value of the "federateSequence" parameter
      */
     public String get_federateSequence() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "federateSequence");
+        ClassAndPropertyName key = _federateSequence_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -626,6 +627,20 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
         super.sendInteraction( rti );
     }
 
+    // THIS METHOD ACTS AS AN ERROR DETECTOR -- ALL INSTANCES OF C2WInteractionRoot
+    // SHOULD HAVE A NON-EMPTY JSON-ARRAY VALUE FOR THEIR federateSequence PARAMETER.
+    @Override
+    public void sendInteraction( RTIambassador rti, List<Integer> classHandleList, double time ) throws Exception {
+
+        if (  !is_federate_sequence( get_federateSequence() )  ) {
+            throw new Exception(
+                "federateSequence parameter is invalid: must contain sequence " +
+                "of federate-ids of federates that have handled this interaction."
+            );
+        }
+        super.sendInteraction( rti, classHandleList, time );
+    }
+
     protected C2WInteractionRoot(NoInstanceInit noInstanceInit) {
         super(noInstanceInit);
     }
@@ -172,15 +172,15 @@ public class ActionBase extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -153,6 +153,18 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _command_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "command");
+
+    private static final ClassAndPropertyName _hlaClassName_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "hlaClassName");
+
+    private static final ClassAndPropertyName _messagingJson_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "messagingJson");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -163,15 +175,9 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "command"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "hlaClassName"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "messagingJson"
-        ));
+        classAndPropertyNameSet.add(_command_key);
+        classAndPropertyNameSet.add(_hlaClassName_key);
+        classAndPropertyNameSet.add(_messagingJson_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -181,27 +187,21 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "command"
-        ));
+        allClassAndPropertyNameSet.add(_command_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "hlaClassName"
-        ));
+        allClassAndPropertyNameSet.add(_hlaClassName_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.EmbeddedMessaging", "messagingJson"
-        ));
+        allClassAndPropertyNameSet.add(_messagingJson_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -212,13 +212,13 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "command");
+        key = _command_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "hlaClassName");
+        key = _hlaClassName_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "messagingJson");
+        key = _messagingJson_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
         commonInit(get_hla_class_name());
@@ -440,7 +440,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @param value the new value for the "command" parameter
      */
     public void set_command(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "command");
+        ClassAndPropertyName key = _command_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -450,7 +450,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @return the value of the "command" parameter
      */
     public String get_command() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "command");
+        ClassAndPropertyName key = _command_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -461,7 +461,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @param value the new value for the "hlaClassName" parameter
      */
     public void set_hlaClassName(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "hlaClassName");
+        ClassAndPropertyName key = _hlaClassName_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -471,7 +471,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @return the value of the "hlaClassName" parameter
      */
     public String get_hlaClassName() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "hlaClassName");
+        ClassAndPropertyName key = _hlaClassName_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -482,7 +482,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @param value the new value for the "messagingJson" parameter
      */
     public void set_messagingJson(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "messagingJson");
+        ClassAndPropertyName key = _messagingJson_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -492,7 +492,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
      * @return the value of the "messagingJson" parameter
      */
     public String get_messagingJson() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "messagingJson");
+        ClassAndPropertyName key = _messagingJson_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -153,6 +153,18 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _FederateId_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateId");
+
+    private static final ClassAndPropertyName _FederateType_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateType");
+
+    private static final ClassAndPropertyName _IsLateJoiner_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "IsLateJoiner");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -163,15 +175,9 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateId"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateType"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "IsLateJoiner"
-        ));
+        classAndPropertyNameSet.add(_FederateId_key);
+        classAndPropertyNameSet.add(_FederateType_key);
+        classAndPropertyNameSet.add(_IsLateJoiner_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -181,27 +187,21 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateId"
-        ));
+        allClassAndPropertyNameSet.add(_FederateId_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "FederateType"
-        ));
+        allClassAndPropertyNameSet.add(_FederateType_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction", "IsLateJoiner"
-        ));
+        allClassAndPropertyNameSet.add(_IsLateJoiner_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -212,13 +212,13 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FederateId");
+        key = _FederateId_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        key = _FederateType_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
+        key = _IsLateJoiner_key;
         _classAndPropertyNameInitialValueMap.put(key, false);
 
         commonInit(get_hla_class_name());
@@ -440,7 +440,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @param value the new value for the "FederateId" parameter
      */
     public void set_FederateId(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateId");
+        ClassAndPropertyName key = _FederateId_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -450,7 +450,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @return the value of the "FederateId" parameter
      */
     public String get_FederateId() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateId");
+        ClassAndPropertyName key = _FederateId_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -461,7 +461,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @param value the new value for the "FederateType" parameter
      */
     public void set_FederateType(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        ClassAndPropertyName key = _FederateType_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -471,7 +471,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @return the value of the "FederateType" parameter
      */
     public String get_FederateType() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        ClassAndPropertyName key = _FederateType_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -482,7 +482,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @param value the new value for the "IsLateJoiner" parameter
      */
     public void set_IsLateJoiner(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
+        ClassAndPropertyName key = _IsLateJoiner_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -492,7 +492,7 @@ public class FederateJoinInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Int
      * @return the value of the "IsLateJoiner" parameter
      */
     public boolean get_IsLateJoiner() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
+        ClassAndPropertyName key = _IsLateJoiner_key;
         return (boolean)classAndPropertyNameValueMap.get(key);
     }
 
@@ -153,6 +153,18 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _Comment_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.SimLog", "Comment");
+
+    private static final ClassAndPropertyName _FedName_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.SimLog", "FedName");
+
+    private static final ClassAndPropertyName _Time_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.SimLog", "Time");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -163,15 +175,9 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "Comment"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "FedName"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "Time"
-        ));
+        classAndPropertyNameSet.add(_Comment_key);
+        classAndPropertyNameSet.add(_FedName_key);
+        classAndPropertyNameSet.add(_Time_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -181,27 +187,21 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "Comment"
-        ));
+        allClassAndPropertyNameSet.add(_Comment_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "FedName"
-        ));
+        allClassAndPropertyNameSet.add(_FedName_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.SimLog", "Time"
-        ));
+        allClassAndPropertyNameSet.add(_Time_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -212,13 +212,13 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "Comment");
+        key = _Comment_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FedName");
+        key = _FedName_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "Time");
+        key = _Time_key;
         _classAndPropertyNameInitialValueMap.put(key, (double)0);
 
         commonInit(get_hla_class_name());
@@ -440,7 +440,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @param value the new value for the "Comment" parameter
      */
     public void set_Comment(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Comment");
+        ClassAndPropertyName key = _Comment_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -450,7 +450,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @return the value of the "Comment" parameter
      */
     public String get_Comment() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Comment");
+        ClassAndPropertyName key = _Comment_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -461,7 +461,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @param value the new value for the "FedName" parameter
      */
     public void set_FedName(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FedName");
+        ClassAndPropertyName key = _FedName_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -471,7 +471,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @return the value of the "FedName" parameter
      */
     public String get_FedName() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FedName");
+        ClassAndPropertyName key = _FedName_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
@@ -482,7 +482,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @param value the new value for the "Time" parameter
      */
     public void set_Time(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Time");
+        ClassAndPropertyName key = _Time_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -492,7 +492,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @return the value of the "Time" parameter
      */
     public double get_Time() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Time");
+        ClassAndPropertyName key = _Time_key;
         return (double)classAndPropertyNameValueMap.get(key);
     }
 
@@ -154,6 +154,18 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _FederateHandle_key =
+      ClassAndPropertyName.get("ObjectRoot.FederateObject", "FederateHandle");
+
+    private static final ClassAndPropertyName _FederateHost_key =
+      ClassAndPropertyName.get("ObjectRoot.FederateObject", "FederateHost");
+
+    private static final ClassAndPropertyName _FederateType_key =
+      ClassAndPropertyName.get("ObjectRoot.FederateObject", "FederateType");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -164,15 +176,9 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateHandle"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateHost"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateType"
-        ));
+        classAndPropertyNameSet.add(_FederateHandle_key);
+        classAndPropertyNameSet.add(_FederateHost_key);
+        classAndPropertyNameSet.add(_FederateType_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -182,17 +188,11 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateHandle"
-        ));
+        allClassAndPropertyNameSet.add(_FederateHandle_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateHost"
-        ));
+        allClassAndPropertyNameSet.add(_FederateHost_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.FederateObject", "FederateType"
-        ));
+        allClassAndPropertyNameSet.add(_FederateType_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -201,13 +201,13 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
+        key = _FederateHandle_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FederateHost");
+        key = _FederateHost_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        key = _FederateType_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
         commonInit(get_hla_class_name());
@@ -469,7 +469,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "FederateHandle" parameter
      */
     public void set_FederateHandle(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
+        ClassAndPropertyName key = _FederateHandle_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -481,7 +481,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FederateHandle" parameter
      */
     public int get_FederateHandle() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
+        ClassAndPropertyName key = _FederateHandle_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -491,9 +491,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FederateHandle" attribute
      */
     public double get_FederateHandle_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FederateHandle")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FederateHandle_key)).getTime();
     }
 
 
@@ -503,7 +501,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "FederateHost" parameter
      */
     public void set_FederateHost(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHost");
+        ClassAndPropertyName key = _FederateHost_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -515,7 +513,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FederateHost" parameter
      */
     public String get_FederateHost() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHost");
+        ClassAndPropertyName key = _FederateHost_key;
         return (String)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -525,9 +523,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FederateHost" attribute
      */
     public double get_FederateHost_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FederateHost")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FederateHost_key)).getTime();
     }
 
 
@@ -537,7 +533,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "FederateType" parameter
      */
     public void set_FederateType(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        ClassAndPropertyName key = _FederateType_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -549,7 +545,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FederateType" parameter
      */
     public String get_FederateType() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
+        ClassAndPropertyName key = _FederateType_key;
         return (String)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -559,9 +555,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FederateType" attribute
      */
     public double get_FederateType_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FederateType")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FederateType_key)).getTime();
     }
 
     //----------------------------------
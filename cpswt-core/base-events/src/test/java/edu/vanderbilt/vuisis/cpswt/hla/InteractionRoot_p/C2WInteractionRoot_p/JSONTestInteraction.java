@@ -155,6 +155,12 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _JSONParameter_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.JSONTestInteraction", "JSONParameter");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -165,9 +171,7 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.JSONTestInteraction", "JSONParameter"
-        ));
+        classAndPropertyNameSet.add(_JSONParameter_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -177,19 +181,17 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.JSONTestInteraction", "JSONParameter"
-        ));
+        allClassAndPropertyNameSet.add(_JSONParameter_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -200,7 +202,7 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "JSONParameter");
+        key = _JSONParameter_key;
         _classAndPropertyNameInitialValueMap.put(key, new TextNode(""));
 
         commonInit(get_hla_class_name());
@@ -422,7 +424,7 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
      * @param value the new value for the "JSONParameter" parameter
      */
     public void set_JSONParameter(JsonNode value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONParameter");
+        ClassAndPropertyName key = _JSONParameter_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -432,7 +434,7 @@ public class JSONTestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interac
      * @return the value of the "JSONParameter" parameter
      */
     public JsonNode get_JSONParameter() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONParameter");
+        ClassAndPropertyName key = _JSONParameter_key;
         return (JsonNode)classAndPropertyNameValueMap.get(key);
     }
 
@@ -419,6 +419,35 @@ public class InteractionTests {
         Assert.assertEquals(doubleValue4, simLogInteraction.get_Time(), 0.01);
     }
 
+    @Test
+    public void sortKeyTest() {
+        InteractionRootComparator interactionRootComparator = new InteractionRootComparator();
+
+        SimLog simLog1 = new SimLog();
+        simLog1.setTime(5);
+        simLog1.set_actualLogicalGenerationTime(2.0);
+        SimLog simLog2 = new SimLog();
+        simLog2.setTime(5);
+        simLog2.set_actualLogicalGenerationTime(1.0);
+        Assert.assertTrue(interactionRootComparator.compare(simLog1, simLog2) > 0);
+
+        // SETTING THE GENERATION TIME AFTER THE SORT KEY HAS BEEN TAKEN RETAKES IT
+        simLog1.set_actualLogicalGenerationTime(0.5);
+        Assert.assertTrue(interactionRootComparator.compare(simLog1, simLog2) < 0);
+        simLog1.setParameter("actualLogicalGenerationTime", 3.0);
+        Assert.assertTrue(interactionRootComparator.compare(simLog1, simLog2) > 0);
+
+        // DYNAMIC INSTANCES ARE SORTED BY GENERATION TIME TOO
+        InteractionRoot dynamicSimLogInteraction = new InteractionRoot(SimLog.get_hla_class_name());
+        dynamicSimLogInteraction.setTime(5);
+        dynamicSimLogInteraction.setParameter("actualLogicalGenerationTime", 1.5);
+        Assert.assertTrue(interactionRootComparator.compare(dynamicSimLogInteraction, simLog2) > 0);
+        Assert.assertTrue(interactionRootComparator.compare(dynamicSimLogInteraction, simLog1) < 0);
+
+        simLog1.setTime(4);
+        Assert.assertTrue(interactionRootComparator.compare(dynamicSimLogInteraction, simLog1) > 0);
+    }
+
     @Test
     public void messagingInstanceHlaClassTest() {
         InteractionRoot interactionRoot = new InteractionRoot(
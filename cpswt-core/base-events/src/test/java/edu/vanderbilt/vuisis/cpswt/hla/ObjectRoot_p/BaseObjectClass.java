@@ -154,6 +154,15 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _int_attribute1_key =
+      ClassAndPropertyName.get("ObjectRoot.BaseObjectClass", "int_attribute1");
+
+    private static final ClassAndPropertyName _string_attribute1_key =
+      ClassAndPropertyName.get("ObjectRoot.BaseObjectClass", "string_attribute1");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -164,12 +173,8 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass", "int_attribute1"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass", "string_attribute1"
-        ));
+        classAndPropertyNameSet.add(_int_attribute1_key);
+        classAndPropertyNameSet.add(_string_attribute1_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -179,13 +184,9 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass", "int_attribute1"
-        ));
+        allClassAndPropertyNameSet.add(_int_attribute1_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass", "string_attribute1"
-        ));
+        allClassAndPropertyNameSet.add(_string_attribute1_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -194,10 +195,10 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        key = _int_attribute1_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute1");
+        key = _string_attribute1_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
         commonInit(get_hla_class_name());
@@ -459,7 +460,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @param value the new value for the "int_attribute1" parameter
      */
     public void set_int_attribute1(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        ClassAndPropertyName key = _int_attribute1_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -471,7 +472,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the value of the "int_attribute1" parameter
      */
     public int get_int_attribute1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        ClassAndPropertyName key = _int_attribute1_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -481,9 +482,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the current timestamp of the "int_attribute1" attribute
      */
     public double get_int_attribute1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "int_attribute1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_int_attribute1_key)).getTime();
     }
 
 
@@ -493,7 +492,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @param value the new value for the "string_attribute1" parameter
      */
     public void set_string_attribute1(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute1");
+        ClassAndPropertyName key = _string_attribute1_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -505,7 +504,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the value of the "string_attribute1" parameter
      */
     public String get_string_attribute1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute1");
+        ClassAndPropertyName key = _string_attribute1_key;
         return (String)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -515,9 +514,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the current timestamp of the "string_attribute1" attribute
      */
     public double get_string_attribute1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "string_attribute1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_string_attribute1_key)).getTime();
     }
 
     //----------------------------------
@@ -154,6 +154,18 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _int_attribute1_key =
+      ClassAndPropertyName.get("ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute1");
+
+    private static final ClassAndPropertyName _int_attribute2_key =
+      ClassAndPropertyName.get("ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute2");
+
+    private static final ClassAndPropertyName _string_attribute2_key =
+      ClassAndPropertyName.get("ObjectRoot.BaseObjectClass.DerivedObjectClass", "string_attribute2");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -164,15 +176,9 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute1"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute2"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "string_attribute2"
-        ));
+        classAndPropertyNameSet.add(_int_attribute1_key);
+        classAndPropertyNameSet.add(_int_attribute2_key);
+        classAndPropertyNameSet.add(_string_attribute2_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -182,23 +188,17 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute1"
-        ));
+        allClassAndPropertyNameSet.add(_int_attribute1_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "int_attribute2"
-        ));
+        allClassAndPropertyNameSet.add(_int_attribute2_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.BaseObjectClass.DerivedObjectClass", "string_attribute2"
-        ));
+        allClassAndPropertyNameSet.add(_string_attribute2_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "ObjectRoot.BaseObjectClass", "int_attribute1"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "ObjectRoot.BaseObjectClass", "string_attribute1"
         ));
 
@@ -209,13 +209,13 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        key = _int_attribute1_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute2");
+        key = _int_attribute2_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute2");
+        key = _string_attribute2_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
         commonInit(get_hla_class_name());
@@ -477,7 +477,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @param value the new value for the "int_attribute1" parameter
      */
     public void set_int_attribute1(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        ClassAndPropertyName key = _int_attribute1_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -489,7 +489,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the value of the "int_attribute1" parameter
      */
     public int get_int_attribute1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+        ClassAndPropertyName key = _int_attribute1_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -499,9 +499,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the current timestamp of the "int_attribute1" attribute
      */
     public double get_int_attribute1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "int_attribute1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_int_attribute1_key)).getTime();
     }
 
 
@@ -511,7 +509,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @param value the new value for the "int_attribute2" parameter
      */
     public void set_int_attribute2(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute2");
+        ClassAndPropertyName key = _int_attribute2_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -523,7 +521,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the value of the "int_attribute2" parameter
      */
     public int get_int_attribute2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute2");
+        ClassAndPropertyName key = _int_attribute2_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -533,9 +531,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the current timestamp of the "int_attribute2" attribute
      */
     public double get_int_attribute2_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "int_attribute2")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_int_attribute2_key)).getTime();
     }
 
 
@@ -545,7 +541,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @param value the new value for the "string_attribute2" parameter
      */
     public void set_string_attribute2(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute2");
+        ClassAndPropertyName key = _string_attribute2_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -557,7 +553,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the value of the "string_attribute2" parameter
      */
     public String get_string_attribute2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute2");
+        ClassAndPropertyName key = _string_attribute2_key;
         return (String)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -567,9 +563,7 @@ public class DerivedObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRo
      * @return the current timestamp of the "string_attribute2" attribute
      */
     public double get_string_attribute2_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "string_attribute2")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_string_attribute2_key)).getTime();
     }
 
     //----------------------------------
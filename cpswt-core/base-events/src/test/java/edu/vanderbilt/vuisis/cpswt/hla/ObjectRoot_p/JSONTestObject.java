@@ -156,6 +156,12 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _JSONAttribute_key =
+      ClassAndPropertyName.get("ObjectRoot.JSONTestObject", "JSONAttribute");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -166,9 +172,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.JSONTestObject", "JSONAttribute"
-        ));
+        classAndPropertyNameSet.add(_JSONAttribute_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -178,9 +182,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.JSONTestObject", "JSONAttribute"
-        ));
+        allClassAndPropertyNameSet.add(_JSONAttribute_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -189,7 +191,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "JSONAttribute");
+        key = _JSONAttribute_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(new TextNode("")));
 
         commonInit(get_hla_class_name());
@@ -451,7 +453,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "JSONAttribute" parameter
      */
     public void set_JSONAttribute(JsonNode value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONAttribute");
+        ClassAndPropertyName key = _JSONAttribute_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -463,7 +465,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "JSONAttribute" parameter
      */
     public JsonNode get_JSONAttribute() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONAttribute");
+        ClassAndPropertyName key = _JSONAttribute_key;
         return (JsonNode)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -473,9 +475,7 @@ public class JSONTestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "JSONAttribute" attribute
      */
     public double get_JSONAttribute_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "JSONAttribute")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_JSONAttribute_key)).getTime();
     }
 
     //----------------------------------
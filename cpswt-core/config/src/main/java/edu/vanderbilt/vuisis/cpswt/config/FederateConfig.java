@@ -111,6 +111,95 @@ public class FederateConfig {
     @FederateParameterOptional
     public String federateDynamicMessagingJsonFileName;
 
+    /**
+     * Optional 'propertyEncoding' parameter that names the encoding used for parameter and attribute
+     * values sent to the RTI:  "string" (the default) or "binary".  All federates in a federation
+     * must use the same encoding.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String propertyEncoding;
+
+    /**
+     * Optional 'embeddedMessagingEncoding' parameter that names the encoding of the interactions and
+     * objects this federate sends in EmbeddedMessaging interactions:  "json" (the default) or "binary".
+     * Federates accept both encodings.  With "binary", binary payloads are only sent to the federates
+     * that have announced that they support them, and JSON payloads to all others.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String embeddedMessagingEncoding;
+
+    /**
+     * Optional 'useRTIExecutor' parameter that, if true, makes the federate send its interactions and
+     * attribute updates, tick the RTI, and request time advances through a single RTIExecutor thread,
+     * so that sending threads never wait for the RTI.  Defaults to false.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean useRTIExecutor;
+
+    /**
+     * Optional 'useOutboundStepBatch' parameter that, if true, makes the federate collect the interactions
+     * and attribute updates it sends during each time-step, and send them all together before its next
+     * time-advance request.  Updates of the same object in a time-step are coalesced.  Defaults to false.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean useOutboundStepBatch;
+
+    /**
+     * Optional 'inboundQueueCapacity' parameter that bounds the number of received interactions, and the
+     * number of received attribute reflections, that the federate queues.  0 (the default) means unbounded.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int inboundQueueCapacity;
+
+    /**
+     * Optional 'inboundQueueOverflowPolicy' parameter that says what is done with a received interaction
+     * or reflection when its queue is full:  "BLOCK", "DROP_OLDEST", "COALESCE" or "SPILL_TO_DISK".
+     * Defaults to "BLOCK" for interactions and "COALESCE" for reflections.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String inboundQueueOverflowPolicy;
+
+    /**
+     * Optional 'inboundQueueBlockTimeoutOverflowPolicy' parameter that says what is done with a received
+     * interaction or reflection whose policy is "BLOCK" when no room is made on its queue in time:
+     * "DROP_OLDEST", "COALESCE" or "SPILL_TO_DISK" (the default).
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String inboundQueueBlockTimeoutOverflowPolicy;
+
+    /**
+     * Optional 'inboundQueueSpillDirectory' parameter that names the directory for the files that the
+     * "SPILL_TO_DISK" overflow policy writes to.  Defaults to the system's temporary-file directory.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String inboundQueueSpillDirectory;
+
+    /**
+     * Optional 'coalesceObjectReflections' parameter that, if true, makes the federate merge the reflections
+     * of an object that it receives before it takes them, so that it takes only the newest state of each
+     * object.  Defaults to false.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean coalesceObjectReflections;
+
     /**
      * Default constructor for FederateConfig.
      */
@@ -0,0 +1,247 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Sends the attribute updates of a federate's registered objects once per time-step, for only
+ * the objects whose attributes have been set since their last update.
+ * <p>
+ * An object that is added to the scheduler tells it when one of its attributes is set after all
+ * of them had been sent (see {@link ObjectRoot#setAttributeDirtyListener}), so the scheduler
+ * keeps a queue of changed objects, and {@link #pushDirtyObjects(double)} only visits those, not
+ * every object the federate owns.  An object class can be given a minimum update interval, in
+ * which case an object of that class (or of a class derived from it) that changes more often is
+ * updated at most once per interval, with its latest values.
+ * <p>
+ * Attributes must not be set while {@link #pushDirtyObjects(double)} runs, which is the case when
+ * it is called between time-steps (see {@link SynchronizedFederate#pushScheduledAttributeUpdates()}).
+ */
+public class AttributeUpdateScheduler {
+
+    private static final Logger logger = LogManager.getLogger(AttributeUpdateScheduler.class);
+
+    /**
+     * Sends the attribute update of an object.
+     */
+    @FunctionalInterface
+    public interface AttributeUpdater {
+        /**
+         * @param objectRoot object whose changed attributes to send
+         * @param time timestamp of the update, or a negative value to send it without a timestamp
+         */
+        void updateAttributeValues(ObjectRoot objectRoot, double time) throws Exception;
+    }
+
+    private static class Registration {
+        private final ObjectRoot _objectRoot;
+        private final boolean _timestamped;
+        private final AtomicBoolean _queued = new AtomicBoolean(false);
+        private volatile boolean _registered = true;
+        private double _lastUpdateTime = Double.NEGATIVE_INFINITY;
+
+        private Registration(ObjectRoot objectRoot, boolean timestamped) {
+            _objectRoot = objectRoot;
+            _timestamped = timestamped;
+        }
+    }
+
+    private final AttributeUpdater _attributeUpdater;
+
+    private final Map<ObjectRoot, Registration> _objectRootRegistrationMap = new IdentityHashMap<>();
+    private final ConcurrentLinkedQueue<Registration> _dirtyRegistrationQueue = new ConcurrentLinkedQueue<>();
+    // CHANGED OBJECTS WHOSE UPDATE WAS HELD BACK BY THE MINIMUM UPDATE INTERVAL OF THEIR CLASS
+    private List<Registration> _deferredRegistrationList = new ArrayList<>();
+
+    private final Map<String, Double> _hlaClassNameMinimumUpdateIntervalMap = new ConcurrentHashMap<>();
+
+    private int _attributePublicationVersion = ObjectRoot.get_attribute_publication_version();
+
+    public AttributeUpdateScheduler(AttributeUpdater attributeUpdater) {
+        _attributeUpdater = attributeUpdater;
+    }
+
+    private void enqueue(Registration registration) {
+        if (registration._registered && registration._queued.compareAndSet(false, true)) {
+            _dirtyRegistrationQueue.add(registration);
+        }
+    }
+
+    /**
+     * Adds an object to this scheduler.  If the object has attributes to update, it is updated at
+     * the next {@link #pushDirtyObjects(double)}.
+     *
+     * @param objectRoot object whose updates to schedule
+     * @param timestamped true if the object's updates are to be sent with a timestamp
+     */
+    public synchronized void add(ObjectRoot objectRoot, boolean timestamped) {
+        remove(objectRoot);
+        Registration registration = new Registration(objectRoot, timestamped);
+        _objectRootRegistrationMap.put(objectRoot, registration);
+        objectRoot.setAttributeDirtyListener(dirtyObjectRoot -> enqueue(registration));
+        if (objectRoot.hasDirtyAttributes()) {
+            enqueue(registration);
+        }
+    }
+
+    /**
+     * Removes an object from this scheduler.  Its pending changes, if any, are not sent.
+     *
+     * @param objectRoot object to remove
+     */
+    public synchronized void remove(ObjectRoot objectRoot) {
+        Registration registration = _objectRootRegistrationMap.remove(objectRoot);
+        if (registration != null) {
+            registration._registered = false;
+            objectRoot.setAttributeDirtyListener(null);
+        }
+    }
+
+    public synchronized boolean contains(ObjectRoot objectRoot) {
+        return _objectRootRegistrationMap.containsKey(objectRoot);
+    }
+
+    public synchronized int size() {
+        return _objectRootRegistrationMap.size();
+    }
+
+    /**
+     * Sets the minimum interval, in federation time, between the updates of an object of the given
+     * class, or of a class derived from it that has no interval of its own.
+     *
+     * @param hlaClassName fully-qualified name of the object class
+     * @param minimumUpdateInterval minimum interval between updates, or 0 (or less) for none
+     */
+    public void setMinimumUpdateInterval(String hlaClassName, double minimumUpdateInterval) {
+        if (minimumUpdateInterval > 0) {
+            _hlaClassNameMinimumUpdateIntervalMap.put(hlaClassName, minimumUpdateInterval);
+        } else {
+            _hlaClassNameMinimumUpdateIntervalMap.remove(hlaClassName);
+        }
+    }
+
+    /**
+     * Returns the minimum interval between the updates of an object of the given class, which is
+     * that of the class itself if it has one, else that of its parent class, and so on.
+     *
+     * @param hlaClassName fully-qualified name of the object class
+     * @return the minimum interval between updates, or 0 if there is none
+     */
+    public double getMinimumUpdateInterval(String hlaClassName) {
+        if (_hlaClassNameMinimumUpdateIntervalMap.isEmpty()) {
+            return 0;
+        }
+        String currentHlaClassName = hlaClassName;
+        while (true) {
+            Double minimumUpdateInterval = _hlaClassNameMinimumUpdateIntervalMap.get(currentHlaClassName);
+            if (minimumUpdateInterval != null) {
+                return minimumUpdateInterval;
+            }
+            int position = currentHlaClassName.lastIndexOf('.');
+            if (position < 0) {
+                return 0;
+            }
+            currentHlaClassName = currentHlaClassName.substring(0, position);
+        }
+    }
+
+    /**
+     * Sends the updates of the objects that have changed since their last update, except those held
+     * back by the minimum update interval of their class, which are sent by a later call.
+     *
+     * @param time timestamp of the updates of the objects that were added as timestamped.  It is
+     * also the time used for the minimum update intervals.
+     * @return the number of objects that were updated
+     */
+    public synchronized int pushDirtyObjects(double time) {
+
+        // IF AN ATTRIBUTE WAS PUBLISHED, OBJECTS MAY HAVE CHANGES TO SEND THAT THEY HAVE NOT REPORTED
+        int attributePublicationVersion = ObjectRoot.get_attribute_publication_version();
+        if (attributePublicationVersion != _attributePublicationVersion) {
+            _attributePublicationVersion = attributePublicationVersion;
+            for(Registration registration : _objectRootRegistrationMap.values()) {
+                if (registration._objectRoot.hasDirtyAttributes()) {
+                    enqueue(registration);
+                }
+            }
+        }
+
+        List<Registration> registrationList = _deferredRegistrationList;
+        _deferredRegistrationList = new ArrayList<>();
+        Registration dirtyRegistration;
+        while ((dirtyRegistration = _dirtyRegistrationQueue.poll()) != null) {
+            registrationList.add(dirtyRegistration);
+        }
+
+        int updateCount = 0;
+        for(Registration registration : registrationList) {
+            if (!registration._registered) {
+                continue;
+            }
+
+            ObjectRoot objectRoot = registration._objectRoot;
+            double minimumUpdateInterval = getMinimumUpdateInterval(objectRoot.getInstanceHlaClassName());
+            if (minimumUpdateInterval > 0 && time < registration._lastUpdateTime + minimumUpdateInterval) {
+                _deferredRegistrationList.add(registration);
+                continue;
+            }
+
+            // DEQUEUED BEFORE THE UPDATE, SO THAT IT IS QUEUED AGAIN BY ITS NEXT CHANGE
+            registration._queued.set(false);
+            try {
+                _attributeUpdater.updateAttributeValues(objectRoot, registration._timestamped ? time : -1);
+            } catch (Exception e) {
+                logger.error(
+                  "AttributeUpdateScheduler:  could not update attributes of object with handle {}",
+                  objectRoot.getObjectHandle()
+                );
+                logger.error("{}", CpswtUtils.getStackTrace(e));
+            }
+            registration._lastUpdateTime = time;
+            ++updateCount;
+        }
+
+        return updateCount;
+    }
+}
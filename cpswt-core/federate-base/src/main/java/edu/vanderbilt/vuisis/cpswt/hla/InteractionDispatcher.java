@@ -0,0 +1,297 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Optional dispatcher that hands received interactions to handlers registered by
+ * interaction class, running the handlers of different classes in parallel.
+ * <p>
+ * Typical use, in place of a loop over {@link SynchronizedFederate#getNextInteractionNoWait()}
+ * in a federate's time-step:
+ * <pre>
+ *     atr.requestSyncStart();
+ *     interactionDispatcher.dispatch(this);
+ *     ...
+ * </pre>
+ * Each call to {@link #dispatch(SynchronizedFederate)} drains the interactions the federate has
+ * received and groups them by handler.  The interactions for a handler are passed to it one at
+ * a time, on one thread, in the order in which they were received from the federate's queue
+ * (i.e. timestamp order).  Different handlers run concurrently on the dispatcher's threads, and so
+ * must not share unsynchronized state.  The call returns only when every handler has finished with
+ * every interaction, so it acts as a barrier at the end of each time-step:  updates sent by the
+ * handlers are complete before the federate requests its next time-advance.
+ * <p>
+ * Handlers are looked up in an {@link InteractionHandlerTable}, so a handler registered for a class
+ * also handles the classes derived from it.  The table can be the dispatcher's own, or that of a
+ * federate (see {@link SynchronizedFederate#getInteractionHandlerTable()}), so that handlers
+ * registered on the federate are run in parallel.  Interactions for which no handler is registered
+ * are passed to the default handler, if any, or otherwise are logged and dropped.
+ */
+public class InteractionDispatcher {
+
+    private static final Logger logger = LogManager.getLogger(InteractionDispatcher.class);
+
+    private final InteractionHandlerTable _interactionHandlerTable;
+    private volatile Consumer<InteractionRoot> _defaultHandler = null;
+
+    private final ExecutorService _executorService;
+
+    /**
+     * Creates a dispatcher that runs handlers on virtual threads if the JVM supports them,
+     * and otherwise on a pool with one thread per available processor.
+     */
+    public InteractionDispatcher() {
+        this(create_default_executor_service());
+    }
+
+    /**
+     * Creates a dispatcher that runs handlers on a pool of threadCount threads.
+     *
+     * @param threadCount number of threads on which to run handlers
+     */
+    public InteractionDispatcher(int threadCount) {
+        this(new InteractionHandlerTable(), threadCount);
+    }
+
+    /**
+     * Creates a dispatcher that looks handlers up in the given table, and runs them on a pool of
+     * threadCount threads.
+     *
+     * @param interactionHandlerTable table in which to look up handlers
+     * @param threadCount number of threads on which to run handlers
+     */
+    public InteractionDispatcher(InteractionHandlerTable interactionHandlerTable, int threadCount) {
+        this(
+                interactionHandlerTable,
+                Executors.newFixedThreadPool(Math.max(threadCount, 1), create_thread_factory())
+        );
+    }
+
+    /**
+     * Creates a dispatcher that runs handlers on the given executor service.  The executor
+     * service is shut down by {@link #shutdown()}.
+     *
+     * @param executorService executor service on which to run handlers
+     */
+    public InteractionDispatcher(ExecutorService executorService) {
+        this(new InteractionHandlerTable(), executorService);
+    }
+
+    /**
+     * Creates a dispatcher that looks handlers up in the given table, and runs them on the
+     * given executor service.  The executor service is shut down by {@link #shutdown()}.
+     *
+     * @param interactionHandlerTable table in which to look up handlers
+     * @param executorService executor service on which to run handlers
+     */
+    public InteractionDispatcher(InteractionHandlerTable interactionHandlerTable, ExecutorService executorService) {
+        _interactionHandlerTable = interactionHandlerTable;
+        _executorService = executorService;
+    }
+
+    public InteractionHandlerTable getInteractionHandlerTable() {
+        return _interactionHandlerTable;
+    }
+
+    private static ThreadFactory create_thread_factory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "InteractionDispatcher");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ExecutorService create_default_executor_service() {
+        // VIRTUAL THREADS ARE LOOKED UP REFLECTIVELY SO THAT THIS STILL COMPILES AND RUNS ON OLDER JVMS
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException reflectiveOperationException) {
+            return Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), create_thread_factory()
+            );
+        }
+    }
+
+    /**
+     * Registers the handler for interactions of the given class and of the classes derived
+     * from it (see {@link InteractionHandlerTable#put(String, Consumer)}).
+     *
+     * @param hlaClassName fully-qualified name of the interaction class
+     * @param handler handler for interactions of the class, or null to remove the handler
+     */
+    public void setHandler(String hlaClassName, Consumer<InteractionRoot> handler) {
+        _interactionHandlerTable.put(hlaClassName, handler);
+    }
+
+    /**
+     * Registers the handler for interactions of the class with the given handle.
+     *
+     * @param classHandle handle (RTI assigned) of the interaction class
+     * @param handler handler for interactions of the class, or null to remove the handler
+     */
+    public void setHandler(int classHandle, Consumer<InteractionRoot> handler) {
+        String hlaClassName = InteractionRoot.get_hla_class_name(classHandle);
+        if (hlaClassName == null) {
+            logger.error("InteractionDispatcher.setHandler:  unknown interaction class handle {}", classHandle);
+            return;
+        }
+        setHandler(hlaClassName, handler);
+    }
+
+    /**
+     * Sets the handler for interactions whose class has no handler registered.
+     *
+     * @param defaultHandler handler for unhandled interactions, or null to log and drop them
+     */
+    public void setDefaultHandler(Consumer<InteractionRoot> defaultHandler) {
+        _defaultHandler = defaultHandler;
+    }
+
+    protected Consumer<InteractionRoot> getHandler(InteractionRoot interactionRoot) {
+        Consumer<InteractionRoot> handler = _interactionHandlerTable.get(interactionRoot);
+        return handler != null ? handler : _defaultHandler;
+    }
+
+    /**
+     * Dispatches all interactions that the federate has received (see
+     * {@link SynchronizedFederate#getNextInteractionNoWait()}), and waits for them to be handled.
+     *
+     * @param synchronizedFederate federate whose received interactions are to be dispatched
+     * @return the number of interactions dispatched
+     */
+    public int dispatch(SynchronizedFederate synchronizedFederate) {
+        List<InteractionRoot> interactionRootList = new ArrayList<>();
+        InteractionRoot interactionRoot;
+        while ((interactionRoot = synchronizedFederate.getNextInteractionNoWait()) != null) {
+            interactionRootList.add(interactionRoot);
+        }
+        return dispatch(interactionRootList);
+    }
+
+    /**
+     * Dispatches the given interactions, and waits for them to be handled.  The interactions
+     * for each handler are passed to it in list order.
+     *
+     * @param interactionRootList interactions to dispatch
+     * @return the number of interactions dispatched
+     */
+    public int dispatch(List<InteractionRoot> interactionRootList) {
+
+        // IDENTITY MAP, SO THAT A HANDLER REGISTERED FOR SEVERAL CLASSES IS NEVER RUN ON TWO THREADS AT ONCE
+        Map<Consumer<InteractionRoot>, List<InteractionRoot>> handlerInteractionRootListMap = new IdentityHashMap<>();
+        int dispatchCount = 0;
+        for (InteractionRoot interactionRoot : interactionRootList) {
+            Consumer<InteractionRoot> handler = getHandler(interactionRoot);
+            if (handler == null) {
+                logger.debug("unhandled interaction: {}", interactionRoot.getInstanceHlaClassName());
+                continue;
+            }
+            handlerInteractionRootListMap.computeIfAbsent(handler, key -> new ArrayList<>()).add(interactionRoot);
+            ++dispatchCount;
+        }
+
+        if (handlerInteractionRootListMap.isEmpty()) {
+            return 0;
+        }
+
+        // A SINGLE HANDLER GAINS NOTHING FROM ANOTHER THREAD
+        if (handlerInteractionRootListMap.size() == 1) {
+            Map.Entry<Consumer<InteractionRoot>, List<InteractionRoot>> entry =
+                    handlerInteractionRootListMap.entrySet().iterator().next();
+            handle(entry.getKey(), entry.getValue());
+            return dispatchCount;
+        }
+
+        List<Future<?>> futureList = new ArrayList<>(handlerInteractionRootListMap.size());
+        for (Map.Entry<Consumer<InteractionRoot>, List<InteractionRoot>> entry :
+                handlerInteractionRootListMap.entrySet()) {
+            Consumer<InteractionRoot> handler = entry.getKey();
+            List<InteractionRoot> handlerInteractionRootList = entry.getValue();
+            futureList.add(_executorService.submit(() -> handle(handler, handlerInteractionRootList)));
+        }
+
+        // BARRIER:  WAIT FOR ALL HANDLERS, EVEN IF INTERRUPTED, AS THE TIME-STEP CANNOT END BEFORE THEY DO
+        boolean interrupted = false;
+        for (Future<?> future : futureList) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException interruptedException) {
+                    interrupted = true;
+                } catch (ExecutionException executionException) {
+                    logger.error("InteractionDispatcher:  handler failed", executionException.getCause());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        return dispatchCount;
+    }
+
+    private static void handle(Consumer<InteractionRoot> handler, List<InteractionRoot> interactionRootList) {
+        for (InteractionRoot interactionRoot : interactionRootList) {
+            try {
+                handler.accept(interactionRoot);
+            } catch (RuntimeException runtimeException) {
+                logger.error(
+                        "InteractionDispatcher:  handler failed on interaction of class \"{}\"",
+                        interactionRoot.getInstanceHlaClassName(), runtimeException
+                );
+            }
+        }
+    }
+
+    /**
+     * Shuts down the dispatcher's threads.  Should be called when the federate resigns.
+     */
+    public void shutdown() {
+        _executorService.shutdown();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Table of interaction handlers, registered by interaction class, that is looked up by
+ * the class handle of a received interaction.
+ * <p>
+ * A handler registered for a class also handles the classes derived from it, unless a
+ * handler is registered for a more-derived class:  the handler for an interaction is that
+ * of its own class if there is one, else that of its parent class, and so on up to
+ * InteractionRoot.  This is what a chain of
+ * {@link InteractionRoot#isInstanceHlaClassDerivedFromHlaClass(String)} checks does when
+ * ordered most-derived first, but the hierarchy is walked only the first time an
+ * interaction of a given class is looked up.  The result is cached by class handle, so
+ * later lookups are a single table probe whatever the number of handlers.
+ */
+public class InteractionHandlerTable {
+
+    private static final Consumer<InteractionRoot> NO_HANDLER = interactionRoot -> { };
+
+    // REGISTRATION AND CACHE MISSES ARE SYNCHRONIZED ON THIS TABLE, CACHE HITS ARE LOCK-FREE
+    private final Map<String, Consumer<InteractionRoot>> _hlaClassNameHandlerMap = new HashMap<>();
+    private final ObjectHandleTable<Consumer<InteractionRoot>> _classHandleHandlerCache = new ObjectHandleTable<>();
+
+    /**
+     * Registers the handler for interactions of the given class and of the classes derived
+     * from it.  Replaces any handler previously registered for the class.  Handlers can be
+     * registered before the interaction classes are initialized.
+     *
+     * @param hlaClassName fully-qualified name of the interaction class
+     * @param handler handler for interactions of the class, or null to remove the handler
+     */
+    public synchronized void put(String hlaClassName, Consumer<InteractionRoot> handler) {
+        if (handler == null) {
+            _hlaClassNameHandlerMap.remove(hlaClassName);
+        } else {
+            _hlaClassNameHandlerMap.put(hlaClassName, handler);
+        }
+        _classHandleHandlerCache.clear();
+    }
+
+    public void remove(String hlaClassName) {
+        put(hlaClassName, null);
+    }
+
+    public synchronized boolean isEmpty() {
+        return _hlaClassNameHandlerMap.isEmpty();
+    }
+
+    /**
+     * Returns the handler for the given interaction, i.e. the handler registered for the
+     * most-derived class of the interaction that has one.
+     *
+     * @param interactionRoot interaction for which to get the handler
+     * @return the handler for the interaction, or null if none of its classes has a handler
+     */
+    public Consumer<InteractionRoot> get(InteractionRoot interactionRoot) {
+        int classHandle = interactionRoot.getClassHandle();
+        Consumer<InteractionRoot> handler = _classHandleHandlerCache.get(classHandle);
+        if (handler == null) {
+            handler = resolve(classHandle, interactionRoot.getInstanceHlaClassName());
+        }
+        return handler == NO_HANDLER ? null : handler;
+    }
+
+    private synchronized Consumer<InteractionRoot> resolve(int classHandle, String hlaClassName) {
+        Consumer<InteractionRoot> handler = null;
+        String currentHlaClassName = hlaClassName;
+        while (handler == null && currentHlaClassName != null) {
+            handler = _hlaClassNameHandlerMap.get(currentHlaClassName);
+            int position = currentHlaClassName.lastIndexOf('.');
+            currentHlaClassName = position >= 0 ? currentHlaClassName.substring(0, position) : null;
+        }
+        if (handler == null) {
+            handler = NO_HANDLER;
+        }
+
+        // AN INVALID CLASS HANDLE (-1) IS NOT CACHED, AS IT DOES NOT IDENTIFY THE CLASS
+        if (classHandle != -1) {
+            _classHandleHandlerCache.put(classHandle, handler);
+        }
+        return handler;
+    }
+
+    /**
+     * Passes the interaction to its handler, if it has one.
+     *
+     * @param interactionRoot interaction to handle
+     * @return true if the interaction had a handler, false otherwise
+     */
+    public boolean handle(InteractionRoot interactionRoot) {
+        Consumer<InteractionRoot> handler = get(interactionRoot);
+        if (handler == null) {
+            return false;
+        }
+        handler.accept(interactionRoot);
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflector;
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflectorComparator;
+
+/**
+ * Latest-value buffer of received attribute reflections:  it holds at most one reflection per
+ * object for receive-order reflections, and one per object for timestamp-order reflections.
+ * A reflection added for an object that already has a pending reflection is merged with it in
+ * timestamp order, so the pending reflection carries the newest value of every attribute, and
+ * the time and federate sequence of the newest reflection.
+ * <p>
+ * Reflections are taken with receive-order reflections first, in the order in which the first
+ * pending reflection of each object was added, then timestamp-order reflections in timestamp order
+ * (see {@link ObjectReflectorComparator}), as they are taken from the federate's reflection queue
+ * when reflections are not coalesced.  A merged reflection is taken at its new, later time.  A
+ * federate that takes all pending reflections each time-step so gets one reflection per object
+ * per time-step.
+ */
+public class ObjectReflectionCoalescingBuffer {
+
+    private final Map<Integer, ObjectReflector> _receiveOrderObjectReflectorMap = new LinkedHashMap<>();
+    private final Map<Integer, ObjectReflector> _timestampOrderObjectReflectorMap = new HashMap<>();
+    private final PriorityQueue<ObjectReflector> _timestampOrderObjectReflectorQueue =
+      new PriorityQueue<>(new ObjectReflectorComparator());
+    private long _coalesceCount = 0;
+
+    /**
+     * Adds the reflection, or merges it with the pending reflection of the same object.  A
+     * reflection that is merged into another is released (see {@link ObjectReflector#release()}).
+     *
+     * @param objectReflector the reflection
+     */
+    public synchronized void add(ObjectReflector objectReflector) {
+        Map<Integer, ObjectReflector> objectReflectorMap = objectReflector.getTime() >= 0 ?
+          _timestampOrderObjectReflectorMap : _receiveOrderObjectReflectorMap;
+
+        boolean isTimestampOrder = objectReflectorMap == _timestampOrderObjectReflectorMap;
+
+        int objectHandle = objectReflector.getObjectHandle();
+        ObjectReflector pendingObjectReflector = objectReflectorMap.get(objectHandle);
+        if (pendingObjectReflector == null) {
+            objectReflectorMap.put(objectHandle, objectReflector);
+            if (isTimestampOrder) {
+                _timestampOrderObjectReflectorQueue.add(objectReflector);
+            }
+            notifyAll();
+            return;
+        }
+
+        // THE MERGE CAN CHANGE THE TIME OF THE PENDING REFLECTION, OR REPLACE IT, SO IT IS TAKEN OFF THE QUEUE
+        // BEFORE THE MERGE AND THE MERGED REFLECTION IS PUT BACK IN ITS NEW POSITION
+        if (isTimestampOrder) {
+            _timestampOrderObjectReflectorQueue.remove(pendingObjectReflector);
+        }
+
+        // MERGE THE LATER REFLECTION INTO THE EARLIER ONE, SO THE LATER VALUES WIN
+        boolean isLater = objectReflector.getTime() >= pendingObjectReflector.getTime();
+        ObjectReflector earlierObjectReflector = isLater ? pendingObjectReflector : objectReflector;
+        ObjectReflector laterObjectReflector = isLater ? objectReflector : pendingObjectReflector;
+
+        earlierObjectReflector.merge(laterObjectReflector);
+        earlierObjectReflector.setTime(laterObjectReflector.getTime());
+        earlierObjectReflector.setFederateSequence(laterObjectReflector.getFederateSequence());
+
+        // put ON AN EXISTING KEY KEEPS THE OBJECT'S PLACE AMONG THE RECEIVE-ORDER REFLECTIONS
+        objectReflectorMap.put(objectHandle, earlierObjectReflector);
+        if (isTimestampOrder) {
+            _timestampOrderObjectReflectorQueue.add(earlierObjectReflector);
+        }
+        laterObjectReflector.release();
+        ++_coalesceCount;
+    }
+
+    private static ObjectReflector removeFirst(Map<Integer, ObjectReflector> objectReflectorMap) {
+        Iterator<ObjectReflector> objectReflectorIterator = objectReflectorMap.values().iterator();
+        ObjectReflector objectReflector = objectReflectorIterator.next();
+        objectReflectorIterator.remove();
+        return objectReflector;
+    }
+
+    /**
+     * @return the next pending reflection, or null if there are none
+     */
+    public synchronized ObjectReflector poll() {
+        if (!_receiveOrderObjectReflectorMap.isEmpty()) {
+            return removeFirst(_receiveOrderObjectReflectorMap);
+        }
+        ObjectReflector objectReflector = _timestampOrderObjectReflectorQueue.poll();
+        if (objectReflector != null) {
+            _timestampOrderObjectReflectorMap.remove(objectReflector.getObjectHandle());
+            return objectReflector;
+        }
+        return null;
+    }
+
+    /**
+     * Like {@link #poll()}, but waits for a reflection to be added if there are none.  Waiting is
+     * not interruptible:  if the waiting thread is interrupted, it keeps waiting, and its interrupt
+     * status is restored when a reflection has been taken.
+     *
+     * @return the next pending reflection
+     */
+    public synchronized ObjectReflector take() {
+        boolean interrupted = false;
+        ObjectReflector objectReflector;
+        while((objectReflector = poll()) == null) {
+            try {
+                wait();
+            } catch (InterruptedException interruptedException) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return objectReflector;
+    }
+
+    public synchronized int size() {
+        return _receiveOrderObjectReflectorMap.size() + _timestampOrderObjectReflectorMap.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of reflections that have been merged into a pending reflection
+     */
+    public synchronized long getCoalesceCount() {
+        return _coalesceCount;
+    }
+}
@@ -33,13 +33,17 @@ package edu.vanderbilt.vuisis.cpswt.hla;
 import hla.rti.*;
 import edu.vanderbilt.vuisis.cpswt.hla.base.AdvanceTimeRequest;
 import edu.vanderbilt.vuisis.cpswt.hla.base.AdvanceTimeThread;
-import edu.vanderbilt.vuisis.cpswt.hla.base.ATRComparator;
 import edu.vanderbilt.vuisis.cpswt.hla.base.ATRQueue;
+import edu.vanderbilt.vuisis.cpswt.hla.base.InboundOverflowPolicy;
+import edu.vanderbilt.vuisis.cpswt.hla.base.InboundQueueLimiter;
+import edu.vanderbilt.vuisis.cpswt.hla.base.MergedTimestampQueue;
 import edu.vanderbilt.vuisis.cpswt.hla.base.TimeAdvanceMode;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.EmbeddedMessaging;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.FederateCapabilityInteraction;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.FederateJoinInteraction;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.FederateResignInteraction;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.SimulationControl;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.SimulationControl_p.SimEnd;
 import edu.vanderbilt.vuisis.cpswt.utils.CpswtDefaults;
 import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
@@ -51,11 +55,26 @@ import hla.rti.jlc.RtiFactoryFactory;
 import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflector;
 import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflectorComparator;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 import java.util.*;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -114,142 +133,176 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         SimEnd.load();
     }
 
-    private static class UniquePriorityBlockingQueue<T> extends PriorityBlockingQueue<T> {
-
-        private static int _unique_num = 0;
+    private static final Logger logger = LogManager.getLogger(SynchronizedFederate.class);
+    public static final int internalThreadWaitTimeMs = 250;
 
-        private static int get_unique_num() {
-            return _unique_num++;
-        }
+    public static void load() { }
 
-        public UniquePriorityBlockingQueue() {
-            super();
-        }
+    /**
+     * Local RTI component. This is where you submit the "requests"
+     * to the RTIExec process that manages the whole federation.
+     */
+    public static final String FEDERATION_MANAGER_NAME = "FederationManager";
 
-        public UniquePriorityBlockingQueue(Collection<? extends T> c) {
-            super(c);
-        }
+    protected RTIambassador rti = null;
 
-        public UniquePriorityBlockingQueue(int initialCapacity) {
-            super(initialCapacity);
-        }
+    /**
+     * Get a handle to the RTI.
+     *
+     * @return handle (of type RTIambassador) to the RTI.  This can be used as
+     * an argument to {@link InteractionRoot#sendInteraction(RTIambassador)} or
+     * {@link ObjectRoot#updateAttributeValues(RTIambassador)} calls, for instance.
+     */
+    public RTIambassador getRTI() {
+        return rti;
+    }
 
-        public UniquePriorityBlockingQueue(int initialCapacity, Comparator<T> comparator) {
-            super(initialCapacity, comparator);
-        }
+    private boolean _useRTIExecutor = false;
+    private volatile RTIExecutor _rtiExecutor = null;
 
-        private final int _uniqueNum = get_unique_num();
+    /**
+     * Returns the {@link RTIExecutor} through which this federate sends interactions and attribute
+     * updates, ticks the RTI, and requests time advances, if it uses one.
+     *
+     * @return the federate's RTIExecutor, or null if it makes these calls on the RTIambassador directly
+     */
+    public RTIExecutor getRTIExecutor() {
+        return _rtiExecutor;
+    }
 
-        public int getUniqueNum() {
-            return _uniqueNum;
+    /**
+     * Starts an {@link RTIExecutor} for this federate's RTIambassador, so that the threads that send
+     * interactions and attribute updates no longer wait for ticks and other RTI calls.  Called by
+     * {@link #createRTI()} if the federate's configuration sets "useRTIExecutor".
+     */
+    public void enableRTIExecutor() {
+        _useRTIExecutor = true;
+        if (rti == null || _rtiExecutor != null) {
+            return;
         }
+        _rtiExecutor = new RTIExecutor(rti);
     }
 
-    private static class UniquePriorityBlockingQueueComparator<T> implements Comparator<UniquePriorityBlockingQueue<T>> {
-
-        @Override
-        public int compare(
-                UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue1,
-                UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue2
-        ) {
-            return uniquePriorityBlockingQueue1.getUniqueNum() - uniquePriorityBlockingQueue2.getUniqueNum();
+    /**
+     * Runs the commands already queued on this federate's {@link RTIExecutor}, if any, and stops it.
+     * Later RTI calls are made on the RTIambassador directly.
+     */
+    public void disableRTIExecutor() {
+        _useRTIExecutor = false;
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        _rtiExecutor = null;
+        if (rtiExecutor != null) {
+            rtiExecutor.shutdown();
         }
     }
 
-    private static class PriorityBlockingMultiQueue<T> {
-        private final Set<Integer> _uniqueNumSet = new HashSet<>();
-        private final PriorityBlockingQueue<UniquePriorityBlockingQueue<T>> _priorityBlockingQueue =
-                new PriorityBlockingQueue<>(2, new UniquePriorityBlockingQueueComparator<T>());
+    private volatile boolean _useOutboundStepBatch = false;
+    private volatile boolean _outboundStepBatchOpen = false;
+    private final OutboundStepBatch _outboundStepBatch = new OutboundStepBatch();
 
-        public int size() {
-            int size = 0;
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                size += uniquePriorityBlockingQueue.size();
-            }
-            return size;
-        }
+    /**
+     * Returns the {@link OutboundStepBatch} in which this federate collects the interactions and
+     * attribute updates it sends during a time-step, if outbound step batching is enabled.
+     *
+     * @return the federate's OutboundStepBatch
+     */
+    public OutboundStepBatch getOutboundStepBatch() {
+        return _outboundStepBatch;
+    }
 
-        public boolean isEmpty() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                if (!uniquePriorityBlockingQueue.isEmpty()) {
-                    return true;
-                }
-            }
-            return false;
-        }
+    public boolean getUseOutboundStepBatch() {
+        return _useOutboundStepBatch;
+    }
 
-        public synchronized boolean add(UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue) {
-            if (_uniqueNumSet.contains(uniquePriorityBlockingQueue.getUniqueNum())) {
-                return true;
-            }
-            _uniqueNumSet.add(uniquePriorityBlockingQueue.getUniqueNum());
-            return _priorityBlockingQueue.add(uniquePriorityBlockingQueue);
+    /**
+     * Enables or disables outbound step batching.  When it is enabled, the interactions and attribute
+     * updates this federate sends between the {@link AdvanceTimeRequest#requestSyncStart()} and
+     * {@link AdvanceTimeRequest#requestSyncEnd()} calls of a time-step are not sent to the RTI at once,
+     * but all together when the time-step ends, before the next time-advance request.  Updates of
+     * the same object with the same timestamp are coalesced.  Disabling it sends any batched messages.
+     *
+     * @param useOutboundStepBatch true to batch the messages sent during each time-step
+     */
+    public void setUseOutboundStepBatch(boolean useOutboundStepBatch) {
+        _useOutboundStepBatch = useOutboundStepBatch;
+        if (!useOutboundStepBatch) {
+            flushOutboundStepBatch();
         }
+    }
 
-        public T poll() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                T item = uniquePriorityBlockingQueue.poll();
-                if (item != null) {
-                    return item;
-                }
-            }
-            return null;
-        }
+    /**
+     * Called by the {@link AdvanceTimeThread} ONLY, when it lets a federate thread start the
+     * processing of a time-step.  If outbound step batching is enabled, messages sent from now
+     * on are batched until {@link #flushOutboundStepBatch()} is called.
+     */
+    public void openOutboundStepBatch() {
+        _outboundStepBatchOpen = _useOutboundStepBatch;
+    }
 
-        public T peek() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                T item = uniquePriorityBlockingQueue.peek();
-                if (item != null) {
-                    return item;
-                }
-            }
-            return null;
+    /**
+     * Sends the messages batched during the current time-step to the RTI, in one pass, and stops
+     * batching until the next time-step.  Called by the {@link AdvanceTimeThread} when a time-step
+     * ends, before it requests the next time advance.
+     */
+    public void flushOutboundStepBatch() {
+        _outboundStepBatchOpen = false;
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        if (rtiExecutor != null) {
+            _outboundStepBatch.flush(rtiExecutor);
+        } else if (rti != null) {
+            _outboundStepBatch.flush(rti);
         }
+    }
 
-        public synchronized T take() {
+    private OutboundStepBatch getOpenOutboundStepBatch() {
+        return _outboundStepBatchOpen ? _outboundStepBatch : null;
+    }
 
-            while(true) {
-                boolean notTaken = true;
-                while(notTaken) {
-                    try {
-                        UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue = _priorityBlockingQueue.take();
-                        notTaken = false;
-                        T item = uniquePriorityBlockingQueue.poll();
-                        if (item != null) {
-                            _priorityBlockingQueue.add(uniquePriorityBlockingQueue);
-                            return item;
-                        }
-                        _uniqueNumSet.remove(uniquePriorityBlockingQueue.getUniqueNum());
-                    } catch (Exception ignored) {
-                    }
+    private final AttributeUpdateScheduler _attributeUpdateScheduler = new AttributeUpdateScheduler(
+            (objectRoot, time) -> {
+                if (time >= 0) {
+                    updateAttributeValues(objectRoot, time);
+                } else {
+                    updateAttributeValues(objectRoot);
                 }
             }
-        }
-    }
-
+    );
 
-    private static final Logger logger = LogManager.getLogger(SynchronizedFederate.class);
-    public static final int internalThreadWaitTimeMs = 250;
-
-    public static void load() { }
+    /**
+     * Returns the {@link AttributeUpdateScheduler} that sends the attribute updates of the objects
+     * added to it at the end of each time-step, for only the objects that have changed.
+     *
+     * @return the federate's AttributeUpdateScheduler
+     */
+    public AttributeUpdateScheduler getAttributeUpdateScheduler() {
+        return _attributeUpdateScheduler;
+    }
 
     /**
-     * Local RTI component. This is where you submit the "requests"
-     * to the RTIExec process that manages the whole federation.
+     * Has the attribute updates of the given object sent at the end of each time-step in which it
+     * has changed, instead of by calls to updateAttributeValues.
+     *
+     * @param objectRoot object whose updates to schedule
+     * @param timestamped true to send the updates with the timestamp current-time + lookahead,
+     * false to send them without a timestamp
      */
-    public static final String FEDERATION_MANAGER_NAME = "FederationManager";
+    public void scheduleAttributeUpdates(ObjectRoot objectRoot, boolean timestamped) {
+        _attributeUpdateScheduler.add(objectRoot, timestamped);
+    }
 
-    protected RTIambassador rti = null;
+    public void unscheduleAttributeUpdates(ObjectRoot objectRoot) {
+        _attributeUpdateScheduler.remove(objectRoot);
+    }
 
     /**
-     * Get a handle to the RTI.
-     *
-     * @return handle (of type RTIambassador) to the RTI.  This can be used as
-     * an argument to {@link InteractionRoot#sendInteraction(RTIambassador)} or
-     * {@link ObjectRoot#updateAttributeValues(RTIambassador)} calls, for instance.
+     * Called by the {@link AdvanceTimeThread} when a time-step ends, this method sends the updates
+     * of the scheduled objects that have changed during the time-step.
      */
-    public RTIambassador getRTI() {
-        return rti;
+    public void pushScheduledAttributeUpdates() {
+        if (_attributeUpdateScheduler.size() == 0) {
+            return;
+        }
+        _attributeUpdateScheduler.pushDirtyObjects(getCurrentTime() + getLookahead());
     }
 
     private int _status = 0;
@@ -295,12 +348,116 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     private final boolean isLateJoiner;
     public boolean isLateJoiner() { return this.isLateJoiner; }
 
-    private final Set<String> _achievedSynchronizationPoints = new HashSet<>();
+    //----------------------------------------------------------------------------------
+    // STATE TRANSITIONS THAT THE RTI CONFIRMS WITH A CALLBACK (SYNCHRONIZATION POINTS,
+    // TIME-CONSTRAINED, TIME-REGULATING) ARE TRACKED AS FUTURES THAT THE CALLBACKS COMPLETE
+    //----------------------------------------------------------------------------------
+    private final Map<String, CompletableFuture<Void>> _synchronizationPointFutureMap = new ConcurrentHashMap<>();
+
+    private final CompletableFuture<Void> _timeConstrainedEnabledFuture = new CompletableFuture<>();
+    private volatile CompletableFuture<Void> _timeRegulationEnabledFuture = new CompletableFuture<>();
+
+    /**
+     * Maximum time, in seconds, that a thread waiting for an RTI callback spends delivering
+     * callbacks in each call to the RTI's tick.  This bounds how long other threads may wait
+     * for the RTI's lock.  When no callbacks are pending, the tick returns at once.
+     */
+    public static final double CALLBACK_TICK_MAX_SECONDS = 0.01;
+
+    //----------------------------------------------------------------------------------
+    // A tick WITH NO PENDING CALLBACKS RETURNS AT ONCE, SO A THREAD WAITING FOR A CALLBACK
+    // (A SYNCHRONIZATION POINT, A TIME-ADVANCE GRANT, ...) PARKS BETWEEN SUCH TICKS FOR A
+    // TIME THAT STARTS SMALL AND DOUBLES UP TO A MAXIMUM.  THE CALLBACK THE THREAD WAITS FOR
+    // UNPARKS IT, SO A CALLBACK DELIVERED BY A TICK ON ANOTHER THREAD ENDS THE WAIT AT ONCE.
+    //----------------------------------------------------------------------------------
+    private static final long CALLBACK_MINIMUM_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+    private static final long CALLBACK_MAXIMUM_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // TICKS THE RTI ONCE, AND RETURNS TRUE IF MORE CALLBACKS ARE PENDING
+    private boolean tickForCallbacks() throws Exception {
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        if (rtiExecutor != null) {
+            return rtiExecutor.tick(0, CALLBACK_TICK_MAX_SECONDS);
+        }
+        synchronized (rti) {
+            return rti.tick(0, CALLBACK_TICK_MAX_SECONDS);
+        }
+    }
+
+    /**
+     * Ticks the RTI until "isDone" returns true, e.g. until the RTI callback the calling thread
+     * waits for has been delivered (on this thread or any other thread that ticks the RTI).
+     * While the RTI reports pending callbacks, the thread ticks again at once.  Otherwise it
+     * parks between ticks with a growing back-off, so the wait does not spin.  The callback that
+     * makes "isDone" true should unpark the waiting thread, so that the wait ends at once.
+     *
+     * @param isDone condition to wait for -- it is checked before and after each tick
+     */
+    public void tickUntil(BooleanSupplier isDone) {
+        long waitNanos = CALLBACK_MINIMUM_WAIT_NANOS;
+        while (!isDone.getAsBoolean()) {
+            boolean callbacksPending = false;
+            try {
+                callbacksPending = tickForCallbacks();
+            } catch (Exception e) {
+                // E.G. THE RTI REFUSES A tick FROM WITHIN A CALLBACK -- BACK OFF AND TICK AGAIN
+            }
+            if (isDone.getAsBoolean()) {
+                break;
+            }
+            if (callbacksPending) {
+                waitNanos = CALLBACK_MINIMUM_WAIT_NANOS;
+                continue;
+            }
+            LockSupport.parkNanos(this, waitNanos);
+            waitNanos = Math.min(2 * waitNanos, CALLBACK_MAXIMUM_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Ticks the RTI until the future is done, i.e. until the RTI callback that completes
+     * it has been delivered (see {@link #tickUntil(BooleanSupplier)}).
+     *
+     * @param future future to wait for
+     */
+    protected void tickUntilDone(Future<?> future) {
+        if (future instanceof CompletableFuture) {
+            Thread waiter = Thread.currentThread();
+            ((CompletableFuture<?>)future).whenComplete((value, throwable) -> LockSupport.unpark(waiter));
+        }
+        tickUntil(future::isDone);
+    }
+
+    private CompletableFuture<Void> getSynchronizationPointFutureAux(String label) {
+        return _synchronizationPointFutureMap.computeIfAbsent(label, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * Returns a future that is completed when the federation has synchronized on the
+     * given synchronization point.
+     *
+     * @param label label of the synchronization point
+     * @return future completed by the {@link #federationSynchronized(String)} callback
+     */
+    public CompletableFuture<Void> getSynchronizationPointFuture(String label) {
+        return getSynchronizationPointFutureAux(label).thenApply(value -> value);
+    }
+
+    /**
+     * @return a future that is completed when the RTI has made this federate time-constrained
+     */
+    public CompletableFuture<Void> getTimeConstrainedEnabledFuture() {
+        return _timeConstrainedEnabledFuture.thenApply(value -> value);
+    }
 
-    private boolean _timeConstrainedNotEnabled = true;
-    private boolean _timeRegulationNotEnabled = true;
+    /**
+     * @return a future that is completed when the RTI has made this federate time-regulating
+     */
+    public CompletableFuture<Void> getTimeRegulationEnabledFuture() {
+        return _timeRegulationEnabledFuture.thenApply(value -> value);
+    }
 
-    private boolean _timeAdvanceNotGranted = true;
+    private volatile boolean _timeAdvanceNotGranted = true;
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
      * Returns the value of the "timeAdvanceNotGranted" flag.
@@ -323,6 +480,42 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         _timeAdvanceNotGranted = timeAdvanceNotGranted;
     }
 
+    private volatile Thread _timeAdvanceGrantWaiter = null;
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread.
+     * Sets the thread that is waiting for a time advance grant, so that the
+     * {@link #timeAdvanceGrant(LogicalTime)} callback can wake it.
+     *
+     * @param timeAdvanceGrantWaiter thread waiting for a time advance grant, or null if none
+     */
+    public void setTimeAdvanceGrantWaiter(Thread timeAdvanceGrantWaiter) {
+        _timeAdvanceGrantWaiter = timeAdvanceGrantWaiter;
+    }
+
+    private volatile boolean _timeAdvanceGrantNotification = true;
+
+    /**
+     * Returns true if the AdvanceTimeThread waits for time advance grants in grant-notification
+     * mode, i.e. is woken by the grant and ticks the RTI without a fixed sleep between ticks,
+     * false if it polls the RTI every 10 ms.
+     *
+     * @return true if grant-notification mode is used
+     */
+    public boolean getTimeAdvanceGrantNotification() {
+        return _timeAdvanceGrantNotification;
+    }
+
+    /**
+     * Selects whether the AdvanceTimeThread waits for time advance grants in grant-notification
+     * mode (the default), or polls the RTI every 10 ms.
+     *
+     * @param timeAdvanceGrantNotification true to use grant-notification mode
+     */
+    public void setTimeAdvanceGrantNotification(boolean timeAdvanceGrantNotification) {
+        _timeAdvanceGrantNotification = timeAdvanceGrantNotification;
+    }
+
     private boolean _simEndNotPubsub = true;
 
     private double lookahead;
@@ -360,6 +553,250 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         this.stepSize = federateConfig.stepSize;
 
         this.federateRTIInitWaitTime = federateConfig.federateRTIInitWaitTimeMs;
+
+        setPropertyEncoding(federateConfig.propertyEncoding);
+        setEmbeddedMessagingEncoding(federateConfig.embeddedMessagingEncoding);
+        _useRTIExecutor = federateConfig.useRTIExecutor;
+        _useOutboundStepBatch = federateConfig.useOutboundStepBatch;
+        _coalesceObjectReflections = federateConfig.coalesceObjectReflections;
+
+        setInboundQueueCapacity(federateConfig.inboundQueueCapacity);
+        setInboundQueueSpillDirectory(federateConfig.inboundQueueSpillDirectory);
+        if (federateConfig.inboundQueueOverflowPolicy != null && !federateConfig.inboundQueueOverflowPolicy.isEmpty()) {
+            try {
+                setInboundQueueOverflowPolicy(InboundOverflowPolicy.get(federateConfig.inboundQueueOverflowPolicy));
+            } catch (IllegalArgumentException illegalArgumentException) {
+                logger.error(
+                        "unknown inbound-queue overflow policy \"{}\" -- using \"{}\"",
+                        federateConfig.inboundQueueOverflowPolicy,
+                        _interactionQueueLimiter.getDefaultOverflowPolicy()
+                );
+            }
+        }
+        if (
+                federateConfig.inboundQueueBlockTimeoutOverflowPolicy != null &&
+                        !federateConfig.inboundQueueBlockTimeoutOverflowPolicy.isEmpty()
+        ) {
+            try {
+                setInboundQueueBlockTimeoutOverflowPolicy(
+                        InboundOverflowPolicy.get(federateConfig.inboundQueueBlockTimeoutOverflowPolicy)
+                );
+            } catch (IllegalArgumentException illegalArgumentException) {
+                logger.error(
+                        "unknown inbound-queue block-timeout overflow policy \"{}\" -- using \"{}\"",
+                        federateConfig.inboundQueueBlockTimeoutOverflowPolicy,
+                        _interactionQueueLimiter.getBlockTimeoutOverflowPolicy()
+                );
+            }
+        }
+    }
+
+    // THE CODEC OF THIS FEDERATE ONLY -- OTHER FEDERATES IN THE SAME JVM MAY USE ANOTHER ONE
+    private PropertyCodec _propertyCodec = PropertyCodec.get_codec(null);
+
+    /**
+     * Sets the encoding used for the parameter and attribute values this federate sends to, and
+     * receives from, the RTI.  All federates in a federation must use the same encoding.
+     * <p>
+     * The encoding is that of this federate only:  it is kept in the {@link FederatePubSubRegistry}
+     * of this federate's RTIambassador, so other federates in the same JVM are not affected.
+     *
+     * @param propertyEncoding name of the encoding, i.e. {@link PropertyCodec#STRING_ENCODING}
+     *                         or {@link PropertyCodec#BINARY_ENCODING}.  null selects the string encoding.
+     */
+    public void setPropertyEncoding(String propertyEncoding) {
+        PropertyCodec propertyCodec = PropertyCodec.get_codec(propertyEncoding);
+        if (propertyCodec == null) {
+            logger.error(
+                    "setPropertyEncoding: unknown property encoding \"{}\" -- using \"{}\" encoding",
+                    propertyEncoding, _propertyCodec.getEncodingName()
+            );
+            return;
+        }
+        _propertyCodec = propertyCodec;
+        bindPropertyCodec();
+    }
+
+    public PropertyCodec getPropertyCodec() {
+        return _propertyCodec;
+    }
+
+    // MAKES THE CODEC OF THIS FEDERATE THE ONE USED WITH ITS RTIambassador AND ITS OutboundStepBatch
+    private void bindPropertyCodec() {
+        _outboundStepBatch.setPropertyCodec(_propertyCodec);
+        if (rti != null) {
+            FederatePubSubRegistry.get(rti).setPropertyCodec(_propertyCodec);
+        }
+    }
+
+    private boolean _binaryEmbeddedMessaging = false;
+
+    //-----------------------------------------------------------------------------------------
+    // BINARY EMBEDDED-MESSAGING NEGOTIATION
+    //
+    // EVERY FEDERATE SENDS A FederateCapabilityInteraction WHEN IT JOINS, WITH ITS FEDERATE-ID, ITS
+    // FEDERATE-TYPE, AND THE VERSION OF THE BINARY PAYLOADS IT CAN DECODE.  IT SENDS IT AGAIN WHEN IT
+    // RECEIVES ONE FROM A FEDERATE IT HAS NOT HEARD FROM BEFORE, SO THAT A LATE JOINER LEARNS OF THE
+    // FEDERATES THAT ARE ALREADY IN THE FEDERATION.
+    //
+    // AS EmbeddedMessaging INTERACTIONS ARE ADDRESSED BY FEDERATE-TYPE, BINARY PAYLOADS ARE ONLY SENT
+    // TO A FEDERATE-TYPE IF EVERY FEDERATE OF THAT TYPE THAT THIS FEDERATE HAS HEARD FROM SUPPORTS
+    // MessagingBinaryCodec.BINARY_VERSION.  ALL OTHER FEDERATE-TYPES, E.G. FEDERATES BUILT ON AN EARLIER
+    // VERSION, OR NOT WRITTEN IN JAVA, ARE SENT JSON.  IF THE FOM DOES NOT DEFINE THE
+    // FederateCapabilityInteraction CLASS, ONLY JSON IS SENT.
+    //
+    // FederateCapabilityInteractions ARE HANDLED HERE, AND ARE NEVER QUEUED FOR THE FEDERATE.
+    //-----------------------------------------------------------------------------------------
+    private volatile boolean _federateCapabilityIsDefined = false;
+
+    private final Map<String, Map<String, Integer>> _federateTypeFederateIdBinaryVersionMap = new HashMap<>();
+
+    private final Set<String> _binaryEmbeddedMessagingFederateNameSet = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return the federate-types of the federates that have all announced that they can decode the
+     * binary payloads this federate sends in EmbeddedMessaging interactions
+     */
+    public Set<String> getBinaryEmbeddedMessagingFederateNameSet() {
+        return Collections.unmodifiableSet(_binaryEmbeddedMessagingFederateNameSet);
+    }
+
+    private void initializeFederateCapability() {
+        String hlaClassName = FederateCapabilityInteraction.get_hla_class_name();
+        try {
+            synchronized (rti) {
+                rti.getInteractionClassHandle(hlaClassName);
+            }
+        } catch (NameNotFound e) {
+            logger.info(
+                    "\"{}\" is not defined in the FOM -- EmbeddedMessaging payloads will only be sent as JSON",
+                    hlaClassName
+            );
+            return;
+        } catch (Exception e) {
+            logger.error("could not get the handle of \"{}\"", hlaClassName);
+            logger.error(CpswtUtils.getStackTrace(e));
+            return;
+        }
+
+        FederateCapabilityInteraction.publish_interaction(getRTI());
+        _federateCapabilityIsDefined = true;
+        FederateCapabilityInteraction.subscribe_interaction(getRTI());
+
+        announceFederateCapability();
+    }
+
+    private void announceFederateCapability() {
+        if (!_federateCapabilityIsDefined) {
+            return;
+        }
+
+        FederateCapabilityInteraction federateCapabilityInteraction = new FederateCapabilityInteraction();
+        federateCapabilityInteraction.set_FederateId(getFederateId());
+        federateCapabilityInteraction.set_FederateType(getFederateType());
+        federateCapabilityInteraction.set_BinaryEmbeddedMessagingVersion(MessagingBinaryCodec.BINARY_VERSION);
+
+        try {
+            synchronized (rti) {
+                sendInteraction(federateCapabilityInteraction);
+            }
+        } catch (Exception e) {
+            logger.error("could not send FederateCapabilityInteraction for federate {}", getFederateId());
+            logger.error(CpswtUtils.getStackTrace(e));
+        }
+    }
+
+    private void receiveFederateCapability(FederateCapabilityInteraction federateCapabilityInteraction) {
+        String federateId = federateCapabilityInteraction.get_FederateId();
+        String federateType = federateCapabilityInteraction.get_FederateType();
+        if (federateId == null || federateId.isEmpty() || federateId.equals(getFederateId())) {
+            return;
+        }
+
+        boolean isNewFederate;
+        synchronized (_federateTypeFederateIdBinaryVersionMap) {
+            Map<String, Integer> federateIdBinaryVersionMap =
+                    _federateTypeFederateIdBinaryVersionMap.computeIfAbsent(federateType, k -> new HashMap<>());
+            isNewFederate = federateIdBinaryVersionMap.put(
+                    federateId, federateCapabilityInteraction.get_BinaryEmbeddedMessagingVersion()
+            ) == null;
+
+            boolean allSupportBinary = true;
+            for (int binaryVersion : federateIdBinaryVersionMap.values()) {
+                if (binaryVersion != MessagingBinaryCodec.BINARY_VERSION) {
+                    allSupportBinary = false;
+                    break;
+                }
+            }
+            if (allSupportBinary) {
+                _binaryEmbeddedMessagingFederateNameSet.add(federateType);
+            } else {
+                _binaryEmbeddedMessagingFederateNameSet.remove(federateType);
+            }
+        }
+
+        if (isNewFederate) {
+            announceFederateCapability();
+        }
+    }
+
+    // THE FEDERATES IN federateNameSet TO WHICH THIS FEDERATE SENDS BINARY PAYLOADS
+    private Set<String> getBinaryEmbeddedMessagingFederateNameSet(Set<String> federateNameSet) {
+        if (!_binaryEmbeddedMessaging || _binaryEmbeddedMessagingFederateNameSet.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (_binaryEmbeddedMessagingFederateNameSet.containsAll(federateNameSet)) {
+            return federateNameSet;
+        }
+        Set<String> binaryFederateNameSet = new HashSet<>(federateNameSet);
+        binaryFederateNameSet.retainAll(_binaryEmbeddedMessagingFederateNameSet);
+        return binaryFederateNameSet;
+    }
+
+    // THE FEDERATES IN federateNameSet TO WHICH THIS FEDERATE SENDS JSON PAYLOADS
+    private static Set<String> get_json_federate_name_set(
+            Set<String> federateNameSet, Set<String> binaryFederateNameSet
+    ) {
+        if (binaryFederateNameSet.isEmpty()) {
+            return federateNameSet;
+        }
+        if (binaryFederateNameSet.size() == federateNameSet.size()) {
+            return Collections.emptySet();
+        }
+        Set<String> jsonFederateNameSet = new HashSet<>(federateNameSet);
+        jsonFederateNameSet.removeAll(binaryFederateNameSet);
+        return jsonFederateNameSet;
+    }
+
+    /**
+     * Sets the encoding of the interactions and objects this federate sends in EmbeddedMessaging
+     * interactions.  Received EmbeddedMessaging interactions are decoded according to their own
+     * encoding, so federates that use different encodings can still receive each other's messages.
+     * With the binary encoding, binary payloads are only sent to the federates that have announced
+     * that they support them (see {@link #getBinaryEmbeddedMessagingFederateNameSet()}), and JSON
+     * payloads to all others.
+     *
+     * @param embeddedMessagingEncoding name of the encoding, i.e. {@link MessagingBinaryCodec#JSON_ENCODING}
+     *                                  or {@link MessagingBinaryCodec#BINARY_ENCODING}.  null selects the
+     *                                  JSON encoding.
+     */
+    public void setEmbeddedMessagingEncoding(String embeddedMessagingEncoding) {
+        if (embeddedMessagingEncoding == null || embeddedMessagingEncoding.isEmpty()) {
+            _binaryEmbeddedMessaging = false;
+            return;
+        }
+        if (!MessagingBinaryCodec.is_known_encoding(embeddedMessagingEncoding)) {
+            logger.error(
+                    "setEmbeddedMessagingEncoding: unknown embedded messaging encoding \"{}\" -- using \"{}\" encoding",
+                    embeddedMessagingEncoding, getEmbeddedMessagingEncoding()
+            );
+            return;
+        }
+        _binaryEmbeddedMessaging = MessagingBinaryCodec.BINARY_ENCODING.equalsIgnoreCase(embeddedMessagingEncoding);
+    }
+
+    public String getEmbeddedMessagingEncoding() {
+        return _binaryEmbeddedMessaging ? MessagingBinaryCodec.BINARY_ENCODING : MessagingBinaryCodec.JSON_ENCODING;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -396,6 +833,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             RtiFactory factory = RtiFactoryFactory.getRtiFactory();
             this.rti = factory.createRtiAmbassador();
             logger.debug("Federate {} connection to RTI successful.", this.federateId);
+            bindPropertyCodec();
+            if (_useRTIExecutor) {
+                enableRTIExecutor();
+            }
         }
     }
 
@@ -405,6 +846,15 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * this call.
      */
     public void destroyRTI() {
+        flushOutboundStepBatch();
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        _rtiExecutor = null;
+        if (rtiExecutor != null) {
+            rtiExecutor.shutdown();
+        }
+        if (rti != null) {
+            FederatePubSubRegistry.remove(rti);
+        }
         rti = null;
     }
 
@@ -486,6 +936,9 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * Joins the federate to a particular federation.
      */
     public void joinFederation() {
+        // rti MAY HAVE BEEN SET WITHOUT createRTI(), SO MAKE SURE IT USES THIS FEDERATE'S CODEC
+        bindPropertyCodec();
+
         boolean federationNotPresent = true;
         int attempts = 0;
         while (federationNotPresent) {
@@ -521,43 +974,91 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         this.ensureSimEndPubsub();
 
         this.notifyFederationOfJoin();
+
+        this.initializeFederateCapability();
+    }
+
+    //------------------------------------------------------------------------------------
+    // EMBEDDED MESSAGING FAN-OUT
+    //
+    // AN INTERACTION OR OBJECT SENT TO SEVERAL FEDERATES IS ENCODED ONCE, INTO A SINGLE
+    // EmbeddedMessaging INTERACTION WHOSE PARAMETERS ARE THEN SENT AS AN EmbeddedMessaging.<federate-name>
+    // INTERACTION FOR EACH TARGET FEDERATE.
+    //------------------------------------------------------------------------------------
+    private final Map<String, String> _federateNameEmbeddedMessagingHlaClassNameMap =
+            new ConcurrentHashMap<>();
+
+    private String getEmbeddedMessagingHlaClassName(String federateName) {
+        return _federateNameEmbeddedMessagingHlaClassNameMap.computeIfAbsent(
+                federateName, k -> EmbeddedMessaging.get_hla_class_name() + "." + k
+        );
+    }
+
+    private void sendEmbeddedMessaging(
+            EmbeddedMessaging embeddedMessaging, Set<String> federateNameSet, double time
+    ) throws Exception {
+        C2WInteractionRoot.update_federate_sequence(embeddedMessaging, getFederateType());
+
+        List<Integer> classHandleList = new ArrayList<>(federateNameSet.size());
+        for (String federateName : federateNameSet) {
+            String embeddedMessagingHlaClassName = getEmbeddedMessagingHlaClassName(federateName);
+            if (Boolean.TRUE.equals(InteractionRoot.get_is_published(embeddedMessagingHlaClassName, getRTI()))) {
+                classHandleList.add(InteractionRoot.get_class_handle(embeddedMessagingHlaClassName));
+            }
+        }
+
+        OutboundStepBatch outboundStepBatch = getOpenOutboundStepBatch();
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        if (outboundStepBatch != null) {
+            embeddedMessaging.sendInteraction(outboundStepBatch, classHandleList, time);
+        } else if (rtiExecutor != null) {
+            embeddedMessaging.sendInteraction(rtiExecutor, classHandleList, time);
+        } else {
+            embeddedMessaging.sendInteraction(getRTI(), classHandleList, time);
+        }
     }
 
     public void sendInteraction(
             InteractionRoot interactionRoot, Set<String> federateNameSet, double time
     ) throws Exception {
 
+        if (federateNameSet.isEmpty()) {
+            return;
+        }
+
         if (!interactionRoot.isInstanceHlaClassDerivedFromHlaClass(EmbeddedMessaging.get_hla_class_name())) {
 
-            String interactionJson = interactionRoot.toJson();
+            Set<String> binaryFederateNameSet = getBinaryEmbeddedMessagingFederateNameSet(federateNameSet);
+            Set<String> jsonFederateNameSet = get_json_federate_name_set(federateNameSet, binaryFederateNameSet);
 
-            for (String federateName : federateNameSet) {
-                String embeddedMessagingHlaClassName = EmbeddedMessaging.get_hla_class_name() + "." + federateName;
-                InteractionRoot embeddedMessagingForNetworkFederate = new InteractionRoot(
-                        embeddedMessagingHlaClassName
+            String interactionBinary = binaryFederateNameSet.isEmpty() ? null : interactionRoot.toBinary();
+            if (interactionBinary != null) {
+                sendEmbeddedMessaging(
+                        createEmbeddedMessaging(interactionRoot, interactionBinary), binaryFederateNameSet, time
                 );
-                if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())) {
-                    embeddedMessagingForNetworkFederate.setParameter(
-                            "federateSequence",
-                            interactionRoot.getParameter("federateSequence")
-                    );
-                    embeddedMessagingForNetworkFederate.setFederateAppendedToFederateSequence(true);
-                }
-                embeddedMessagingForNetworkFederate.setParameter("command", "interaction");
-                embeddedMessagingForNetworkFederate.setParameter(
-                        "hlaClassName", interactionRoot.getInstanceHlaClassName()
+            } else {
+                jsonFederateNameSet = federateNameSet;
+            }
+            if (!jsonFederateNameSet.isEmpty()) {
+                sendEmbeddedMessaging(
+                        createEmbeddedMessaging(interactionRoot, interactionRoot.toJson()), jsonFederateNameSet, time
                 );
-                embeddedMessagingForNetworkFederate.setParameter("messagingJson", interactionJson);
-
-                if (time >= 0) {
-                    sendInteraction(embeddedMessagingForNetworkFederate, time);
-                } else {
-                    sendInteraction(embeddedMessagingForNetworkFederate);
-                }
             }
         }
     }
 
+    private static EmbeddedMessaging createEmbeddedMessaging(InteractionRoot interactionRoot, String messagingJson) {
+        EmbeddedMessaging embeddedMessaging = new EmbeddedMessaging();
+        if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())) {
+            embeddedMessaging.set_federateSequence((String)interactionRoot.getParameter("federateSequence"));
+            embeddedMessaging.setFederateAppendedToFederateSequence(true);
+        }
+        embeddedMessaging.set_command("interaction");
+        embeddedMessaging.set_hlaClassName(interactionRoot.getInstanceHlaClassName());
+        embeddedMessaging.set_messagingJson(messagingJson);
+        return embeddedMessaging;
+    }
+
     public void sendInteraction(InteractionRoot interactionRoot, String federateName, double time) throws Exception {
         C2WInteractionRoot.update_federate_sequence(interactionRoot, getFederateType());
 
@@ -569,21 +1070,37 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     public void sendInteraction( InteractionRoot interactionRoot, double time ) throws Exception {
         C2WInteractionRoot.update_federate_sequence(interactionRoot, getFederateType());
 
-        if (interactionRoot.getIsPublished()) {
-            interactionRoot.sendInteraction(getRTI(), time);
+        if (Boolean.TRUE.equals(interactionRoot.getIsPublished(getRTI()))) {
+            OutboundStepBatch outboundStepBatch = getOpenOutboundStepBatch();
+            RTIExecutor rtiExecutor = _rtiExecutor;
+            if (outboundStepBatch != null) {
+                interactionRoot.sendInteraction(outboundStepBatch, time);
+            } else if (rtiExecutor != null) {
+                interactionRoot.sendInteraction(rtiExecutor, time);
+            } else {
+                interactionRoot.sendInteraction(getRTI(), time);
+            }
         }
 
-        sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(), time);
+        sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(getRTI()), time);
     }
 
     public void sendInteraction(InteractionRoot interactionRoot) throws Exception {
         C2WInteractionRoot.update_federate_sequence(interactionRoot, getFederateType());
 
-        if (interactionRoot.getIsPublished()) {
-            interactionRoot.sendInteraction(getRTI());
+        if (Boolean.TRUE.equals(interactionRoot.getIsPublished(getRTI()))) {
+            OutboundStepBatch outboundStepBatch = getOpenOutboundStepBatch();
+            RTIExecutor rtiExecutor = _rtiExecutor;
+            if (outboundStepBatch != null) {
+                interactionRoot.sendInteraction(outboundStepBatch, -1);
+            } else if (rtiExecutor != null) {
+                interactionRoot.sendInteraction(rtiExecutor);
+            } else {
+                interactionRoot.sendInteraction(getRTI());
+            }
         }
 
-        sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(),-1);
+        sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(getRTI()),-1);
     }
 
     public void sendInteraction(InteractionRoot interactionRoot, String federateName) throws Exception {
@@ -599,35 +1116,59 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     }
 
     public void unregisterObject(ObjectRoot objectRoot) {
+        _attributeUpdateScheduler.remove(objectRoot);
         objectRoot.unregisterObject(getRTI());
     }
 
     private void sendInteraction(
-            String objectJson, String hlaClassName, String federateSequence, Set<String> federateNameSet, double time
+            Supplier<String> objectBinarySupplier,
+            Supplier<String> objectJsonSupplier,
+            String hlaClassName,
+            String federateSequence,
+            Set<String> federateNameSet,
+            double time
     ) throws Exception {
-        for(String federateName : federateNameSet) {
-            String embeddedMessagingHlaClassName = EmbeddedMessaging.get_hla_class_name() + "." + federateName;
-            InteractionRoot embeddedMessagingForNetworkFederate = new InteractionRoot(
-                    embeddedMessagingHlaClassName
-            );
-            embeddedMessagingForNetworkFederate.setParameter("command", "object");
-            embeddedMessagingForNetworkFederate.setParameter("hlaClassName", hlaClassName);
-            embeddedMessagingForNetworkFederate.setParameter("federateSequence", federateSequence);
-            embeddedMessagingForNetworkFederate.setParameter("messagingJson", objectJson);
+        if (federateNameSet.isEmpty()) {
+            return;
+        }
 
-            if (time >= 0) {
-                sendInteraction(embeddedMessagingForNetworkFederate, time);
-            } else {
-                sendInteraction(embeddedMessagingForNetworkFederate);
-            }
+        Set<String> binaryFederateNameSet = getBinaryEmbeddedMessagingFederateNameSet(federateNameSet);
+        Set<String> jsonFederateNameSet = get_json_federate_name_set(federateNameSet, binaryFederateNameSet);
+
+        String objectBinary = binaryFederateNameSet.isEmpty() ? null : objectBinarySupplier.get();
+        if (objectBinary != null) {
+            sendEmbeddedMessaging(
+                    createEmbeddedMessaging(objectBinary, hlaClassName, federateSequence), binaryFederateNameSet, time
+            );
+        } else {
+            jsonFederateNameSet = federateNameSet;
+        }
+        if (!jsonFederateNameSet.isEmpty()) {
+            sendEmbeddedMessaging(
+                    createEmbeddedMessaging(objectJsonSupplier.get(), hlaClassName, federateSequence),
+                    jsonFederateNameSet,
+                    time
+            );
         }
     }
 
+    private static EmbeddedMessaging createEmbeddedMessaging(
+            String objectJson, String hlaClassName, String federateSequence
+    ) {
+        EmbeddedMessaging embeddedMessaging = new EmbeddedMessaging();
+        embeddedMessaging.set_command("object");
+        embeddedMessaging.set_hlaClassName(hlaClassName);
+        embeddedMessaging.set_federateSequence(federateSequence);
+        embeddedMessaging.set_messagingJson(objectJson);
+        return embeddedMessaging;
+    }
+
     public void sendInteraction(
             ObjectReflector objectReflector, Set<String> federateNameSet, double time
     ) throws Exception {
         sendInteraction(
-                objectReflector.toJson(),
+                objectReflector::toBinary,
+                objectReflector::toJson,
                 objectReflector.getHlaClassName(),
                 objectReflector.getFederateSequence(),
                 federateNameSet,
@@ -638,8 +1179,12 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     public void sendInteraction(
             ObjectRoot objectRoot, Set<String> federateNameSet, double time, boolean force
     ) throws Exception {
+        if (federateNameSet.isEmpty()) {
+            return;
+        }
         sendInteraction(
-                objectRoot.toJson(force),
+                () -> objectRoot.toBinary(force),
+                () -> objectRoot.toJson(force),
                 objectRoot.getInstanceHlaClassName(),
                 "[]",
                 federateNameSet,
@@ -676,13 +1221,18 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     }
 
     public void updateAttributeValues(ObjectRoot objectRoot, double time, boolean force) throws Exception {
-        Set<ObjectRootInterface.ClassAndPropertyName> attributesToBeUpdatedClassAndPropertyNameSet =
-                objectRoot.getAttributesToBeUpdatedClassAndPropertyNameSet();
-
-        objectRoot.updateAttributeValues(getRTI(), time, force);
-
-        objectRoot.restoreAttributesToBeUpdated(attributesToBeUpdatedClassAndPropertyNameSet);
-        sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(), time, force);
+        // THE EMBEDDED-MESSAGING COPY IS SENT FIRST, AS SENDING THE UPDATE TO THE RTI MARKS THE ATTRIBUTES AS SENT
+        sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(getRTI()), time, force);
+
+        OutboundStepBatch outboundStepBatch = getOpenOutboundStepBatch();
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        if (outboundStepBatch != null) {
+            objectRoot.updateAttributeValues(outboundStepBatch, time, force);
+        } else if (rtiExecutor != null) {
+            objectRoot.updateAttributeValues(rtiExecutor, time, force);
+        } else {
+            objectRoot.updateAttributeValues(getRTI(), time, force);
+        }
     }
 
     public void updateAttributeValues(ObjectRoot objectRoot, double time) throws Exception {
@@ -690,13 +1240,17 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     }
 
     public void updateAttributeValues(ObjectRoot objectRoot, boolean force) throws Exception {
-        Set<ObjectRootInterface.ClassAndPropertyName> attributesToBeUpdatedClassAndPropertyNameSet =
-                objectRoot.getAttributesToBeUpdatedClassAndPropertyNameSet();
-
-        objectRoot.updateAttributeValues(getRTI(), force);
-
-        objectRoot.restoreAttributesToBeUpdated(attributesToBeUpdatedClassAndPropertyNameSet);
-        sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(), -1, true);
+        sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(getRTI()), -1, true);
+
+        OutboundStepBatch outboundStepBatch = getOpenOutboundStepBatch();
+        RTIExecutor rtiExecutor = _rtiExecutor;
+        if (outboundStepBatch != null) {
+            objectRoot.updateAttributeValues(outboundStepBatch, -1, force);
+        } else if (rtiExecutor != null) {
+            objectRoot.updateAttributeValues(rtiExecutor, force);
+        } else {
+            objectRoot.updateAttributeValues(getRTI(), force);
+        }
     }
 
     public void updateAttributeValues(ObjectRoot objectRoot) throws Exception {
@@ -709,7 +1263,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void timeConstrainedEnabled(LogicalTime t) {
-        _timeConstrainedNotEnabled = false;
+        _timeConstrainedEnabledFuture.complete(null);
     }
 
     /**
@@ -717,7 +1271,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * its federation.
      */
     public void enableTimeConstrained() throws FederateNotExecutionMember {
-        if (!_timeConstrainedNotEnabled) return;
+        if (_timeConstrainedEnabledFuture.isDone()) return;
 
         boolean enableTimeConstrainedNotCalled = true;
         while (enableTimeConstrainedNotCalled) {
@@ -727,6 +1281,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 }
                 enableTimeConstrainedNotCalled = false;
             } catch (TimeConstrainedAlreadyEnabled t) {
+                _timeConstrainedEnabledFuture.complete(null);
                 return;
             } catch (EnableTimeConstrainedPending e) {
                 enableTimeConstrainedNotCalled = false;
@@ -737,21 +1292,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             }
         }
 
-        try {
-            synchronized (rti) {
-                rti.tick();
-            }
-        } catch (Exception ignored) {
-        }
-        while (_timeConstrainedNotEnabled) {
-            CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-            try {
-                synchronized (rti) {
-                    rti.tick();
-                }
-            } catch (Exception ignored) {
-            }
-        }
+        tickUntilDone(_timeConstrainedEnabledFuture);
     }
 
     // DISABLING TIME CONSTRAINED IN PORTICO IS PROBLEMATIC.
@@ -813,7 +1354,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void timeRegulationEnabled(LogicalTime t) {
-        _timeRegulationNotEnabled = false;
+        _timeRegulationEnabledFuture.complete(null);
     }
 
     /**
@@ -826,7 +1367,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     public void enableTimeRegulation(double time, double lookahead)
             throws InvalidFederationTime, InvalidLookahead, FederateNotExecutionMember {
 
-        if (!_timeRegulationNotEnabled) return;
+        CompletableFuture<Void> timeRegulationEnabledFuture = _timeRegulationEnabledFuture;
+        if (timeRegulationEnabledFuture.isDone()) return;
 
         boolean timeRegulationEnabledNotCalled = true;
         while (timeRegulationEnabledNotCalled) {
@@ -836,6 +1378,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 }
                 timeRegulationEnabledNotCalled = false;
             } catch (TimeRegulationAlreadyEnabled t) {
+                timeRegulationEnabledFuture.complete(null);
                 return;
             } catch (EnableTimeRegulationPending e) {
                 timeRegulationEnabledNotCalled = false;
@@ -846,21 +1389,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             }
         }
 
-        try {
-            synchronized (rti) {
-                rti.tick();
-            }
-        } catch (Exception ignored) {
-        }
-        while (_timeRegulationNotEnabled) {
-            CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-            try {
-                synchronized (rti) {
-                    rti.tick();
-                }
-            } catch (Exception ignored) {
-            }
-        }
+        tickUntilDone(timeRegulationEnabledFuture);
     }
 
     /**
@@ -889,7 +1418,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     // OTHER FEDERATES (B) NEVER RECEIVED A TIME-ADVANCE-GRANT FOR SOME REASON.
     public void disableTimeRegulation() throws FederateNotExecutionMember {
 
-        if (_timeRegulationNotEnabled) {
+        if (!_timeRegulationEnabledFuture.isDone()) {
             return;
         }
 
@@ -916,7 +1445,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         } catch (Exception ignored) {
         }
 
-        _timeRegulationNotEnabled = true;
+        _timeRegulationEnabledFuture = new CompletableFuture<>();
     }
 
     /**
@@ -1003,7 +1532,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void federationSynchronized(String label) {
-        _achievedSynchronizationPoints.add(label);
+        getSynchronizationPointFutureAux(label).complete(null);
     }
 
     /**
@@ -1052,39 +1581,32 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
     private void achieveSynchronizationPoint(String label) throws FederateNotExecutionMember, RTIinternalError {
         logger.trace("achieveSynchronizationPoint==>");
-        boolean synchronizationPointNotAccepted = true;
-        while (synchronizationPointNotAccepted) {
+        CompletableFuture<Void> synchronizationPointFuture = getSynchronizationPointFutureAux(label);
+
+        // THE RTI REFUSES THE ACHIEVEMENT (SynchronizationLabelNotAnnounced) UNTIL THE ANNOUNCEMENT OF THE
+        // SYNCHRONIZATION POINT HAS BEEN DELIVERED, SO TICK UNTIL IT IS ACCEPTED
+        FederateNotExecutionMember[] federateNotExecutionMember = { null };
+        tickUntil(() -> {
+            if (synchronizationPointFuture.isDone()) {
+                return true;
+            }
             try {
                 synchronized (rti) {
                     rti.synchronizationPointAchieved(label);
                 }
-                while (!_achievedSynchronizationPoints.contains(label)) {
-                    CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-                    synchronized (rti) {
-                         rti.tick();
-                    }
-                }
-                synchronizationPointNotAccepted = false;
+                return true;
             } catch (FederateNotExecutionMember f) {
-                throw f;
-            } catch (SynchronizationLabelNotAnnounced s) {
-                if (_achievedSynchronizationPoints.contains(label)) {
-                    synchronizationPointNotAccepted = false;
-                } else {
-                    synchronized (rti) {
-                        try {
-                            rti.tick();
-                        } catch (RTIinternalError r) {
-                            throw r;
-                        } catch (Exception e) {
-                            CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-                        }
-                    }
-                }
+                federateNotExecutionMember[0] = f;
+                return true;
             } catch (Exception e) {
-                CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
+                return false;
             }
+        });
+        if (federateNotExecutionMember[0] != null) {
+            throw federateNotExecutionMember[0];
         }
+
+        tickUntilDone(synchronizationPointFuture);
         logger.trace("<==achieveSynchronizationPoint");
     }
 
@@ -1096,6 +1618,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     @Override
     public void timeAdvanceGrant(LogicalTime t) {
         _timeAdvanceNotGranted = false;
+        Thread timeAdvanceGrantWaiter = _timeAdvanceGrantWaiter;
+        if (timeAdvanceGrantWaiter != null && timeAdvanceGrantWaiter != Thread.currentThread()) {
+            LockSupport.unpark(timeAdvanceGrantWaiter);
+        }
     }
 
     /**
@@ -1201,7 +1727,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         return Math.max(dblLBTSTime, timestampWithLogicalTime);
     }
 
-    private final ATRQueue _atrQueue = new ATRQueue(100, new ATRComparator());
+    private final ATRQueue _atrQueue = new ATRQueue(100);
 
     private AdvanceTimeThread _advanceTimeThread = null;
 
@@ -1227,6 +1753,43 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         _atrQueue.put(advanceTimeRequest);
     }
 
+    /**
+     * Called by a federate to submit an {@link AdvanceTimeRequest} for time "requestedTime"
+     * to the {@link AdvanceTimeThread}.  The AdvanceTimeRequest is taken from a pool (see
+     * {@link AdvanceTimeRequest#acquire(double)}), and should be released with
+     * {@link AdvanceTimeRequest#release()} once its {@link AdvanceTimeRequest#requestSyncEnd()}
+     * has returned.
+     *
+     * @param requestedTime RTI time to which to advance this federate
+     * @return the AdvanceTimeRequest submitted to the AdvanceTimeThread
+     */
+    public final AdvanceTimeRequest putAdvanceTimeRequest(double requestedTime) {
+        AdvanceTimeRequest advanceTimeRequest = AdvanceTimeRequest.acquire(requestedTime);
+        _atrQueue.put(advanceTimeRequest);
+        return advanceTimeRequest;
+    }
+
+    /**
+     * Like {@link #putAdvanceTimeRequest(double)}, but submits a next-event request for
+     * "nextWakeTime" (see {@link AdvanceTimeRequest#setNextEventRequest(boolean)}).  The
+     * {@link AdvanceTimeThread} advances straight to "nextWakeTime", but resumes the federate
+     * thread early if a timestamp-ordered interaction or reflection arrives before then.
+     * It then re-submits the same AdvanceTimeRequest for "nextWakeTime" once the federate
+     * thread calls {@link AdvanceTimeRequest#requestSyncEnd()}, which then returns true (see
+     * {@link AdvanceTimeRequest#isResubmitted()}).
+     * A federate that has no work to do for many steps can use this instead of submitting
+     * a request for every step.
+     *
+     * @param nextWakeTime RTI time at which the federate next has processing to perform
+     * @return the AdvanceTimeRequest submitted to the AdvanceTimeThread
+     */
+    public final AdvanceTimeRequest putNextEventRequest(double nextWakeTime) {
+        AdvanceTimeRequest advanceTimeRequest = AdvanceTimeRequest.acquire(nextWakeTime);
+        advanceTimeRequest.setNextEventRequest(true);
+        _atrQueue.put(advanceTimeRequest);
+        return advanceTimeRequest;
+    }
+
     /**
      * Start the {@link AdvanceTimeThread}
      * Assumes the federate is a lookahead value greater than zero. Uses
@@ -1279,19 +1842,106 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         waitForAdvanceTimeThreadToTerminate();
     }
 
-    private static final UniquePriorityBlockingQueue<InteractionRoot> _interactionQueueWithoutTime =
-            new UniquePriorityBlockingQueue<>(10, new InteractionRootComparator());
+    private final MergedTimestampQueue<InteractionRoot> _fullInteractionQueue =
+            new MergedTimestampQueue<>(new InteractionRootComparator());
+
+    //-------------------------------------------------------------------------------------
+    // INBOUND-QUEUE LIMITS
+    //
+    // THE INTERACTION AND REFLECTION QUEUES ARE UNBOUNDED BY DEFAULT.  IF A CAPACITY IS SET,
+    // AN INTERACTION OR REFLECTION RECEIVED WHEN ITS QUEUE IS FULL IS HANDLED ACCORDING TO
+    // THE InboundOverflowPolicy FOR ITS CLASS (SEE InboundQueueLimiter):  BY DEFAULT, BLOCK
+    // FOR INTERACTIONS, AND COALESCE FOR REFLECTIONS.
+    //-------------------------------------------------------------------------------------
+    private final InboundQueueLimiter<InteractionRoot> _interactionQueueLimiter =
+            new InboundQueueLimiter<>(new InboundQueueLimiter.Adapter<InteractionRoot>() {
+                @Override
+                public int size() {
+                    return _fullInteractionQueue.size();
+                }
+
+                @Override
+                public void add(InteractionRoot interactionRoot) {
+                    _fullInteractionQueue.add(interactionRoot, interactionRoot.getTime() >= 0);
+                }
+
+                @Override
+                public InteractionRoot pollOldest(Predicate<? super InteractionRoot> droppable) {
+                    return _fullInteractionQueue.poll(droppable);
+                }
+
+                @Override
+                public boolean coalesce(InteractionRoot interactionRoot) {
+                    // INTERACTIONS ARE EVENTS -- NONE SUPERSEDES ANOTHER
+                    return false;
+                }
+
+                @Override
+                public String getHlaClassName(InteractionRoot interactionRoot) {
+                    return interactionRoot.getInstanceHlaClassName();
+                }
+
+                @Override
+                public byte[] toSpillRecord(InteractionRoot interactionRoot) throws IOException {
+                    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+                    String interactionBinary = interactionRoot.toBinary();
+                    if (interactionBinary == null) {
+                        throw new IOException(
+                                "cannot encode interaction of class \"" + interactionRoot.getInstanceHlaClassName() + "\""
+                        );
+                    }
+                    byte[] binaryBytes = interactionBinary.getBytes(StandardCharsets.UTF_8);
+                    dataOutputStream.writeDouble(interactionRoot.getTime());
+                    dataOutputStream.writeInt(binaryBytes.length);
+                    dataOutputStream.write(binaryBytes);
+                    dataOutputStream.flush();
+                    return byteArrayOutputStream.toByteArray();
+                }
+
+                @Override
+                public InteractionRoot fromSpillRecord(byte[] spillRecord) throws IOException {
+                    DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(spillRecord));
+                    double time = dataInputStream.readDouble();
+                    byte[] binaryBytes = new byte[dataInputStream.readInt()];
+                    dataInputStream.readFully(binaryBytes);
+                    InteractionRoot interactionRoot =
+                            InteractionRoot.fromBinary(new String(binaryBytes, StandardCharsets.UTF_8));
+                    if (interactionRoot != null) {
+                        interactionRoot.setTime(time);
+                        interactionRoot.updateSortKey();
+                    }
+                    return interactionRoot;
+                }
 
-    private static final UniquePriorityBlockingQueue<InteractionRoot> _interactionQueueWithTime =
-            new UniquePriorityBlockingQueue<>(10, new InteractionRootComparator());
+                @Override
+                public void discard(InteractionRoot interactionRoot) { }
+            });
+
+    {
+        // SIMULATION-CONTROL AND JOIN/RESIGN INTERACTIONS MUST NEVER BE DROPPED, NEITHER WHEN THEY
+        // ARRIVE AT A FULL QUEUE, NOR TO MAKE ROOM FOR OTHER INTERACTIONS
+        for(
+                String hlaClassName : Arrays.asList(
+                        SimulationControl.get_hla_class_name(),
+                        FederateJoinInteraction.get_hla_class_name(),
+                        FederateResignInteraction.get_hla_class_name()
+                )
+        ) {
+            _interactionQueueLimiter.setOverflowPolicy(hlaClassName, InboundOverflowPolicy.BLOCK);
+            _interactionQueueLimiter.setDroppable(hlaClassName, false);
+        }
+    }
 
-    private static final PriorityBlockingMultiQueue<InteractionRoot> _fullInteractionQueue =
-            new PriorityBlockingMultiQueue<>();
+    private InteractionRoot removedInteraction(InteractionRoot interactionRoot) {
+        _interactionQueueLimiter.onRemoved();
+        return interactionRoot;
+    }
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
-     * This method places an interaction on a queue internal to the {@link InteractionRoot}
-     * class.  Usu. this interaction has just been received from the RTI using
+     * This method places an interaction on a queue internal to this federate
+     * (each federate has its own queues, so several federates can run in one JVM).  Usu. this interaction has just been received from the RTI using
      * the {@link #receiveInteraction(int, ReceivedInteraction, byte[])} or
      * {@link #receiveInteraction(int, ReceivedInteraction, byte[], LogicalTime, EventRetractionHandle)}
      * callback method.
@@ -1300,21 +1950,16 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      *                        instance of any interaction in the federation, as InteractionRoot will
      *                        always be its highest super class.
      */
-    public static void addInteraction(InteractionRoot interactionRoot) {
+    public void addInteraction(InteractionRoot interactionRoot) {
         logger.trace("Received: {}", interactionRoot);
-        if (interactionRoot.getTime() >= 0) {
-            _interactionQueueWithTime.add(interactionRoot);
-            _fullInteractionQueue.add(_interactionQueueWithTime);
-        } else {
-            _interactionQueueWithoutTime.add(interactionRoot);
-            _fullInteractionQueue.add(_interactionQueueWithoutTime);
-        }
+        interactionRoot.updateSortKey();
+        _interactionQueueLimiter.offer(interactionRoot);
     }
 
     /**
      * Gets the next interaction that was received from the RTI, waiting for an
      * interaction if none are currently available.  The interaction is retrieved
-     * from a queue that is internal to the {@link InteractionRoot} class.  The
+     * from a queue that is internal to this federate.  The
      * queue is ordered by the timestamp of the interactions, with "receive-order"
      * interactions being placed at the front of the queue (they are given a
      * timestamp of -1).
@@ -1328,8 +1973,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * @return the next interaction received from the RTI in order of timestamp,
      * where receive-order interactions have a timestamp of -1.
      */
-    public static InteractionRoot getNextInteraction() {
-        return _fullInteractionQueue.take();
+    public InteractionRoot getNextInteraction() {
+        return removedInteraction(_fullInteractionQueue.take());
     }
 
     /**
@@ -1338,9 +1983,9 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * {@link #getNextInteractionNoWait()} methods.
      *
      * @return true if there are interactions available on the queue internal
-     * to the {@link InteractionRoot} class.  False, otherwise.
+     * to this federate.  False, otherwise.
      */
-    public static boolean isNotEmpty() {
+    public boolean isNotEmpty() {
         return !_fullInteractionQueue.isEmpty();
     }
 
@@ -1352,57 +1997,72 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * where receive-order interactions have a timestamp of -1, or null if there
      * are no interactions currently available
      */
-    public static InteractionRoot getNextInteractionNoWait() {
+    public InteractionRoot getNextInteractionNoWait() {
         InteractionRoot interactionRoot = _fullInteractionQueue.poll();
         logger.trace("Removed interaction from queue (poll), size now = {}", _fullInteractionQueue.size());
-        return interactionRoot;
+        return removedInteraction(interactionRoot);
     }
 
-    public static InteractionRoot getNextInteractionWithTime() {
-        InteractionRoot interactionRoot = null;
-        boolean takeNotComplete = true;
-        while (takeNotComplete) {
-            try {
-                interactionRoot = _interactionQueueWithTime.take();
-                takeNotComplete = false;
-            } catch (InterruptedException ignored) {
-            }
-        }
-        return interactionRoot;
+    public InteractionRoot getNextInteractionWithTime() {
+        return removedInteraction(_fullInteractionQueue.take(true));
     }
 
-    public static boolean isNotEmptyWithTime() {
-        return !_interactionQueueWithTime.isEmpty();
+    public boolean isNotEmptyWithTime() {
+        return !_fullInteractionQueue.isEmpty(true);
     }
 
-    public static InteractionRoot getNextInteractionWithTimeNoWait() {
-        InteractionRoot interactionRoot = _interactionQueueWithTime.poll();
-        logger.trace("Removed interaction from queue (poll), size now = {}", _interactionQueueWithTime.size());
-        return interactionRoot;
+    public InteractionRoot getNextInteractionWithTimeNoWait() {
+        InteractionRoot interactionRoot = _fullInteractionQueue.poll(true);
+        logger.trace("Removed interaction from queue (poll), size now = {}", _fullInteractionQueue.size(true));
+        return removedInteraction(interactionRoot);
     }
 
-    public static InteractionRoot getNextInteractionWithoutTime() {
-        InteractionRoot interactionRoot = null;
-        boolean takeNotComplete = true;
-        while (takeNotComplete) {
-            try {
-                interactionRoot = _interactionQueueWithoutTime.take();
-                takeNotComplete = false;
-            } catch (InterruptedException ignored) {
-            }
+    public InteractionRoot getNextInteractionWithoutTime() {
+        return removedInteraction(_fullInteractionQueue.take(false));
+    }
 
-        }
-        return interactionRoot;
+    public boolean isNotEmptyWithoutTime() {
+        return !_fullInteractionQueue.isEmpty(false);
     }
 
-    public static boolean isNotEmptyWithoutTime() {
-        return !_interactionQueueWithoutTime.isEmpty();
+    public InteractionRoot getNextInteractionWithoutTimeNoWait() {
+        InteractionRoot interactionRoot = _fullInteractionQueue.poll(false);
+        logger.trace("Removed interaction from queue (poll), size now = {}", _fullInteractionQueue.size(false));
+        return removedInteraction(interactionRoot);
     }
 
-    public static InteractionRoot getNextInteractionWithoutTimeNoWait() {
-        InteractionRoot interactionRoot = _interactionQueueWithoutTime.poll();
-        logger.trace("Removed interaction from queue (poll), size now = {}", _interactionQueueWithoutTime.size());
-        return interactionRoot;
+    private final InteractionHandlerTable _interactionHandlerTable = new InteractionHandlerTable();
+
+    /**
+     * Registers a handler for received interactions of the given class and of the classes
+     * derived from it, unless a more-derived class has its own handler.  Received interactions
+     * are passed to their handlers by {@link #handleInteraction(InteractionRoot)}, or in parallel
+     * by an {@link InteractionDispatcher} that uses {@link #getInteractionHandlerTable()}.
+     *
+     * @param hlaClassName fully-qualified name of the interaction class
+     * @param handler handler for interactions of the class
+     */
+    public void addInteractionHandler(String hlaClassName, Consumer<InteractionRoot> handler) {
+        _interactionHandlerTable.put(hlaClassName, handler);
+    }
+
+    public void removeInteractionHandler(String hlaClassName) {
+        _interactionHandlerTable.remove(hlaClassName);
+    }
+
+    public InteractionHandlerTable getInteractionHandlerTable() {
+        return _interactionHandlerTable;
+    }
+
+    /**
+     * Passes an interaction to the handler registered (with
+     * {@link #addInteractionHandler(String, Consumer)}) for its most-derived class that has one.
+     *
+     * @param interactionRoot interaction to handle
+     * @return true if the interaction had a handler, false otherwise
+     */
+    public boolean handleInteraction(InteractionRoot interactionRoot) {
+        return _interactionHandlerTable.handle(interactionRoot);
     }
 
     /**
@@ -1461,7 +2121,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         DoubleTime assumedTimestamp = new DoubleTime();
         assumedTimestamp.setTime(Math.max(getLBTS(), getCurrentTime()));
 
-        InteractionRoot interactionRoot = InteractionRoot.create_interaction(interactionClass, theInteraction);
+        InteractionRoot interactionRoot = InteractionRoot.create_interaction(getRTI(), interactionClass, theInteraction);
         logger.trace(
                 "SynchronizedFederate::receiveInteractionSF (no time): Created interaction root as: {}", interactionRoot
         );
@@ -1511,7 +2171,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     ) {
         logger.trace("SynchronizedFederate::receiveInteractionSF (with time): Received interactionClass as: {} and interaction as: {}", interactionClass, theInteraction);
 
-        InteractionRoot interactionRoot = InteractionRoot.create_interaction(interactionClass, theInteraction, theTime);
+        InteractionRoot interactionRoot = InteractionRoot.create_interaction(getRTI(), interactionClass, theInteraction, theTime);
         logger.trace(
                 "SynchronizedFederate::receiveInteractionSF (with time): Created interaction root as: {}",
                 interactionRoot
@@ -1525,6 +2185,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 receiveEmbeddedInteraction((EmbeddedMessaging)interactionRoot);
                 return;
             }
+            if (interactionRoot instanceof FederateCapabilityInteraction) {
+                receiveFederateCapability((FederateCapabilityInteraction)interactionRoot);
+                return;
+            }
 
             addInteraction(interactionRoot);
             // createLog(interactionClass, theInteraction, assumedTimestamp);
@@ -1537,7 +2201,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         String federateSequence = embeddedMessaging.get_federateSequence();
 
         if ("interaction".equals(command)) {
-            if (!InteractionRoot.get_is_soft_subscribed(hlaClassName)) {
+            if (!Boolean.TRUE.equals(InteractionRoot.get_is_soft_subscribed(hlaClassName, getRTI()))) {
                 logger.warn(
                         "SynchronizedFederate.receiveEmbeddedInteraction:  interaction class \"{}\" " +
                                 "not soft subscribed",
@@ -1545,7 +2209,16 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 );
                 return;
             }
-            InteractionRoot embeddedInteraction = InteractionRoot.fromJson(embeddedMessaging.get_messagingJson());
+            String messagingJson = embeddedMessaging.get_messagingJson();
+            InteractionRoot embeddedInteraction = MessagingBinaryCodec.is_binary(messagingJson) ?
+                    InteractionRoot.fromBinary(messagingJson) : InteractionRoot.fromJson(messagingJson);
+            if (embeddedInteraction == null) {
+                logger.error(
+                        "SynchronizedFederate.receiveEmbeddedInteraction:  could not decode interaction of class \"{}\"",
+                        hlaClassName
+                );
+                return;
+            }
             embeddedInteraction.setTime(embeddedMessaging.getTime());
 
             receiveInteractionSFAux(embeddedInteraction);
@@ -1553,7 +2226,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         }
 
         if ("object".equals(command)) {
-            if (!ObjectRoot.get_is_soft_subscribed(hlaClassName)) {
+            if (!Boolean.TRUE.equals(ObjectRoot.get_is_soft_subscribed(hlaClassName, getRTI()))) {
                 logger.warn(
                         "SynchronizedFederate.receiveEmbeddedInteraction:  object class \"{}\" " +
                                 "is not soft subscribed",
@@ -1561,25 +2234,209 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 );
                 return;
             }
-            ObjectReflector objectReflector = ObjectRoot.fromJson(embeddedMessaging.get_messagingJson());
+            String messagingJson = embeddedMessaging.get_messagingJson();
+            ObjectReflector objectReflector = MessagingBinaryCodec.is_binary(messagingJson) ?
+                    ObjectRoot.fromBinary(getRTI(), messagingJson) : ObjectRoot.fromJson(getRTI(), messagingJson);
+            if (objectReflector == null) {
+                logger.error(
+                        "SynchronizedFederate.receiveEmbeddedInteraction:  could not decode object of class \"{}\"",
+                        hlaClassName
+                );
+                return;
+            }
             objectReflector.setFederateSequence(federateSequence);
             objectReflector.setTime(embeddedMessaging.getTime());
 
-            _objectReflectionQueue.add(objectReflector);
+            addObjectReflector(objectReflector);
             return;
         }
 
         logger.warn("SynchronizedFederate.receiveEmbeddedInteraction, unrecognized command \"{}\"", command);
     }
 
-    private static final PriorityBlockingQueue<ObjectReflector> _objectReflectionQueue =
-            new PriorityBlockingQueue<>(10, new ObjectReflectorComparator());
+    private final ObjectReflectorComparator _objectReflectorComparator = new ObjectReflectorComparator();
+
+    private final PriorityBlockingQueue<ObjectReflector> _objectReflectionQueue =
+            new PriorityBlockingQueue<>(10, _objectReflectorComparator);
+
+    //-------------------------------------------------------------------------------------
+    // LATEST-VALUE REFLECTIONS
+    //
+    // IF ENABLED, RECEIVED REFLECTIONS ARE PUT IN AN ObjectReflectionCoalescingBUFFER
+    // INSTEAD OF ON _objectReflectionQueue, SO THAT ALL REFLECTIONS OF AN OBJECT RECEIVED
+    // BEFORE THEY ARE TAKEN ARE TAKEN AS ONE MERGED REFLECTION.  THE BUFFER HOLDS AT MOST
+    // TWO REFLECTIONS PER OBJECT, SO IT IS NOT BOUNDED BY THE INBOUND-QUEUE CAPACITY.
+    //-------------------------------------------------------------------------------------
+    private volatile boolean _coalesceObjectReflections = false;
+    private final ObjectReflectionCoalescingBuffer _objectReflectionCoalescingBuffer =
+            new ObjectReflectionCoalescingBuffer();
+
+    /**
+     * If set to true, reflections of an object received before the federate takes them are merged
+     * into a single reflection that has the newest value of each attribute, so that a federate
+     * that takes all reflections each time-step gets at most one reflection per object per step.
+     * Reflections already queued when this is set are still taken first, and unmerged.
+     *
+     * @param coalesceObjectReflections true to merge reflections of the same object
+     */
+    public void setCoalesceObjectReflections(boolean coalesceObjectReflections) {
+        _coalesceObjectReflections = coalesceObjectReflections;
+    }
+
+    public boolean getCoalesceObjectReflections() {
+        return _coalesceObjectReflections;
+    }
+
+    /**
+     * @return the number of received reflections that have been merged into an earlier reflection
+     * of the same object
+     */
+    public long getObjectReflectionCoalesceCount() {
+        return _objectReflectionCoalescingBuffer.getCoalesceCount();
+    }
+
+    private void addObjectReflector(ObjectReflector objectReflector) {
+        if (_coalesceObjectReflections) {
+            _objectReflectionCoalescingBuffer.add(objectReflector);
+        } else {
+            _objectReflectionQueueLimiter.offer(objectReflector);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------
+    // COALESCIBLE REFLECTIONS
+    //
+    // WHILE THE REFLECTION QUEUE IS BOUNDED, THE LAST QUEUED REFLECTION OF EACH OBJECT (KEPT
+    // SEPARATELY FOR RECEIVE-ORDER AND TIMESTAMP-ORDER REFLECTIONS) IS RECORDED HERE, SO
+    // THAT THE COALESCE POLICY CAN MERGE A LATER REFLECTION INTO IT.  A QUEUED REFLECTION IS
+    // ONLY MERGED INTO AFTER IT HAS BEEN REMOVED FROM THE QUEUE, SO A REFLECTION THAT HAS BEEN
+    // TAKEN IS NEVER CHANGED; THE MERGED REFLECTION IS THEN RE-QUEUED AT THE LATER TIME.
+    //-------------------------------------------------------------------------------------
+    private final Map<Long, ObjectReflector> _coalescibleObjectReflectorMap = new HashMap<>();
+
+    private static long get_coalesce_key(ObjectReflector objectReflector) {
+        return ((long)objectReflector.getObjectHandle() << 1) | (objectReflector.getTime() >= 0 ? 1 : 0);
+    }
+
+    private ObjectReflector removedObjectReflector(ObjectReflector objectReflector) {
+        if (objectReflector != null) {
+            synchronized (_coalescibleObjectReflectorMap) {
+                if (!_coalescibleObjectReflectorMap.isEmpty()) {
+                    _coalescibleObjectReflectorMap.remove(get_coalesce_key(objectReflector), objectReflector);
+                }
+            }
+        }
+        _objectReflectionQueueLimiter.onRemoved();
+        return objectReflector;
+    }
+
+    private final InboundQueueLimiter<ObjectReflector> _objectReflectionQueueLimiter =
+            new InboundQueueLimiter<>(new InboundQueueLimiter.Adapter<ObjectReflector>() {
+                @Override
+                public int size() {
+                    return _objectReflectionQueue.size();
+                }
+
+                @Override
+                public void add(ObjectReflector objectReflector) {
+                    if (_objectReflectionQueueLimiter.getCapacity() > 0) {
+                        synchronized (_coalescibleObjectReflectorMap) {
+                            _coalescibleObjectReflectorMap.put(get_coalesce_key(objectReflector), objectReflector);
+                        }
+                    }
+                    _objectReflectionQueue.add(objectReflector);
+                }
+
+                @Override
+                public ObjectReflector pollOldest(Predicate<? super ObjectReflector> droppable) {
+                    ObjectReflector oldestObjectReflector = null;
+                    for(ObjectReflector objectReflector : _objectReflectionQueue) {
+                        if (
+                                droppable.test(objectReflector) && (
+                                        oldestObjectReflector == null ||
+                                                _objectReflectorComparator.compare(
+                                                        objectReflector, oldestObjectReflector
+                                                ) < 0
+                                )
+                        ) {
+                            oldestObjectReflector = objectReflector;
+                        }
+                    }
+                    // THE REFLECTION MAY HAVE BEEN TAKEN IN THE MEANTIME
+                    if (oldestObjectReflector == null || !_objectReflectionQueue.remove(oldestObjectReflector)) {
+                        return null;
+                    }
+                    synchronized (_coalescibleObjectReflectorMap) {
+                        _coalescibleObjectReflectorMap.remove(
+                                get_coalesce_key(oldestObjectReflector), oldestObjectReflector
+                        );
+                    }
+                    return oldestObjectReflector;
+                }
+
+                @Override
+                public boolean coalesce(ObjectReflector objectReflector) {
+                    synchronized (_coalescibleObjectReflectorMap) {
+                        ObjectReflector queuedObjectReflector =
+                                _coalescibleObjectReflectorMap.get(get_coalesce_key(objectReflector));
+                        // ONLY A LATER REFLECTION SUPERSEDES A QUEUED ONE
+                        if (
+                                queuedObjectReflector == null ||
+                                        objectReflector.getTime() < queuedObjectReflector.getTime()
+                        ) {
+                            return false;
+                        }
+                        // THE QUEUED REFLECTION MAY HAVE BEEN TAKEN IN THE MEANTIME
+                        if (!_objectReflectionQueue.remove(queuedObjectReflector)) {
+                            return false;
+                        }
+                        // AS IN ObjectReflectionCoalescingBuffer, THE MERGED REFLECTION TAKES THE LATER TIME, SO
+                        // IT IS RE-QUEUED IN ITS NEW POSITION
+                        queuedObjectReflector.merge(objectReflector);
+                        queuedObjectReflector.setTime(objectReflector.getTime());
+                        queuedObjectReflector.setFederateSequence(objectReflector.getFederateSequence());
+                        _objectReflectionQueue.add(queuedObjectReflector);
+                        return true;
+                    }
+                }
+
+                @Override
+                public String getHlaClassName(ObjectReflector objectReflector) {
+                    return objectReflector.getHlaClassName();
+                }
+
+                @Override
+                public byte[] toSpillRecord(ObjectReflector objectReflector) throws IOException {
+                    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+                    objectReflector.writeRaw(dataOutputStream);
+                    dataOutputStream.flush();
+                    return byteArrayOutputStream.toByteArray();
+                }
+
+                @Override
+                public ObjectReflector fromSpillRecord(byte[] spillRecord) throws IOException {
+                    return ObjectReflector.read_raw(
+                            getRTI(), new DataInputStream(new ByteArrayInputStream(spillRecord))
+                    );
+                }
+
+                @Override
+                public void discard(ObjectReflector objectReflector) {
+                    objectReflector.release();
+                }
+            });
+
+    {
+        // A NEWER REFLECTION OF AN OBJECT SUPERSEDES A QUEUED ONE, SO MERGING THEM LOSES NO STATE
+        _objectReflectionQueueLimiter.setDefaultOverflowPolicy(InboundOverflowPolicy.COALESCE);
+    }
 
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
-     * This method places an ObjectReflector on a queue internal to the
-     * {@link ObjectRoot} class.  Usu. this ObjectReflector contains attribute
+     * This method places an ObjectReflector on a queue internal to this
+     * federate.  Usu. this ObjectReflector contains attribute
      * reflections that have just been received from the RTI using
      * the {@link #reflectAttributeValues(int, ReflectedAttributes, byte[])} or
      * {@link #reflectAttributeValues(int, ReflectedAttributes, byte[], LogicalTime, EventRetractionHandle)}
@@ -1590,8 +2447,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * @param reflectedAttributes attribute reflections for the object class
      *                            instance corresponding to objectHandle
      */
-    public static void addObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
-        _objectReflectionQueue.add(new ObjectReflector(objectHandle, reflectedAttributes));
+    public void addObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
+        addObjectReflector(ObjectReflector.acquire(getRTI(), objectHandle, reflectedAttributes));
     }
 
     /**
@@ -1605,25 +2462,30 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      *                            instance corresponding to objectHandle
      * @param logicalTime         timestamp of the attribute reflections
      */
-    public static void addObjectReflector(
+    public void addObjectReflector(
             int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
     ) {
-        _objectReflectionQueue.add(new ObjectReflector(objectHandle, reflectedAttributes, logicalTime));
+        addObjectReflector(ObjectReflector.acquire(getRTI(), objectHandle, reflectedAttributes, logicalTime));
     }
 
     /**
-     * Gets the next ObjectReflector from a queue that is internal to the {@link ObjectRoot}
-     * class, waiting for an ObjectReflector is none are currently on the queue.
+     * Gets the next ObjectReflector from a queue that is internal to this federate,
+     * waiting for an ObjectReflector is none are currently on the queue.
      * The queue is ordered by the timestamp of the attribute reflections in the
      * ObjectReflector's, with ObjectReflectors having "receive-order" attribute
      * reflections being placed at the front of the queue (they are given a
      * timestamp of -1).
      *
-     * @return the next ObjectReflector on the ObjectRoot class queue in the order
+     * @return the next ObjectReflector on this federate's queue in the order
      * of timestamp of their contained attribute reflections, where receive-order
      * attribute reflections have a timestamp of -1.
      */
-    public static ObjectReflector getNextObjectReflector() {
+    public ObjectReflector getNextObjectReflector() {
+        if (_coalesceObjectReflections) {
+            ObjectReflector objectReflector = getNextObjectReflectorNoWait();
+            return objectReflector != null ? objectReflector : _objectReflectionCoalescingBuffer.take();
+        }
+
         ObjectReflector objectReflection = null;
         boolean takeNotComplete = true;
         while (takeNotComplete) {
@@ -1634,7 +2496,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             }
 
         }
-        return objectReflection;
+        return removedObjectReflector(objectReflection);
     }
 
     /**
@@ -1643,8 +2505,89 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      *
      * @return An object reflector is one was available on the queue, null otherwise.
      */
-    public static ObjectReflector getNextObjectReflectorNoWait() {
-        return _objectReflectionQueue.poll();
+    public ObjectReflector getNextObjectReflectorNoWait() {
+        ObjectReflector objectReflector = removedObjectReflector(_objectReflectionQueue.poll());
+        return objectReflector != null || _objectReflectionCoalescingBuffer.isEmpty() ?
+                objectReflector : _objectReflectionCoalescingBuffer.poll();
+    }
+
+    /**
+     * Sets the maximum number of received interactions, and the maximum number of received
+     * attribute reflections, that this federate queues.
+     *
+     * @param inboundQueueCapacity maximum size of each inbound queue, or 0 for no maximum
+     */
+    public void setInboundQueueCapacity(int inboundQueueCapacity) {
+        _interactionQueueLimiter.setCapacity(inboundQueueCapacity);
+        _objectReflectionQueueLimiter.setCapacity(inboundQueueCapacity);
+    }
+
+    public int getInboundQueueCapacity() {
+        return _interactionQueueLimiter.getCapacity();
+    }
+
+    /**
+     * Sets what is done with a received interaction or reflection when its queue is full, for
+     * classes that have no policy of their own.
+     *
+     * @param overflowPolicy the policy
+     */
+    public void setInboundQueueOverflowPolicy(InboundOverflowPolicy overflowPolicy) {
+        _interactionQueueLimiter.setDefaultOverflowPolicy(overflowPolicy);
+        _objectReflectionQueueLimiter.setDefaultOverflowPolicy(overflowPolicy);
+    }
+
+    /**
+     * Sets what is done with a received interaction or reflection whose overflow policy is
+     * {@link InboundOverflowPolicy#BLOCK} when no room is made on its queue in time.
+     *
+     * @param blockTimeoutOverflowPolicy DROP_OLDEST, COALESCE or SPILL_TO_DISK
+     */
+    public void setInboundQueueBlockTimeoutOverflowPolicy(InboundOverflowPolicy blockTimeoutOverflowPolicy) {
+        _interactionQueueLimiter.setBlockTimeoutOverflowPolicy(blockTimeoutOverflowPolicy);
+        _objectReflectionQueueLimiter.setBlockTimeoutOverflowPolicy(blockTimeoutOverflowPolicy);
+    }
+
+    /**
+     * Like {@link #setInboundQueueOverflowPolicy(InboundOverflowPolicy)}, but only for the given
+     * interaction or object class and the classes derived from it.
+     *
+     * @param hlaClassName fully-qualified name of the interaction or object class
+     * @param overflowPolicy the policy, or null to remove the class's policy
+     */
+    public void setInboundQueueOverflowPolicy(String hlaClassName, InboundOverflowPolicy overflowPolicy) {
+        if (hlaClassName.startsWith(ObjectRoot.get_hla_class_name())) {
+            _objectReflectionQueueLimiter.setOverflowPolicy(hlaClassName, overflowPolicy);
+        } else {
+            _interactionQueueLimiter.setOverflowPolicy(hlaClassName, overflowPolicy);
+        }
+    }
+
+    public void setInboundQueueSpillDirectory(String spillDirectory) {
+        _interactionQueueLimiter.setSpillDirectory(spillDirectory);
+        _objectReflectionQueueLimiter.setSpillDirectory(spillDirectory);
+    }
+
+    public InboundQueueLimiter<InteractionRoot> getInteractionQueueLimiter() {
+        return _interactionQueueLimiter;
+    }
+
+    public InboundQueueLimiter<ObjectReflector> getObjectReflectionQueueLimiter() {
+        return _objectReflectionQueueLimiter;
+    }
+
+    /**
+     * @return the depth, high-water mark, and overflow counts of the received-interaction queue
+     */
+    public InboundQueueLimiter.Metrics getInteractionQueueMetrics() {
+        return _interactionQueueLimiter.getMetrics();
+    }
+
+    /**
+     * @return the depth, high-water mark, and overflow counts of the received-reflection queue
+     */
+    public InboundQueueLimiter.Metrics getObjectReflectionQueueMetrics() {
+        return _objectReflectionQueueLimiter.getMetrics();
     }
 
     /**
@@ -1665,19 +2608,19 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void discoverObjectInstance(int objectHandle, int objectClassHandle, String objectName) {
-        ObjectRoot.discover(objectClassHandle, objectHandle);
+        ObjectRoot.discover(getRTI(), objectClassHandle, objectHandle);
     }
 
     @Override
     public void removeObjectInstance(int theObject, byte[] userSuppliedTag) {
-        ObjectRoot.remove_object(theObject);
+        ObjectRoot.remove_object(getRTI(), theObject);
     }
 
     @Override
     public void removeObjectInstance(
             int theObject, byte[] userSuppliedTag, LogicalTime theTime, EventRetractionHandle retractionHandle
     ) {
-        ObjectRoot.remove_object(theObject);
+        ObjectRoot.remove_object(getRTI(), theObject);
     }
 
     /**
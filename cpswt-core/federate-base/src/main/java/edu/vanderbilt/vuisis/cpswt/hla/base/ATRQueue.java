@@ -28,14 +28,205 @@
  * OR MODIFICATIONS.
  */
 
+
 package edu.vanderbilt.vuisis.cpswt.hla.base;
 
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of {@link AdvanceTimeRequest}s, ordered by requested time, that the
+ * {@link AdvanceTimeThread} takes its requests from.
+ * <p>
+ * The queue is a binary heap whose keys (the requested times) are kept in a primitive
+ * double array alongside the requests, so that neither putting nor taking a request
+ * allocates once the arrays have grown to the number of outstanding requests.  Requests
+ * with equal requested times are taken in the order in which they were put.
+ */
+public class ATRQueue {
+
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final Condition _notEmpty = _lock.newCondition();
 
-public class ATRQueue extends PriorityBlockingQueue<AdvanceTimeRequest> {
+    private double[] _requestedTimes;
+    private long[] _sequenceNumbers;
+    private AdvanceTimeRequest[] _advanceTimeRequests;
+    private int _size = 0;
+    private long _nextSequenceNumber = 0;
 
-    public static final long serialVersionUID = 1;
+    public ATRQueue(int size) {
+        int capacity = Math.max(size, 1);
+        _requestedTimes = new double[capacity];
+        _sequenceNumbers = new long[capacity];
+        _advanceTimeRequests = new AdvanceTimeRequest[capacity];
+    }
+
+    /**
+     * Same as {@link #ATRQueue(int)}.  Requests are always ordered by requested time, as
+     * with the {@link ATRComparator}.
+     *
+     * @param size initial capacity of the queue
+     * @param tatComparator ignored
+     */
     public ATRQueue(int size, ATRComparator tatComparator) {
-        super(size, tatComparator);
+        this(size);
+    }
+
+    private boolean less(int ix1, int ix2) {
+        double requestedTime1 = _requestedTimes[ix1];
+        double requestedTime2 = _requestedTimes[ix2];
+        return requestedTime1 < requestedTime2 ||
+          (requestedTime1 == requestedTime2 && _sequenceNumbers[ix1] < _sequenceNumbers[ix2]);
+    }
+
+    private void swap(int ix1, int ix2) {
+        double requestedTime = _requestedTimes[ix1];
+        _requestedTimes[ix1] = _requestedTimes[ix2];
+        _requestedTimes[ix2] = requestedTime;
+
+        long sequenceNumber = _sequenceNumbers[ix1];
+        _sequenceNumbers[ix1] = _sequenceNumbers[ix2];
+        _sequenceNumbers[ix2] = sequenceNumber;
+
+        AdvanceTimeRequest advanceTimeRequest = _advanceTimeRequests[ix1];
+        _advanceTimeRequests[ix1] = _advanceTimeRequests[ix2];
+        _advanceTimeRequests[ix2] = advanceTimeRequest;
+    }
+
+    private void siftUp(int ix) {
+        while (ix > 0) {
+            int parent = (ix - 1) >>> 1;
+            if (!less(ix, parent)) {
+                return;
+            }
+            swap(ix, parent);
+            ix = parent;
+        }
+    }
+
+    private void siftDown(int ix) {
+        while (true) {
+            int child = 2 * ix + 1;
+            if (child >= _size) {
+                return;
+            }
+            if (child + 1 < _size && less(child + 1, child)) {
+                ++child;
+            }
+            if (!less(child, ix)) {
+                return;
+            }
+            swap(ix, child);
+            ix = child;
+        }
+    }
+
+    private AdvanceTimeRequest removeFirst() {
+        AdvanceTimeRequest advanceTimeRequest = _advanceTimeRequests[0];
+        --_size;
+        if (_size > 0) {
+            swap(0, _size);
+        }
+        _advanceTimeRequests[_size] = null;
+        siftDown(0);
+        return advanceTimeRequest;
+    }
+
+    /**
+     * Adds an AdvanceTimeRequest to the queue.
+     *
+     * @param advanceTimeRequest request to add
+     */
+    public void put(AdvanceTimeRequest advanceTimeRequest) {
+        if (advanceTimeRequest == null) {
+            throw new NullPointerException();
+        }
+        _lock.lock();
+        try {
+            if (_size == _advanceTimeRequests.length) {
+                int capacity = 2 * _size;
+                _requestedTimes = Arrays.copyOf(_requestedTimes, capacity);
+                _sequenceNumbers = Arrays.copyOf(_sequenceNumbers, capacity);
+                _advanceTimeRequests = Arrays.copyOf(_advanceTimeRequests, capacity);
+            }
+            _requestedTimes[_size] = advanceTimeRequest.getRequestedTime();
+            _sequenceNumbers[_size] = _nextSequenceNumber++;
+            _advanceTimeRequests[_size] = advanceTimeRequest;
+            siftUp(_size++);
+            _notEmpty.signal();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns, without removing it, the request with the earliest requested time.
+     *
+     * @return the request with the earliest requested time, or null if the queue is empty
+     */
+    public AdvanceTimeRequest peek() {
+        _lock.lock();
+        try {
+            return _size == 0 ? null : _advanceTimeRequests[0];
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the request with the earliest requested time.
+     *
+     * @return the request with the earliest requested time, or null if the queue is empty
+     */
+    public AdvanceTimeRequest poll() {
+        _lock.lock();
+        try {
+            return _size == 0 ? null : removeFirst();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the request with the earliest requested time, waiting for a
+     * request to be put if the queue is empty.
+     *
+     * @return the request with the earliest requested time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public AdvanceTimeRequest take() throws InterruptedException {
+        _lock.lockInterruptibly();
+        try {
+            while (_size == 0) {
+                _notEmpty.await();
+            }
+            return removeFirst();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    public int size() {
+        _lock.lock();
+        try {
+            return _size;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        _lock.lock();
+        try {
+            Arrays.fill(_advanceTimeRequests, 0, _size, null);
+            _size = 0;
+        } finally {
+            _lock.unlock();
+        }
     }
 }
@@ -40,11 +40,68 @@ package edu.vanderbilt.vuisis.cpswt.hla.base;
  * See {@link AdvanceTimeThread}.
  */
 public class AdvanceTimeRequest {
-    private static Object object = new Object();
-
     private double _requestedTime;
     private double _currentTime = -1;
     private SyncQueue _syncQueue;
+    private boolean _nextEventRequest = false;
+    private boolean _resubmitted = false;
+
+    //-----------------------------------------------------------------------------------------
+    // AdvanceTimeRequest POOL
+    //
+    // AN AdvanceTimeRequest OBTAINED WITH acquire IS RETURNED TO THE POOL WITH release ONCE ITS
+    // requestSyncEnd HAS RETURNED.  ITS SyncQueue IS REUSED ALONG WITH IT, AS A SyncQueue CAN BE
+    // REUSED INDEFINITELY.  THE POOL IS A FIXED-SIZE ARRAY, SO IT NEVER ALLOCATES.
+    //-----------------------------------------------------------------------------------------
+    private static final int MAXIMUM_POOL_SIZE = 64;
+    private static final AdvanceTimeRequest[] _pool = new AdvanceTimeRequest[MAXIMUM_POOL_SIZE];
+    private static int _poolSize = 0;
+
+    private boolean _pooled = false;
+
+    /**
+     * Returns an AdvanceTimeRequest for "requestedTime", taken from the pool of released
+     * AdvanceTimeRequests if it is not empty.  Such an AdvanceTimeRequest should be released
+     * with {@link #release()} once its {@link #requestSyncEnd()} has returned.
+     *
+     * @param requestedTime time at which the federate wishes to perform
+     *                      processing for the simulation.
+     * @return an AdvanceTimeRequest for "requestedTime"
+     */
+    public static AdvanceTimeRequest acquire(double requestedTime) {
+        AdvanceTimeRequest advanceTimeRequest = null;
+        synchronized (_pool) {
+            if (_poolSize > 0) {
+                advanceTimeRequest = _pool[--_poolSize];
+                _pool[_poolSize] = null;
+            }
+        }
+        if (advanceTimeRequest == null) {
+            advanceTimeRequest = new AdvanceTimeRequest(requestedTime);
+        } else {
+            advanceTimeRequest._requestedTime = requestedTime;
+            advanceTimeRequest._currentTime = -1;
+            advanceTimeRequest._nextEventRequest = false;
+            advanceTimeRequest._resubmitted = false;
+            advanceTimeRequest._pooled = false;
+        }
+        return advanceTimeRequest;
+    }
+
+    /**
+     * Returns this AdvanceTimeRequest to the pool of AdvanceTimeRequests used by
+     * {@link #acquire(double)}.  Must only be called once {@link #requestSyncEnd()} has
+     * returned, after which this AdvanceTimeRequest must no longer be used.
+     */
+    public void release() {
+        synchronized (_pool) {
+            if (_pooled || _poolSize == MAXIMUM_POOL_SIZE) {
+                return;
+            }
+            _pooled = true;
+            _pool[_poolSize++] = this;
+        }
+    }
 
     /**
      * Creates a new AdvanceTimeRequest with a new (and unique) SyncQueue.
@@ -80,6 +137,73 @@ public class AdvanceTimeRequest {
         return _requestedTime;
     }
 
+    /**
+     * Returns true if the AdvanceTimeThread should advance to the requested time of this
+     * AdvanceTimeRequest with a next-event request, regardless of its own TimeAdvanceMode.
+     * See {@link #setNextEventRequest(boolean)}.
+     *
+     * @return true if this is a next-event request
+     */
+    public boolean isNextEventRequest() {
+        return _nextEventRequest;
+    }
+
+    /**
+     * Makes this AdvanceTimeRequest a next-event request (or not).  The AdvanceTimeThread
+     * advances to the requested time of a next-event request with nextEventRequest (or
+     * nextEventRequestAvailable, if the AdvanceTimeThread uses an "Available" TimeAdvanceMode).
+     * The RTI then grants the requested time, or the (earlier) time of the next
+     * timestamp-ordered interaction or reflection this federate receives, in which case
+     * the federate thread resumes early (see {@link #isGrantedEarly()}), and the
+     * AdvanceTimeThread re-submits this AdvanceTimeRequest for the same requested time
+     * (see {@link #isResubmitted()}).
+     * <p>
+     * This lets a federate that only has work to do at sparse times jump straight to its
+     * next wake time, instead of advancing one step at a time.
+     *
+     * @param nextEventRequest true to make this a next-event request
+     */
+    public void setNextEventRequest(boolean nextEventRequest) {
+        _nextEventRequest = nextEventRequest;
+    }
+
+    /**
+     * Returns true if the AdvanceTimeThread processed this AdvanceTimeRequest at a time
+     * earlier than the requested time, which happens for a next-event request when the
+     * federate received a timestamp-ordered interaction or reflection before the requested time.
+     * Only meaningful between {@link #requestSyncStart()} and {@link #requestSyncEnd()}.
+     *
+     * @return true if this AdvanceTimeRequest was granted before its requested time
+     */
+    public boolean isGrantedEarly() {
+        return _currentTime >= 0 && _currentTime < _requestedTime;
+    }
+
+    /**
+     * Returns true if the AdvanceTimeThread re-submits this AdvanceTimeRequest once the
+     * federate thread calls {@link #requestSyncEnd()}, which it does for a next-event request
+     * that is granted early (see {@link #isGrantedEarly()}).  The federate thread should then
+     * call {@link #requestSyncStart()} on this AdvanceTimeRequest again, instead of submitting
+     * a new one for the same time.  {@link #requestSyncEnd()} returns this value, as the
+     * AdvanceTimeThread may resume a re-submitted AdvanceTimeRequest as soon as requestSyncEnd
+     * has handed it back:
+     * ------
+     * AdvanceTimeRequest atr = putNextEventRequest( nextWakeTime );
+     * do {
+     *     atr.requestSyncStart();
+     *     // process the interactions and reflections received up to atr.getCurrentTime()
+     *     // ...
+     * } while( atr.requestSyncEnd() );
+     * atr.release();
+     * ------
+     * Only meaningful between {@link #requestSyncStart()} and {@link #requestSyncEnd()}.
+     *
+     * @return true if this AdvanceTimeRequest is re-submitted after the current time-step
+     */
+    public boolean isResubmitted() {
+        return _resubmitted;
+    }
+
     /**
      * returns the time at which this AdvanceTimeRequest object is actually
      * processed by the AdvanceTimeThread.  Usually, this is the same as the
@@ -116,6 +240,7 @@ public class AdvanceTimeRequest {
      */
     public void threadSyncStart(double currentTime) {
         _currentTime = currentTime;
+        _resubmitted = _nextEventRequest && currentTime < _requestedTime;
         threadSyncEnd();
     }
 
@@ -133,14 +258,7 @@ public class AdvanceTimeRequest {
      * AdvanceTimeRequest object.
      */
     public void threadSyncEnd() {
-        boolean putNotExecuted = true;
-        while (putNotExecuted) {
-            try {
-                _syncQueue.put(object);
-                putNotExecuted = false;
-            } catch (InterruptedException i) {
-            }
-        }
+        _syncQueue.put();
     }
 
     /**
@@ -149,23 +267,23 @@ public class AdvanceTimeRequest {
      * requested in this AdvanceTimeRequest object.
      */
     public void requestSyncStart() {
-        boolean takeNotExecuted = true;
-        while (takeNotExecuted) {
-            try {
-                _syncQueue.take();
-                takeNotExecuted = false;
-            } catch (InterruptedException i) {
-            }
-        }
+        _syncQueue.take();
     }
 
     /**
      * Called by a federate thread to indicate to the {@link AdvanceTimeThread}
      * that it has completed the processing it needed to perform at the time
      * requested in this AdvanceTimeRequest object.
+     *
+     * @return true if the AdvanceTimeThread re-submits this AdvanceTimeRequest, in which case
+     * the federate thread should call {@link #requestSyncStart()} on it again
+     * (see {@link #isResubmitted()})
      */
-    public void requestSyncEnd() {
+    public boolean requestSyncEnd() {
+        // READ BEFORE THE HANDOFF, AFTER WHICH THE AdvanceTimeThread MAY ALREADY BE RESUMING THE RE-SUBMITTED REQUEST
+        boolean resubmitted = _resubmitted;
         _currentTime = -1;
         requestSyncStart();
+        return resubmitted;
     }
 }
@@ -32,6 +32,7 @@ package edu.vanderbilt.vuisis.cpswt.hla.base;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import edu.vanderbilt.vuisis.cpswt.hla.RTIExecutor;
 import edu.vanderbilt.vuisis.cpswt.hla.SynchronizedFederate;
 import hla.rti.FederationTimeAlreadyPassed;
 import hla.rti.RTIambassador;
@@ -100,6 +101,16 @@ import org.portico.impl.hla13.types.DoubleTime;
  * atr = new_atr;
  * }
  * --------
+ * <p>
+ * A federate thread that only has processing to perform at sparse times can instead
+ * submit next-event requests for its next wake time (see
+ * {@link SynchronizedFederate#putNextEventRequest(double)}).  The AdvanceTimeThread then
+ * advances straight to the wake time, unless a timestamp-ordered interaction or reflection
+ * arrives first, in which case the thread is resumed at the time of that interaction or
+ * reflection ({@link AdvanceTimeRequest#isGrantedEarly()} is true).  Once the thread has
+ * processed it, the AdvanceTimeThread re-submits the same request for the same wake time
+ * ({@link AdvanceTimeRequest#isResubmitted()} is true, and requestSyncEnd() returns true), so
+ * the thread only has to call requestSyncStart() on it again.
  */
 public class AdvanceTimeThread extends Thread {
     private static final Logger logger = LogManager.getLogger(AdvanceTimeThread.class);
@@ -146,32 +157,24 @@ public class AdvanceTimeThread extends Thread {
             if (advanceTimeRequest.getRequestedTime() > currentTime) {
                 timeRequest = new DoubleTime(advanceTimeRequest.getRequestedTime());
             } else {
-                advanceTimeRequest.threadSyncStart(currentTime);
-                advanceTimeRequest.threadSyncEnd();
+                runTimeStep(advanceTimeRequest, currentTime);
                 continue;
             }
 
             _synchronizedFederate.setTimeAdvanceNotGranted(true);
 
+            TimeAdvanceMode timeAdvanceMode = _timeAdvanceMode;
+            if (advanceTimeRequest.isNextEventRequest()) {
+                boolean available = _timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequestAvailable ||
+                        _timeAdvanceMode == TimeAdvanceMode.NextEventRequestAvailable;
+                timeAdvanceMode = available ? TimeAdvanceMode.NextEventRequestAvailable : TimeAdvanceMode.NextEventRequest;
+            }
+
             boolean tarNotCalled = true;
             while (tarNotCalled) {
                 try {
                     // System.out.println( "TimeAdvanceThread: Using " + _timeAdvanceMode + " to request time: " + timeRequest.getTime() );
-                    synchronized (_rti) {
-                        if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequest) {
-                            _rti.timeAdvanceRequest(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Called timeAdvanceRequest() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequest) {
-                            _rti.nextEventRequest(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using nextEventRequest() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequestAvailable) {
-                            _rti.timeAdvanceRequestAvailable(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using timeAdvanceRequestAvailable() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequestAvailable) {
-                            _rti.nextEventRequestAvailable(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using nextEventRequestAvailable() to go to: " + timeRequest.getTime() );
-                        }
-                    }
+                    requestTimeAdvance(timeAdvanceMode, timeRequest);
                     tarNotCalled = false;
                 } catch (FederationTimeAlreadyPassed f) {
                     logger.error("Time already passed detected.");
@@ -180,21 +183,89 @@ public class AdvanceTimeThread extends Thread {
                 } catch (Exception e) {
                 }
 
-                while (_synchronizedFederate.getTimeAdvanceNotGranted()) {
-                    try {
-                        synchronized (_rti) {
-                            _rti.tick();
+                if (_synchronizedFederate.getTimeAdvanceGrantNotification()) {
+                    waitForTimeAdvanceGrant();
+                } else {
+                    while (_synchronizedFederate.getTimeAdvanceNotGranted()) {
+                        try {
+                            RTIExecutor rtiExecutor = _synchronizedFederate.getRTIExecutor();
+                            if (rtiExecutor != null) {
+                                rtiExecutor.call(rti -> { rti.tick(); return null; });
+                            } else {
+                                synchronized (_rti) {
+                                    _rti.tick();
+                                }
+                            }
+                        } catch (Exception e) {
                         }
-                    } catch (Exception e) {
+                        CpswtUtils.sleep(10);
                     }
-                    CpswtUtils.sleep(10);
                 }
 
                 currentTime = _synchronizedFederate.getCurrentTime();
             }
 
-            advanceTimeRequest.threadSyncStart(currentTime);
-            advanceTimeRequest.threadSyncEnd();
+            runTimeStep(advanceTimeRequest, currentTime);
+        }
+    }
+
+    // LETS THE FEDERATE THREAD RUN THE TIME-STEP, THEN SENDS THE UPDATES OF ITS SCHEDULED OBJECTS AND ITS BATCHED
+    // MESSAGES, BEFORE THE NEXT TIME-ADVANCE REQUEST.  A NEXT-EVENT REQUEST THAT WAS GRANTED EARLY IS THEN PUT BACK
+    // IN THE QUEUE FOR ITS ORIGINAL WAKE TIME, BEFORE THE QUEUE IS NEXT LOOKED AT
+    private void runTimeStep(AdvanceTimeRequest advanceTimeRequest, double currentTime) {
+        _synchronizedFederate.openOutboundStepBatch();
+        advanceTimeRequest.threadSyncStart(currentTime);
+        advanceTimeRequest.threadSyncEnd();
+        _synchronizedFederate.pushScheduledAttributeUpdates();
+        _synchronizedFederate.flushOutboundStepBatch();
+        if (advanceTimeRequest.isResubmitted()) {
+            _atrQueue.put(advanceTimeRequest);
+        }
+    }
+
+    private static void request_time_advance(
+            RTIambassador rti, TimeAdvanceMode timeAdvanceMode, DoubleTime timeRequest
+    ) throws Exception {
+        if (timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequest) {
+            rti.timeAdvanceRequest(timeRequest);
+            // System.out.println( "TimeAdvanceThread: Called timeAdvanceRequest() to go to: " + timeRequest.getTime() );
+        } else if (timeAdvanceMode == TimeAdvanceMode.NextEventRequest) {
+            rti.nextEventRequest(timeRequest);
+            // System.out.println( "TimeAdvanceThread: Using nextEventRequest() to go to: " + timeRequest.getTime() );
+        } else if (timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequestAvailable) {
+            rti.timeAdvanceRequestAvailable(timeRequest);
+            // System.out.println( "TimeAdvanceThread: Using timeAdvanceRequestAvailable() to go to: " + timeRequest.getTime() );
+        } else if (timeAdvanceMode == TimeAdvanceMode.NextEventRequestAvailable) {
+            rti.nextEventRequestAvailable(timeRequest);
+            // System.out.println( "TimeAdvanceThread: Using nextEventRequestAvailable() to go to: " + timeRequest.getTime() );
+        }
+    }
+
+    // WITH AN RTIExecutor, THE REQUEST IS QUEUED BEHIND THE SENDS OF THE TIME-STEP THAT HAS JUST ENDED
+    private void requestTimeAdvance(TimeAdvanceMode timeAdvanceMode, DoubleTime timeRequest) throws Exception {
+        RTIExecutor rtiExecutor = _synchronizedFederate.getRTIExecutor();
+        if (rtiExecutor != null) {
+            rtiExecutor.call(rti -> {
+                request_time_advance(rti, timeAdvanceMode, timeRequest);
+                return null;
+            });
+        } else {
+            synchronized (_rti) {
+                request_time_advance(_rti, timeAdvanceMode, timeRequest);
+            }
+        }
+    }
+
+    // GRANT-NOTIFICATION MODE:  THE RTI ONLY DELIVERS CALLBACKS (E.G. timeAdvanceGrant) DURING A tick, SO THE THREAD
+    // STILL HAS TO TICK WHILE WAITING FOR A GRANT, BUT BACKS OFF (SEE SynchronizedFederate.tickUntil) INSTEAD OF
+    // SLEEPING A FIXED 10 MS BETWEEN TICKS.  THE timeAdvanceGrant CALLBACK UNPARKS THE THREAD, SO A GRANT DELIVERED
+    // BY A TICK ON ANOTHER THREAD ENDS THE WAIT AT ONCE.
+    private void waitForTimeAdvanceGrant() {
+        _synchronizedFederate.setTimeAdvanceGrantWaiter(this);
+        try {
+            _synchronizedFederate.tickUntil(() -> !_synchronizedFederate.getTimeAdvanceNotGranted());
+        } finally {
+            _synchronizedFederate.setTimeAdvanceGrantWaiter(null);
         }
     }
 
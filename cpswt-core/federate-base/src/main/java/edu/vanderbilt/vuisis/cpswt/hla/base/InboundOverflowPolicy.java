@@ -0,0 +1,66 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+/**
+ * What an {@link InboundQueueLimiter} does with an item received from the RTI when the
+ * inbound queue it is to be added to is full.
+ */
+public enum InboundOverflowPolicy {
+    /**
+     * Hold up the thread that receives RTI callbacks until there is room on the queue (or
+     * until the limiter's maximum blocking time has passed, after which the limiter's block-timeout
+     * policy is applied instead).
+     */
+    BLOCK,
+
+    /**
+     * Drop the first queued item that may be dropped, i.e. the next such item that would have been
+     * taken.  If no queued item may be dropped, the offered item is spilled to disk instead.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Merge the item into a queued item it supersedes (e.g. an attribute reflection into a queued
+     * reflection of the same object).  If there is no such item, this is the same as DROP_OLDEST.
+     */
+    COALESCE,
+
+    /**
+     * Write the item to a spill file on disk, from which it is put back on the queue as room is made.
+     */
+    SPILL_TO_DISK;
+
+    public static InboundOverflowPolicy get(String name) {
+        return name == null || name.isEmpty() ? null : valueOf(name.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,585 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounds the size of an inbound queue, i.e. a queue onto which items received from the RTI
+ * are put by the thread that receives RTI callbacks.  Items are added with {@link #offer(Object)}
+ * instead of being added to the queue directly, and {@link #onRemoved()} must be called whenever
+ * an item is taken from the queue.
+ * <p>
+ * When the queue is full, what is done with an offered item depends on the
+ * {@link InboundOverflowPolicy} for its HLA class:  the policy set for the class, or for its
+ * nearest super-class that has one, or else the default policy.  A capacity of 0 (the default)
+ * means the queue is unbounded, in which case offered items are always added.
+ * <p>
+ * {@link InboundOverflowPolicy#BLOCK} waits at most {@link #getMaximumBlockMillis()} for room
+ * on the queue, after which the block-timeout policy (by default
+ * {@link InboundOverflowPolicy#SPILL_TO_DISK}) is applied instead, so the queue never grows past
+ * its capacity.  Until the queue has drained to half its capacity, later blocking items don't
+ * wait at all, so that a consumer that has stopped taking items holds up the offering thread
+ * only once.
+ * <p>
+ * Only a queued item whose own policy allows dropping (DROP_OLDEST or COALESCE, or BLOCK with a
+ * dropping block-timeout policy), and whose class has not been made undroppable with
+ * {@link #setDroppable(String, boolean)}, is ever dropped to make room.  If there is no such
+ * item, the offered item is spilled to disk instead.
+ * <p>
+ * Once an item has been spilled to disk, later items that would otherwise be added or wait for
+ * room (i.e. whose policy is {@link InboundOverflowPolicy#SPILL_TO_DISK} or
+ * {@link InboundOverflowPolicy#BLOCK}) are also spilled until the spill file is empty, so that
+ * they are put on the queue in the order in which they were received.
+ *
+ * @param <T> type of the items on the queue
+ */
+public class InboundQueueLimiter<T> {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The operations the limiter needs on the queue and on its items.
+     *
+     * @param <T> type of the items on the queue
+     */
+    public interface Adapter<T> {
+        int size();
+
+        void add(T item);
+
+        /**
+         * Removes and returns the first item on the queue, in the order in which items are
+         * taken, that the predicate accepts, or null if there is none.
+         */
+        T pollOldest(Predicate<? super T> droppable);
+
+        /**
+         * Merges the item into a queued item that it supersedes, if there is one.
+         *
+         * @return true if the item was merged, in which case it is not added to the queue
+         */
+        boolean coalesce(T item);
+
+        String getHlaClassName(T item);
+
+        byte[] toSpillRecord(T item) throws IOException;
+
+        T fromSpillRecord(byte[] spillRecord) throws IOException;
+
+        /**
+         * Called for each item that is dropped or coalesced, e.g. to return it to a pool.
+         */
+        void discard(T item);
+    }
+
+    public static final long DEFAULT_MAXIMUM_BLOCK_MILLIS = 1000;
+
+    private final Adapter<T> _adapter;
+
+    private volatile int _capacity = 0;
+    private volatile InboundOverflowPolicy _defaultOverflowPolicy = InboundOverflowPolicy.BLOCK;
+    private final Map<String, InboundOverflowPolicy> _hlaClassNameOverflowPolicyMap = new ConcurrentHashMap<>();
+    private final Set<String> _undroppableHlaClassNameSet = ConcurrentHashMap.newKeySet();
+    private volatile long _maximumBlockMillis = DEFAULT_MAXIMUM_BLOCK_MILLIS;
+    private volatile InboundOverflowPolicy _blockTimeoutOverflowPolicy = InboundOverflowPolicy.SPILL_TO_DISK;
+    private boolean _overflowing = false;
+
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final Condition _notFull = _lock.newCondition();
+    private volatile String _spillDirectory = null;
+    private volatile SpillFile _spillFile = null;
+
+    private final AtomicInteger _highWaterMark = new AtomicInteger(0);
+    private final AtomicLong _blockCount = new AtomicLong(0);
+    private final AtomicLong _blockTimeoutCount = new AtomicLong(0);
+    private final AtomicLong _dropCount = new AtomicLong(0);
+    private final AtomicLong _coalesceCount = new AtomicLong(0);
+    private final AtomicLong _spillCount = new AtomicLong(0);
+
+    public InboundQueueLimiter(Adapter<T> adapter) {
+        _adapter = adapter;
+    }
+
+    //--------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------
+    /**
+     * @param capacity maximum number of items on the queue, or 0 for no maximum
+     */
+    public void setCapacity(int capacity) {
+        _capacity = Math.max(capacity, 0);
+        onRemoved();
+    }
+
+    public int getCapacity() {
+        return _capacity;
+    }
+
+    public void setDefaultOverflowPolicy(InboundOverflowPolicy overflowPolicy) {
+        _defaultOverflowPolicy = overflowPolicy;
+    }
+
+    public InboundOverflowPolicy getDefaultOverflowPolicy() {
+        return _defaultOverflowPolicy;
+    }
+
+    /**
+     * Sets the overflow policy for the given HLA class and for the classes derived from it,
+     * unless a more-derived class has its own policy.
+     *
+     * @param hlaClassName fully-qualified name of the HLA class
+     * @param overflowPolicy policy for the class, or null to remove its policy
+     */
+    public void setOverflowPolicy(String hlaClassName, InboundOverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            _hlaClassNameOverflowPolicyMap.remove(hlaClassName);
+        } else {
+            _hlaClassNameOverflowPolicyMap.put(hlaClassName, overflowPolicy);
+        }
+    }
+
+    private static String get_super_class_name(String hlaClassName) {
+        int lastDotPosition = hlaClassName.lastIndexOf('.');
+        return lastDotPosition <= 0 ? null : hlaClassName.substring(0, lastDotPosition);
+    }
+
+    public InboundOverflowPolicy getOverflowPolicy(String hlaClassName) {
+        if (!_hlaClassNameOverflowPolicyMap.isEmpty()) {
+            String currentHlaClassName = hlaClassName;
+            while(currentHlaClassName != null) {
+                InboundOverflowPolicy overflowPolicy = _hlaClassNameOverflowPolicyMap.get(currentHlaClassName);
+                if (overflowPolicy != null) {
+                    return overflowPolicy;
+                }
+                currentHlaClassName = get_super_class_name(currentHlaClassName);
+            }
+        }
+        return _defaultOverflowPolicy;
+    }
+
+    /**
+     * Sets whether queued items of the given HLA class, and of the classes derived from it, may
+     * be dropped to make room for other items.  Items of an undroppable class are never dropped,
+     * whatever their overflow policy.
+     *
+     * @param hlaClassName fully-qualified name of the HLA class
+     * @param droppable false to protect items of the class from being dropped
+     */
+    public void setDroppable(String hlaClassName, boolean droppable) {
+        if (droppable) {
+            _undroppableHlaClassNameSet.remove(hlaClassName);
+        } else {
+            _undroppableHlaClassNameSet.add(hlaClassName);
+        }
+    }
+
+    public boolean isDroppable(String hlaClassName) {
+        if (!_undroppableHlaClassNameSet.isEmpty()) {
+            String currentHlaClassName = hlaClassName;
+            while(currentHlaClassName != null) {
+                if (_undroppableHlaClassNameSet.contains(currentHlaClassName)) {
+                    return false;
+                }
+                currentHlaClassName = get_super_class_name(currentHlaClassName);
+            }
+        }
+
+        InboundOverflowPolicy overflowPolicy = getOverflowPolicy(hlaClassName);
+        if (overflowPolicy == InboundOverflowPolicy.BLOCK) {
+            overflowPolicy = _blockTimeoutOverflowPolicy;
+        }
+        return overflowPolicy == InboundOverflowPolicy.DROP_OLDEST || overflowPolicy == InboundOverflowPolicy.COALESCE;
+    }
+
+    /**
+     * @param maximumBlockMillis longest time {@link InboundOverflowPolicy#BLOCK} holds up the
+     *                           offering thread before the block-timeout policy is applied
+     */
+    public void setMaximumBlockMillis(long maximumBlockMillis) {
+        _maximumBlockMillis = Math.max(maximumBlockMillis, 0);
+    }
+
+    public long getMaximumBlockMillis() {
+        return _maximumBlockMillis;
+    }
+
+    /**
+     * @param blockTimeoutOverflowPolicy policy applied to a blocking item for which no room was
+     *                                   made in time:  DROP_OLDEST, COALESCE or SPILL_TO_DISK
+     */
+    public void setBlockTimeoutOverflowPolicy(InboundOverflowPolicy blockTimeoutOverflowPolicy) {
+        if (blockTimeoutOverflowPolicy == InboundOverflowPolicy.BLOCK) {
+            logger.error("InboundQueueLimiter:  block-timeout policy cannot be BLOCK -- ignoring");
+            return;
+        }
+        _blockTimeoutOverflowPolicy = blockTimeoutOverflowPolicy;
+    }
+
+    public InboundOverflowPolicy getBlockTimeoutOverflowPolicy() {
+        return _blockTimeoutOverflowPolicy;
+    }
+
+    /**
+     * @param spillDirectory directory for the spill file, or null for the default temporary-file directory
+     */
+    public void setSpillDirectory(String spillDirectory) {
+        _spillDirectory = spillDirectory;
+    }
+
+    public String getSpillDirectory() {
+        return _spillDirectory;
+    }
+
+    //--------------------------------------------------------------------
+    // OFFER AND REMOVE
+    //--------------------------------------------------------------------
+    private void add(T item) {
+        _adapter.add(item);
+        int size = _adapter.size();
+        if (size > _highWaterMark.get()) {
+            _highWaterMark.accumulateAndGet(size, Math::max);
+        }
+    }
+
+    /**
+     * Adds the item to the queue, unless the queue is full, in which case the item's overflow
+     * policy is applied.
+     *
+     * @param item item to add
+     */
+    public void offer(T item) {
+        int capacity = _capacity;
+        if (capacity <= 0) {
+            add(item);
+            return;
+        }
+
+        _lock.lock();
+        try {
+            InboundOverflowPolicy overflowPolicy = getOverflowPolicy(_adapter.getHlaClassName(item));
+            if (
+              _spillFile != null && !_spillFile.isEmpty() &&
+                (overflowPolicy == InboundOverflowPolicy.SPILL_TO_DISK || overflowPolicy == InboundOverflowPolicy.BLOCK) &&
+                spill(item)
+            ) {
+                return;
+            }
+
+            if (_adapter.size() < capacity) {
+                add(item);
+                return;
+            }
+
+            if (overflowPolicy == InboundOverflowPolicy.BLOCK) {
+                if (block(capacity)) {
+                    add(item);
+                    return;
+                }
+                overflowPolicy = _blockTimeoutOverflowPolicy;
+            }
+
+            switch (overflowPolicy) {
+                case COALESCE:
+                    if (_adapter.coalesce(item)) {
+                        _coalesceCount.incrementAndGet();
+                        _adapter.discard(item);
+                        return;
+                    }
+                    // FALL THROUGH
+                case DROP_OLDEST:
+                    if (dropOldest()) {
+                        add(item);
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            // NOTHING COULD BE DROPPED, OR THE POLICY IS SPILL_TO_DISK
+            if (!spill(item)) {
+                add(item);
+            }
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    // MUST HOLD _lock
+    private boolean block(int capacity) {
+        if (_overflowing) {
+            // THE CONSUMER HAS ALREADY FAILED TO MAKE ROOM IN TIME -- DON'T HOLD UP THE OFFERING THREAD AGAIN
+            return false;
+        }
+
+        _blockCount.incrementAndGet();
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(_maximumBlockMillis);
+        try {
+            while(_adapter.size() >= capacity) {
+                if (remainingNanos <= 0) {
+                    // THE CONSUMER MAY BE WAITING ON THIS THREAD (E.G. FOR A TIME-ADVANCE GRANT), SO DON'T WAIT FOREVER
+                    _blockTimeoutCount.incrementAndGet();
+                    _overflowing = true;
+                    logger.warn(
+                      "InboundQueueLimiter:  queue still full after {} ms -- applying {} until it drains",
+                      _maximumBlockMillis, _blockTimeoutOverflowPolicy
+                    );
+                    return false;
+                }
+                remainingNanos = _notFull.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    // MUST HOLD _lock
+    private boolean dropOldest() {
+        T oldestItem = _adapter.pollOldest(item -> isDroppable(_adapter.getHlaClassName(item)));
+        if (oldestItem == null) {
+            return false;
+        }
+        _dropCount.incrementAndGet();
+        _adapter.discard(oldestItem);
+        return true;
+    }
+
+    // MUST HOLD _lock
+    private boolean spill(T item) {
+        try {
+            byte[] spillRecord = _adapter.toSpillRecord(item);
+            if (_spillFile == null) {
+                _spillFile = new SpillFile(_spillDirectory);
+            }
+            _spillFile.add(spillRecord);
+            _spillCount.incrementAndGet();
+            _adapter.discard(item);
+            return true;
+        } catch (IOException ioException) {
+            logger.error("InboundQueueLimiter:  could not spill item to disk -- adding it to the queue anyway");
+            logger.error(CpswtUtils.getStackTrace(ioException));
+        }
+        return false;
+    }
+
+    // MUST HOLD _lock
+    private void unspill(int capacity) {
+        if (_spillFile == null) {
+            return;
+        }
+        try {
+            while(!_spillFile.isEmpty() && (capacity <= 0 || _adapter.size() < capacity)) {
+                T item = _adapter.fromSpillRecord(_spillFile.poll());
+                if (item != null) {
+                    add(item);
+                }
+            }
+            if (_spillFile.isEmpty()) {
+                _spillFile.close();
+                _spillFile = null;
+            }
+        } catch (IOException ioException) {
+            logger.error("InboundQueueLimiter:  could not read item from spill file");
+            logger.error(CpswtUtils.getStackTrace(ioException));
+        }
+    }
+
+    /**
+     * Must be called whenever an item is taken from the queue:  moves spilled items back onto
+     * the queue, and wakes up a thread blocked in {@link #offer(Object)}.
+     */
+    public void onRemoved() {
+        if (_capacity <= 0 && _spillFile == null) {
+            return;
+        }
+        _lock.lock();
+        try {
+            int capacity = _capacity;
+            unspill(capacity);
+            if (_overflowing && (capacity <= 0 || _adapter.size() <= capacity / 2)) {
+                _overflowing = false;
+            }
+            _notFull.signalAll();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of items in the spill file
+     */
+    public int getSpilledSize() {
+        _lock.lock();
+        try {
+            return _spillFile == null ? 0 : _spillFile.size();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    //--------------------------------------------------------------------
+    // METRICS
+    //--------------------------------------------------------------------
+    public static class Metrics {
+        private final int _depth;
+        private final int _capacity;
+        private final int _highWaterMark;
+        private final int _spilledDepth;
+        private final long _blockCount;
+        private final long _blockTimeoutCount;
+        private final long _dropCount;
+        private final long _coalesceCount;
+        private final long _spillCount;
+
+        private Metrics(
+          int depth,
+          int capacity,
+          int highWaterMark,
+          int spilledDepth,
+          long blockCount,
+          long blockTimeoutCount,
+          long dropCount,
+          long coalesceCount,
+          long spillCount
+        ) {
+            _depth = depth;
+            _capacity = capacity;
+            _highWaterMark = highWaterMark;
+            _spilledDepth = spilledDepth;
+            _blockCount = blockCount;
+            _blockTimeoutCount = blockTimeoutCount;
+            _dropCount = dropCount;
+            _coalesceCount = coalesceCount;
+            _spillCount = spillCount;
+        }
+
+        /**
+         * @return the number of items on the queue
+         */
+        public int getDepth() {
+            return _depth;
+        }
+
+        public int getCapacity() {
+            return _capacity;
+        }
+
+        /**
+         * @return the largest number of items that have been on the queue
+         */
+        public int getHighWaterMark() {
+            return _highWaterMark;
+        }
+
+        /**
+         * @return the number of items in the spill file
+         */
+        public int getSpilledDepth() {
+            return _spilledDepth;
+        }
+
+        public long getBlockCount() {
+            return _blockCount;
+        }
+
+        /**
+         * @return the number of times blocking took too long, so that the block-timeout policy was applied
+         */
+        public long getBlockTimeoutCount() {
+            return _blockTimeoutCount;
+        }
+
+        public long getDropCount() {
+            return _dropCount;
+        }
+
+        public long getCoalesceCount() {
+            return _coalesceCount;
+        }
+
+        public long getSpillCount() {
+            return _spillCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+              "depth=%d capacity=%d highWaterMark=%d spilledDepth=%d blocks=%d blockTimeouts=%d drops=%d " +
+                "coalesces=%d spills=%d",
+              _depth, _capacity, _highWaterMark, _spilledDepth, _blockCount, _blockTimeoutCount, _dropCount,
+              _coalesceCount, _spillCount
+            );
+        }
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(
+          _adapter.size(),
+          _capacity,
+          _highWaterMark.get(),
+          getSpilledSize(),
+          _blockCount.get(),
+          _blockTimeoutCount.get(),
+          _dropCount.get(),
+          _coalesceCount.get(),
+          _spillCount.get()
+        );
+    }
+
+    /**
+     * Resets the high-water mark to the current depth, and the counts to zero.
+     */
+    public void resetMetrics() {
+        _highWaterMark.set(_adapter.size());
+        _blockCount.set(0);
+        _blockTimeoutCount.set(0);
+        _dropCount.set(0);
+        _coalesceCount.set(0);
+        _spillCount.set(0);
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Queue that merges receive-order and timestamp-order items (e.g. interactions received
+ * from the RTI) into a single ordering:  all receive-order items come before all
+ * timestamp-order items, and the items of each kind are ordered by the comparator
+ * (items that compare equal are taken in the order in which they were added).
+ * Items of just one kind can also be taken with {@link #poll(boolean)} and
+ * {@link #take(boolean)}.
+ * <p>
+ * Adding an item never locks:  the item is put on a lock-free inbox, so the thread that
+ * receives RTI callbacks is never held up by the threads that take items.  Inboxed items
+ * are moved into a binary heap by the taking threads, so that taking an item costs
+ * O(log n).
+ *
+ * @param <T> type of the items
+ */
+public class MergedTimestampQueue<T> {
+
+    private static final int RECEIVE_ORDER = 0;
+    private static final int TIMESTAMP_ORDER = 1;
+
+    private static int get_order(boolean timestamped) {
+        return timestamped ? TIMESTAMP_ORDER : RECEIVE_ORDER;
+    }
+
+    private static class Heap<T> {
+        private final Comparator<? super T> _comparator;
+        private Object[] _items = new Object[16];
+        private long[] _sequenceNumbers = new long[16];
+        private int _size = 0;
+
+        private Heap(Comparator<? super T> comparator) {
+            _comparator = comparator;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean less(int ix1, int ix2) {
+            int compare = _comparator.compare((T)_items[ix1], (T)_items[ix2]);
+            return compare < 0 || (compare == 0 && _sequenceNumbers[ix1] < _sequenceNumbers[ix2]);
+        }
+
+        private void swap(int ix1, int ix2) {
+            Object item = _items[ix1];
+            _items[ix1] = _items[ix2];
+            _items[ix2] = item;
+
+            long sequenceNumber = _sequenceNumbers[ix1];
+            _sequenceNumbers[ix1] = _sequenceNumbers[ix2];
+            _sequenceNumbers[ix2] = sequenceNumber;
+        }
+
+        private void siftUp(int ix) {
+            while (ix > 0) {
+                int parent = (ix - 1) >>> 1;
+                if (!less(ix, parent)) {
+                    break;
+                }
+                swap(ix, parent);
+                ix = parent;
+            }
+        }
+
+        private void siftDown(int ix) {
+            while (true) {
+                int child = 2 * ix + 1;
+                if (child >= _size) {
+                    break;
+                }
+                if (child + 1 < _size && less(child + 1, child)) {
+                    ++child;
+                }
+                if (!less(child, ix)) {
+                    break;
+                }
+                swap(ix, child);
+                ix = child;
+            }
+        }
+
+        private void add(T item, long sequenceNumber) {
+            if (_size == _items.length) {
+                _items = Arrays.copyOf(_items, 2 * _size);
+                _sequenceNumbers = Arrays.copyOf(_sequenceNumbers, 2 * _size);
+            }
+            _items[_size] = item;
+            _sequenceNumbers[_size] = sequenceNumber;
+            siftUp(_size++);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T peek() {
+            return _size == 0 ? null : (T)_items[0];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T removeAt(int ix) {
+            T item = (T)_items[ix];
+            --_size;
+            if (ix < _size) {
+                swap(ix, _size);
+            }
+            _items[_size] = null;
+            if (ix < _size) {
+                siftDown(ix);
+                siftUp(ix);
+            }
+            return item;
+        }
+
+        private T removeFirst() {
+            return _size == 0 ? null : removeAt(0);
+        }
+
+        // O(n) -- THE HEAP IS ONLY PARTIALLY ORDERED, SO EVERY ITEM HAS TO BE LOOKED AT
+        @SuppressWarnings("unchecked")
+        private T removeFirst(Predicate<? super T> predicate) {
+            int firstIx = -1;
+            for(int ix = 0 ; ix < _size ; ++ix) {
+                if (predicate.test((T)_items[ix]) && (firstIx < 0 || less(ix, firstIx))) {
+                    firstIx = ix;
+                }
+            }
+            return firstIx < 0 ? null : removeAt(firstIx);
+        }
+
+        private void clear() {
+            Arrays.fill(_items, 0, _size, null);
+            _size = 0;
+        }
+    }
+
+    // INBOXES AND COUNTS ARE WRITTEN BY ADDING THREADS, AND SO ARE LOCK-FREE
+    private final ConcurrentLinkedQueue<T>[] _inboxes;
+    private final AtomicInteger[] _counts;
+    private final ConcurrentLinkedQueue<Thread> _waiters = new ConcurrentLinkedQueue<>();
+
+    // HEAPS ARE ONLY ACCESSED BY TAKING THREADS, WHILE HOLDING _takeLock
+    private final ReentrantLock _takeLock = new ReentrantLock();
+    private final Heap<T>[] _heaps;
+    private long _nextSequenceNumber = 0;
+
+    @SuppressWarnings("unchecked")
+    public MergedTimestampQueue(Comparator<? super T> comparator) {
+        _inboxes = new ConcurrentLinkedQueue[] { new ConcurrentLinkedQueue<T>(), new ConcurrentLinkedQueue<T>() };
+        _counts = new AtomicInteger[] { new AtomicInteger(0), new AtomicInteger(0) };
+        _heaps = new Heap[] { new Heap<>(comparator), new Heap<>(comparator) };
+    }
+
+    /**
+     * Adds an item to the queue.  Never blocks.
+     *
+     * @param item item to add
+     * @param timestamped true if the item is a timestamp-order item, false if it is a
+     *                    receive-order item
+     */
+    public void add(T item, boolean timestamped) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        int order = get_order(timestamped);
+
+        // COUNT IS INCREMENTED AFTER THE ITEM IS OFFERED, SO THAT A NON-ZERO SIZE ALWAYS MEANS AN ITEM CAN BE TAKEN
+        _inboxes[order].offer(item);
+        _counts[order].incrementAndGet();
+
+        // A WAITER REGISTERS ITSELF BEFORE IT LOOKS FOR AN ITEM, SO IT EITHER FINDS THIS ITEM OR IS UNPARKED HERE
+        if (!_waiters.isEmpty()) {
+            for (Thread waiter : _waiters) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    // MUST HOLD _takeLock
+    private void drain(int order) {
+        ConcurrentLinkedQueue<T> inbox = _inboxes[order];
+        Heap<T> heap = _heaps[order];
+        T item;
+        while ((item = inbox.poll()) != null) {
+            heap.add(item, _nextSequenceNumber++);
+        }
+    }
+
+    private T pollOrder(int order) {
+        _takeLock.lock();
+        try {
+            drain(order);
+            T item = _heaps[order].removeFirst();
+            if (item != null) {
+                _counts[order].decrementAndGet();
+            }
+            return item;
+        } finally {
+            _takeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first item in the queue:  the first receive-order item, or,
+     * if there are none, the first timestamp-order item.
+     *
+     * @return the first item in the queue, or null if the queue is empty
+     */
+    public T poll() {
+        T item = pollOrder(RECEIVE_ORDER);
+        return item != null ? item : pollOrder(TIMESTAMP_ORDER);
+    }
+
+    /**
+     * Removes and returns the first item of the given kind.
+     *
+     * @param timestamped true for timestamp-order items, false for receive-order items
+     * @return the first item of the given kind, or null if there are none
+     */
+    public T poll(boolean timestamped) {
+        return pollOrder(get_order(timestamped));
+    }
+
+    /**
+     * Removes and returns the first item in the queue that the predicate accepts, where items
+     * are in the same order as for {@link #poll()}.  Unlike {@link #poll()}, this takes time
+     * proportional to the number of items in the queue.
+     *
+     * @param predicate predicate the item must satisfy
+     * @return the first item in the queue that the predicate accepts, or null if there is none
+     */
+    public T poll(Predicate<? super T> predicate) {
+        _takeLock.lock();
+        try {
+            for(int order = RECEIVE_ORDER ; order <= TIMESTAMP_ORDER ; ++order) {
+                drain(order);
+                T item = _heaps[order].removeFirst(predicate);
+                if (item != null) {
+                    _counts[order].decrementAndGet();
+                    return item;
+                }
+            }
+            return null;
+        } finally {
+            _takeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns, without removing it, the item that {@link #poll()} would return.
+     *
+     * @return the first item in the queue, or null if the queue is empty
+     */
+    public T peek() {
+        _takeLock.lock();
+        try {
+            drain(RECEIVE_ORDER);
+            T item = _heaps[RECEIVE_ORDER].peek();
+            if (item != null) {
+                return item;
+            }
+            drain(TIMESTAMP_ORDER);
+            return _heaps[TIMESTAMP_ORDER].peek();
+        } finally {
+            _takeLock.unlock();
+        }
+    }
+
+    private T await(int order) {
+        Thread thread = Thread.currentThread();
+        _waiters.add(thread);
+        boolean interrupted = false;
+        try {
+            T item;
+            while ((item = order < 0 ? poll() : pollOrder(order)) == null) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            return item;
+        } finally {
+            _waiters.remove(thread);
+            if (interrupted) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Like {@link #poll()}, but waits for an item to be added if the queue is empty.
+     * Waiting is not interruptible:  if the waiting thread is interrupted, it keeps waiting,
+     * and its interrupt status is restored when an item has been taken.
+     *
+     * @return the first item in the queue
+     */
+    public T take() {
+        T item = poll();
+        return item != null ? item : await(-1);
+    }
+
+    /**
+     * Like {@link #poll(boolean)}, but waits for an item of the given kind to be added if
+     * there are none.  Waiting is not interruptible, as with {@link #take()}.
+     *
+     * @param timestamped true for timestamp-order items, false for receive-order items
+     * @return the first item of the given kind
+     */
+    public T take(boolean timestamped) {
+        int order = get_order(timestamped);
+        T item = pollOrder(order);
+        return item != null ? item : await(order);
+    }
+
+    /**
+     * The size lags behind the items that can be taken while items are being added, i.e. it
+     * may briefly be less than, but is never more than, the number of items in the queue.
+     *
+     * @return the number of items in the queue
+     */
+    public int size() {
+        return size(false) + size(true);
+    }
+
+    public int size(boolean timestamped) {
+        // AN ITEM CAN BE TAKEN BEFORE ITS ADDING THREAD HAS COUNTED IT, SO THE COUNT CAN BRIEFLY BE NEGATIVE
+        return Math.max(_counts[get_order(timestamped)].get(), 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean isEmpty(boolean timestamped) {
+        return size(timestamped) == 0;
+    }
+
+    public void clear() {
+        _takeLock.lock();
+        try {
+            for(int order = RECEIVE_ORDER ; order <= TIMESTAMP_ORDER ; ++order) {
+                drain(order);
+                _counts[order].addAndGet(-_heaps[order]._size);
+                _heaps[order].clear();
+            }
+        } finally {
+            _takeLock.unlock();
+        }
+    }
+}
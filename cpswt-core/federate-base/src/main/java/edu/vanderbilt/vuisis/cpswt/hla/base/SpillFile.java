@@ -0,0 +1,132 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * First-in, first-out queue of byte-array records kept in a temporary file.  Each record is
+ * written as its length followed by its bytes.  The file is created when the first record is
+ * added, and is truncated whenever all of its records have been read.
+ * <p>
+ * Not thread-safe:  callers must synchronize.
+ */
+public class SpillFile {
+
+    private final String _directory;
+
+    private File _file = null;
+    private RandomAccessFile _randomAccessFile = null;
+    private long _readPosition = 0;
+    private long _writePosition = 0;
+    private int _size = 0;
+
+    /**
+     * @param directory directory in which to create the file, or null or empty for the
+     *                  default temporary-file directory
+     */
+    public SpillFile(String directory) {
+        _directory = directory;
+    }
+
+    private void open() throws IOException {
+        if (_randomAccessFile != null) {
+            return;
+        }
+        Path path = _directory == null || _directory.isEmpty() ?
+          Files.createTempFile("cpswt-inbound-", ".spill") :
+          Files.createTempFile(Paths.get(_directory), "cpswt-inbound-", ".spill");
+        _file = path.toFile();
+        _file.deleteOnExit();
+        _randomAccessFile = new RandomAccessFile(_file, "rw");
+    }
+
+    public void add(byte[] record) throws IOException {
+        open();
+        _randomAccessFile.seek(_writePosition);
+        _randomAccessFile.writeInt(record.length);
+        _randomAccessFile.write(record);
+        _writePosition = _randomAccessFile.getFilePointer();
+        ++_size;
+    }
+
+    /**
+     * @return the first record in the file, or null if there are none
+     */
+    public byte[] poll() throws IOException {
+        if (_size == 0) {
+            return null;
+        }
+        _randomAccessFile.seek(_readPosition);
+        byte[] record = new byte[_randomAccessFile.readInt()];
+        _randomAccessFile.readFully(record);
+        _readPosition = _randomAccessFile.getFilePointer();
+        if (--_size == 0) {
+            _randomAccessFile.setLength(0);
+            _readPosition = 0;
+            _writePosition = 0;
+        }
+        return record;
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+    /**
+     * Discards all records and deletes the file.
+     */
+    public void close() throws IOException {
+        if (_randomAccessFile == null) {
+            return;
+        }
+        try {
+            _randomAccessFile.close();
+        } finally {
+            _randomAccessFile = null;
+            _readPosition = 0;
+            _writePosition = 0;
+            _size = 0;
+            Files.deleteIfExists(_file.toPath());
+            _file = null;
+        }
+    }
+}
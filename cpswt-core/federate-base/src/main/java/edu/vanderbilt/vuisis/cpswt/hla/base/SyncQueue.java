@@ -28,14 +28,102 @@
  * OR MODIFICATIONS.
  */
 
+
 package edu.vanderbilt.vuisis.cpswt.hla.base;
 
-/*
- * Synchronous Queue class that the AdvanceTimeThread uses to synchronize
- * itself with the threads of the federate that are interacting with the RTI.
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rendezvous that the AdvanceTimeThread uses to synchronize itself with the
+ * threads of the federate that are interacting with the RTI.
+ * <p>
+ * Like a SynchronousQueue, each {@link #put()} is matched with one {@link #take()}, and
+ * neither returns until it is matched.  Unlike a SynchronousQueue, a SyncQueue is meant for
+ * exactly two threads, one that puts and one that takes, and can be reused indefinitely
+ * without allocating:  each side just counts its arrivals and waits for the other side's
+ * count to catch up.  A waiting thread first spins (see {@link #set_spin_count(int)}), as
+ * the other thread usually arrives within microseconds, and only then parks.
+ * <p>
+ * Waiting is not interruptible.  If the waiting thread is interrupted, it keeps waiting,
+ * and its interrupt status is restored when the wait is over.
  */
-import java.util.concurrent.SynchronousQueue;
+public class SyncQueue {
+
+    public static final int DEFAULT_SPIN_COUNT = 1000;
+
+    private static volatile int _spinCount = DEFAULT_SPIN_COUNT;
+
+    /**
+     * Sets the number of times a thread checks for the other thread's arrival (calling
+     * Thread.onSpinWait() in between) before it parks.  0 disables spinning, which is
+     * preferable if there are fewer cores than busy threads.
+     *
+     * @param spinCount number of spins before parking
+     */
+    public static void set_spin_count(int spinCount) {
+        _spinCount = Math.max(spinCount, 0);
+    }
+
+    public static int get_spin_count() {
+        return _spinCount;
+    }
+
+    private final AtomicLong _putCount = new AtomicLong(0);
+    private final AtomicLong _takeCount = new AtomicLong(0);
+
+    private volatile Thread _putWaiter = null;
+    private volatile Thread _takeWaiter = null;
+
+    /**
+     * Waits until a {@link #take()} has been called to match this put.
+     */
+    public void put() {
+        long putCount = _putCount.incrementAndGet();
+        wake(_takeWaiter);
+        if (_takeCount.get() < putCount) {
+            _putWaiter = Thread.currentThread();
+            await(_takeCount, putCount);
+            _putWaiter = null;
+        }
+    }
+
+    /**
+     * Waits until a {@link #put()} has been called to match this take.
+     */
+    public void take() {
+        long takeCount = _takeCount.incrementAndGet();
+        wake(_putWaiter);
+        if (_putCount.get() < takeCount) {
+            _takeWaiter = Thread.currentThread();
+            await(_putCount, takeCount);
+            _takeWaiter = null;
+        }
+    }
+
+    private static void wake(Thread waiter) {
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private void await(AtomicLong otherCount, long count) {
+        for(int spin = _spinCount ; spin > 0 ; --spin) {
+            if (otherCount.get() >= count) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
 
-public class SyncQueue extends SynchronousQueue<Object> {
-    public final static long serialVersionUID = 1;
+        // THE WAITER IS REGISTERED BEFORE THE CHECK BELOW, SO THAT AN ARRIVAL AFTER THE CHECK UNPARKS
+        // THIS THREAD (IF IT HAS NOT PARKED YET, ITS NEXT park RETURNS IMMEDIATELY)
+        boolean interrupted = false;
+        while (otherCount.get() < count) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class AttributeUpdateSchedulerTests {
+
+    // STAND-IN FOR AN OBJECT WITH DIRTY-ATTRIBUTE TRACKING, SO NO RTI IS NEEDED
+    private static class TestObjectRoot extends ObjectRoot {
+        private final String _hlaClassName;
+        private final int _objectHandle;
+        private boolean _dirty = false;
+        private Consumer<ObjectRoot> _attributeDirtyListener = null;
+
+        private TestObjectRoot(String hlaClassName, int objectHandle) {
+            super(noInstanceInit);
+            _hlaClassName = hlaClassName;
+            _objectHandle = objectHandle;
+        }
+
+        private void change() {
+            boolean wasClean = !_dirty;
+            _dirty = true;
+            if (wasClean && _attributeDirtyListener != null) {
+                _attributeDirtyListener.accept(this);
+            }
+        }
+
+        @Override
+        public boolean hasDirtyAttributes() {
+            return _dirty;
+        }
+
+        @Override
+        public void setAttributeDirtyListener(Consumer<ObjectRoot> attributeDirtyListener) {
+            _attributeDirtyListener = attributeDirtyListener;
+        }
+
+        @Override
+        public String getInstanceHlaClassName() {
+            return _hlaClassName;
+        }
+
+        @Override
+        public int getObjectHandle() {
+            return _objectHandle;
+        }
+    }
+
+    private static AttributeUpdateScheduler create_scheduler(List<String> updateList) {
+        return new AttributeUpdateScheduler((objectRoot, time) -> {
+            ((TestObjectRoot)objectRoot)._dirty = false;
+            updateList.add(objectRoot.getObjectHandle() + "@" + time);
+        });
+    }
+
+    @Test
+    public void dirtyObjectsTest() {
+        List<String> updateList = new ArrayList<>();
+        AttributeUpdateScheduler attributeUpdateScheduler = create_scheduler(updateList);
+
+        List<TestObjectRoot> testObjectRootList = new ArrayList<>();
+        for(int ix = 0 ; ix < 100 ; ++ix) {
+            TestObjectRoot testObjectRoot = new TestObjectRoot("ObjectRoot.Test", ix);
+            testObjectRootList.add(testObjectRoot);
+            attributeUpdateScheduler.add(testObjectRoot, ix != 99);
+        }
+        Assert.assertEquals(100, attributeUpdateScheduler.size());
+
+        // NOTHING HAS CHANGED
+        Assert.assertEquals(0, attributeUpdateScheduler.pushDirtyObjects(1.0));
+        Assert.assertTrue(updateList.isEmpty());
+
+        // ONLY CHANGED OBJECTS ARE UPDATED, ONCE EACH, HOWEVER OFTEN THEY CHANGED
+        testObjectRootList.get(3).change();
+        testObjectRootList.get(3).change();
+        testObjectRootList.get(42).change();
+        testObjectRootList.get(99).change();
+        Assert.assertEquals(3, attributeUpdateScheduler.pushDirtyObjects(2.0));
+        Assert.assertEquals(Arrays.asList("3@2.0", "42@2.0", "99@-1.0"), updateList);
+
+        updateList.clear();
+        Assert.assertEquals(0, attributeUpdateScheduler.pushDirtyObjects(3.0));
+
+        // A REMOVED OBJECT IS NO LONGER UPDATED
+        testObjectRootList.get(5).change();
+        attributeUpdateScheduler.remove(testObjectRootList.get(5));
+        Assert.assertFalse(attributeUpdateScheduler.contains(testObjectRootList.get(5)));
+        Assert.assertEquals(0, attributeUpdateScheduler.pushDirtyObjects(4.0));
+
+        // AN OBJECT THAT IS ADDED WITH CHANGES IS UPDATED
+        attributeUpdateScheduler.add(testObjectRootList.get(5), true);
+        Assert.assertEquals(1, attributeUpdateScheduler.pushDirtyObjects(5.0));
+        Assert.assertEquals(Collections.singletonList("5@5.0"), updateList);
+    }
+
+    @Test
+    public void minimumUpdateIntervalTest() {
+        List<String> updateList = new ArrayList<>();
+        AttributeUpdateScheduler attributeUpdateScheduler = create_scheduler(updateList);
+        attributeUpdateScheduler.setMinimumUpdateInterval("ObjectRoot.Slow", 2.0);
+        Assert.assertEquals(2.0, attributeUpdateScheduler.getMinimumUpdateInterval("ObjectRoot.Slow.Derived"), 0);
+        Assert.assertEquals(0, attributeUpdateScheduler.getMinimumUpdateInterval("ObjectRoot.Fast"), 0);
+
+        TestObjectRoot slowObjectRoot = new TestObjectRoot("ObjectRoot.Slow.Derived", 1);
+        TestObjectRoot fastObjectRoot = new TestObjectRoot("ObjectRoot.Fast", 2);
+        attributeUpdateScheduler.add(slowObjectRoot, true);
+        attributeUpdateScheduler.add(fastObjectRoot, true);
+
+        for(int step = 1 ; step <= 4 ; ++step) {
+            slowObjectRoot.change();
+            fastObjectRoot.change();
+            attributeUpdateScheduler.pushDirtyObjects(step);
+        }
+        Assert.assertEquals(Arrays.asList("1@1.0", "2@1.0", "2@2.0", "1@3.0", "2@3.0", "2@4.0"), updateList);
+
+        // A HELD-BACK CHANGE IS SENT ONCE THE INTERVAL HAS PASSED, EVEN IF THE OBJECT DOES NOT CHANGE AGAIN
+        updateList.clear();
+        attributeUpdateScheduler.pushDirtyObjects(5.0);
+        Assert.assertEquals(Collections.singletonList("1@5.0"), updateList);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.FederateCapabilityInteraction;
+import hla.rti.RTIambassador;
+import hla.rti.ReceivedInteraction;
+import hla.rti.SuppliedParameters;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FederateCapabilityTests {
+
+    // THE HANDLES THE RTI ASSIGNS, SHARED BY ALL FEDERATES AS THEY ARE IN THE SAME FEDERATION
+    private static final Map<String, Integer> _nameHandleMap = new ConcurrentHashMap<>();
+
+    private static int get_handle(String name) {
+        return _nameHandleMap.computeIfAbsent(name, k -> _nameHandleMap.size() + 1);
+    }
+
+    // FEDERATE WHOSE RTI ASSIGNS A HANDLE TO EVERY NAME, AND KEEPS THE FederateCapabilityInteractions IT SENDS
+    private static class CapabilityFederate extends SynchronizedFederate {
+
+        private final List<SuppliedParameters> _sentCapabilityList = new ArrayList<>();
+
+        CapabilityFederate(FederateConfig federateConfig) {
+            super(federateConfig);
+            rti = (RTIambassador)Proxy.newProxyInstance(
+                    RTIambassador.class.getClassLoader(),
+                    new Class<?>[]{RTIambassador.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getInteractionClassHandle":
+                            case "getObjectClassHandle":
+                                return get_handle((String)args[0]);
+                            case "getParameterHandle":
+                            case "getAttributeHandle":
+                                return get_handle(args[1] + "." + args[0]);
+                            case "sendInteraction":
+                                if ((int)args[0] == FederateCapabilityInteraction.get_class_handle()) {
+                                    _sentCapabilityList.add((SuppliedParameters)args[1]);
+                                }
+                                return null;
+                            default:
+                                Class<?> returnType = method.getReturnType();
+                                return returnType == boolean.class ? false : returnType == int.class ? 0 : null;
+                        }
+                    }
+            );
+        }
+
+        void receive(SuppliedParameters suppliedParameters) {
+            receive(suppliedParameters, MessagingBinaryCodec.BINARY_VERSION);
+        }
+
+        // RECEIVES THE FederateCapabilityInteraction, AS IF IT HAD BEEN SENT WITH "binaryVersion" AS ITS VERSION
+        void receive(SuppliedParameters suppliedParameters, int binaryVersion) {
+            int binaryVersionHandle = FederateCapabilityInteraction.get_parameter_handle("BinaryEmbeddedMessagingVersion");
+            receiveInteraction(FederateCapabilityInteraction.get_class_handle(), new ReceivedInteraction() {
+                public int size() {
+                    return suppliedParameters.size();
+                }
+
+                public int getParameterHandle(int index) throws hla.rti.RTIexception {
+                    return suppliedParameters.getHandle(index);
+                }
+
+                public byte[] getValue(int index) throws hla.rti.RTIexception {
+                    return suppliedParameters.getHandle(index) == binaryVersionHandle
+                      ? getPropertyCodec().encode(binaryVersion)
+                      : suppliedParameters.getValue(index);
+                }
+
+                public int getOrderType() {
+                    return 0;
+                }
+            }, null);
+        }
+    }
+
+    private static CapabilityFederate create_federate(String federateType, String name) {
+        FederateConfig federateConfig = new FederateConfig();
+        federateConfig.federateType = federateType;
+        federateConfig.federationId = "federateCapabilityTest";
+        federateConfig.name = name;
+        federateConfig.lookahead = 0.1;
+        federateConfig.stepSize = 1.0;
+
+        CapabilityFederate capabilityFederate = new CapabilityFederate(federateConfig);
+        capabilityFederate.joinFederation();
+        return capabilityFederate;
+    }
+
+    @Test
+    public void federateTypeBinarySupportTest() throws Exception {
+        CapabilityFederate sender = create_federate("Sender", "Sender");
+        CapabilityFederate receiver1 = create_federate("Receiver", "Receiver1");
+        CapabilityFederate receiver2 = create_federate("Receiver", "Receiver2");
+        CapabilityFederate receiver3 = create_federate("Receiver", "Receiver3");
+
+        // EVERY FEDERATE ANNOUNCES ITS CAPABILITY WHEN IT JOINS
+        Assert.assertEquals(1, sender._sentCapabilityList.size());
+        Assert.assertEquals(1, receiver1._sentCapabilityList.size());
+        Assert.assertEquals(1, receiver2._sentCapabilityList.size());
+
+        // THE ANNOUNCEMENT OF A NEW FEDERATE IS ANSWERED, SO THAT A LATE JOINER LEARNS OF THE OTHER FEDERATES
+        sender.receive(receiver1._sentCapabilityList.get(0));
+        Assert.assertTrue(sender.getBinaryEmbeddedMessagingFederateNameSet().contains("Receiver"));
+        Assert.assertEquals(2, sender._sentCapabilityList.size());
+
+        sender.receive(receiver1._sentCapabilityList.get(0));
+        Assert.assertEquals(2, sender._sentCapabilityList.size());
+
+        // A SECOND FEDERATE OF THE SAME TYPE DOES NOT COLLIDE WITH THE FIRST
+        sender.receive(receiver2._sentCapabilityList.get(0));
+        Assert.assertTrue(sender.getBinaryEmbeddedMessagingFederateNameSet().contains("Receiver"));
+        Assert.assertEquals(3, sender._sentCapabilityList.size());
+
+        // A FEDERATE OF THE SAME TYPE THAT DOES NOT SUPPORT THE BINARY VERSION MAKES THE TYPE BE SENT JSON
+        sender.receive(receiver3._sentCapabilityList.get(0), MessagingBinaryCodec.BINARY_VERSION + 1);
+        Assert.assertFalse(sender.getBinaryEmbeddedMessagingFederateNameSet().contains("Receiver"));
+
+        // THE CAPABILITY INTERACTIONS ARE NEVER QUEUED FOR THE FEDERATE
+        Assert.assertNull(sender.getNextInteractionNoWait());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.FederateCapabilityInteraction;
+import edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot_p.FederateObject;
+import hla.rti.RTIambassador;
+import hla.rti.SuppliedParameters;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FederatePropertyCodecTests {
+
+    // THE HANDLES THE RTI ASSIGNS, SHARED BY ALL FEDERATES AS THEY ARE IN THE SAME JVM
+    private static final Map<String, Integer> _nameHandleMap = new ConcurrentHashMap<>();
+
+    private static int get_handle(String name) {
+        return _nameHandleMap.computeIfAbsent(name, k -> _nameHandleMap.size() + 1);
+    }
+
+    // FEDERATE WITH ITS OWN RTIambassador, WHICH KEEPS THE FederateCapabilityInteractions IT SENDS
+    private static class CodecFederate extends SynchronizedFederate {
+
+        private final List<SuppliedParameters> _sentCapabilityList = new ArrayList<>();
+
+        CodecFederate(FederateConfig federateConfig) {
+            super(federateConfig);
+            rti = (RTIambassador)Proxy.newProxyInstance(
+                    RTIambassador.class.getClassLoader(),
+                    new Class<?>[]{RTIambassador.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getInteractionClassHandle":
+                            case "getObjectClassHandle":
+                                return get_handle((String)args[0]);
+                            case "getParameterHandle":
+                            case "getAttributeHandle":
+                                return get_handle(args[1] + "." + args[0]);
+                            case "sendInteraction":
+                                if ((int)args[0] == FederateCapabilityInteraction.get_class_handle()) {
+                                    _sentCapabilityList.add((SuppliedParameters)args[1]);
+                                }
+                                return null;
+                            default:
+                                Class<?> returnType = method.getReturnType();
+                                return returnType == boolean.class ? false : returnType == int.class ? 0 : null;
+                        }
+                    }
+            );
+        }
+    }
+
+    private static CodecFederate create_federate(String name, String propertyEncoding) {
+        FederateConfig federateConfig = new FederateConfig();
+        federateConfig.federateType = name;
+        federateConfig.federationId = "federatePropertyCodecTest";
+        federateConfig.name = name;
+        federateConfig.lookahead = 0.1;
+        federateConfig.stepSize = 1.0;
+        federateConfig.propertyEncoding = propertyEncoding;
+
+        CodecFederate codecFederate = new CodecFederate(federateConfig);
+        codecFederate.joinFederation();
+        return codecFederate;
+    }
+
+    private static byte[] get_binary_version_value(SuppliedParameters suppliedParameters) throws Exception {
+        int binaryVersionHandle = FederateCapabilityInteraction.get_parameter_handle("BinaryEmbeddedMessagingVersion");
+        for(int ix = 0 ; ix < suppliedParameters.size() ; ++ix) {
+            if (suppliedParameters.getHandle(ix) == binaryVersionHandle) {
+                return suppliedParameters.getValue(ix);
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void propertyCodecPerFederateTest() throws Exception {
+        CodecFederate stringFederate = create_federate("StringFederate", PropertyCodec.STRING_ENCODING);
+        CodecFederate binaryFederate = create_federate("BinaryFederate", PropertyCodec.BINARY_ENCODING);
+
+        // THE FEDERATE CONSTRUCTED LAST DOES NOT SET THE CODEC OF THE FEDERATE CONSTRUCTED FIRST
+        Assert.assertSame(StringPropertyCodec.INSTANCE, InteractionRoot.get_property_codec(stringFederate.getRTI()));
+        Assert.assertSame(StringPropertyCodec.INSTANCE, ObjectRoot.get_property_codec(stringFederate.getRTI()));
+        Assert.assertSame(BinaryPropertyCodec.INSTANCE, InteractionRoot.get_property_codec(binaryFederate.getRTI()));
+        Assert.assertSame(BinaryPropertyCodec.INSTANCE, ObjectRoot.get_property_codec(binaryFederate.getRTI()));
+        Assert.assertSame(StringPropertyCodec.INSTANCE, InteractionRoot.get_property_codec());
+
+        // EACH FEDERATE ENCODES WHAT IT SENDS WITH ITS OWN CODEC
+        Assert.assertArrayEquals(
+                StringPropertyCodec.INSTANCE.encode(MessagingBinaryCodec.BINARY_VERSION),
+                get_binary_version_value(stringFederate._sentCapabilityList.get(0))
+        );
+        Assert.assertArrayEquals(
+                BinaryPropertyCodec.INSTANCE.encode(MessagingBinaryCodec.BINARY_VERSION),
+                get_binary_version_value(binaryFederate._sentCapabilityList.get(0))
+        );
+    }
+
+    @Test
+    public void discoveredObjectsPerFederateTest() {
+        CodecFederate federate1 = create_federate("ObjectFederate1", null);
+        CodecFederate federate2 = create_federate("ObjectFederate2", null);
+
+        FederateObject.subscribe_object(federate1.getRTI());
+        int objectClassHandle = FederateObject.get_class_handle();
+        int objectHandle = 1001;
+
+        federate1.discoverObjectInstance(objectHandle, objectClassHandle, null);
+        ObjectRoot objectRoot1 = ObjectRoot.get_object(federate1.getRTI(), objectHandle);
+        Assert.assertTrue(objectRoot1 instanceof FederateObject);
+        Assert.assertNull(ObjectRoot.get_object(federate2.getRTI(), objectHandle));
+
+        // THE OTHER FEDERATE DISCOVERS ITS OWN INSTANCE OF THE SAME OBJECT
+        federate2.discoverObjectInstance(objectHandle, objectClassHandle, null);
+        ObjectRoot objectRoot2 = ObjectRoot.get_object(federate2.getRTI(), objectHandle);
+        Assert.assertNotNull(objectRoot2);
+        Assert.assertNotSame(objectRoot1, objectRoot2);
+
+        // REMOVING THE OBJECT FROM ONE FEDERATE DOES NOT REMOVE IT FROM THE OTHER
+        federate2.removeObjectInstance(objectHandle, null);
+        Assert.assertNull(ObjectRoot.get_object(federate2.getRTI(), objectHandle));
+        Assert.assertSame(objectRoot1, ObjectRoot.get_object(federate1.getRTI(), objectHandle));
+
+        federate1.removeObjectInstance(objectHandle, null);
+        Assert.assertNull(ObjectRoot.get_object(federate1.getRTI(), objectHandle));
+    }
+}
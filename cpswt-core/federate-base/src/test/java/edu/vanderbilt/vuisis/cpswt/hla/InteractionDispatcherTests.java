@@ -0,0 +1,125 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InteractionDispatcherTests {
+
+    // STAND-IN FOR AN INTERACTION OF A CLASS WITH THE GIVEN HANDLE, SO NO RTI IS NEEDED
+    private static class TestInteractionRoot extends InteractionRoot {
+        private final int _classHandle;
+        private final int _sequenceNumber;
+
+        private TestInteractionRoot(int classHandle, int sequenceNumber) {
+            super(noInstanceInit);
+            _classHandle = classHandle;
+            _sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public int getClassHandle() {
+            return _classHandle;
+        }
+
+        @Override
+        public String getInstanceHlaClassName() {
+            return "InteractionRoot.TestInteraction" + _classHandle;
+        }
+    }
+
+    @Test
+    public void perClassOrderTest() {
+        final int classCount = 4;
+        InteractionDispatcher interactionDispatcher = new InteractionDispatcher(classCount);
+        try {
+            List<List<Integer>> sequenceNumberListList = new ArrayList<>();
+            for(int classHandle = 0 ; classHandle < classCount ; ++classHandle) {
+                List<Integer> sequenceNumberList = new ArrayList<>();
+                sequenceNumberListList.add(sequenceNumberList);
+                interactionDispatcher.setHandler("InteractionRoot.TestInteraction" + classHandle, interactionRoot -> {
+                    sequenceNumberList.add(((TestInteractionRoot)interactionRoot)._sequenceNumber);
+                });
+            }
+            AtomicInteger defaultCount = new AtomicInteger(0);
+            interactionDispatcher.setDefaultHandler(interactionRoot -> defaultCount.incrementAndGet());
+
+            List<InteractionRoot> interactionRootList = new ArrayList<>();
+            for(int sequenceNumber = 0 ; sequenceNumber < 1000 ; ++sequenceNumber) {
+                interactionRootList.add(new TestInteractionRoot(sequenceNumber % (classCount + 1), sequenceNumber));
+            }
+
+            Assert.assertEquals(1000, interactionDispatcher.dispatch(interactionRootList));
+
+            // EVERYTHING IS HANDLED WHEN dispatch RETURNS, IN ORDER WITHIN EACH CLASS
+            Assert.assertEquals(200, defaultCount.get());
+            for(int classHandle = 0 ; classHandle < classCount ; ++classHandle) {
+                List<Integer> sequenceNumberList = sequenceNumberListList.get(classHandle);
+                Assert.assertEquals(200, sequenceNumberList.size());
+                for(int ix = 0 ; ix < sequenceNumberList.size() ; ++ix) {
+                    Assert.assertEquals(ix * (classCount + 1) + classHandle, (int)sequenceNumberList.get(ix));
+                }
+            }
+        } finally {
+            interactionDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void unhandledAndFailingHandlerTest() {
+        InteractionDispatcher interactionDispatcher = new InteractionDispatcher(2);
+        try {
+            AtomicInteger handledCount = new AtomicInteger(0);
+            interactionDispatcher.setHandler("InteractionRoot.TestInteraction1", interactionRoot -> {
+                if (handledCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("test");
+                }
+            });
+
+            List<InteractionRoot> interactionRootList = new ArrayList<>();
+            for(int sequenceNumber = 0 ; sequenceNumber < 4 ; ++sequenceNumber) {
+                interactionRootList.add(new TestInteractionRoot(sequenceNumber % 2, sequenceNumber));
+            }
+
+            // CLASS 0 HAS NO HANDLER, AND A FAILURE DOES NOT STOP LATER INTERACTIONS FROM BEING HANDLED
+            Assert.assertEquals(2, interactionDispatcher.dispatch(interactionRootList));
+            Assert.assertEquals(2, handledCount.get());
+        } finally {
+            interactionDispatcher.shutdown();
+        }
+    }
+}
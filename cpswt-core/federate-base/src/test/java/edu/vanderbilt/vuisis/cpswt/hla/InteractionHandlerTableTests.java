@@ -0,0 +1,101 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class InteractionHandlerTableTests {
+
+    // STAND-IN FOR AN INTERACTION OF THE GIVEN CLASS, SO NO RTI IS NEEDED
+    private static class TestInteractionRoot extends InteractionRoot {
+        private final int _classHandle;
+        private final String _hlaClassName;
+
+        private TestInteractionRoot(int classHandle, String hlaClassName) {
+            super(noInstanceInit);
+            _classHandle = classHandle;
+            _hlaClassName = hlaClassName;
+        }
+
+        @Override
+        public int getClassHandle() {
+            return _classHandle;
+        }
+
+        @Override
+        public String getInstanceHlaClassName() {
+            return _hlaClassName;
+        }
+    }
+
+    @Test
+    public void mostDerivedHandlerTest() {
+        InteractionHandlerTable interactionHandlerTable = new InteractionHandlerTable();
+        List<String> handledList = new ArrayList<>();
+        interactionHandlerTable.put("InteractionRoot.C2WInteractionRoot", interactionRoot -> handledList.add("base"));
+        interactionHandlerTable.put(
+                "InteractionRoot.C2WInteractionRoot.Derived", interactionRoot -> handledList.add("derived")
+        );
+
+        InteractionRoot base = new TestInteractionRoot(1, "InteractionRoot.C2WInteractionRoot");
+        InteractionRoot derived = new TestInteractionRoot(2, "InteractionRoot.C2WInteractionRoot.Derived");
+        InteractionRoot derivedDerived = new TestInteractionRoot(3, "InteractionRoot.C2WInteractionRoot.Derived.More");
+        InteractionRoot other = new TestInteractionRoot(4, "InteractionRoot.C2WInteractionRoot.Other");
+        InteractionRoot unrelated = new TestInteractionRoot(5, "InteractionRoot.Unrelated");
+        InteractionRoot prefixOnly = new TestInteractionRoot(6, "InteractionRoot.C2WInteractionRoot.DerivedNot");
+
+        // TWICE, SO THE SECOND PASS IS SERVED FROM THE CACHE
+        for(int pass = 0 ; pass < 2 ; ++pass) {
+            handledList.clear();
+            Assert.assertTrue(interactionHandlerTable.handle(base));
+            Assert.assertTrue(interactionHandlerTable.handle(derived));
+            Assert.assertTrue(interactionHandlerTable.handle(derivedDerived));
+            Assert.assertTrue(interactionHandlerTable.handle(other));
+            Assert.assertFalse(interactionHandlerTable.handle(unrelated));
+            Assert.assertTrue(interactionHandlerTable.handle(prefixOnly));
+            Assert.assertEquals(Arrays.asList("base", "derived", "derived", "base", "base"), handledList);
+        }
+
+        // REGISTRATION INVALIDATES THE CACHE
+        interactionHandlerTable.put("InteractionRoot", interactionRoot -> handledList.add("root"));
+        interactionHandlerTable.remove("InteractionRoot.C2WInteractionRoot.Derived");
+        handledList.clear();
+        Assert.assertTrue(interactionHandlerTable.handle(derivedDerived));
+        Assert.assertTrue(interactionHandlerTable.handle(unrelated));
+        Assert.assertEquals(Arrays.asList("base", "root"), handledList);
+    }
+}
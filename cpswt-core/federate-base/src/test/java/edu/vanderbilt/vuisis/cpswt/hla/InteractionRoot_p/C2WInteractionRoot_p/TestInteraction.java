@@ -155,6 +155,42 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
         return get_all_parameter_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _BoolValue1_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue1");
+
+    private static final ClassAndPropertyName _BoolValue2_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue2");
+
+    private static final ClassAndPropertyName _ByteValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "ByteValue");
+
+    private static final ClassAndPropertyName _CharValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "CharValue");
+
+    private static final ClassAndPropertyName _DoubleValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "DoubleValue");
+
+    private static final ClassAndPropertyName _FloatValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "FloatValue");
+
+    private static final ClassAndPropertyName _IntValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "IntValue");
+
+    private static final ClassAndPropertyName _JSONValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "JSONValue");
+
+    private static final ClassAndPropertyName _LongValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "LongValue");
+
+    private static final ClassAndPropertyName _ShortValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "ShortValue");
+
+    private static final ClassAndPropertyName _StringValue_key =
+      ClassAndPropertyName.get("InteractionRoot.C2WInteractionRoot.TestInteraction", "StringValue");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -165,39 +201,17 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue1"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue2"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "ByteValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "CharValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "DoubleValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "FloatValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "IntValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "JSONValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "LongValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "ShortValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "StringValue"
-        ));
+        classAndPropertyNameSet.add(_BoolValue1_key);
+        classAndPropertyNameSet.add(_BoolValue2_key);
+        classAndPropertyNameSet.add(_ByteValue_key);
+        classAndPropertyNameSet.add(_CharValue_key);
+        classAndPropertyNameSet.add(_DoubleValue_key);
+        classAndPropertyNameSet.add(_FloatValue_key);
+        classAndPropertyNameSet.add(_IntValue_key);
+        classAndPropertyNameSet.add(_JSONValue_key);
+        classAndPropertyNameSet.add(_LongValue_key);
+        classAndPropertyNameSet.add(_ShortValue_key);
+        classAndPropertyNameSet.add(_StringValue_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN InteractionRoot
@@ -207,59 +221,37 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue1"
-        ));
+        allClassAndPropertyNameSet.add(_BoolValue1_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "BoolValue2"
-        ));
+        allClassAndPropertyNameSet.add(_BoolValue2_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "ByteValue"
-        ));
+        allClassAndPropertyNameSet.add(_ByteValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "CharValue"
-        ));
+        allClassAndPropertyNameSet.add(_CharValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "DoubleValue"
-        ));
+        allClassAndPropertyNameSet.add(_DoubleValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "FloatValue"
-        ));
+        allClassAndPropertyNameSet.add(_FloatValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "IntValue"
-        ));
+        allClassAndPropertyNameSet.add(_IntValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "JSONValue"
-        ));
+        allClassAndPropertyNameSet.add(_JSONValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "LongValue"
-        ));
+        allClassAndPropertyNameSet.add(_LongValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "ShortValue"
-        ));
+        allClassAndPropertyNameSet.add(_ShortValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "InteractionRoot.C2WInteractionRoot.TestInteraction", "StringValue"
-        ));
+        allClassAndPropertyNameSet.add(_StringValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "actualLogicalGenerationTime"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateFilter"
         ));
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
+        allClassAndPropertyNameSet.add(ClassAndPropertyName.get(
             "InteractionRoot.C2WInteractionRoot", "federateSequence"
         ));
 
@@ -270,37 +262,37 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        key = _BoolValue1_key;
         _classAndPropertyNameInitialValueMap.put(key, false);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        key = _BoolValue2_key;
         _classAndPropertyNameInitialValueMap.put(key, false);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        key = _ByteValue_key;
         _classAndPropertyNameInitialValueMap.put(key, (byte)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        key = _CharValue_key;
         _classAndPropertyNameInitialValueMap.put(key, '\0');
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        key = _DoubleValue_key;
         _classAndPropertyNameInitialValueMap.put(key, (double)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        key = _FloatValue_key;
         _classAndPropertyNameInitialValueMap.put(key, (float)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        key = _IntValue_key;
         _classAndPropertyNameInitialValueMap.put(key, 0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue");
+        key = _JSONValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new TextNode(""));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        key = _LongValue_key;
         _classAndPropertyNameInitialValueMap.put(key, (long)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        key = _ShortValue_key;
         _classAndPropertyNameInitialValueMap.put(key, (short)0);
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        key = _StringValue_key;
         _classAndPropertyNameInitialValueMap.put(key, "");
 
         commonInit(get_hla_class_name());
@@ -522,7 +514,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "BoolValue1" parameter
      */
     public void set_BoolValue1(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        ClassAndPropertyName key = _BoolValue1_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -532,7 +524,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "BoolValue1" parameter
      */
     public boolean get_BoolValue1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        ClassAndPropertyName key = _BoolValue1_key;
         return (boolean)classAndPropertyNameValueMap.get(key);
     }
 
@@ -543,7 +535,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "BoolValue2" parameter
      */
     public void set_BoolValue2(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        ClassAndPropertyName key = _BoolValue2_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -553,7 +545,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "BoolValue2" parameter
      */
     public boolean get_BoolValue2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        ClassAndPropertyName key = _BoolValue2_key;
         return (boolean)classAndPropertyNameValueMap.get(key);
     }
 
@@ -564,7 +556,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "ByteValue" parameter
      */
     public void set_ByteValue(Byte value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        ClassAndPropertyName key = _ByteValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -574,7 +566,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "ByteValue" parameter
      */
     public byte get_ByteValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        ClassAndPropertyName key = _ByteValue_key;
         return (byte)classAndPropertyNameValueMap.get(key);
     }
 
@@ -585,7 +577,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "CharValue" parameter
      */
     public void set_CharValue(Character value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        ClassAndPropertyName key = _CharValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -595,7 +587,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "CharValue" parameter
      */
     public char get_CharValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        ClassAndPropertyName key = _CharValue_key;
         return (char)classAndPropertyNameValueMap.get(key);
     }
 
@@ -606,7 +598,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "DoubleValue" parameter
      */
     public void set_DoubleValue(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        ClassAndPropertyName key = _DoubleValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -616,7 +608,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "DoubleValue" parameter
      */
     public double get_DoubleValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        ClassAndPropertyName key = _DoubleValue_key;
         return (double)classAndPropertyNameValueMap.get(key);
     }
 
@@ -627,7 +619,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "FloatValue" parameter
      */
     public void set_FloatValue(Float value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        ClassAndPropertyName key = _FloatValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -637,7 +629,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "FloatValue" parameter
      */
     public float get_FloatValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        ClassAndPropertyName key = _FloatValue_key;
         return (float)classAndPropertyNameValueMap.get(key);
     }
 
@@ -648,7 +640,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "IntValue" parameter
      */
     public void set_IntValue(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        ClassAndPropertyName key = _IntValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -658,7 +650,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "IntValue" parameter
      */
     public int get_IntValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        ClassAndPropertyName key = _IntValue_key;
         return (int)classAndPropertyNameValueMap.get(key);
     }
 
@@ -669,7 +661,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "JSONValue" parameter
      */
     public void set_JSONValue(JsonNode value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue");
+        ClassAndPropertyName key = _JSONValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -679,7 +671,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "JSONValue" parameter
      */
     public JsonNode get_JSONValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue");
+        ClassAndPropertyName key = _JSONValue_key;
         return (JsonNode)classAndPropertyNameValueMap.get(key);
     }
 
@@ -690,7 +682,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "LongValue" parameter
      */
     public void set_LongValue(Long value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        ClassAndPropertyName key = _LongValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -700,7 +692,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "LongValue" parameter
      */
     public long get_LongValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        ClassAndPropertyName key = _LongValue_key;
         return (long)classAndPropertyNameValueMap.get(key);
     }
 
@@ -711,7 +703,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "ShortValue" parameter
      */
     public void set_ShortValue(Short value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        ClassAndPropertyName key = _ShortValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -721,7 +713,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "ShortValue" parameter
      */
     public short get_ShortValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        ClassAndPropertyName key = _ShortValue_key;
         return (short)classAndPropertyNameValueMap.get(key);
     }
 
@@ -732,7 +724,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @param value the new value for the "StringValue" parameter
      */
     public void set_StringValue(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        ClassAndPropertyName key = _StringValue_key;
         classAndPropertyNameValueMap.put(key, value);
     }
 
@@ -742,7 +734,7 @@ public class TestInteraction extends edu.vanderbilt.vuisis.cpswt.hla.Interaction
      * @return the value of the "StringValue" parameter
      */
     public String get_StringValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        ClassAndPropertyName key = _StringValue_key;
         return (String)classAndPropertyNameValueMap.get(key);
     }
 
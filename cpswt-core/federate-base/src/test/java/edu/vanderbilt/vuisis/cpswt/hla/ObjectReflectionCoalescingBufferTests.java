@@ -0,0 +1,123 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflector;
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRootInterface.ClassAndPropertyName;
+
+public class ObjectReflectionCoalescingBufferTests {
+
+    private static final ClassAndPropertyName xClassAndPropertyName =
+      new ClassAndPropertyName("ObjectRoot.TestObject", "x");
+    private static final ClassAndPropertyName yClassAndPropertyName =
+      new ClassAndPropertyName("ObjectRoot.TestObject", "y");
+
+    private static ObjectReflector create_object_reflector(int objectHandle, double time, Object x, Object y) {
+        Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+        if (x != null) {
+            classAndPropertyNameValueMap.put(xClassAndPropertyName, x);
+        }
+        if (y != null) {
+            classAndPropertyNameValueMap.put(yClassAndPropertyName, y);
+        }
+        ObjectReflector objectReflector = new ObjectReflector(objectHandle, classAndPropertyNameValueMap);
+        objectReflector.setTime(time);
+        return objectReflector;
+    }
+
+    @Test
+    public void latestValueTest() {
+        ObjectReflectionCoalescingBuffer buffer = new ObjectReflectionCoalescingBuffer();
+        Assert.assertNull(buffer.poll());
+
+        buffer.add(create_object_reflector(1, 1.0, 1, null));
+        buffer.add(create_object_reflector(2, 1.5, 10, null));
+        buffer.add(create_object_reflector(1, 3.0, 3, null));
+        // EARLIER THAN THE PENDING REFLECTION -- ITS x IS STALE, BUT ITS y IS THE ONLY ONE
+        buffer.add(create_object_reflector(1, 2.0, 2, 2));
+        buffer.add(create_object_reflector(3, -1, 30, null));
+
+        Assert.assertEquals(3, buffer.size());
+        Assert.assertEquals(2, buffer.getCoalesceCount());
+
+        // RECEIVE-ORDER FIRST
+        ObjectReflector objectReflector = buffer.poll();
+        Assert.assertEquals(3, objectReflector.getObjectHandle());
+
+        // THEN TIMESTAMP-ORDER, IN TIMESTAMP ORDER
+        objectReflector = buffer.poll();
+        Assert.assertEquals(2, objectReflector.getObjectHandle());
+
+        objectReflector = buffer.poll();
+        Assert.assertEquals(1, objectReflector.getObjectHandle());
+        Assert.assertEquals(3.0, objectReflector.getTime(), 0);
+        Assert.assertEquals(3, objectReflector.getClassAndPropertyNameValueMap().get(xClassAndPropertyName));
+        Assert.assertEquals(2, objectReflector.getClassAndPropertyNameValueMap().get(yClassAndPropertyName));
+        Assert.assertNull(buffer.poll());
+
+        // ONCE TAKEN, A NEW REFLECTION OF THE OBJECT STARTS A NEW ENTRY
+        buffer.add(create_object_reflector(1, 4.0, 4, null));
+        objectReflector = buffer.take();
+        Assert.assertEquals(4, objectReflector.getClassAndPropertyNameValueMap().get(xClassAndPropertyName));
+        Assert.assertNull(objectReflector.getClassAndPropertyNameValueMap().get(yClassAndPropertyName));
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void mergedTimestampOrderTest() {
+        ObjectReflectionCoalescingBuffer buffer = new ObjectReflectionCoalescingBuffer();
+
+        buffer.add(create_object_reflector(1, 1.0, 1, null));
+        buffer.add(create_object_reflector(2, 2.0, 20, null));
+        buffer.add(create_object_reflector(3, 2.5, 30, null));
+        // MERGING MOVES OBJECT 1 FROM FIRST TO LAST
+        buffer.add(create_object_reflector(1, 3.0, 3, null));
+        // AN EARLIER REFLECTION MERGED INTO A PENDING ONE DOESN'T MOVE IT
+        buffer.add(create_object_reflector(2, 0.5, null, 5));
+
+        double[] expectedTimes = { 2.0, 2.5, 3.0 };
+        int[] expectedObjectHandles = { 2, 3, 1 };
+        for(int ix = 0 ; ix < expectedTimes.length ; ++ix) {
+            ObjectReflector objectReflector = buffer.poll();
+            Assert.assertEquals(expectedObjectHandles[ix], objectReflector.getObjectHandle());
+            Assert.assertEquals(expectedTimes[ix], objectReflector.getTime(), 0);
+        }
+        Assert.assertNull(buffer.poll());
+        Assert.assertEquals(2, buffer.getCoalesceCount());
+    }
+}
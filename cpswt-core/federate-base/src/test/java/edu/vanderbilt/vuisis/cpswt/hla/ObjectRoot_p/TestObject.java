@@ -156,6 +156,45 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _BoolValue1_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "BoolValue1");
+
+    private static final ClassAndPropertyName _BoolValue2_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "BoolValue2");
+
+    private static final ClassAndPropertyName _ByteValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "ByteValue");
+
+    private static final ClassAndPropertyName _CharValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "CharValue");
+
+    private static final ClassAndPropertyName _DoubleValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "DoubleValue");
+
+    private static final ClassAndPropertyName _FloatValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "FloatValue");
+
+    private static final ClassAndPropertyName _IntValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "IntValue");
+
+    private static final ClassAndPropertyName _JSONValue1_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "JSONValue1");
+
+    private static final ClassAndPropertyName _JSONValue2_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "JSONValue2");
+
+    private static final ClassAndPropertyName _LongValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "LongValue");
+
+    private static final ClassAndPropertyName _ShortValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "ShortValue");
+
+    private static final ClassAndPropertyName _StringValue_key =
+      ClassAndPropertyName.get("ObjectRoot.TestObject", "StringValue");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -166,42 +205,18 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "BoolValue1"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "BoolValue2"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "ByteValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "CharValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "DoubleValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "FloatValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "IntValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "JSONValue1"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "JSONValue2"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "LongValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "ShortValue"
-        ));
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "StringValue"
-        ));
+        classAndPropertyNameSet.add(_BoolValue1_key);
+        classAndPropertyNameSet.add(_BoolValue2_key);
+        classAndPropertyNameSet.add(_ByteValue_key);
+        classAndPropertyNameSet.add(_CharValue_key);
+        classAndPropertyNameSet.add(_DoubleValue_key);
+        classAndPropertyNameSet.add(_FloatValue_key);
+        classAndPropertyNameSet.add(_IntValue_key);
+        classAndPropertyNameSet.add(_JSONValue1_key);
+        classAndPropertyNameSet.add(_JSONValue2_key);
+        classAndPropertyNameSet.add(_LongValue_key);
+        classAndPropertyNameSet.add(_ShortValue_key);
+        classAndPropertyNameSet.add(_StringValue_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -211,53 +226,29 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "BoolValue1"
-        ));
+        allClassAndPropertyNameSet.add(_BoolValue1_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "BoolValue2"
-        ));
+        allClassAndPropertyNameSet.add(_BoolValue2_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "ByteValue"
-        ));
+        allClassAndPropertyNameSet.add(_ByteValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "CharValue"
-        ));
+        allClassAndPropertyNameSet.add(_CharValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "DoubleValue"
-        ));
+        allClassAndPropertyNameSet.add(_DoubleValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "FloatValue"
-        ));
+        allClassAndPropertyNameSet.add(_FloatValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "IntValue"
-        ));
+        allClassAndPropertyNameSet.add(_IntValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "JSONValue1"
-        ));
+        allClassAndPropertyNameSet.add(_JSONValue1_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "JSONValue2"
-        ));
+        allClassAndPropertyNameSet.add(_JSONValue2_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "LongValue"
-        ));
+        allClassAndPropertyNameSet.add(_LongValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "ShortValue"
-        ));
+        allClassAndPropertyNameSet.add(_ShortValue_key);
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.TestObject", "StringValue"
-        ));
+        allClassAndPropertyNameSet.add(_StringValue_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -266,40 +257,40 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        key = _BoolValue1_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        key = _BoolValue2_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        key = _ByteValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((byte)0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        key = _CharValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>('\0'));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        key = _DoubleValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((double)0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        key = _FloatValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((float)0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        key = _IntValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue1");
+        key = _JSONValue1_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(new TextNode("")));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue2");
+        key = _JSONValue2_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(new TextNode("")));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        key = _LongValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((long)0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        key = _ShortValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((short)0));
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        key = _StringValue_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
         commonInit(get_hla_class_name());
@@ -561,7 +552,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "BoolValue1" parameter
      */
     public void set_BoolValue1(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        ClassAndPropertyName key = _BoolValue1_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -573,7 +564,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "BoolValue1" parameter
      */
     public boolean get_BoolValue1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue1");
+        ClassAndPropertyName key = _BoolValue1_key;
         return (boolean)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -583,9 +574,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "BoolValue1" attribute
      */
     public double get_BoolValue1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "BoolValue1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_BoolValue1_key)).getTime();
     }
 
 
@@ -595,7 +584,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "BoolValue2" parameter
      */
     public void set_BoolValue2(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        ClassAndPropertyName key = _BoolValue2_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -607,7 +596,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "BoolValue2" parameter
      */
     public boolean get_BoolValue2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BoolValue2");
+        ClassAndPropertyName key = _BoolValue2_key;
         return (boolean)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -617,9 +606,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "BoolValue2" attribute
      */
     public double get_BoolValue2_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "BoolValue2")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_BoolValue2_key)).getTime();
     }
 
 
@@ -629,7 +616,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "ByteValue" parameter
      */
     public void set_ByteValue(Byte value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        ClassAndPropertyName key = _ByteValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -641,7 +628,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "ByteValue" parameter
      */
     public byte get_ByteValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+        ClassAndPropertyName key = _ByteValue_key;
         return (byte)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -651,9 +638,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "ByteValue" attribute
      */
     public double get_ByteValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "ByteValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_ByteValue_key)).getTime();
     }
 
 
@@ -663,7 +648,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "CharValue" parameter
      */
     public void set_CharValue(Character value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        ClassAndPropertyName key = _CharValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -675,7 +660,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "CharValue" parameter
      */
     public char get_CharValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+        ClassAndPropertyName key = _CharValue_key;
         return (char)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -685,9 +670,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "CharValue" attribute
      */
     public double get_CharValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "CharValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_CharValue_key)).getTime();
     }
 
 
@@ -697,7 +680,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "DoubleValue" parameter
      */
     public void set_DoubleValue(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        ClassAndPropertyName key = _DoubleValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -709,7 +692,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "DoubleValue" parameter
      */
     public double get_DoubleValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+        ClassAndPropertyName key = _DoubleValue_key;
         return (double)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -719,9 +702,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "DoubleValue" attribute
      */
     public double get_DoubleValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "DoubleValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_DoubleValue_key)).getTime();
     }
 
 
@@ -731,7 +712,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "FloatValue" parameter
      */
     public void set_FloatValue(Float value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        ClassAndPropertyName key = _FloatValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -743,7 +724,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FloatValue" parameter
      */
     public float get_FloatValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+        ClassAndPropertyName key = _FloatValue_key;
         return (float)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -753,9 +734,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FloatValue" attribute
      */
     public double get_FloatValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FloatValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FloatValue_key)).getTime();
     }
 
 
@@ -765,7 +744,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "IntValue" parameter
      */
     public void set_IntValue(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        ClassAndPropertyName key = _IntValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -777,7 +756,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "IntValue" parameter
      */
     public int get_IntValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+        ClassAndPropertyName key = _IntValue_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -787,9 +766,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "IntValue" attribute
      */
     public double get_IntValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "IntValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_IntValue_key)).getTime();
     }
 
 
@@ -799,7 +776,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "JSONValue1" parameter
      */
     public void set_JSONValue1(JsonNode value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue1");
+        ClassAndPropertyName key = _JSONValue1_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -811,7 +788,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "JSONValue1" parameter
      */
     public JsonNode get_JSONValue1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue1");
+        ClassAndPropertyName key = _JSONValue1_key;
         return (JsonNode)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -821,9 +798,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "JSONValue1" attribute
      */
     public double get_JSONValue1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "JSONValue1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_JSONValue1_key)).getTime();
     }
 
 
@@ -833,7 +808,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "JSONValue2" parameter
      */
     public void set_JSONValue2(JsonNode value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue2");
+        ClassAndPropertyName key = _JSONValue2_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -845,7 +820,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "JSONValue2" parameter
      */
     public JsonNode get_JSONValue2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "JSONValue2");
+        ClassAndPropertyName key = _JSONValue2_key;
         return (JsonNode)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -855,9 +830,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "JSONValue2" attribute
      */
     public double get_JSONValue2_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "JSONValue2")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_JSONValue2_key)).getTime();
     }
 
 
@@ -867,7 +840,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "LongValue" parameter
      */
     public void set_LongValue(Long value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        ClassAndPropertyName key = _LongValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -879,7 +852,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "LongValue" parameter
      */
     public long get_LongValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+        ClassAndPropertyName key = _LongValue_key;
         return (long)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -889,9 +862,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "LongValue" attribute
      */
     public double get_LongValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "LongValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_LongValue_key)).getTime();
     }
 
 
@@ -901,7 +872,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "ShortValue" parameter
      */
     public void set_ShortValue(Short value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        ClassAndPropertyName key = _ShortValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -913,7 +884,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "ShortValue" parameter
      */
     public short get_ShortValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+        ClassAndPropertyName key = _ShortValue_key;
         return (short)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -923,9 +894,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "ShortValue" attribute
      */
     public double get_ShortValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "ShortValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_ShortValue_key)).getTime();
     }
 
 
@@ -935,7 +904,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "StringValue" parameter
      */
     public void set_StringValue(String value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        ClassAndPropertyName key = _StringValue_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -947,7 +916,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "StringValue" parameter
      */
     public String get_StringValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
+        ClassAndPropertyName key = _StringValue_key;
         return (String)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -957,9 +926,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "StringValue" attribute
      */
     public double get_StringValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "StringValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_StringValue_key)).getTime();
     }
 
     //----------------------------------
@@ -0,0 +1,104 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
+import hla.rti.RTIambassador;
+import hla.rti.SynchronizationLabelNotAnnounced;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+public class SynchronizationPointTests {
+
+    // FEDERATE WHOSE RTI DELIVERS THE ANNOUNCEMENT OF A SYNCHRONIZATION POINT ON ITS THIRD tick, AND THE
+    // SYNCHRONIZATION ON THE tick AFTER THE POINT IS ACHIEVED
+    private static class LateAnnouncementFederate extends SynchronizedFederate {
+
+        private static final int ANNOUNCEMENT_TICK = 3;
+
+        private int _tickCount = 0;
+        private int _achievedTickCount = -1;
+        private int _synchronizedTickCount = -1;
+
+        LateAnnouncementFederate(FederateConfig federateConfig) {
+            super(federateConfig);
+            rti = (RTIambassador)Proxy.newProxyInstance(
+                    RTIambassador.class.getClassLoader(),
+                    new Class<?>[]{RTIambassador.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "synchronizationPointAchieved":
+                                if (_tickCount < ANNOUNCEMENT_TICK) {
+                                    throw new SynchronizationLabelNotAnnounced((String)args[0]);
+                                }
+                                _achievedTickCount = _tickCount;
+                                return null;
+                            case "tick":
+                                ++_tickCount;
+                                if (_achievedTickCount >= 0 && _synchronizedTickCount < 0) {
+                                    _synchronizedTickCount = _tickCount;
+                                    federationSynchronized(SynchronizationPoints.ReadyToRun);
+                                }
+                                return false;
+                            default:
+                                return method.getReturnType() == boolean.class ? false : null;
+                        }
+                    }
+            );
+        }
+    }
+
+    private static FederateConfig getFederateConfig() {
+        FederateConfig federateConfig = new FederateConfig();
+        federateConfig.federateType = "LateAnnouncementFederate";
+        federateConfig.federationId = "synchronizationPointTest";
+        federateConfig.name = "LateAnnouncementFederate";
+        federateConfig.lookahead = 0.1;
+        federateConfig.stepSize = 1.0;
+        return federateConfig;
+    }
+
+    @Test
+    public void lateAnnouncementTest() throws Exception {
+        LateAnnouncementFederate lateAnnouncementFederate = new LateAnnouncementFederate(getFederateConfig());
+
+        lateAnnouncementFederate.readyToRun();
+
+        // THE ACHIEVEMENT IS RETRIED UNTIL THE ANNOUNCEMENT HAS ARRIVED, THEN THE FEDERATE TICKS UNTIL SYNCHRONIZED
+        Assert.assertEquals(LateAnnouncementFederate.ANNOUNCEMENT_TICK, lateAnnouncementFederate._achievedTickCount);
+        Assert.assertEquals(
+          LateAnnouncementFederate.ANNOUNCEMENT_TICK + 1, lateAnnouncementFederate._synchronizedTickCount
+        );
+        Assert.assertTrue(lateAnnouncementFederate.getSynchronizationPointFuture(SynchronizationPoints.ReadyToRun).isDone());
+    }
+}
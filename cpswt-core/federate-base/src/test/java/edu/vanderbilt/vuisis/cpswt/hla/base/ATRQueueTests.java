@@ -0,0 +1,121 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ATRQueueTests {
+
+    @Test
+    public void orderTest() throws InterruptedException {
+        ATRQueue atrQueue = new ATRQueue(2);
+        Assert.assertTrue(atrQueue.isEmpty());
+        Assert.assertNull(atrQueue.peek());
+        Assert.assertNull(atrQueue.poll());
+
+        Random random = new Random(17);
+        List<AdvanceTimeRequest> advanceTimeRequestList = new ArrayList<>();
+        for(int ix = 0 ; ix < 1000 ; ++ix) {
+            AdvanceTimeRequest advanceTimeRequest = new AdvanceTimeRequest(random.nextInt(100) * 0.5);
+            advanceTimeRequestList.add(advanceTimeRequest);
+            atrQueue.put(advanceTimeRequest);
+        }
+        Assert.assertEquals(1000, atrQueue.size());
+
+        // REQUESTS ARE TAKEN IN ORDER OF REQUESTED TIME, AND IN ORDER OF INSERTION FOR EQUAL TIMES
+        advanceTimeRequestList.sort((atr1, atr2) -> Double.compare(atr1.getRequestedTime(), atr2.getRequestedTime()));
+        for(AdvanceTimeRequest advanceTimeRequest : advanceTimeRequestList) {
+            Assert.assertSame(advanceTimeRequest, atrQueue.peek());
+            Assert.assertSame(advanceTimeRequest, atrQueue.take());
+        }
+        Assert.assertTrue(atrQueue.isEmpty());
+    }
+
+    @Test
+    public void poolTest() {
+        AdvanceTimeRequest advanceTimeRequest1 = AdvanceTimeRequest.acquire(1.0);
+        advanceTimeRequest1.release();
+        advanceTimeRequest1.release();
+
+        AdvanceTimeRequest advanceTimeRequest2 = AdvanceTimeRequest.acquire(2.0);
+        AdvanceTimeRequest advanceTimeRequest3 = AdvanceTimeRequest.acquire(3.0);
+
+        // A RELEASED REQUEST IS REUSED, BUT ONLY ONCE, EVEN IF RELEASED TWICE
+        Assert.assertSame(advanceTimeRequest1, advanceTimeRequest2);
+        Assert.assertNotSame(advanceTimeRequest2, advanceTimeRequest3);
+        Assert.assertEquals(2.0, advanceTimeRequest2.getRequestedTime(), 0);
+        Assert.assertEquals(-1, advanceTimeRequest2.getCurrentTime(), 0);
+    }
+
+    @Test
+    public void pooledHandoffTest() throws InterruptedException {
+        ATRQueue atrQueue = new ATRQueue(4);
+        int steps = 1000;
+
+        // MIMICS THE AdvanceTimeThread
+        Thread advanceTimeThread = new Thread(() -> {
+            for(int step = 0 ; step < steps ; ++step) {
+                try {
+                    AdvanceTimeRequest advanceTimeRequest = atrQueue.take();
+                    advanceTimeRequest.threadSyncStart(advanceTimeRequest.getRequestedTime());
+                    advanceTimeRequest.threadSyncEnd();
+                } catch (InterruptedException interruptedException) {
+                    return;
+                }
+            }
+        });
+        advanceTimeThread.start();
+
+        // MIMICS A FEDERATE'S MAIN LOOP
+        AdvanceTimeRequest atr = AdvanceTimeRequest.acquire(0);
+        atrQueue.put(atr);
+        for(int step = 1 ; step < steps ; ++step) {
+            atr.requestSyncStart();
+            Assert.assertEquals(step - 1, atr.getCurrentTime(), 0);
+            AdvanceTimeRequest newATR = AdvanceTimeRequest.acquire(step);
+            atrQueue.put(newATR);
+            atr.requestSyncEnd();
+            atr.release();
+            atr = newATR;
+        }
+        atr.requestSyncStart();
+        atr.requestSyncEnd();
+
+        advanceTimeThread.join(10000);
+        Assert.assertFalse(advanceTimeThread.isAlive());
+    }
+}
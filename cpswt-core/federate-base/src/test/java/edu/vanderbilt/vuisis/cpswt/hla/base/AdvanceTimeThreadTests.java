@@ -0,0 +1,144 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
+import edu.vanderbilt.vuisis.cpswt.hla.SynchronizedFederate;
+import hla.rti.LogicalTime;
+import hla.rti.RTIambassador;
+import org.junit.Assert;
+import org.junit.Test;
+import org.portico.impl.hla13.types.DoubleTime;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AdvanceTimeThreadTests {
+
+    // FEDERATE WHOSE RTI GRANTS A NEXT-EVENT REQUEST AT THE TIME OF A PENDING TIMESTAMP-ORDERED EVENT, IF THERE IS ONE
+    // BEFORE THE REQUESTED TIME
+    private static class NextEventFederate extends SynchronizedFederate {
+
+        private volatile double _federateTime = 0;
+        private volatile double _pendingEventTime;
+        private final List<Double> _requestedTimeList = new ArrayList<>();
+
+        NextEventFederate(FederateConfig federateConfig, double pendingEventTime) {
+            super(federateConfig);
+            _pendingEventTime = pendingEventTime;
+            rti = (RTIambassador)Proxy.newProxyInstance(
+                    RTIambassador.class.getClassLoader(),
+                    new Class<?>[]{RTIambassador.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "queryFederateTime":
+                                return new DoubleTime(_federateTime);
+                            case "nextEventRequest":
+                                double requestedTime = ((DoubleTime)args[0]).getTime();
+                                _requestedTimeList.add(requestedTime);
+                                _federateTime = Math.min(requestedTime, _pendingEventTime);
+                                _pendingEventTime = Double.MAX_VALUE;
+                                timeAdvanceGrant(new DoubleTime(_federateTime));
+                                return null;
+                            default:
+                                return method.getReturnType() == boolean.class ? false : null;
+                        }
+                    }
+            );
+        }
+
+        void startNextEventAdvanceTimeThread() {
+            startAdvanceTimeThread(TimeAdvanceMode.NextEventRequest);
+        }
+
+        List<Double> getRequestedTimeList() {
+            return _requestedTimeList;
+        }
+    }
+
+    private static FederateConfig getFederateConfig() {
+        FederateConfig federateConfig = new FederateConfig();
+        federateConfig.federateType = "NextEventFederate";
+        federateConfig.federationId = "advanceTimeThreadTest";
+        federateConfig.name = "NextEventFederate";
+        federateConfig.lookahead = 0.1;
+        federateConfig.stepSize = 1.0;
+        return federateConfig;
+    }
+
+    @Test
+    public void earlyGrantResubmitTest() throws InterruptedException {
+        NextEventFederate nextEventFederate = new NextEventFederate(getFederateConfig(), 2.5);
+
+        AdvanceTimeRequest atr = nextEventFederate.putNextEventRequest(10);
+        nextEventFederate.startNextEventAdvanceTimeThread();
+
+        List<Double> currentTimeList = new ArrayList<>();
+        List<Boolean> grantedEarlyList = new ArrayList<>();
+        List<Boolean> resubmittedList = new ArrayList<>();
+        boolean resubmitted;
+        do {
+            atr.requestSyncStart();
+            currentTimeList.add(atr.getCurrentTime());
+            grantedEarlyList.add(atr.isGrantedEarly());
+            resubmittedList.add(atr.isResubmitted());
+            resubmitted = atr.requestSyncEnd();
+        } while (resubmitted);
+        atr.release();
+
+        // THE REQUEST IS GRANTED EARLY AT THE TIME OF THE EVENT, THEN RE-SUBMITTED AND GRANTED AT ITS WAKE TIME
+        Assert.assertEquals(Arrays.asList(2.5, 10.0), currentTimeList);
+        Assert.assertEquals(Arrays.asList(true, false), grantedEarlyList);
+        Assert.assertEquals(Arrays.asList(true, false), resubmittedList);
+        Assert.assertEquals(Arrays.asList(10.0, 10.0), nextEventFederate.getRequestedTimeList());
+    }
+
+    @Test
+    public void onTimeGrantTest() throws InterruptedException {
+        NextEventFederate nextEventFederate = new NextEventFederate(getFederateConfig(), Double.MAX_VALUE);
+
+        AdvanceTimeRequest atr = nextEventFederate.putNextEventRequest(10);
+        nextEventFederate.startNextEventAdvanceTimeThread();
+
+        // WITH NO EARLIER EVENT, THE REQUEST IS GRANTED ONCE, AT ITS WAKE TIME, AND NOT RE-SUBMITTED
+        atr.requestSyncStart();
+        Assert.assertEquals(10.0, atr.getCurrentTime(), 0);
+        Assert.assertFalse(atr.isGrantedEarly());
+        Assert.assertFalse(atr.isResubmitted());
+        Assert.assertFalse(atr.requestSyncEnd());
+        atr.release();
+
+        Assert.assertEquals(Arrays.asList(10.0), nextEventFederate.getRequestedTimeList());
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+public class InboundQueueLimiterTests {
+
+    // ITEMS ARE "<hlaClassName>:<key>=<value>" -- AN ITEM SUPERSEDES A QUEUED ITEM WITH THE SAME CLASS AND KEY
+    private static class TestAdapter implements InboundQueueLimiter.Adapter<String> {
+        private final ArrayDeque<String> _queue = new ArrayDeque<>();
+        private final List<String> _discardedList = new ArrayList<>();
+
+        private static String get_coalesce_key(String item) {
+            return item.substring(0, item.indexOf('='));
+        }
+
+        @Override
+        public synchronized int size() {
+            return _queue.size();
+        }
+
+        @Override
+        public synchronized void add(String item) {
+            _queue.add(item);
+        }
+
+        @Override
+        public synchronized String pollOldest(Predicate<? super String> droppable) {
+            for(String item : _queue) {
+                if (droppable.test(item)) {
+                    _queue.removeFirstOccurrence(item);
+                    return item;
+                }
+            }
+            return null;
+        }
+
+        private synchronized String poll() {
+            return _queue.poll();
+        }
+
+        @Override
+        public synchronized boolean coalesce(String item) {
+            List<String> itemList = new ArrayList<>(_queue);
+            for(int ix = 0 ; ix < itemList.size() ; ++ix) {
+                if (get_coalesce_key(itemList.get(ix)).equals(get_coalesce_key(item))) {
+                    itemList.set(ix, item);
+                    _queue.clear();
+                    _queue.addAll(itemList);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String getHlaClassName(String item) {
+            return item.substring(0, item.indexOf(':'));
+        }
+
+        @Override
+        public byte[] toSpillRecord(String item) {
+            return item.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String fromSpillRecord(byte[] spillRecord) {
+            return new String(spillRecord, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public synchronized void discard(String item) {
+            _discardedList.add(item);
+        }
+    }
+
+    @Test
+    public void unboundedTest() {
+        TestAdapter testAdapter = new TestAdapter();
+        InboundQueueLimiter<String> limiter = new InboundQueueLimiter<>(testAdapter);
+        for(int ix = 0 ; ix < 100 ; ++ix) {
+            limiter.offer("A:x=" + ix);
+        }
+        Assert.assertEquals(100, testAdapter.size());
+        Assert.assertEquals(100, limiter.getMetrics().getHighWaterMark());
+        Assert.assertEquals(0, limiter.getMetrics().getDropCount());
+    }
+
+    @Test
+    public void dropOldestAndCoalesceTest() {
+        TestAdapter testAdapter = new TestAdapter();
+        InboundQueueLimiter<String> limiter = new InboundQueueLimiter<>(testAdapter);
+        limiter.setCapacity(2);
+        limiter.setDefaultOverflowPolicy(InboundOverflowPolicy.DROP_OLDEST);
+        limiter.setOverflowPolicy("A.B", InboundOverflowPolicy.COALESCE);
+
+        limiter.offer("A.B:x=1");
+        limiter.offer("A.B:y=1");
+        limiter.offer("A:x=2");
+        Assert.assertEquals(Arrays.asList("A.B:y=1", "A:x=2"), new ArrayList<>(testAdapter._queue));
+        Assert.assertEquals(Arrays.asList("A.B:x=1"), testAdapter._discardedList);
+
+        // A.B.C INHERITS THE POLICY OF A.B
+        Assert.assertEquals(InboundOverflowPolicy.COALESCE, limiter.getOverflowPolicy("A.B.C"));
+        limiter.offer("A.B.C:y=3");
+        Assert.assertEquals(Arrays.asList("A:x=2", "A.B.C:y=3"), new ArrayList<>(testAdapter._queue));
+
+        limiter.offer("A.B:x=3");
+        Assert.assertEquals(Arrays.asList("A.B.C:y=3", "A.B:x=3"), new ArrayList<>(testAdapter._queue));
+        limiter.offer("A.B.C:y=4");
+        Assert.assertEquals(Arrays.asList("A.B.C:y=4", "A.B:x=3"), new ArrayList<>(testAdapter._queue));
+
+        InboundQueueLimiter.Metrics metrics = limiter.getMetrics();
+        Assert.assertEquals(2, metrics.getDepth());
+        Assert.assertEquals(2, metrics.getHighWaterMark());
+        Assert.assertEquals(3, metrics.getDropCount());
+        Assert.assertEquals(1, metrics.getCoalesceCount());
+    }
+
+    @Test
+    public void spillTest() {
+        TestAdapter testAdapter = new TestAdapter();
+        InboundQueueLimiter<String> limiter = new InboundQueueLimiter<>(testAdapter);
+        limiter.setCapacity(2);
+        limiter.setDefaultOverflowPolicy(InboundOverflowPolicy.SPILL_TO_DISK);
+
+        for(int ix = 0 ; ix < 10 ; ++ix) {
+            limiter.offer("A:x=" + ix);
+        }
+        Assert.assertEquals(2, testAdapter.size());
+        Assert.assertEquals(8, limiter.getSpilledSize());
+        Assert.assertEquals(8, limiter.getMetrics().getSpillCount());
+
+        // SPILLED ITEMS COME BACK IN THE ORDER IN WHICH THEY WERE OFFERED
+        List<String> itemList = new ArrayList<>();
+        String item;
+        while((item = testAdapter.poll()) != null) {
+            itemList.add(item);
+            limiter.onRemoved();
+            if (itemList.size() == 5) {
+                limiter.offer("A:x=10");
+            }
+        }
+        Assert.assertEquals(11, itemList.size());
+        for(int ix = 0 ; ix < itemList.size() ; ++ix) {
+            Assert.assertEquals("A:x=" + ix, itemList.get(ix));
+        }
+        Assert.assertEquals(0, limiter.getSpilledSize());
+    }
+
+    @Test
+    public void protectedTest() {
+        String simEndClassName = "InteractionRoot.C2WInteractionRoot.SimulationControl.SimEnd";
+
+        TestAdapter testAdapter = new TestAdapter();
+        InboundQueueLimiter<String> limiter = new InboundQueueLimiter<>(testAdapter);
+        limiter.setCapacity(2);
+        limiter.setDefaultOverflowPolicy(InboundOverflowPolicy.DROP_OLDEST);
+        limiter.setOverflowPolicy("InteractionRoot.C2WInteractionRoot.SimulationControl", InboundOverflowPolicy.BLOCK);
+        limiter.setDroppable("InteractionRoot.C2WInteractionRoot.SimulationControl", false);
+        Assert.assertFalse(limiter.isDroppable(simEndClassName));
+        Assert.assertTrue(limiter.isDroppable("A"));
+
+        // THE OLDEST ITEM THAT MAY BE DROPPED IS DROPPED, NOT THE SimEnd AT THE FRONT OF THE QUEUE
+        limiter.offer(simEndClassName + ":x=0");
+        limiter.offer("A:x=1");
+        limiter.offer("A:x=2");
+        Assert.assertEquals(Arrays.asList(simEndClassName + ":x=0", "A:x=2"), new ArrayList<>(testAdapter._queue));
+        Assert.assertEquals(Arrays.asList("A:x=1"), testAdapter._discardedList);
+
+        // NOTHING ON A FULL QUEUE OF SimEnds CAN BE DROPPED, SO THE OFFERED ITEM IS SPILLED
+        testAdapter.poll();
+        limiter.onRemoved();
+        limiter.offer(simEndClassName + ":x=3");
+        Assert.assertEquals(2, testAdapter.size());
+        limiter.offer("A:x=4");
+        limiter.offer("A:x=5");
+        Assert.assertEquals(Arrays.asList(simEndClassName + ":x=3", "A:x=5"), new ArrayList<>(testAdapter._queue));
+
+        testAdapter._queue.clear();
+        limiter.offer(simEndClassName + ":x=6");
+        limiter.offer(simEndClassName + ":x=7");
+        limiter.offer("A:x=8");
+        Assert.assertEquals(
+          Arrays.asList(simEndClassName + ":x=6", simEndClassName + ":x=7"), new ArrayList<>(testAdapter._queue)
+        );
+        Assert.assertEquals(1, limiter.getSpilledSize());
+        Assert.assertEquals(3, limiter.getMetrics().getDropCount());
+
+        testAdapter.poll();
+        limiter.onRemoved();
+        Assert.assertEquals(Arrays.asList(simEndClassName + ":x=7", "A:x=8"), new ArrayList<>(testAdapter._queue));
+        Assert.assertEquals(0, limiter.getSpilledSize());
+    }
+
+    @Test
+    public void blockTest() throws InterruptedException {
+        TestAdapter testAdapter = new TestAdapter();
+        InboundQueueLimiter<String> limiter = new InboundQueueLimiter<>(testAdapter);
+        limiter.setCapacity(1);
+        limiter.setMaximumBlockMillis(50);
+        Assert.assertEquals(InboundOverflowPolicy.BLOCK, limiter.getDefaultOverflowPolicy());
+        Assert.assertEquals(InboundOverflowPolicy.SPILL_TO_DISK, limiter.getBlockTimeoutOverflowPolicy());
+
+        // NOTHING IS TAKEN, SO THE ITEM IS SPILLED ONCE BLOCKING TIMES OUT
+        limiter.offer("A:x=1");
+        limiter.offer("A:x=2");
+        Assert.assertEquals(1, testAdapter.size());
+        Assert.assertEquals(1, limiter.getSpilledSize());
+        Assert.assertEquals(1, limiter.getMetrics().getBlockTimeoutCount());
+
+        // UNTIL THE QUEUE DRAINS, LATER ITEMS ARE SPILLED WITHOUT BLOCKING
+        limiter.setMaximumBlockMillis(5000);
+        limiter.offer("A:x=3");
+        Assert.assertEquals(1, limiter.getMetrics().getBlockCount());
+        Assert.assertEquals(2, limiter.getSpilledSize());
+
+        List<String> itemList = new ArrayList<>();
+        String item;
+        while((item = testAdapter.poll()) != null) {
+            itemList.add(item);
+            limiter.onRemoved();
+        }
+        Assert.assertEquals(Arrays.asList("A:x=1", "A:x=2", "A:x=3"), itemList);
+
+        // ONCE DRAINED, AN ITEM OFFERED TO A FULL QUEUE BLOCKS UNTIL ROOM IS MADE
+        limiter.offer("A:x=4");
+        Thread producer = new Thread(() -> limiter.offer("A:x=5"));
+        producer.start();
+        while(limiter.getMetrics().getBlockCount() < 2) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(1, testAdapter.size());
+
+        testAdapter.poll();
+        limiter.onRemoved();
+        producer.join();
+
+        Assert.assertEquals(Arrays.asList("A:x=5"), new ArrayList<>(testAdapter._queue));
+        Assert.assertEquals(1, limiter.getMetrics().getBlockTimeoutCount());
+        Assert.assertEquals(0, limiter.getSpilledSize());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MergedTimestampQueueTests {
+
+    private static final Comparator<Double> comparator = Comparator.naturalOrder();
+
+    @Test
+    public void mergedOrderTest() {
+        MergedTimestampQueue<Double> queue = new MergedTimestampQueue<>(comparator);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+
+        queue.add(3.0, true);
+        queue.add(-1.0, false);
+        queue.add(1.0, true);
+        queue.add(-2.0, false);
+        queue.add(2.0, true);
+
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertEquals(5, queue.size());
+        Assert.assertEquals(2, queue.size(false));
+        Assert.assertEquals(3, queue.size(true));
+
+        Assert.assertEquals(-2.0, queue.peek(), 0);
+        Assert.assertEquals(-2.0, queue.poll(), 0);
+        Assert.assertEquals(-1.0, queue.take(), 0);
+        Assert.assertTrue(queue.isEmpty(false));
+        Assert.assertFalse(queue.isEmpty(true));
+        Assert.assertEquals(1.0, queue.poll(), 0);
+        Assert.assertEquals(2.0, queue.take(), 0);
+        Assert.assertEquals(3.0, queue.poll(), 0);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    public void kindTest() {
+        MergedTimestampQueue<Double> queue = new MergedTimestampQueue<>(comparator);
+        queue.add(-1.0, false);
+        queue.add(5.0, true);
+
+        Assert.assertEquals(5.0, queue.poll(true), 0);
+        Assert.assertNull(queue.poll(true));
+        Assert.assertEquals(-1.0, queue.take(false), 0);
+        Assert.assertNull(queue.poll(false));
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void predicatePollTest() {
+        MergedTimestampQueue<Double> queue = new MergedTimestampQueue<>(comparator);
+        for(int ix = 20 ; ix > 0 ; --ix) {
+            queue.add((double)ix, true);
+        }
+        queue.add(-3.0, false);
+        queue.add(-4.0, false);
+
+        // THE FIRST MATCHING ITEM IS REMOVED, AND THE REST KEEP THEIR ORDER
+        Assert.assertEquals(-3.0, queue.poll(item -> item % 2 != 0), 0);
+        Assert.assertEquals(7.0, queue.poll(item -> item > 6 && item % 2 != 0), 0);
+        Assert.assertNull(queue.poll(item -> item > 100));
+        Assert.assertEquals(20, queue.size());
+
+        Assert.assertEquals(-4.0, queue.poll(), 0);
+        for(int ix = 1 ; ix <= 20 ; ++ix) {
+            if (ix != 7) {
+                Assert.assertEquals(ix, queue.poll(), 0);
+            }
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void equalItemsFifoTest() {
+        // ITEMS THAT COMPARE EQUAL ARE TAKEN IN THE ORDER IN WHICH THEY WERE ADDED
+        MergedTimestampQueue<double[]> queue = new MergedTimestampQueue<>(Comparator.comparingDouble(item -> item[0]));
+        for(int ix = 0 ; ix < 100 ; ++ix) {
+            queue.add(new double[] { ix % 2, ix }, true);
+        }
+        for(int ix = 0 ; ix < 100 ; ++ix) {
+            double[] item = queue.poll();
+            Assert.assertEquals(ix < 50 ? 0 : 1, item[0], 0);
+            Assert.assertEquals(ix < 50 ? 2 * ix : 2 * (ix - 50) + 1, item[1], 0);
+        }
+    }
+
+    @Test
+    public void blockingTakeTest() throws InterruptedException {
+        final int itemsPerProducer = 20000;
+        MergedTimestampQueue<Double> queue = new MergedTimestampQueue<>(comparator);
+        AtomicInteger takenCount = new AtomicInteger(0);
+
+        Thread consumer = new Thread(() -> {
+            for(int ix = 0 ; ix < 2 * itemsPerProducer ; ++ix) {
+                queue.take();
+                takenCount.incrementAndGet();
+            }
+        });
+        consumer.start();
+
+        Thread producer1 = new Thread(() -> {
+            for(int ix = 0 ; ix < itemsPerProducer ; ++ix) {
+                queue.add((double)ix, true);
+            }
+        });
+        Thread producer2 = new Thread(() -> {
+            for(int ix = 0 ; ix < itemsPerProducer ; ++ix) {
+                queue.add(-1.0, false);
+            }
+        });
+        producer1.start();
+        producer2.start();
+
+        producer1.join(60000);
+        producer2.join(60000);
+        consumer.join(60000);
+
+        Assert.assertFalse(consumer.isAlive());
+        Assert.assertEquals(2 * itemsPerProducer, takenCount.get());
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SyncQueueTests {
+
+    private static final int ROUNDS = 20000;
+
+    private void handoffTest(int spinCount) throws InterruptedException {
+        int savedSpinCount = SyncQueue.get_spin_count();
+        SyncQueue.set_spin_count(spinCount);
+        try {
+            SyncQueue syncQueue = new SyncQueue();
+            AtomicInteger sharedCounter = new AtomicInteger(0);
+            AtomicInteger errorCount = new AtomicInteger(0);
+
+            // EACH ROUND, THE TAKER MAY ONLY SEE THE VALUE THE PUTTER SET BEFORE ITS put
+            Thread putter = new Thread(() -> {
+                for(int round = 1 ; round <= ROUNDS ; ++round) {
+                    sharedCounter.set(round);
+                    syncQueue.put();
+                    syncQueue.put();
+                }
+            });
+            Thread taker = new Thread(() -> {
+                for(int round = 1 ; round <= ROUNDS ; ++round) {
+                    syncQueue.take();
+                    if (sharedCounter.get() != round) {
+                        errorCount.incrementAndGet();
+                    }
+                    syncQueue.take();
+                }
+            });
+
+            putter.start();
+            taker.start();
+            putter.join(60000);
+            taker.join(60000);
+
+            Assert.assertFalse(putter.isAlive());
+            Assert.assertFalse(taker.isAlive());
+            Assert.assertEquals(0, errorCount.get());
+        } finally {
+            SyncQueue.set_spin_count(savedSpinCount);
+        }
+    }
+
+    @Test
+    public void spinHandoffTest() throws InterruptedException {
+        handoffTest(SyncQueue.DEFAULT_SPIN_COUNT);
+    }
+
+    @Test
+    public void parkHandoffTest() throws InterruptedException {
+        handoffTest(0);
+    }
+
+    @Test
+    public void interruptTest() throws InterruptedException {
+        SyncQueue syncQueue = new SyncQueue();
+        AtomicInteger interruptedCount = new AtomicInteger(0);
+
+        Thread taker = new Thread(() -> {
+            syncQueue.take();
+            if (Thread.currentThread().isInterrupted()) {
+                interruptedCount.incrementAndGet();
+            }
+        });
+        taker.start();
+
+        Thread.sleep(50);
+        taker.interrupt();
+        Thread.sleep(50);
+
+        // AN INTERRUPT DOES NOT END THE WAIT
+        Assert.assertTrue(taker.isAlive());
+
+        syncQueue.put();
+        taker.join(10000);
+        Assert.assertFalse(taker.isAlive());
+        Assert.assertEquals(1, interruptedCount.get());
+    }
+}
@@ -51,6 +51,8 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -92,7 +94,12 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
 
     private static final Logger _logger = LogManager.getLogger(FederationManager.class);
 
-    private final Set<String> _synchronizationLabels = new HashSet<>();
+    private final Map<String, CompletableFuture<Void>> _synchronizationPointRegisteredFutureMap =
+            new ConcurrentHashMap<>();
+
+    private CompletableFuture<Void> getSynchronizationPointRegisteredFuture(String label) {
+        return _synchronizationPointRegisteredFutureMap.computeIfAbsent(label, key -> new CompletableFuture<>());
+    }
 
     private final FederatesMaintainer federatesMaintainer = new FederatesMaintainer();
     private final IC2WFederationEventsHandler _federationEventsHandler;
@@ -438,35 +445,31 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         if (_useSyncPoints) {
             _logger.trace("Registering synchronization point: {}", SynchronizationPoints.ReadyToPopulate);
             rti.registerFederationSynchronizationPoint(SynchronizationPoints.ReadyToPopulate, null);
-            rti.tick();
-            while (!_synchronizationLabels.contains(SynchronizationPoints.ReadyToPopulate)) {
-                CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-                rti.tick();
-            }
+            tickUntilDone(getSynchronizationPointRegisteredFuture(SynchronizationPoints.ReadyToPopulate));
             _logger.debug("Synchronization point \"{}\" registered successfully.", SynchronizationPoints.ReadyToPopulate);
 
             _logger.trace("Registering synchronization point: {}", SynchronizationPoints.ReadyToRun);
             rti.registerFederationSynchronizationPoint(SynchronizationPoints.ReadyToRun, null);
-            rti.tick();
-            while (!_synchronizationLabels.contains(SynchronizationPoints.ReadyToRun)) {
-                CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-                rti.tick();
-            }
+            tickUntilDone(getSynchronizationPointRegisteredFuture(SynchronizationPoints.ReadyToRun));
             _logger.debug("Synchronization point \"{}\" registered successfully.", SynchronizationPoints.ReadyToRun);
 
             _logger.trace("Registering synchronization point: {}", SynchronizationPoints.ReadyToResign);
             rti.registerFederationSynchronizationPoint(SynchronizationPoints.ReadyToResign, null);
-            rti.tick();
-            while (!_synchronizationLabels.contains(SynchronizationPoints.ReadyToResign)) {
-                CpswtUtils.sleep(SynchronizedFederate.internalThreadWaitTimeMs);
-                rti.tick();
-            }
+            tickUntilDone(getSynchronizationPointRegisteredFuture(SynchronizationPoints.ReadyToResign));
             _logger.debug("Synchronization point \"{}\" registered successfully.", SynchronizationPoints.ReadyToResign);
         }
 
         // subscribe for "join" and "resign" interactions
         FederateJoinInteraction.subscribe_interaction(getRTI());
         FederateResignInteraction.subscribe_interaction(getRTI());
+        addInteractionHandler(
+                FederateJoinInteraction.get_hla_class_name(),
+                this::handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateJoinInteraction
+        );
+        addInteractionHandler(
+                FederateResignInteraction.get_hla_class_name(),
+                this::handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateResignInteraction
+        );
 
         notifyFederationOfJoin();
 
@@ -512,15 +515,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
     private void checkInteraction(InteractionRoot interactionRoot) {
 
         checkMonitoredInteractions(interactionRoot);
-        if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.C2WInteractionRoot.FederateJoinInteraction")) {
-
-            handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateJoinInteraction(interactionRoot);
-            return;
-        }
-
-        if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.C2WInteractionRoot.FederateResignInteraction")) {
-
-            handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateResignInteraction(interactionRoot);
+        if (handleInteraction(interactionRoot)) {
             return;
         }
 
@@ -544,6 +539,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
             ObjectRoot objectRoot = reflector.getObjectRoot();
 
             _logger.debug("unhandled object reflection: \"{}\"", objectRoot.getInstanceHlaClassName());
+            reflector.release();
         }
 
     }
@@ -589,8 +585,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         Thread mainFederationManagerRunThread = new Thread(() -> {
 
             try {
-                AdvanceTimeRequest atr = new AdvanceTimeRequest(_currentTime);
-                putAdvanceTimeRequest(atr);
+                AdvanceTimeRequest atr = putAdvanceTimeRequest(_currentTime);
 
                 startAdvanceTimeThread();
                 _logger.info("started logical time progression");
@@ -666,9 +661,9 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
                                 "Current_time = {} and step = {} and requested_time = {}",
                                 previousTime, getStepSize(), _currentTime
                         );
-                        AdvanceTimeRequest newATR = new AdvanceTimeRequest(_currentTime);
-                        putAdvanceTimeRequest(newATR);
+                        AdvanceTimeRequest newATR = putAdvanceTimeRequest(_currentTime);
                         atr.requestSyncEnd();
+                        atr.release();
                         atr = newATR;
                     }
                 }
@@ -956,7 +951,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
 
     @Override
     public void synchronizationPointRegistrationSucceeded(String label) {
-        _synchronizationLabels.add(label);
+        getSynchronizationPointRegisteredFuture(label).complete(null);
     }
 
 
@@ -0,0 +1,173 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Binary property encoding:
+ * <ul>
+ * <li>boolean, byte:  1 byte</li>
+ * <li>char, short:  2 bytes, little-endian</li>
+ * <li>int, float:  4 bytes, little-endian (float as its IEEE-754 bit pattern)</li>
+ * <li>long, double:  8 bytes, little-endian (double as its IEEE-754 bit pattern)</li>
+ * <li>String:  4-byte little-endian length, followed by that many bytes of UTF-8</li>
+ * <li>JSON:  compact (not pretty-printed) JSON text, encoded as a String</li>
+ * </ul>
+ * Decoding uses the type of the parameter or attribute, so no type information is sent.
+ */
+public class BinaryPropertyCodec implements PropertyCodec {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static final BinaryPropertyCodec INSTANCE = new BinaryPropertyCodec();
+
+    protected BinaryPropertyCodec() { }
+
+    @Override
+    public String getEncodingName() {
+        return BINARY_ENCODING;
+    }
+
+    private static byte[] encodeString(String value) {
+        byte[] utf8Bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + utf8Bytes.length)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .putInt(utf8Bytes.length)
+          .put(utf8Bytes)
+          .array();
+    }
+
+    private static String decodeString(ByteBuffer byteBuffer) {
+        int length = byteBuffer.getInt();
+        if (length < 0 || length > byteBuffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(
+          byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length, StandardCharsets.UTF_8
+        );
+        byteBuffer.position(byteBuffer.position() + length);
+        return value;
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (value instanceof Boolean) {
+            return new byte[] { (byte)((Boolean)value ? 1 : 0) };
+        }
+        if (value instanceof Byte) {
+            return new byte[] { (Byte)value };
+        }
+        if (value instanceof Character) {
+            return allocate(Character.BYTES).putChar((Character)value).array();
+        }
+        if (value instanceof Short) {
+            return allocate(Short.BYTES).putShort((Short)value).array();
+        }
+        if (value instanceof Integer) {
+            return allocate(Integer.BYTES).putInt((Integer)value).array();
+        }
+        if (value instanceof Long) {
+            return allocate(Long.BYTES).putLong((Long)value).array();
+        }
+        if (value instanceof Float) {
+            return allocate(Float.BYTES).putFloat((Float)value).array();
+        }
+        if (value instanceof Double) {
+            return allocate(Double.BYTES).putDouble((Double)value).array();
+        }
+        // JsonNode.toString() PRODUCES COMPACT JSON
+        return encodeString(value.toString());
+    }
+
+    @Override
+    public Object decode(byte[] value, Object initialValueForType) {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(value).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (initialValueForType instanceof Boolean) {
+                return byteBuffer.get() != 0;
+            }
+            if (initialValueForType instanceof Byte) {
+                return byteBuffer.get();
+            }
+            if (initialValueForType instanceof Character) {
+                return byteBuffer.getChar();
+            }
+            if (initialValueForType instanceof Short) {
+                return byteBuffer.getShort();
+            }
+            if (initialValueForType instanceof Integer) {
+                return byteBuffer.getInt();
+            }
+            if (initialValueForType instanceof Long) {
+                return byteBuffer.getLong();
+            }
+            if (initialValueForType instanceof Float) {
+                return byteBuffer.getFloat();
+            }
+            if (initialValueForType instanceof Double) {
+                return byteBuffer.getDouble();
+            }
+            if (initialValueForType instanceof JsonNode) {
+                String jsonString = decodeString(byteBuffer);
+                try {
+                    return objectMapper.readTree(jsonString);
+                } catch (JsonProcessingException jsonProcessingException) {
+                    logger.error("Could not parse JSON string \"{}\": {}", jsonString, jsonProcessingException);
+                    return null;
+                }
+            }
+            return decodeString(byteBuffer);
+        } catch (BufferUnderflowException bufferUnderflowException) {
+            logger.error(
+              "decode: {}-byte value is too short for type \"{}\"",
+              value.length, initialValueForType == null ? "null" : initialValueForType.getClass().getName()
+            );
+        }
+        return null;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.RTIambassador;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The publish, subscribe, soft-subscribe and soft-publish state of one federate, i.e. of one
+ * RTIambassador.  The class handles and property handles of the FOM are the same for every
+ * federate in a JVM, and so are kept in static maps in {@link InteractionRoot} and
+ * {@link ObjectRoot}, but which classes a federate has published or subscribed to is not:  several
+ * federates in one JVM can each publish the same class on their own RTIambassador.
+ * <p>
+ * For the same reason, the registry also holds the federate's {@link PropertyCodec}, and the
+ * object instances the federate has registered or discovered, keyed by their object handles.
+ * <p>
+ * Interaction and object class names never collide (they start with "InteractionRoot" and
+ * "ObjectRoot" respectively), so one registry holds the state for both.
+ */
+public class FederatePubSubRegistry {
+
+    private static final Map<RTIambassador, FederatePubSubRegistry> _rtiRegistryMap =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * @param rti the federate's RTIambassador
+     * @return the registry of the federate that uses rti, which is created if it does not exist
+     */
+    public static FederatePubSubRegistry get(RTIambassador rti) {
+        synchronized (_rtiRegistryMap) {
+            return _rtiRegistryMap.computeIfAbsent(rti, k -> new FederatePubSubRegistry());
+        }
+    }
+
+    /**
+     * Discards the registry of the federate that uses rti, e.g. when the federate resigns.
+     *
+     * @param rti the federate's RTIambassador
+     */
+    public static void remove(RTIambassador rti) {
+        _rtiRegistryMap.remove(rti);
+    }
+
+    private static boolean is_in_any(String hlaClassName, int stateIndex) {
+        synchronized (_rtiRegistryMap) {
+            for(FederatePubSubRegistry federatePubSubRegistry: _rtiRegistryMap.values()) {
+                if (federatePubSubRegistry._classNameSetArray[stateIndex].contains(hlaClassName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final int PUBLISHED = 0;
+    private static final int SUBSCRIBED = 1;
+    private static final int SOFT_SUBSCRIBED = 2;
+
+    @SuppressWarnings("unchecked")
+    private final Set<String>[] _classNameSetArray = new Set[] {
+      ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet()
+    };
+
+    private final Map<String, Set<String>> _classNameFederateNameSoftPublishSetMap = new ConcurrentHashMap<>();
+
+    // null UNTIL SET, IN WHICH CASE THE CODEC OF InteractionRoot OR ObjectRoot IS USED
+    private volatile PropertyCodec _propertyCodec = null;
+
+    private final ObjectHandleTable<ObjectRoot> _objectHandleInstanceMap = new ObjectHandleTable<>();
+
+    FederatePubSubRegistry() { }
+
+    //----------------------------------------
+    // PUBLISH, SUBSCRIBE, SOFT-SUBSCRIBE STATE
+    //----------------------------------------
+    public boolean isPublished(String hlaClassName) {
+        return _classNameSetArray[PUBLISHED].contains(hlaClassName);
+    }
+
+    public boolean isSubscribed(String hlaClassName) {
+        return _classNameSetArray[SUBSCRIBED].contains(hlaClassName);
+    }
+
+    public boolean isSoftSubscribed(String hlaClassName) {
+        return _classNameSetArray[SOFT_SUBSCRIBED].contains(hlaClassName);
+    }
+
+    private void set(int stateIndex, String hlaClassName, boolean value) {
+        if (value) {
+            _classNameSetArray[stateIndex].add(hlaClassName);
+        } else {
+            _classNameSetArray[stateIndex].remove(hlaClassName);
+        }
+    }
+
+    void setPublished(String hlaClassName, boolean published) {
+        set(PUBLISHED, hlaClassName, published);
+    }
+
+    void setSubscribed(String hlaClassName, boolean subscribed) {
+        set(SUBSCRIBED, hlaClassName, subscribed);
+    }
+
+    void setSoftSubscribed(String hlaClassName, boolean softSubscribed) {
+        set(SOFT_SUBSCRIBED, hlaClassName, softSubscribed);
+    }
+
+    /**
+     * @return true if any federate in this JVM has published the class
+     */
+    static boolean is_published_by_any(String hlaClassName) {
+        return is_in_any(hlaClassName, PUBLISHED);
+    }
+
+    /**
+     * @return true if any federate in this JVM has subscribed to the class
+     */
+    static boolean is_subscribed_by_any(String hlaClassName) {
+        return is_in_any(hlaClassName, SUBSCRIBED);
+    }
+
+    /**
+     * @return true if any federate in this JVM has soft-subscribed to the class
+     */
+    static boolean is_soft_subscribed_by_any(String hlaClassName) {
+        return is_in_any(hlaClassName, SOFT_SUBSCRIBED);
+    }
+
+    //-------------------
+    // SOFT-PUBLISH STATE
+    //-------------------
+    public void addFederateNameSoftPublish(String hlaClassName, String federateName) {
+        _classNameFederateNameSoftPublishSetMap.computeIfAbsent(
+          hlaClassName, k -> ConcurrentHashMap.newKeySet()
+        ).add(federateName);
+    }
+
+    public void removeFederateNameSoftPublish(String hlaClassName, String federateName) {
+        _classNameFederateNameSoftPublishSetMap.computeIfPresent(hlaClassName, (k, federateNameSet) -> {
+            federateNameSet.remove(federateName);
+            return federateNameSet.isEmpty() ? null : federateNameSet;
+        });
+    }
+
+    /**
+     * Adds the names of the federates that this federate soft-publishes the class to.
+     *
+     * @param hlaClassName name of the class
+     * @param federateNameSet set to which to add the names
+     * @return federateNameSet
+     */
+    Set<String> addFederateNameSoftPublishSet(String hlaClassName, Set<String> federateNameSet) {
+        federateNameSet.addAll(_classNameFederateNameSoftPublishSetMap.getOrDefault(hlaClassName, Collections.emptySet()));
+        return federateNameSet;
+    }
+
+    //---------------
+    // PROPERTY CODEC
+    //---------------
+
+    /**
+     * @return the codec with which this federate encodes and decodes parameter and attribute values,
+     * or null if it has not been set
+     */
+    public PropertyCodec getPropertyCodec() {
+        return _propertyCodec;
+    }
+
+    /**
+     * Sets the codec with which this federate encodes and decodes parameter and attribute values.
+     * All federates in a federation must use the same encoding.
+     *
+     * @param propertyCodec the codec, or null to use the codec of {@link InteractionRoot} and
+     *                      {@link ObjectRoot}
+     */
+    public void setPropertyCodec(PropertyCodec propertyCodec) {
+        _propertyCodec = propertyCodec;
+    }
+
+    //----------------------------------
+    // OBJECT-HANDLE OBJECT-INSTANCE MAP
+    //----------------------------------
+
+    /**
+     * @return the object instances this federate has registered or discovered, keyed by their object handles
+     */
+    ObjectHandleTable<ObjectRoot> getObjectHandleInstanceMap() {
+        return _objectHandleInstanceMap;
+    }
+
+    /**
+     * @return the object instance with the given handle that any federate in this JVM has registered
+     * or discovered, or null if there is none
+     */
+    static ObjectRoot get_object_of_any(int objectHandle) {
+        synchronized (_rtiRegistryMap) {
+            for(FederatePubSubRegistry federatePubSubRegistry: _rtiRegistryMap.values()) {
+                ObjectRoot objectRoot = federatePubSubRegistry._objectHandleInstanceMap.get(objectHandle);
+                if (objectRoot != null) {
+                    return objectRoot;
+                }
+            }
+        }
+        return null;
+    }
+}
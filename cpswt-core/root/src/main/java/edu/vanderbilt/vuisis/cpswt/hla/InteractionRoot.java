@@ -39,6 +39,7 @@ import hla.rti.jlc.RtiFactoryFactory;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -49,12 +50,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.Reader;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -136,7 +140,7 @@ public class InteractionRoot implements InteractionRootInterface {
         objectMapper.setDefaultPrettyPrinter(defaultPrettyPrinter);
     }
 
-    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new HashMap<>();
+    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new ConcurrentHashMap<>();
 
     private static Boolean get_hla_class_name_is_initialized(String hlaClassName) {
         return _hlaClassNameIsInitializedMap.getOrDefault(hlaClassName, false);
@@ -245,6 +249,11 @@ public class InteractionRoot implements InteractionRootInterface {
         _classNamePublishStatusMap.put(hlaClassName, false);
         _classNameSubscribeStatusMap.put(hlaClassName, false);
         _classNameSoftSubscribeStatusMap.put(hlaClassName, false);
+
+        //-------------------------------------------------------
+        // INDEX THE PROPERTIES OF THE CLASS FOR findProperty
+        //-------------------------------------------------------
+        index_class_properties(hlaClassName);
     }
 
 
@@ -298,9 +307,9 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Set<String> _hlaClassNameSet = new HashSet<>();
+    protected static Set<String> _hlaClassNameSet = ConcurrentHashMap.newKeySet();
 
-    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new HashSet<>();
+    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = ConcurrentHashMap.newKeySet();
 
     //--------------------------------------------------------------
     // METHODS THAT USE HLA CLASS-NAME-SET
@@ -327,7 +336,7 @@ public class InteractionRoot implements InteractionRootInterface {
     //---------------------------
     // DYNAMIC HLA CLASS-NAME SET
     //---------------------------
-    private static final Set<String> _dynamicHlaClassNameSet = new HashSet<>();
+    private static final Set<String> _dynamicHlaClassNameSet = ConcurrentHashMap.newKeySet();
 
     //--------------------------------------------
     // METHODS THAT USE DYNAMIC HLA CLASS-NAME SET
@@ -355,7 +364,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PROPERTY-NAME-SET MAP
@@ -398,7 +407,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new ConcurrentHashMap<>();
 
     //----------------------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME ALL-PROPERTY-NAME-SET MAP
@@ -434,7 +443,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<String, Integer> _classNameHandleMap = new HashMap<>();
+    protected static Map<String, Integer> _classNameHandleMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------
     // METHODS THAT USE CLASS-NAME CLASS-HANDLE MAP
@@ -468,7 +477,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<Integer, String> _classHandleNameMap = new HashMap<>();
+    protected static Map<Integer, String> _classHandleNameMap = new ConcurrentHashMap<>();
 
     //--------------------------------------------------
     // METHODS THAT USE ONLY CLASS-HANDLE CLASS-NAME MAP
@@ -571,6 +580,53 @@ public class InteractionRoot implements InteractionRootInterface {
         return create_interaction(hlaClassName, propertyMap, logicalTime);
     }
 
+    /**
+      * Like {@link #create_interaction( int classHandle, ReceivedInteraction propertyMap )},
+      * but the parameter values are decoded with the property codec of the federate that
+      * uses "rti" (see {@link #get_property_codec(RTIambassador)}).
+      *
+      * @param rti the federate's RTIambassador
+      * @param classHandle handle of interaction class (RTI assigned) class for
+      * which to create an instance
+      * @param propertyMap contains initializing values for the parameters
+      * of the interaction class instance
+      * @return instance of interaction class corresponding to "classHandle" with
+      * its parameters initialized with the "propertyMap"
+      */
+    public static InteractionRoot create_interaction(
+      RTIambassador rti, int classHandle, ReceivedInteraction propertyMap
+    ) {
+        InteractionRoot interactionRoot = create_interaction( classHandle );
+        if (interactionRoot != null) {
+            interactionRoot.setParameters( propertyMap, get_property_codec( rti ) );
+        }
+        return interactionRoot;
+    }
+
+    /**
+      * Like {@link #create_interaction( RTIambassador rti, int classHandle, ReceivedInteraction propertyMap )},
+      * but the interaction is given a timestamp based on "logicalTime".
+      *
+      * @param rti the federate's RTIambassador
+      * @param classHandle handle of interaction class (RTI assigned) class for
+      * which to create an instance
+      * @param propertyMap initializing values for the parameters of the
+      * interaction class instance
+      * @param logicalTime timestamp to place on the new interaction class instance
+      * @return instance of interaction class corresponding to "classHandle" with
+      * its parameters initialized with the "propertyMap" and with
+      * "logicalTime" timestamp
+      */
+    public static InteractionRoot create_interaction(
+      RTIambassador rti, int classHandle, ReceivedInteraction propertyMap, LogicalTime logicalTime
+    ) {
+        InteractionRoot interactionRoot = create_interaction( classHandle, logicalTime );
+        if (interactionRoot != null) {
+            interactionRoot.setParameters( propertyMap, get_property_codec( rti ) );
+        }
+        return interactionRoot;
+    }
+
     //------------------------------------------------------
     // END METHODS THAT USE ONLY CLASS-HANDLE CLASS-NAME MAP
     //------------------------------------------------------
@@ -581,7 +637,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     //-------------------------------------------------------------------------
-    protected static Map<String, InteractionRoot> _hlaClassNameInstanceMap = new HashMap<>();
+    protected static Map<String, InteractionRoot> _hlaClassNameInstanceMap = new ConcurrentHashMap<>();
 
     //-----------------------------------------
     // METHODS THAT USE CLASS-NAME INSTANCE MAP
@@ -625,14 +681,22 @@ public class InteractionRoot implements InteractionRootInterface {
     //------------------------------
     // CLASS-NAME PUBLISH-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //------------------------------
-    protected static final HashMap<String, Boolean> _classNamePublishStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNamePublishStatusMap = new ConcurrentHashMap<>();
 
     //-----------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISH-STATUS MAP
     //-----------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has published the class (see
+     * {@link #get_is_published(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_published(String hlaClassName) {
         if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -647,6 +711,24 @@ public class InteractionRoot implements InteractionRootInterface {
         return get_is_published(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_published(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the publish-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_published(String hlaClassName, RTIambassador rti) {
+        if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isPublished(hlaClassName);
+    }
+
+    public Boolean getIsPublished(RTIambassador rti) {
+        return get_is_published(getInstanceHlaClassName(), rti);
+    }
+
     private static void set_is_published(String hlaClassName, boolean publishStatus) {
         if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -665,14 +747,22 @@ public class InteractionRoot implements InteractionRootInterface {
     //--------------------------------
     // CLASS-NAME SUBSCRIBE-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------
-    protected static final HashMap<String, Boolean> _classNameSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSubscribeStatusMap = new ConcurrentHashMap<>();
 
     //-------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBE-STATUS MAP
     //-------------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has subscribed to the class (see
+     * {@link #get_is_subscribed(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_subscribed(String hlaClassName) {
         if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -687,6 +777,24 @@ public class InteractionRoot implements InteractionRootInterface {
         return get_is_subscribed(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_subscribed(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the subscribe-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_subscribed(String hlaClassName, RTIambassador rti) {
+        if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isSubscribed(hlaClassName);
+    }
+
+    public Boolean getIsSubscribed(RTIambassador rti) {
+        return get_is_subscribed(getInstanceHlaClassName(), rti);
+    }
+
 
     private static void set_is_subscribed(String hlaClassName, boolean subscribeStatus) {
         if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
@@ -706,14 +814,22 @@ public class InteractionRoot implements InteractionRootInterface {
     //-------------------------------------
     // CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //-------------------------------------
-    protected static final HashMap<String, Boolean> _classNameSoftSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSoftSubscribeStatusMap = new ConcurrentHashMap<>();
 
     //------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
     //------------------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has soft-subscribed to the class (see
+     * {@link #get_is_soft_subscribed(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_soft_subscribed(String hlaClassName) {
         if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -729,6 +845,24 @@ public class InteractionRoot implements InteractionRootInterface {
         return get_is_soft_subscribed(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_soft_subscribed(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the soft-subscribe-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_soft_subscribed(String hlaClassName, RTIambassador rti) {
+        if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isSoftSubscribed(hlaClassName);
+    }
+
+    public Boolean getIsSoftSubscribed(RTIambassador rti) {
+        return get_is_soft_subscribed(getInstanceHlaClassName(), rti);
+    }
+
 
     private static void set_is_soft_subscribed(String hlaClassName, boolean softSubscribeStatus) {
         if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
@@ -751,14 +885,51 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new ConcurrentHashMap<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME-PROPERTY-NAME PROPERTY-HANDLE MAP
     //--------------------------------------------------------------
 
+    //----------------------------------------------------------------------------------
+    // CLASS-NAME PROPERTY-NAME RESOLUTION INDEX
+    //
+    // FOR EACH CLASS, MAPS THE NAME OF EACH OF ITS PROPERTIES (INCLUDING INHERITED ONES) TO
+    // THE ClassAndPropertyName OF THE MOST-DERIVED CLASS THAT DEFINES IT, I.E. WHAT
+    // findProperty RETURNS.
+    //
+    // POPULATED BY commonInit, WHICH IS CALLED FOR EACH CLASS BY:
+    // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
+    // - readFederateDynamicMessageClasses
+    //----------------------------------------------------------------------------------
+    private static final Map<String, Map<String, ClassAndPropertyName>> _classNamePropertyNameResolutionMap =
+      new ConcurrentHashMap<>();
+
+    private static void index_class_properties(String hlaClassName) {
+        Map<String, ClassAndPropertyName> propertyNameResolutionMap = new HashMap<>();
+        Set<ClassAndPropertyName> allClassAndPropertyNameSet =
+          _allClassNamePropertyNameSetMap.getOrDefault(hlaClassName, Collections.emptySet());
+        for(ClassAndPropertyName classAndPropertyName: allClassAndPropertyNameSet) {
+            ClassAndPropertyName canonicalClassAndPropertyName = classAndPropertyName.intern();
+            propertyNameResolutionMap.merge(
+              classAndPropertyName.getPropertyName(),
+              canonicalClassAndPropertyName,
+              (existing, candidate) ->
+                candidate.getClassName().length() > existing.getClassName().length() ? candidate : existing
+            );
+        }
+        _classNamePropertyNameResolutionMap.put(hlaClassName, propertyNameResolutionMap);
+    }
+
     public static ClassAndPropertyName findProperty(String className, String propertyName) {
 
+        Map<String, ClassAndPropertyName> propertyNameResolutionMap =
+          _classNamePropertyNameResolutionMap.get(className);
+        if (propertyNameResolutionMap != null) {
+            return propertyNameResolutionMap.get(propertyName);
+        }
+
+        // className IS NOT A LOADED CLASS -- SEARCH ITS ANCESTORS
         List<String> classNameComponents = new ArrayList<>(Arrays.asList(className.split("\\.")));
 
         while(!classNameComponents.isEmpty()) {
@@ -796,22 +967,12 @@ public class InteractionRoot implements InteractionRootInterface {
 
         return _classAndPropertyNameHandleMap.get(key);
     }
-    private SuppliedParameters createSuppliedParameters() {
+    private SuppliedParameters createSuppliedParameters(PropertyCodec propertyCodec) {
         SuppliedParameters suppliedParameters = _rtiFactory.createSuppliedParameters();
         for(ClassAndPropertyName classAndPropertyName: classAndPropertyNameValueMap.keySet()) {
             int handle = _classAndPropertyNameHandleMap.get(classAndPropertyName);
             Object value = classAndPropertyNameValueMap.get(classAndPropertyName);
-            String stringValue;
-            if (value instanceof Boolean) {
-                stringValue = (Boolean)value ? "1" : "0";
-            } else if (value instanceof Character) {
-                stringValue = String.valueOf((short) ((Character) value).charValue());
-            } else if (value instanceof JsonNode) {
-                stringValue = ((JsonNode)value).toPrettyString();
-            } else {
-                stringValue = value.toString();
-            }
-            byte[] byteArrayValue = stringValue.getBytes();
+            byte[] byteArrayValue = propertyCodec.encode(value);
             suppliedParameters.add(handle, byteArrayValue);
         }
         return suppliedParameters;
@@ -827,7 +988,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new HashMap<>();
+    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new ConcurrentHashMap<>();
 
     //-------------------------------------------------------------
     // METHODS THAT USE PROPERTY-HANDLE CLASS-AND-PROPERTY-NAME MAP
@@ -918,7 +1079,8 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (Boolean.TRUE.equals(get_is_published(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (federatePubSubRegistry.isPublished(hlaClassName)) {
             return;
         }
 
@@ -944,6 +1106,7 @@ public class InteractionRoot implements InteractionRootInterface {
 
         logger.debug("publish: {}", hlaClassName);
 
+        federatePubSubRegistry.setPublished(hlaClassName, true);
         set_is_published(hlaClassName, true);
     }
 
@@ -954,7 +1117,8 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (Boolean.TRUE.equals(get_is_subscribed(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (federatePubSubRegistry.isSubscribed(hlaClassName)) {
             return;
         }
 
@@ -980,6 +1144,7 @@ public class InteractionRoot implements InteractionRootInterface {
 
         logger.debug("subscribe: {}", hlaClassName);
 
+        federatePubSubRegistry.setSubscribed(hlaClassName, true);
         set_is_subscribed(hlaClassName, true);
     }
 
@@ -989,6 +1154,7 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
+        FederatePubSubRegistry.get(rti).setSoftSubscribed(hlaClassName, true);
         set_is_soft_subscribed(hlaClassName, true);
     }
 
@@ -999,7 +1165,8 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (Boolean.FALSE.equals(get_is_published(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (!federatePubSubRegistry.isPublished(hlaClassName)) {
             return;
         }
 
@@ -1028,7 +1195,8 @@ public class InteractionRoot implements InteractionRootInterface {
 
         logger.debug("unpublish: {}", hlaClassName);
 
-        set_is_published(hlaClassName, false);
+        federatePubSubRegistry.setPublished(hlaClassName, false);
+        set_is_published(hlaClassName, FederatePubSubRegistry.is_published_by_any(hlaClassName));
     }
 
     public static void unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
@@ -1038,7 +1206,8 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (Boolean.FALSE.equals(get_is_subscribed(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (!federatePubSubRegistry.isSubscribed(hlaClassName)) {
             return;
         }
 
@@ -1067,7 +1236,8 @@ public class InteractionRoot implements InteractionRootInterface {
 
         logger.debug("unsubscribe: {}", hlaClassName);
 
-        set_is_subscribed(hlaClassName, false);
+        federatePubSubRegistry.setSubscribed(hlaClassName, false);
+        set_is_subscribed(hlaClassName, FederatePubSubRegistry.is_subscribed_by_any(hlaClassName));
     }
 
     public static void soft_unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
@@ -1076,7 +1246,44 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        set_is_soft_subscribed(hlaClassName, false);
+        FederatePubSubRegistry.get(rti).setSoftSubscribed(hlaClassName, false);
+        set_is_soft_subscribed(hlaClassName, FederatePubSubRegistry.is_soft_subscribed_by_any(hlaClassName));
+    }
+
+    //----------------------------------------------------------------------------------
+    // PROPERTY CODEC
+    //
+    // ENCODES PARAMETER VALUES TO, AND DECODES THEM FROM, THE BYTE-ARRAYS USED BY THE RTI.
+    // ALL FEDERATES IN A FEDERATION MUST USE THE SAME CODEC.
+    //
+    // A FEDERATE SETS ITS OWN CODEC IN ITS FederatePubSubRegistry, SO THAT FEDERATES IN ONE
+    // JVM CAN USE DIFFERENT CODECS.  THE CODEC BELOW IS USED FOR A FEDERATE THAT HAS NOT SET
+    // ONE, AND BY THE METHODS THAT ARE NOT GIVEN THE FEDERATE'S RTIambassador.
+    //----------------------------------------------------------------------------------
+    private static PropertyCodec _propertyCodec = StringPropertyCodec.INSTANCE;
+
+    public static PropertyCodec get_property_codec() {
+        return _propertyCodec;
+    }
+
+    /**
+     * @param rti the federate's RTIambassador
+     * @return the codec of the federate that uses rti, or {@link #get_property_codec()} if it has not set one
+     */
+    public static PropertyCodec get_property_codec(RTIambassador rti) {
+        return get_property_codec_or_default(FederatePubSubRegistry.get(rti).getPropertyCodec());
+    }
+
+    private static PropertyCodec get_property_codec_or_default(PropertyCodec propertyCodec) {
+        return propertyCodec == null ? _propertyCodec : propertyCodec;
+    }
+
+    public static void set_property_codec(PropertyCodec propertyCodec) {
+        if (propertyCodec == null) {
+            logger.warn("set_property_codec: cannot set property codec to null -- ignoring");
+            return;
+        }
+        _propertyCodec = propertyCodec;
     }
 
     //-------------------------------------------
@@ -1092,6 +1299,14 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     private static Object getValueForClassAndPropertyName(ClassAndPropertyName classAndPropertyName, Object value) {
+        return getValueForClassAndPropertyName(
+          classAndPropertyName, _classAndPropertyNameInitialValueMap.get(classAndPropertyName), value
+        );
+    }
+
+    private static Object getValueForClassAndPropertyName(
+      ClassAndPropertyName classAndPropertyName, Object initialValueForType, Object value
+    ) {
         String hlaClassName = classAndPropertyName.getClassName();
         String propertyName = classAndPropertyName.getPropertyName();
 
@@ -1103,7 +1318,6 @@ public class InteractionRoot implements InteractionRootInterface {
             );
             return null;
         }
-        Object initialValueForType = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
 
         // IF value IS A STRING, AND THE TYPE OF THE PARAMETER IS A NUMBER-TYPE, TRY TO SEE IF THE
         // STRING CAN BE CONVERTED TO A NUMBER.
@@ -1220,6 +1434,7 @@ public class InteractionRoot implements InteractionRootInterface {
         Object newValue = classAndPropertyNameAndValue.getValue();
 
         classAndPropertyNameValueMap.put(classAndPropertyName, newValue);
+        invalidateSortKey();
     }
 
     public void setParameter(ClassAndPropertyName classAndPropertyName, Object value) {
@@ -1642,6 +1857,7 @@ public class InteractionRoot implements InteractionRootInterface {
      */
     public void setTime( double time ) {
         _time = time;
+        invalidateSortKey();
     }
 
     /**
@@ -1659,6 +1875,83 @@ public class InteractionRoot implements InteractionRootInterface {
     // END TIME SET/GET
     //-----------------
 
+    //---------------------------------------------------------------------------------
+    // SORT KEY
+    //
+    // CACHED SO THAT InteractionRootComparator DOES NOT HAVE TO CHECK THE INSTANCE'S
+    // CLASS AND LOOK UP ITS GENERATION-TIME PARAMETER ON EVERY COMPARISON.  THE KEY IS
+    // TAKEN WHEN THE INTERACTION IS ENQUEUED (OR WHEN IT IS FIRST COMPARED), AND IS
+    // RETAKEN IF THE TIMESTAMP OR A PARAMETER IS SET AFTERWARDS.  THE GENERATION-TIME
+    // PARAMETER IS SET BY InteractionRootComparator, AS THIS CLASS DOES NOT KNOW THE
+    // INTERACTION CLASSES DERIVED FROM IT.
+    //---------------------------------------------------------------------------------
+    private static volatile ClassAndPropertyName _sortKeyGenerationTimeClassAndPropertyName = null;
+
+    /**
+     * Sets the parameter whose value {@link #updateSortKey()} caches as the generation time of
+     * interactions of the parameter's class, or of a class derived from it.
+     *
+     * @param hlaClassName fully-qualified name of the interaction class that defines the parameter
+     * @param propertyName name of the parameter
+     */
+    public static void set_sort_key_generation_time_parameter(String hlaClassName, String propertyName) {
+        _sortKeyGenerationTimeClassAndPropertyName = ClassAndPropertyName.get(hlaClassName, propertyName);
+    }
+
+    private boolean _sortKeyValid = false;
+    private double _sortKeyTime;
+    private boolean _sortKeyHasGenerationTime;
+    private double _sortKeyGenerationTime;
+
+    /**
+     * Caches the values that InteractionRootComparator sorts interactions by:
+     * the timestamp, the generation time (see {@link #set_sort_key_generation_time_parameter(String, String)})
+     * and the unique id.
+     */
+    public void updateSortKey() {
+        _sortKeyTime = _time;
+        ClassAndPropertyName generationTimeClassAndPropertyName = _sortKeyGenerationTimeClassAndPropertyName;
+        Object generationTime = generationTimeClassAndPropertyName != null &&
+          isInstanceHlaClassDerivedFromHlaClass(generationTimeClassAndPropertyName.getClassName()) ?
+            classAndPropertyNameValueMap.get(generationTimeClassAndPropertyName) : null;
+        _sortKeyHasGenerationTime = generationTime instanceof Number;
+        _sortKeyGenerationTime = _sortKeyHasGenerationTime ? ((Number)generationTime).doubleValue() : 0;
+        _sortKeyValid = true;
+    }
+
+    /**
+     * Makes the sort key be retaken the next time it is used.  Called whenever the timestamp or
+     * a parameter of this interaction is set.
+     */
+    protected void invalidateSortKey() {
+        _sortKeyValid = false;
+    }
+
+    private void ensureSortKey() {
+        if (!_sortKeyValid) {
+            updateSortKey();
+        }
+    }
+
+    public double getSortKeyTime() {
+        ensureSortKey();
+        return _sortKeyTime;
+    }
+
+    public boolean getSortKeyHasGenerationTime() {
+        ensureSortKey();
+        return _sortKeyHasGenerationTime;
+    }
+
+    public double getSortKeyGenerationTime() {
+        ensureSortKey();
+        return _sortKeyGenerationTime;
+    }
+
+    //-------------
+    // END SORT KEY
+    //-------------
+
     //------------------------------------------
     // CLASS-AND-PROPERTY-NAME INITIAL-VALUE MAP
     //
@@ -1667,7 +1960,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // - fromJson()
     // - readFederateDynamicMessageClasses(Reader reader) BELOW
     //------------------------------------------
-    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new ConcurrentHashMap<>();
 
     //-------------
     // CONSTRUCTORS
@@ -1740,6 +2033,7 @@ public class InteractionRoot implements InteractionRootInterface {
                         key, messagingRoot.classAndPropertyNameValueMap.get(key));
                 }
             }
+            invalidateSortKey();
         }
     }
 
@@ -1752,10 +2046,21 @@ public class InteractionRoot implements InteractionRootInterface {
      * this interaction
      */
     public void setParameters( ReceivedInteraction propertyMap ) {
+        setParameters( propertyMap, _propertyCodec );
+    }
+
+    /**
+     * Like {@link #setParameters(ReceivedInteraction)}, but the parameter values are decoded with
+     * "propertyCodec".
+     *
+     * @param propertyMap received parameter values
+     * @param propertyCodec codec with which the values were encoded
+     */
+    public void setParameters( ReceivedInteraction propertyMap, PropertyCodec propertyCodec ) {
         int size = propertyMap.size();
         for( int ix = 0 ; ix < size ; ++ix ) {
             try {
-                setParameter(  propertyMap.getParameterHandle( ix ), propertyMap.getValue( ix )  );
+                setParameter(  propertyMap.getParameterHandle( ix ), propertyMap.getValue( ix ), propertyCodec  );
             } catch ( Exception e ) {
                 logger.error( "setParameters: Exception caught!" );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
@@ -1763,16 +2068,33 @@ public class InteractionRoot implements InteractionRootInterface {
         }
     }
 
-    private void setParameter( int handle, byte[] value ) {
+    private void setParameter( int handle, byte[] value, PropertyCodec propertyCodec ) {
         if ( value == null ) {
             logger.error( "set:  Attempt to set null value  class \"{}\"", getClass().getName());
             return;
         }
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+        ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(handle);
+        if (classAndPropertyName == null) {
+            logger.error("setParameter(int, byte[] value): propertyHandle {} does not exist.", handle);
+            return;
+        }
+        Object initialValueForType = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+        Object decodedValue = propertyCodec.decode(value, initialValueForType);
+        if (decodedValue == null) {
+            logger.error(
+              "setParameter(int, byte[] value): could not decode value of parameter \"{}\" with \"{}\" encoding",
+              classAndPropertyName, propertyCodec.getEncodingName()
+            );
+            return;
+        }
+        Object newValue = getValueForClassAndPropertyName(classAndPropertyName, initialValueForType, decodedValue);
+        if (newValue == null) {
+            return;
         }
-        setParameter(handle, valueAsString);
+
+        // classAndPropertyName IS ALREADY RESOLVED BY THE HANDLE, SO THE VALUE IS STORED UNDER IT DIRECTLY
+        classAndPropertyNameValueMap.put(classAndPropertyName, newValue);
+        invalidateSortKey();
     }
 
     /**
@@ -1789,7 +2111,7 @@ public class InteractionRoot implements InteractionRootInterface {
     public void sendInteraction( RTIambassador rti, double time ) throws Exception {
         synchronized( rti ) {
             try {
-                SuppliedParameters suppliedParameters = createSuppliedParameters();
+                SuppliedParameters suppliedParameters = createSuppliedParameters( get_property_codec( rti ) );
                 if (suppliedParameters.size() == 0) {
                     return;
                 }
@@ -1812,7 +2134,7 @@ public class InteractionRoot implements InteractionRootInterface {
     public void sendInteraction( RTIambassador rti ) throws Exception {
         synchronized( rti ) {
             try {
-                SuppliedParameters suppliedParameters = createSuppliedParameters();
+                SuppliedParameters suppliedParameters = createSuppliedParameters( get_property_codec( rti ) );
                 if (suppliedParameters.size() == 0) {
                     return;
                 }
@@ -1824,6 +2146,131 @@ public class InteractionRoot implements InteractionRootInterface {
         }
     }
 
+    /**
+     * Sends this interaction's parameter values as an interaction of each of the classes whose
+     * handles are in "classHandleList".  The parameter values are encoded only once, so each of
+     * these classes should have the same parameters as this interaction's class, e.g. be derived
+     * from it without declaring parameters of its own.
+     *
+     * @param rti handle to the RTI, usu. obtained through the
+     * {@link SynchronizedFederate#getRTI()} call
+     * @param classHandleList handles (RTI assigned) of the interaction classes as which to send this interaction
+     * @param time timestamp for the interactions, or a negative value to send them without a timestamp
+     */
+    public void sendInteraction( RTIambassador rti, List<Integer> classHandleList, double time ) throws Exception {
+        if (classHandleList.isEmpty()) {
+            return;
+        }
+        synchronized( rti ) {
+            SuppliedParameters suppliedParameters = createSuppliedParameters( get_property_codec( rti ) );
+            if (suppliedParameters.size() == 0) {
+                return;
+            }
+            for(int classHandle : classHandleList) {
+                try {
+                    if (time >= 0) {
+                        rti.sendInteraction( classHandle, suppliedParameters, null, new DoubleTime( time ) );
+                    } else {
+                        rti.sendInteraction( classHandle, suppliedParameters, null );
+                    }
+                } catch ( Exception e ) {
+                    logger.error(
+                      "{}:  could not send interaction as class with handle {}", getClass().getName(), classHandle
+                    );
+                    logger.error("{}", CpswtUtils.getStackTrace(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Like {@link #sendInteraction(RTIambassador, double)}, but the interaction is sent by the
+     * given {@link RTIExecutor}, so this method does not wait for the RTI.  The parameter values
+     * are encoded before this method returns, so the interaction may be changed afterwards.
+     *
+     * @param rtiExecutor executor through which to send the interaction
+     * @param time timestamp for this interaction
+     */
+    public void sendInteraction( RTIExecutor rtiExecutor, double time ) {
+        sendInteraction( rtiExecutor, Collections.singletonList( getClassHandle() ), time );
+    }
+
+    /**
+     * Like {@link #sendInteraction(RTIambassador)}, but the interaction is sent by the
+     * given {@link RTIExecutor}, so this method does not wait for the RTI.
+     *
+     * @param rtiExecutor executor through which to send the interaction
+     */
+    public void sendInteraction( RTIExecutor rtiExecutor ) {
+        sendInteraction( rtiExecutor, Collections.singletonList( getClassHandle() ), -1 );
+    }
+
+    /**
+     * Like {@link #sendInteraction(RTIambassador, List, double)}, but the interactions are sent
+     * by the given {@link RTIExecutor}, so this method does not wait for the RTI.
+     *
+     * @param rtiExecutor executor through which to send the interactions
+     * @param classHandleList handles (RTI assigned) of the interaction classes as which to send this interaction
+     * @param time timestamp for the interactions, or a negative value to send them without a timestamp
+     */
+    public void sendInteraction( RTIExecutor rtiExecutor, List<Integer> classHandleList, double time ) {
+        if (classHandleList.isEmpty()) {
+            return;
+        }
+        SuppliedParameters suppliedParameters = createSuppliedParameters( get_property_codec( rtiExecutor.getRTI() ) );
+        if (suppliedParameters.size() == 0) {
+            return;
+        }
+        String className = getClass().getName();
+        rtiExecutor.execute(rti -> {
+            for(int classHandle : classHandleList) {
+                try {
+                    if (time >= 0) {
+                        rti.sendInteraction( classHandle, suppliedParameters, null, new DoubleTime( time ) );
+                    } else {
+                        rti.sendInteraction( classHandle, suppliedParameters, null );
+                    }
+                } catch ( Exception e ) {
+                    logger.error( "{}:  could not send interaction as class with handle {}", className, classHandle );
+                    logger.error("{}", CpswtUtils.getStackTrace(e));
+                }
+            }
+        });
+    }
+
+    /**
+     * Like {@link #sendInteraction(RTIambassador, List, double)}, but the interactions are added to
+     * the given {@link OutboundStepBatch}, and are sent to the RTI when the batch is flushed.  The
+     * parameter values are encoded before this method returns, so the interaction may be changed
+     * afterwards.
+     *
+     * @param outboundStepBatch batch to which to add the interactions
+     * @param classHandleList handles (RTI assigned) of the interaction classes as which to send this interaction
+     * @param time timestamp for the interactions, or a negative value to send them without a timestamp
+     */
+    public void sendInteraction( OutboundStepBatch outboundStepBatch, List<Integer> classHandleList, double time ) {
+        if (classHandleList.isEmpty()) {
+            return;
+        }
+        SuppliedParameters suppliedParameters =
+          createSuppliedParameters( get_property_codec_or_default( outboundStepBatch.getPropertyCodec() ) );
+        if (suppliedParameters.size() == 0) {
+            return;
+        }
+        outboundStepBatch.addInteraction( classHandleList, suppliedParameters, time, getClass().getName() );
+    }
+
+    /**
+     * Like {@link #sendInteraction(RTIambassador, double)}, but the interaction is added to the
+     * given {@link OutboundStepBatch}, and is sent to the RTI when the batch is flushed.
+     *
+     * @param outboundStepBatch batch to which to add the interaction
+     * @param time timestamp for this interaction, or a negative value to send it without a timestamp
+     */
+    public void sendInteraction( OutboundStepBatch outboundStepBatch, double time ) {
+        sendInteraction( outboundStepBatch, Collections.singletonList( getClassHandle() ), time );
+    }
+
     protected static String fedName = null;
     public static Boolean enablePubLog = false;
     public static Boolean enableSubLog = false;
@@ -2020,60 +2467,188 @@ public class InteractionRoot implements InteractionRootInterface {
     //-------------------------------------------------------------------
 
     public String toJson() {
-        ObjectNode topLevelJSONObject = objectMapper.createObjectNode();
-        topLevelJSONObject.put("messaging_type", "interaction");
-        topLevelJSONObject.put("messaging_name", getInstanceHlaClassName());
-
-        ObjectNode propertyJSONObject = objectMapper.createObjectNode();
-        topLevelJSONObject.set("properties", propertyJSONObject);
-        for(Map.Entry<ClassAndPropertyName, Object> entry : classAndPropertyNameValueMap.entrySet()) {
-            String key = entry.getKey().toString();
-            Object value = entry.getValue();
-
-            if (value instanceof JsonNode) {
-                propertyJSONObject.set(key, (JsonNode)value);
-            } else if (value instanceof Character) {
-                int intValue = (int)(char)value;
-                propertyJSONObject.put(key, intValue);
-            } else {
-                propertyJSONObject.putPOJO(key, value);
+        return MessagingJsonCodec.write(jsonGenerator -> {
+            jsonGenerator.writeStringField("messaging_type", "interaction");
+            jsonGenerator.writeStringField("messaging_name", getInstanceHlaClassName());
+
+            jsonGenerator.writeObjectFieldStart("properties");
+            for(Map.Entry<ClassAndPropertyName, Object> entry : classAndPropertyNameValueMap.entrySet()) {
+                MessagingJsonCodec.write_property(jsonGenerator, entry.getKey().toString(), entry.getValue());
             }
-        }
+            jsonGenerator.writeEndObject();
+        });
+    }
+
+    private static void readProperties(JsonParser jsonParser, InteractionRoot interactionRoot) throws IOException {
+        while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = jsonParser.getCurrentName();
+            jsonParser.nextToken();
 
-        return topLevelJSONObject.toPrettyString();
+            ClassAndPropertyName classAndPropertyName = ClassAndPropertyName.find(key);
+            Object initialValue = classAndPropertyName == null ?
+              null : _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+            if (initialValue == null) {
+                logger.error("InteractionRoot:  fromJson(String):  no such parameter \"{}\"", key);
+                jsonParser.skipChildren();
+                continue;
+            }
+
+            Object object = MessagingJsonCodec.read_value(jsonParser, initialValue.getClass());
+            interactionRoot.classAndPropertyNameValueMap.put(classAndPropertyName, object);
+        }
     }
 
     public static InteractionRoot fromJson(String jsonString) {
-        ObjectNode jsonObject;
-        try {
-            jsonObject = (ObjectNode)objectMapper.readTree(jsonString);
-        } catch (JsonProcessingException jsonProcessingException) {
-            logger.error("Exception parsing JSON for interaction: ", jsonProcessingException);
+        InteractionRoot interactionRoot = null;
+        JsonNode deferredPropertyJSONObject = null;
+        try (JsonParser jsonParser = MessagingJsonCodec.create_parser(jsonString)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                logger.error("InteractionRoot:  fromJson(String):  JSON for interaction is not a JSON object");
+                return null;
+            }
+            while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                switch(fieldName) {
+                    case "messaging_name" -> {
+                        String className = jsonParser.getText();
+                        interactionRoot = create_interaction(className);
+                        if (interactionRoot == null) {
+                            logger.error(
+                              "InteractionRoot:  fromJson(String):  no such interaction class \"{}\"", className
+                            );
+                            return null;
+                        }
+                    }
+                    case "properties" -> {
+                        // PROPERTIES CAN ONLY BE DECODED ONCE THE CLASS IS KNOWN
+                        if (interactionRoot == null) {
+                            deferredPropertyJSONObject = jsonParser.readValueAsTree();
+                        } else {
+                            readProperties(jsonParser, interactionRoot);
+                        }
+                    }
+                    default -> jsonParser.skipChildren();
+                }
+            }
+
+            if (interactionRoot == null) {
+                logger.error("InteractionRoot:  fromJson(String):  JSON for interaction has no \"messaging_name\"");
+                return null;
+            }
+            if (deferredPropertyJSONObject != null) {
+                try (JsonParser propertyJsonParser = MessagingJsonCodec.create_parser(deferredPropertyJSONObject)) {
+                    readProperties(propertyJsonParser, interactionRoot);
+                }
+            }
+        } catch (IOException ioException) {
+            logger.error("Exception parsing JSON for interaction: ", ioException);
             return null;
         }
 
-        String className = jsonObject.get("messaging_name").asText();
-        InteractionRoot interactionRoot = create_interaction(className);
-        if (interactionRoot == null) {
-            logger.error("InteractionRoot:  fromJson(String):  no such interaction class \"{}\"", className);
+        return interactionRoot;
+    }
+
+    //----------------------------------------------------------------------------------
+    // CLASS-NAME PARAMETER-SLOT-LAYOUT MAP
+    //
+    // THE SLOT LAYOUT OF A CLASS ASSIGNS EACH OF ITS PARAMETERS (INCLUDING INHERITED ONES) A
+    // NUMBER THAT IDENTIFIES IT IN BINARY PAYLOADS.  IT IS COMPUTED ON FIRST USE.
+    //----------------------------------------------------------------------------------
+    private static final Map<String, PropertySlotLayout<ClassAndPropertyName>> _classNameParameterSlotLayoutMap =
+      new ConcurrentHashMap<>();
+
+    /**
+     * @param hlaClassName name of an interaction class
+     * @return the slot layout of the parameters of the class, or null if the class is not defined
+     */
+    public static PropertySlotLayout<ClassAndPropertyName> get_parameter_slot_layout(String hlaClassName) {
+        PropertySlotLayout<ClassAndPropertyName> parameterSlotLayout =
+          _classNameParameterSlotLayoutMap.get(hlaClassName);
+        if (parameterSlotLayout != null) {
+            return parameterSlotLayout;
+        }
+
+        Set<ClassAndPropertyName> allClassAndPropertyNameSet = _allClassNamePropertyNameSetMap.get(hlaClassName);
+        return allClassAndPropertyNameSet == null ? null : _classNameParameterSlotLayoutMap.computeIfAbsent(
+          hlaClassName, k -> new PropertySlotLayout<>(allClassAndPropertyNameSet)
+        );
+    }
+
+    /**
+     * Returns the binary payload of this interaction (see {@link MessagingBinaryCodec}).
+     *
+     * @return the binary payload, or null if the class of this interaction is not defined
+     */
+    public String toBinary() {
+        PropertySlotLayout<ClassAndPropertyName> parameterSlotLayout =
+          get_parameter_slot_layout(getInstanceHlaClassName());
+        if (parameterSlotLayout == null) {
+            logger.error(
+              "InteractionRoot:  toBinary():  no such interaction class \"{}\"", getInstanceHlaClassName()
+            );
             return null;
         }
 
-        ObjectNode propertyJSONObject = (ObjectNode)jsonObject.get("properties");
-        Iterator<String> keyIterator = propertyJSONObject.fieldNames();
-        while(keyIterator.hasNext()) {
-            String key = keyIterator.next();
-            ClassAndPropertyName classAndPropertyName = new ClassAndPropertyName(key);
+        return MessagingBinaryCodec.write(MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE, writer -> {
+            writer.writeString(getInstanceHlaClassName());
+            writer.writePropertySlotLayout(parameterSlotLayout);
+            for(Map.Entry<ClassAndPropertyName, Object> entry : classAndPropertyNameValueMap.entrySet()) {
+                int slot = parameterSlotLayout.getSlot(entry.getKey());
+                if (slot >= 0) {
+                    writer.writeProperty(slot, entry.getValue());
+                }
+            }
+        });
+    }
 
-            Class<?> desiredType = _classAndPropertyNameInitialValueMap.get(classAndPropertyName).getClass();
-            Object object = castJsonToType(propertyJSONObject.get(key), desiredType);
-            interactionRoot.classAndPropertyNameValueMap.put(classAndPropertyName, object);
+    public static InteractionRoot fromBinary(String payload) {
+        MessagingBinaryCodec.Reader reader =
+          MessagingBinaryCodec.create_reader(payload, MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE);
+        if (reader == null) {
+            return null;
         }
 
-        return interactionRoot;
+        try {
+            String className = reader.readString();
+            InteractionRoot interactionRoot = create_interaction(className);
+            if (interactionRoot == null) {
+                logger.error("InteractionRoot:  fromBinary(String):  no such interaction class \"{}\"", className);
+                return null;
+            }
+
+            PropertySlotLayout<ClassAndPropertyName> parameterSlotLayout = get_parameter_slot_layout(className);
+            if (parameterSlotLayout == null || !reader.readPropertySlotLayout(parameterSlotLayout)) {
+                logger.error(
+                  "InteractionRoot:  fromBinary(String):  parameters of interaction class \"{}\" are not " +
+                    "defined as in the sending federate", className
+                );
+                return null;
+            }
+
+            while(reader.hasMoreProperties()) {
+                int slot = reader.readPropertySlot();
+                if (slot < 0 || slot >= parameterSlotLayout.size()) {
+                    logger.error("InteractionRoot:  fromBinary(String):  no parameter in slot {}", slot);
+                    reader.skipPropertyValue();
+                    continue;
+                }
+                ClassAndPropertyName classAndPropertyName = parameterSlotLayout.getKey(slot);
+                Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+                Object value = reader.readPropertyValue(initialValue);
+                if (value != null) {
+                    interactionRoot.classAndPropertyNameValueMap.put(classAndPropertyName, value);
+                }
+            }
+            return interactionRoot;
+
+        } catch (BufferUnderflowException bufferUnderflowException) {
+            logger.error("InteractionRoot:  fromBinary(String):  binary payload is truncated");
+        }
+        return null;
     }
 
-    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new HashMap<>();
+    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new ConcurrentHashMap<>();
 
     public static void add_federate_name_soft_publish(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -2084,40 +2659,78 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (!_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishSetMap.put(hlaClassName, new HashSet<>());
-        }
-        _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName).add(federateName);
+        _hlaClassNameToFederateNameSoftPublishSetMap.computeIfAbsent(hlaClassName, k -> ConcurrentHashMap.newKeySet()).add(federateName);
     }
 
     public void addFederateNameSoftPublish(String federateName) {
         add_federate_name_soft_publish(getInstanceHlaClassName(), federateName);
     }
 
-    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            Set<String> federateNameSoftPublishSet =
-              _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
-            federateNameSoftPublishSet.remove(federateName);
-            if (federateNameSoftPublishSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
-            }
+    /**
+     * Like {@link #add_federate_name_soft_publish(String, String)}, but only for the federate that
+     * uses rti:  other federates in this JVM do not soft-publish the class to federateName.
+     *
+     * @param hlaClassName name of the class
+     * @param federateName name of the federate to which to soft-publish the class
+     * @param rti the soft-publishing federate's RTIambassador
+     */
+    public static void add_federate_name_soft_publish(String hlaClassName, String federateName, RTIambassador rti) {
+        if (!_classNameHandleMap.containsKey(hlaClassName)) {
+            logger.warn(
+              "add_federate_name_soft_publish(\"{}\", \"{}\", rti) -- no such interaction class \"{}\"",
+              hlaClassName, federateName, hlaClassName
+            );
+            return;
         }
+
+        FederatePubSubRegistry.get(rti).addFederateNameSoftPublish(hlaClassName, federateName);
+    }
+
+    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
+        // REMOVE THE SET ATOMICALLY WHEN IT BECOMES EMPTY
+        _hlaClassNameToFederateNameSoftPublishSetMap.computeIfPresent(hlaClassName, (k, federateNameSet) -> {
+            federateNameSet.remove(federateName);
+            return federateNameSet.isEmpty() ? null : federateNameSet;
+        });
     }
 
     public void removeFederateNameSoftPublish(String federateName) {
         remove_federate_name_soft_publish(getInstanceHlaClassName(), federateName);
     }
 
+    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName, RTIambassador rti) {
+        FederatePubSubRegistry.get(rti).removeFederateNameSoftPublish(hlaClassName, federateName);
+    }
+
     public Set<String> get_federate_name_soft_publish_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName) ?
-          new HashSet<>(_hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName)) : new HashSet<>();
+        return new HashSet<>(
+          _hlaClassNameToFederateNameSoftPublishSetMap.getOrDefault(hlaClassName, Collections.emptySet())
+        );
     }
 
     public Set<String> getFederateNameSoftPublishSet() {
         return get_federate_name_soft_publish_set(getInstanceHlaClassName());
     }
 
+    /**
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the names of the federates to which the federate that uses rti soft-publishes the class:
+     * those added for every federate in this JVM, and those added for this federate only
+     */
+    public static Set<String> get_federate_name_soft_publish_set(String hlaClassName, RTIambassador rti) {
+        return FederatePubSubRegistry.get(rti).addFederateNameSoftPublishSet(
+          hlaClassName,
+          new HashSet<>(
+            _hlaClassNameToFederateNameSoftPublishSetMap.getOrDefault(hlaClassName, Collections.emptySet())
+          )
+        );
+    }
+
+    public Set<String> getFederateNameSoftPublishSet(RTIambassador rti) {
+        return get_federate_name_soft_publish_set(getInstanceHlaClassName(), rti);
+    }
+
     private static ObjectNode federationJson = null;
 
     public static void readFederationJson(File federationJsonFile) {
@@ -2138,7 +2751,7 @@ public class InteractionRoot implements InteractionRootInterface {
         federationJson = (ObjectNode)objectMapper.readTree(reader);
     }
 
-    private static final Map<String, Object> _typeInitialValueMap = new HashMap<>();
+    private static final Map<String, Object> _typeInitialValueMap = new ConcurrentHashMap<>();
     static {
         _typeInitialValueMap.put("boolean", false);
         _typeInitialValueMap.put("byte", (byte)0);
@@ -2220,13 +2833,20 @@ public class InteractionRoot implements InteractionRootInterface {
             Iterator<String> fieldNameIterator = messagingPropertyDataMap.fieldNames();
             while(fieldNameIterator.hasNext()) {
                 String propertyName = fieldNameIterator.next();
-                ClassAndPropertyName classAndPropertyName = new ClassAndPropertyName(hlaClassName, propertyName);
+                ClassAndPropertyName classAndPropertyName = ClassAndPropertyName.get(hlaClassName, propertyName);
                 classAndPropertyNameSet.add(classAndPropertyName);
 
                 ObjectNode typeDataMap = (ObjectNode)messagingPropertyDataMap.get(propertyName);
                 if (!typeDataMap.get("Hidden").asBoolean()) {
                     String propertyTypeString = typeDataMap.get("ParameterType").asText();
                     Object initialValue = _typeInitialValueMap.get(propertyTypeString);
+                    if (initialValue == null) {
+                        logger.error(
+                          "readFederateDynamicMessageClasses: unknown type \"{}\" for property \"{}\"",
+                          propertyTypeString, classAndPropertyName
+                        );
+                        continue;
+                    }
                     _classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
                 }
             }
@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import hla.rti.*;
 
 public interface InteractionRootInterface {
@@ -38,21 +39,74 @@ public interface InteractionRootInterface {
     //-----------------------------------------------------------------
     // ClassAndPropertyName CLASS -- USED AS KEY/VALUE FOR MAPS BELOW
     //-----------------------------------------------------------------
-    class ClassAndPropertyName implements Comparable<ClassAndPropertyName> {
+    class ClassAndPropertyName
+      implements Comparable<ClassAndPropertyName>, PropertySlotLayout.SlotCachingKey {
         private static final String separatorChar = ">";
 
+        //-------------------------------------------------------------------------------------
+        // CANONICAL INSTANCES
+        //
+        // ClassAndPropertyName.get RETURNS THE SINGLE CANONICAL INSTANCE FOR A CLASS-NAME AND
+        // PROPERTY-NAME PAIR.  THE KEYS OF A CLASS ARE MADE CANONICAL WHEN THE CLASS IS
+        // REGISTERED, SO THAT MAP LOOKUPS WITH THESE KEYS USUALLY SUCCEED ON IDENTITY ALONE.
+        // NAMES DECODED FROM RECEIVED MESSAGES ARE LOOKED UP WITH find INSTEAD, SO THAT
+        // UNKNOWN NAMES ARE NEVER MADE CANONICAL.
+        //-------------------------------------------------------------------------------------
+        private static final Map<ClassAndPropertyName, ClassAndPropertyName> _canonicalInstanceMap =
+          new ConcurrentHashMap<>();
+
+        public static ClassAndPropertyName get(String className, String propertyName) {
+            return new ClassAndPropertyName(className, propertyName).intern();
+        }
+
+        public static ClassAndPropertyName get(String classAndPropertyNameString) {
+            return new ClassAndPropertyName(classAndPropertyNameString).intern();
+        }
+
+        /**
+         * Like {@link #get(String)}, but does not make a new canonical instance, so that it can be
+         * used for names received from other federates without growing the set of canonical
+         * instances:  returns the canonical instance if there is one, or else a new instance.
+         *
+         * @param classAndPropertyNameString "className>propertyName" string
+         * @return the ClassAndPropertyName, or null if the string has no separator
+         */
+        public static ClassAndPropertyName find(String classAndPropertyNameString) {
+            if (classAndPropertyNameString.indexOf(separatorChar) < 0) {
+                return null;
+            }
+            ClassAndPropertyName classAndPropertyName = new ClassAndPropertyName(classAndPropertyNameString);
+            ClassAndPropertyName canonicalInstance = _canonicalInstanceMap.get(classAndPropertyName);
+            return canonicalInstance == null ? classAndPropertyName : canonicalInstance;
+        }
+
         private final String className;
         private final String propertyName;
+        private final int hashCode;
+
+        // SET BY PropertySlotLayout -- NOT PART OF THE VALUE OF THE KEY.  NOT VOLATILE:  PropertySlotLayout CHECKS
+        // THE SLOT IT COMPUTES FROM THIS VALUE, SO A STALE VALUE ONLY COSTS A HASH LOOKUP
+        private int slotsAfter = -1;
 
         public ClassAndPropertyName(String className, String propertyName) {
             this.className = className;
             this.propertyName = propertyName;
+            this.hashCode = toString().hashCode();
         }
 
         public ClassAndPropertyName(String classAndPropertyNameString) {
             String[] classAndPropertyNameArray = classAndPropertyNameString.split(separatorChar);
             this.className = classAndPropertyNameArray[0];
             this.propertyName = classAndPropertyNameArray[1];
+            this.hashCode = toString().hashCode();
+        }
+
+        /**
+         * @return the canonical instance that is equal to this ClassAndPropertyName
+         */
+        public ClassAndPropertyName intern() {
+            ClassAndPropertyName canonicalInstance = _canonicalInstanceMap.putIfAbsent(this, this);
+            return canonicalInstance == null ? this : canonicalInstance;
         }
 
         public String getClassName() {
@@ -63,19 +117,33 @@ public interface InteractionRootInterface {
             return propertyName;
         }
 
+        @Override
+        public int getCachedSlotsAfter() {
+            return slotsAfter;
+        }
+
+        @Override
+        public void setCachedSlotsAfter(int slotsAfter) {
+            this.slotsAfter = slotsAfter;
+        }
+
         @Override
         public int hashCode() {
-            return toString().hashCode();
+            return hashCode;
         }
 
         @Override
         public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
             if (!(object instanceof ClassAndPropertyName)) {
                 return false;
             }
             ClassAndPropertyName other = (ClassAndPropertyName)object;
 
-            return className.equals(other.className) && propertyName.equals(other.propertyName);
+            return hashCode == other.hashCode &&
+              className.equals(other.className) && propertyName.equals(other.propertyName);
         }
 
         @Override
@@ -0,0 +1,309 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Binary encoding of interactions and objects, an alternative to their JSON encoding
+ * ({@link MessagingJsonCodec}) for the "messagingJson" parameter of EmbeddedMessaging interactions.
+ * <p/>
+ * A binary payload is the {@link #BINARY_MARKER} character, the version of the binary encoding,
+ * a ':', and the base-64 encoding of the following bytes:
+ * <ul>
+ * <li>messaging type:  1 byte, {@link #INTERACTION_MESSAGING_TYPE} or {@link #OBJECT_MESSAGING_TYPE}</li>
+ * <li>header fields, written and read in the same order by the interaction or object class
+ * (Strings as a varint length followed by UTF-8, ints as 4 bytes little-endian)</li>
+ * <li>the fingerprint of the {@link PropertySlotLayout} of the class:  4 bytes little-endian</li>
+ * <li>for each parameter or attribute, up to the end of the payload:  its slot in the layout as a
+ * varint, then the varint length of its value, then the value as encoded by the
+ * {@link BinaryPropertyCodec}</li>
+ * </ul>
+ * Varints are unsigned LEB128, i.e. 7 bits per byte, least significant first.  Properties are
+ * identified by their slot rather than by name:  as slots are assigned in the natural order of the
+ * properties of the class, federates that define the class the same way assign them the same
+ * slots, which the fingerprint lets the receiver check.
+ * <p/>
+ * The payload is base-64 encoded as "messagingJson" is a String parameter, which the property
+ * codecs encode as text, so that arbitrary bytes in it would not survive the round trip.
+ * <p/>
+ * As a JSON payload always starts with '{', a receiver can tell binary and JSON payloads apart,
+ * so a federate that receives binary payloads still accepts JSON payloads.  A federate should only
+ * send binary payloads to federates that have announced that they support its
+ * {@link #BINARY_VERSION} with a FederateCapabilityInteraction.
+ */
+public final class MessagingBinaryCodec {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    public static final String JSON_ENCODING = "json";
+    public static final String BINARY_ENCODING = "binary";
+
+    public static final char BINARY_MARKER = '~';
+    public static final int BINARY_VERSION = 2;
+    private static final String BINARY_PREFIX = BINARY_MARKER + Integer.toString(BINARY_VERSION) + ":";
+
+    public static final byte INTERACTION_MESSAGING_TYPE = 0;
+    public static final byte OBJECT_MESSAGING_TYPE = 1;
+
+    // A BUFFER THAT HAS GROWN LARGER THAN THIS IS NOT KEPT FOR REUSE
+    private static final int MAXIMUM_REUSED_BUFFER_SIZE = 64 * 1024;
+
+    private MessagingBinaryCodec() { }
+
+    /**
+     * Returns true if "payload" is a binary payload (of any version), false if it is (presumably) JSON.
+     *
+     * @param payload value of the "messagingJson" parameter of an EmbeddedMessaging interaction
+     * @return true if "payload" is a binary payload
+     */
+    public static boolean is_binary(String payload) {
+        return payload != null && !payload.isEmpty() && payload.charAt(0) == BINARY_MARKER;
+    }
+
+    /**
+     * Returns true if "encoding" is {@link #JSON_ENCODING} or {@link #BINARY_ENCODING} (ignoring case).
+     *
+     * @param encoding name of an embedded-messaging encoding
+     * @return true if the encoding is known
+     */
+    public static boolean is_known_encoding(String encoding) {
+        return JSON_ENCODING.equalsIgnoreCase(encoding) || BINARY_ENCODING.equalsIgnoreCase(encoding);
+    }
+
+    //------------------------------------------------------------------------------
+    // WRITER -- ONE PER THREAD, REUSED FROM PAYLOAD TO PAYLOAD
+    //------------------------------------------------------------------------------
+    public static final class Writer {
+        private final ByteArrayOutputStream _byteArrayOutputStream = new ByteArrayOutputStream(512);
+        private final ByteBuffer _intByteBuffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Writer() { }
+
+        public void writeInt(int value) {
+            _intByteBuffer.clear();
+            _intByteBuffer.putInt(value);
+            _byteArrayOutputStream.write(_intByteBuffer.array(), 0, Integer.BYTES);
+        }
+
+        private void writeVarInt(int value) {
+            while((value & ~0x7F) != 0) {
+                _byteArrayOutputStream.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            _byteArrayOutputStream.write(value);
+        }
+
+        public void writeString(String value) {
+            byte[] utf8Bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8Bytes.length);
+            _byteArrayOutputStream.write(utf8Bytes, 0, utf8Bytes.length);
+        }
+
+        /**
+         * Writes the fingerprint of the slot layout of the class, which must precede the properties.
+         *
+         * @param propertySlotLayout slot layout of the interaction or object class
+         */
+        public void writePropertySlotLayout(PropertySlotLayout<?> propertySlotLayout) {
+            writeInt(propertySlotLayout.getFingerprint());
+        }
+
+        public void writeProperty(int slot, Object value) {
+            writeVarInt(slot);
+            byte[] valueBytes = BinaryPropertyCodec.INSTANCE.encode(value);
+            writeVarInt(valueBytes.length);
+            _byteArrayOutputStream.write(valueBytes, 0, valueBytes.length);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeContent(Writer writer);
+    }
+
+    private static final ThreadLocal<Writer> _threadLocalWriter = ThreadLocal.withInitial(Writer::new);
+
+    /**
+     * Returns the binary payload of an interaction or object whose header fields and properties
+     * are written by "contentWriter".
+     *
+     * @param messagingType {@link #INTERACTION_MESSAGING_TYPE} or {@link #OBJECT_MESSAGING_TYPE}
+     * @param contentWriter writes the header fields, then the slot layout, and then the properties
+     * @return the binary payload
+     */
+    public static String write(byte messagingType, ContentWriter contentWriter) {
+        Writer writer = _threadLocalWriter.get();
+        ByteArrayOutputStream byteArrayOutputStream = writer._byteArrayOutputStream;
+        byteArrayOutputStream.reset();
+
+        byteArrayOutputStream.write(messagingType);
+        contentWriter.writeContent(writer);
+
+        String payload = BINARY_PREFIX + Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray());
+        if (byteArrayOutputStream.size() > MAXIMUM_REUSED_BUFFER_SIZE) {
+            _threadLocalWriter.remove();
+        }
+        return payload;
+    }
+
+    //------------------------------------------------------------------------------
+    // READER -- ITS METHODS THROW BufferUnderflowException IF THE PAYLOAD IS TRUNCATED
+    //------------------------------------------------------------------------------
+    public static final class Reader {
+        private final ByteBuffer _byteBuffer;
+
+        private Reader(byte[] bytes) {
+            _byteBuffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private byte[] readBytes(int length) {
+            if (length < 0 || length > _byteBuffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[length];
+            _byteBuffer.get(bytes);
+            return bytes;
+        }
+
+        public int readInt() {
+            return _byteBuffer.getInt();
+        }
+
+        // A VARINT OF MORE THAN 5 BYTES DOES NOT FIT IN AN int, SO THE PAYLOAD IS CORRUPT -- IT IS TREATED AS TRUNCATED
+        private int readVarInt() {
+            int value = 0;
+            for(int shift = 0 ; shift < Integer.SIZE ; shift += 7) {
+                byte nextByte = _byteBuffer.get();
+                value |= (nextByte & 0x7F) << shift;
+                if ((nextByte & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new BufferUnderflowException();
+        }
+
+        public String readString() {
+            return new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads the fingerprint of the slot layout that the sender used for the class, and compares
+         * it to the fingerprint of "propertySlotLayout".
+         *
+         * @param propertySlotLayout this federate's slot layout for the class
+         * @return true if the sender used the same slot layout, so its slots can be read
+         */
+        public boolean readPropertySlotLayout(PropertySlotLayout<?> propertySlotLayout) {
+            return readInt() == propertySlotLayout.getFingerprint();
+        }
+
+        public boolean hasMoreProperties() {
+            return _byteBuffer.hasRemaining();
+        }
+
+        public int readPropertySlot() {
+            return readVarInt();
+        }
+
+        /**
+         * Reads the value of the property whose slot was just read.
+         *
+         * @param initialValueForType initial value of the parameter or attribute, which determines its type
+         * @return the value, or null if it could not be decoded
+         */
+        public Object readPropertyValue(Object initialValueForType) {
+            return BinaryPropertyCodec.INSTANCE.decode(readBytes(readVarInt()), initialValueForType);
+        }
+
+        /**
+         * Skips the value of the property whose slot was just read.
+         */
+        public void skipPropertyValue() {
+            int length = readVarInt();
+            if (length < 0 || length > _byteBuffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            _byteBuffer.position(_byteBuffer.position() + length);
+        }
+    }
+
+    /**
+     * Returns a reader for a binary payload, positioned at its first header field.
+     *
+     * @param payload binary payload
+     * @param messagingType expected messaging type, {@link #INTERACTION_MESSAGING_TYPE} or
+     * {@link #OBJECT_MESSAGING_TYPE}
+     * @return a reader for the payload, or null if the payload is not a binary payload of a supported
+     * version and of the expected messaging type
+     */
+    public static Reader create_reader(String payload, byte messagingType) {
+        if (!is_binary(payload)) {
+            logger.error("create_reader: payload is not a binary payload");
+            return null;
+        }
+        if (!payload.startsWith(BINARY_PREFIX)) {
+            int colonPosition = payload.indexOf(':');
+            logger.error(
+              "create_reader: unsupported binary payload version \"{}\" -- only version {} is supported",
+              colonPosition < 0 ? payload.substring(1) : payload.substring(1, colonPosition), BINARY_VERSION
+            );
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(payload.substring(BINARY_PREFIX.length()));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            logger.error("create_reader: binary payload is not valid base-64: {}", illegalArgumentException.getMessage());
+            return null;
+        }
+        if (bytes.length == 0 || bytes[0] != messagingType) {
+            logger.error(
+              "create_reader: binary payload has messaging type {} -- expected {}",
+              bytes.length == 0 ? "(none)" : Byte.toString(bytes[0]), messagingType
+            );
+            return null;
+        }
+
+        Reader reader = new Reader(bytes);
+        reader._byteBuffer.position(1);
+        return reader;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Streaming (JsonGenerator/JsonParser-based) JSON encoding and decoding of interactions and
+ * objects, as used by {@link InteractionRoot#toJson()}, {@link InteractionRoot#fromJson(String)},
+ * {@link ObjectRoot#toJson(boolean)} and {@link ObjectRoot#fromJson(String)}.
+ * <p/>
+ * The JSON is written compactly (no indentation) into a per-thread buffer that is reused
+ * from call to call, and parameter/attribute values are read directly from the parser as
+ * the type of the parameter/attribute, without building an intermediate tree of JsonNodes.
+ * Values that are themselves JSON (i.e. JsonNode-typed) are still read as a tree.
+ */
+public final class MessagingJsonCodec {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // THE FACTORY OF AN ObjectMapper HAS THE ObjectMapper AS ITS CODEC, SO ITS GENERATORS AND
+    // PARSERS CAN ALSO WRITE AND READ TREES (JsonNodeS) AND POJOS
+    private static final JsonFactory jsonFactory = objectMapper.getFactory();
+
+    // A BUFFER THAT HAS GROWN LARGER THAN THIS IS NOT KEPT FOR REUSE
+    private static final int MAXIMUM_REUSED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<StringWriter> _threadLocalStringWriter =
+      ThreadLocal.withInitial(() -> new StringWriter(512));
+
+    private MessagingJsonCodec() { }
+
+    /**
+     * Writes the fields of a top-level JSON object.
+     */
+    @FunctionalInterface
+    public interface FieldWriter {
+        void writeFields(JsonGenerator jsonGenerator) throws IOException;
+    }
+
+    /**
+     * Returns the compact JSON text of a JSON object whose fields are written by "fieldWriter".
+     *
+     * @param fieldWriter writes the fields of the JSON object
+     * @return the JSON text, or an empty string if the JSON could not be written
+     */
+    public static String write(FieldWriter fieldWriter) {
+        StringWriter stringWriter = _threadLocalStringWriter.get();
+        StringBuffer stringBuffer = stringWriter.getBuffer();
+        stringBuffer.setLength(0);
+
+        try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(stringWriter)) {
+            jsonGenerator.writeStartObject();
+            fieldWriter.writeFields(jsonGenerator);
+            jsonGenerator.writeEndObject();
+        } catch (IOException ioException) {
+            logger.error("Exception writing JSON: ", ioException);
+            return "";
+        }
+
+        String jsonString = stringBuffer.toString();
+        if (stringBuffer.capacity() > MAXIMUM_REUSED_BUFFER_SIZE) {
+            _threadLocalStringWriter.remove();
+        }
+        return jsonString;
+    }
+
+    /**
+     * Writes a parameter or attribute value as the value of field "fieldName".  Characters are
+     * written as their integer code, JsonNode values are written as JSON, and values of any other
+     * non-primitive type are written as POJOs.
+     *
+     * @param jsonGenerator generator to which to write the field
+     * @param fieldName name of the field
+     * @param value value of the parameter or attribute
+     * @throws IOException if the field cannot be written
+     */
+    public static void write_property(JsonGenerator jsonGenerator, String fieldName, Object value) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        if (value instanceof String) {
+            jsonGenerator.writeString((String)value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            jsonGenerator.writeNumber(((Number)value).intValue());
+        } else if (value instanceof Long) {
+            jsonGenerator.writeNumber((Long)value);
+        } else if (value instanceof Double) {
+            jsonGenerator.writeNumber((Double)value);
+        } else if (value instanceof Float) {
+            jsonGenerator.writeNumber((Float)value);
+        } else if (value instanceof Boolean) {
+            jsonGenerator.writeBoolean((Boolean)value);
+        } else if (value instanceof Character) {
+            jsonGenerator.writeNumber((int)(char)value);
+        } else if (value instanceof JsonNode) {
+            jsonGenerator.writeTree((JsonNode)value);
+        } else {
+            jsonGenerator.writeObject(value);
+        }
+    }
+
+    /**
+     * Returns a parser for "jsonString".
+     *
+     * @param jsonString JSON text to parse
+     * @return a parser for "jsonString"
+     * @throws IOException if the parser cannot be created
+     */
+    public static JsonParser create_parser(String jsonString) throws IOException {
+        return jsonFactory.createParser(jsonString);
+    }
+
+    /**
+     * Returns a parser over "jsonNode", positioned at its first token.  Used when a JSON object
+     * has to be read before it is known how to decode it.
+     *
+     * @param jsonNode JSON tree to parse
+     * @return a parser over "jsonNode"
+     * @throws IOException if the parser cannot be created
+     */
+    public static JsonParser create_parser(JsonNode jsonNode) throws IOException {
+        JsonParser jsonParser = jsonNode.traverse(objectMapper);
+        jsonParser.nextToken();
+        return jsonParser;
+    }
+
+    /**
+     * Reads the value at the parser's current token as "desiredType", skipping over the value.
+     * This follows the same conversion rules as {@link InteractionRoot#castJsonToType(JsonNode, Class)},
+     * i.e. integral types (and Character) are read as a long, floating-point types as a double,
+     * a Boolean can also be encoded as a number or a string, and a String is the text of any scalar.
+     *
+     * @param jsonParser parser positioned at the value to read
+     * @param desiredType type of the parameter or attribute
+     * @return the value as an instance of "desiredType", or null if "desiredType" is not supported
+     * @throws IOException if the value cannot be read
+     */
+    public static Object read_value(JsonParser jsonParser, Class<?> desiredType) throws IOException {
+
+        if (JsonNode.class.isAssignableFrom(desiredType)) {
+            return jsonParser.readValueAsTree();
+        }
+
+        // A JSON OBJECT OR ARRAY IS READ AS IF IT WERE A JsonNode THAT IS CONVERTED WITH asLong(),
+        // asDouble(), ETC.
+        JsonToken jsonToken = jsonParser.currentToken();
+        boolean isContainer = jsonToken == JsonToken.START_OBJECT || jsonToken == JsonToken.START_ARRAY;
+        if (isContainer) {
+            jsonParser.skipChildren();
+        }
+
+        if (desiredType.equals(Byte.class)) {
+            return isContainer ? (byte)0 : (byte)jsonParser.getValueAsLong();
+        }
+        if (desiredType.equals(Short.class)) {
+            return isContainer ? (short)0 : (short)jsonParser.getValueAsLong();
+        }
+        if (desiredType.equals(Integer.class)) {
+            return isContainer ? 0 : (int)jsonParser.getValueAsLong();
+        }
+        if (desiredType.equals(Long.class)) {
+            return isContainer ? 0L : jsonParser.getValueAsLong();
+        }
+        if (desiredType.equals(Character.class)) {
+            return isContainer ? (char)0 : (char)jsonParser.getValueAsLong();
+        }
+        if (desiredType.equals(Float.class)) {
+            return isContainer ? 0.0F : (float)jsonParser.getValueAsDouble();
+        }
+        if (desiredType.equals(Double.class)) {
+            return isContainer ? 0.0 : jsonParser.getValueAsDouble();
+        }
+        if (desiredType.equals(Boolean.class)) {
+            if (isContainer) {
+                return true;
+            }
+            switch(jsonToken) {
+                case VALUE_TRUE:
+                    return true;
+                case VALUE_FALSE:
+                case VALUE_NULL:
+                    return false;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return jsonParser.getDoubleValue() != 0;
+                default:
+                    return jsonParser.getText().equalsIgnoreCase("true");
+            }
+        }
+        if (desiredType.equals(String.class)) {
+            if (isContainer) {
+                return "";
+            }
+            return jsonToken == JsonToken.VALUE_NULL ? "null" : jsonParser.getText();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Concurrent hash table keyed by primitive int handles (e.g. RTI object handles), so that
+ * keys are never boxed.
+ * <p>
+ * The table is split into segments.  Each segment is an open-addressing table with linear
+ * probing.  Writers lock their segment.  Readers are lock-free in the common case: they
+ * probe optimistically and only take the segment's read lock if a writer changed the
+ * segment during the probe.
+ * <p>
+ * The table also keeps statistics (size, capacity, load factor, and insert and remove
+ * counts, i.e. churn) that can be retrieved with {@link #getStats()}.
+ *
+ * @param <V> type of value
+ */
+public class ObjectHandleTable<V> {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MINIMUM_SEGMENT_CAPACITY = 16;
+
+    // MAXIMUM FRACTION OF A SEGMENT'S SLOTS THAT CAN BE IN USE (LIVE OR DELETED) BEFORE IT IS REHASHED
+    private static final double MAXIMUM_FILL = 0.5;
+
+    // MARKS A SLOT WHOSE ENTRY HAS BEEN REMOVED, SO THAT PROBING CONTINUES PAST IT
+    private static final Object DELETED = new Object();
+
+    private static int mix(int key) {
+        // MURMUR3 FINALIZER -- SPREADS SEQUENTIAL HANDLES OVER THE WHOLE TABLE
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    //------------------------------------------------------------------------------------
+    // KEY AND VALUE ARRAYS OF A SEGMENT ARE REPLACED TOGETHER, SO THAT AN OPTIMISTIC READER
+    // ALWAYS SEES ARRAYS OF THE SAME LENGTH.  A SLOT IS EMPTY IF ITS VALUE IS null.
+    //------------------------------------------------------------------------------------
+    private static class SlotArrays {
+        final int[] keys;
+        final Object[] values;
+
+        SlotArrays(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+        }
+    }
+
+    private static class Segment {
+        final StampedLock lock = new StampedLock();
+        volatile SlotArrays slotArrays = new SlotArrays(MINIMUM_SEGMENT_CAPACITY);
+        volatile int size = 0;
+        int deleted = 0;
+    }
+
+    private final Segment[] _segmentArray = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder _insertCount = new LongAdder();
+    private final LongAdder _removeCount = new LongAdder();
+
+    public ObjectHandleTable() {
+        for(int ix = 0 ; ix < SEGMENT_COUNT ; ++ix) {
+            _segmentArray[ix] = new Segment();
+        }
+    }
+
+    private Segment getSegment(int hash) {
+        return _segmentArray[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    // RETURNS THE SLOT OF key, OR -1 IF key IS NOT IN slotArrays
+    private static int findSlot(SlotArrays slotArrays, int key, int hash) {
+        int mask = slotArrays.keys.length - 1;
+        int slot = hash & mask;
+        for(int probe = 0 ; probe <= mask ; ++probe) {
+            Object value = slotArrays.values[slot];
+            if (value == null) {
+                return -1;
+            }
+            if (value != DELETED && slotArrays.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V valueAt(SlotArrays slotArrays, int slot) {
+        if (slot < 0) {
+            return null;
+        }
+        Object value = slotArrays.values[slot];
+        return value == DELETED ? null : (V)value;
+    }
+
+    /**
+     * @param key handle
+     * @return the value for "key", or null if there is none
+     */
+    public V get(int key) {
+        int hash = mix(key);
+        Segment segment = getSegment(hash);
+
+        long stamp = segment.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            SlotArrays slotArrays = segment.slotArrays;
+            V value = valueAt(slotArrays, findSlot(slotArrays, key, hash));
+            if (segment.lock.validate(stamp)) {
+                return value;
+            }
+        }
+
+        stamp = segment.lock.readLock();
+        try {
+            SlotArrays slotArrays = segment.slotArrays;
+            return valueAt(slotArrays, findSlot(slotArrays, key, hash));
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    private V put(int key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new NullPointerException("ObjectHandleTable does not accept null values");
+        }
+        int hash = mix(key);
+        Segment segment = getSegment(hash);
+
+        long stamp = segment.lock.writeLock();
+        try {
+            SlotArrays slotArrays = segment.slotArrays;
+            int slot = findSlot(slotArrays, key, hash);
+            if (slot >= 0) {
+                V oldValue = valueAt(slotArrays, slot);
+                if (!onlyIfAbsent) {
+                    slotArrays.values[slot] = value;
+                }
+                return oldValue;
+            }
+
+            if (segment.size + segment.deleted + 1 > slotArrays.keys.length * MAXIMUM_FILL) {
+                slotArrays = rehash(segment);
+            }
+
+            // INSERT AT THE FIRST EMPTY OR DELETED SLOT
+            int mask = slotArrays.keys.length - 1;
+            slot = hash & mask;
+            while(slotArrays.values[slot] != null && slotArrays.values[slot] != DELETED) {
+                slot = (slot + 1) & mask;
+            }
+            if (slotArrays.values[slot] == DELETED) {
+                --segment.deleted;
+            }
+            slotArrays.keys[slot] = key;
+            slotArrays.values[slot] = value;
+            ++segment.size;
+            _insertCount.increment();
+            return null;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Maps "key" to "value", replacing any existing value.
+     *
+     * @param key handle
+     * @param value non-null value
+     * @return the previous value for "key", or null if there was none
+     */
+    public V put(int key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * Maps "key" to "value" only if "key" has no value.
+     *
+     * @param key handle
+     * @param value non-null value
+     * @return the existing value for "key" (which is left in place), or null if "value" was inserted
+     */
+    public V putIfAbsent(int key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * @param key handle
+     * @return the removed value for "key", or null if there was none
+     */
+    public V remove(int key) {
+        int hash = mix(key);
+        Segment segment = getSegment(hash);
+
+        long stamp = segment.lock.writeLock();
+        try {
+            SlotArrays slotArrays = segment.slotArrays;
+            int slot = findSlot(slotArrays, key, hash);
+            if (slot < 0) {
+                return null;
+            }
+            V oldValue = valueAt(slotArrays, slot);
+            slotArrays.values[slot] = DELETED;
+            --segment.size;
+            ++segment.deleted;
+            _removeCount.increment();
+            return oldValue;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // CALLED WITH THE SEGMENT'S WRITE LOCK HELD.  DROPS DELETED SLOTS, AND GROWS (OR SHRINKS)
+    // THE SEGMENT SO THAT IT IS AT MOST ONE-QUARTER FULL AFTERWARDS.
+    private static SlotArrays rehash(Segment segment) {
+        SlotArrays oldSlotArrays = segment.slotArrays;
+
+        int capacity = MINIMUM_SEGMENT_CAPACITY;
+        while(capacity < 4 * (segment.size + 1)) {
+            capacity <<= 1;
+        }
+
+        SlotArrays newSlotArrays = new SlotArrays(capacity);
+        int mask = capacity - 1;
+        for(int ix = 0 ; ix < oldSlotArrays.keys.length ; ++ix) {
+            Object value = oldSlotArrays.values[ix];
+            if (value == null || value == DELETED) {
+                continue;
+            }
+            int key = oldSlotArrays.keys[ix];
+            int slot = mix(key) & mask;
+            while(newSlotArrays.values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            newSlotArrays.keys[slot] = key;
+            newSlotArrays.values[slot] = value;
+        }
+
+        segment.slotArrays = newSlotArrays;
+        segment.deleted = 0;
+        return newSlotArrays;
+    }
+
+    /**
+     * Removes all entries.  Removed entries are counted in the remove count.
+     */
+    public void clear() {
+        for(Segment segment: _segmentArray) {
+            long stamp = segment.lock.writeLock();
+            try {
+                _removeCount.add(segment.size);
+                segment.slotArrays = new SlotArrays(MINIMUM_SEGMENT_CAPACITY);
+                segment.size = 0;
+                segment.deleted = 0;
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * @return the number of entries in the table
+     */
+    public int size() {
+        int size = 0;
+        for(Segment segment: _segmentArray) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * @return the total number of slots in the table
+     */
+    public int capacity() {
+        int capacity = 0;
+        for(Segment segment: _segmentArray) {
+            capacity += segment.slotArrays.keys.length;
+        }
+        return capacity;
+    }
+
+    //------------------------------------------
+    // STATISTICS
+    //------------------------------------------
+    public static class Stats {
+        private final int _size;
+        private final int _capacity;
+        private final long _insertCount;
+        private final long _removeCount;
+
+        private Stats(int size, int capacity, long insertCount, long removeCount) {
+            _size = size;
+            _capacity = capacity;
+            _insertCount = insertCount;
+            _removeCount = removeCount;
+        }
+
+        public int getSize() {
+            return _size;
+        }
+
+        public int getCapacity() {
+            return _capacity;
+        }
+
+        public double getLoadFactor() {
+            return _capacity == 0 ? 0 : (double)_size / _capacity;
+        }
+
+        /**
+         * @return the number of entries inserted since the table was created, or since the counts were reset
+         */
+        public long getInsertCount() {
+            return _insertCount;
+        }
+
+        /**
+         * @return the number of entries removed since the table was created, or since the counts were reset
+         */
+        public long getRemoveCount() {
+            return _removeCount;
+        }
+
+        /**
+         * @return the number of inserts plus removes, i.e. the churn of the table
+         */
+        public long getChurn() {
+            return _insertCount + _removeCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+              "size=%d capacity=%d loadFactor=%.3f inserts=%d removes=%d",
+              _size, _capacity, getLoadFactor(), _insertCount, _removeCount
+            );
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(size(), capacity(), _insertCount.sum(), _removeCount.sum());
+    }
+
+    /**
+     * Resets the insert and remove counts to zero.
+     */
+    public void resetChurnCounts() {
+        _insertCount.reset();
+        _removeCount.reset();
+    }
+}
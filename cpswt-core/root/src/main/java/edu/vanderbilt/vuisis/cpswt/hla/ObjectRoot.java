@@ -37,9 +37,13 @@ import hla.rti.*;
 import hla.rti.jlc.RtiFactory;
 import hla.rti.jlc.RtiFactoryFactory;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
 import java.util.AbstractMap;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -50,12 +54,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.Reader;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -137,7 +148,7 @@ public class ObjectRoot implements ObjectRootInterface {
         objectMapper.setDefaultPrettyPrinter(defaultPrettyPrinter);
     }
 
-    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new HashMap<>();
+    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new ConcurrentHashMap<>();
 
     private static Boolean get_hla_class_name_is_initialized(String hlaClassName) {
         return _hlaClassNameIsInitializedMap.getOrDefault(hlaClassName, false);
@@ -220,6 +231,7 @@ public class ObjectRoot implements ObjectRootInterface {
                         int propertyHandle = rtiAmbassador.getAttributeHandle(classAndPropertyName.getPropertyName(), classHandle);
                         _classAndPropertyNameHandleMap.put(classAndPropertyName, propertyHandle);
                         _handleClassAndPropertyNameMap.put(propertyHandle, classAndPropertyName);
+                        _attributeHandleClassAndPropertyNameTable.put(propertyHandle, classAndPropertyName);
                         isNotInitialized = false;
                     } catch (FederateNotExecutionMember e) {
                         logger.error("could not initialize: Federate Not Execution Member", e);
@@ -268,14 +280,26 @@ public class ObjectRoot implements ObjectRootInterface {
         // - NO SUBSCRIBED ATTRIBUTE HANDLES/NAMES
         // - NO SOFT SUBSCRIBED ATTRIBUTE HANDLES/NAMES
         //-------------------------------------------------------
-        Set<ClassAndPropertyName> publishedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> publishedAttributeNameSet = ConcurrentHashMap.newKeySet();
         _classNamePublishedAttributeNameSetMap.put(hlaClassName, publishedAttributeNameSet);
 
-        Set<ClassAndPropertyName> subscribedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> subscribedAttributeNameSet = ConcurrentHashMap.newKeySet();
         _classNameSubscribedAttributeNameSetMap.put(hlaClassName, subscribedAttributeNameSet);
 
-        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = ConcurrentHashMap.newKeySet();
         _classNameSoftSubscribedAttributeNameSetMap.put(hlaClassName, softSubscribedAttributeNameSet);
+
+        //-------------------------------------------------------
+        // COMPUTE THE ATTRIBUTE SLOT LAYOUT FOR THE CLASS
+        //-------------------------------------------------------
+        Set<ClassAndPropertyName> allClassAndPropertyNameSet =
+          _allClassNamePropertyNameSetMap.getOrDefault(hlaClassName, Collections.emptySet());
+        _classNameAttributeSlotLayoutMap.put(hlaClassName, new PropertySlotLayout<>(allClassAndPropertyNameSet));
+
+        //-------------------------------------------------------
+        // INDEX THE PROPERTIES OF THE CLASS FOR findProperty
+        //-------------------------------------------------------
+        index_class_properties(hlaClassName);
     }
 
 
@@ -320,6 +344,11 @@ public class ObjectRoot implements ObjectRootInterface {
         private boolean _valueUpdateSent = false;
         private double _time = 0;
 
+        // OBJECT IN WHOSE DIRTY-ATTRIBUTE SET THIS ATTRIBUTE IS MARKED WHEN IT NEEDS TO BE UPDATED, AND ITS SLOT THERE.
+        // NOT COPIED BY THE COPY CONSTRUCTOR.
+        private ObjectRoot _owner = null;
+        private int _slot = -1;
+
         public Attribute( T init ) {
             _value = init;
         }
@@ -339,6 +368,9 @@ public class ObjectRoot implements ObjectRootInterface {
             if ( value == null ) return;
             _value = value;
             _valueUpdateSent = _value.equals(_oldValue);
+            if (!_valueUpdateSent) {
+                markDirty();
+            }
         }
 
         public void setValue( Attribute<T> value ) {
@@ -364,6 +396,23 @@ public class ObjectRoot implements ObjectRootInterface {
         }
         public void setShouldBeUpdated(boolean shouldBeUpdated) {
             _valueUpdateSent = !shouldBeUpdated;
+            if (shouldBeUpdated) {
+                markDirty();
+            }
+        }
+
+        private void setOwner(ObjectRoot owner, int slot) {
+            _owner = owner;
+            _slot = slot;
+            if (!_valueUpdateSent) {
+                markDirty();
+            }
+        }
+
+        private void markDirty() {
+            if (_owner != null) {
+                _owner.markAttributeSlotDirty(_slot);
+            }
         }
 
         @Override
@@ -372,15 +421,26 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
-    private static String getStringFromByteArray(byte[] value) {
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+    // DECODES value AND CONVERTS IT TO THE TYPE OF THE ATTRIBUTE, LOOKING UP THE ATTRIBUTE'S INITIAL VALUE ONCE FOR BOTH
+    private static Object decodeValue(
+      ClassAndPropertyName classAndPropertyName, byte[] value, PropertyCodec propertyCodec
+    ) {
+        Object initialValueForType =
+          ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(classAndPropertyName)).getValue();
+        Object decodedValue = propertyCodec.decode(value, initialValueForType);
+        if (decodedValue == null) {
+            logger.error(
+              "could not decode value of attribute \"{}\" with \"{}\" encoding",
+              classAndPropertyName, propertyCodec.getEncodingName()
+            );
+            return null;
         }
-        return valueAsString;
+        return getValueForClassAndPropertyName(classAndPropertyName, initialValueForType, decodedValue);
     }
 
-    private static Map<ClassAndPropertyName, Object> getClassAndPropertyNameValueMap(ReflectedAttributes propertyMap) {
+    private static Map<ClassAndPropertyName, Object> getClassAndPropertyNameValueMap(
+      ReflectedAttributes propertyMap, PropertyCodec propertyCodec
+    ) {
         Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
 
         int size = propertyMap.size();
@@ -388,9 +448,11 @@ public class ObjectRoot implements ObjectRootInterface {
             try {
                 int handle = propertyMap.getAttributeHandle(ix);
                 byte[] byteArray = propertyMap.getValue(ix);
-                String valueAsString = getStringFromByteArray(byteArray);
                 ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(handle);
-                Object newValue = getValueForClassAndPropertyName(classAndPropertyName, valueAsString);
+                Object newValue = decodeValue(classAndPropertyName, byteArray, propertyCodec);
+                if (newValue == null) {
+                    continue;
+                }
                 classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(newValue));
             } catch ( Exception e ) {
                 logger.error( "setAttributes: Exception caught!" );
@@ -400,6 +462,27 @@ public class ObjectRoot implements ObjectRootInterface {
         return classAndPropertyNameValueMap;
     }
 
+    private static Map<ClassAndPropertyName, Object> getClassAndPropertyNameValueMap(
+      int[] attributeHandleArray, byte[][] attributeValueArray, int attributeCount, PropertyCodec propertyCodec
+    ) {
+        Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+
+        for( int ix = 0 ; ix < attributeCount ; ++ix ) {
+            ClassAndPropertyName classAndPropertyName =
+              _attributeHandleClassAndPropertyNameTable.get(attributeHandleArray[ix]);
+            if (classAndPropertyName == null) {
+                logger.error("getClassAndPropertyNameValueMap: attribute handle {} does not exist.", attributeHandleArray[ix]);
+                continue;
+            }
+            Object newValue = decodeValue(classAndPropertyName, attributeValueArray[ix], propertyCodec);
+            if (newValue == null) {
+                continue;
+            }
+            classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(newValue));
+        }
+        return classAndPropertyNameValueMap;
+    }
+
     /**
      * This class serializes reflections of the attributes of object class
      * instances that come in from the RTI.  An object of this class contains:
@@ -423,22 +506,40 @@ public class ObjectRoot implements ObjectRootInterface {
      * to retrieve this instance.
      */
     public static class ObjectReflector {
-        private final int _objectHandle;
+        private int _objectHandle;
         private String _hlaClassName = "";
         private String _federateSequence = "[]";
-        private final Map<ClassAndPropertyName, Object> _classAndPropertyNameValueMap;
+
+        // THE REGISTRY OF THE FEDERATE THAT RECEIVED THE REFLECTION, WHICH HOLDS ITS OBJECT INSTANCES AND
+        // PROPERTY CODEC.  null IF THE REFLECTION WAS NOT RECEIVED THROUGH AN RTIambassador, IN WHICH CASE
+        // THE OBJECT-HANDLE OBJECT-INSTANCE MAP AND PROPERTY CODEC OF ObjectRoot ARE USED.
+        private FederatePubSubRegistry _federatePubSubRegistry = null;
+        private Map<ClassAndPropertyName, Object> _classAndPropertyNameValueMap;
         private double _time;
 
-        /**
-         * DO NOT USE -- Should only be used directly by the SyncronizedFederate class.
-         * The {@link SynchronizedFederate#reflectAttributeValues(int, ReflectedAttributes, byte[])}
-         * method uses this constructor to create a new "receive-order" ObjectReflector.
-         */
+        //-------------------------------------------------------------------------------------
+        // RAW (UNDECODED) REFLECTED ATTRIBUTES
+        //
+        // AN ObjectReflector CREATED FROM ReflectedAttributES ONLY COPIES THE ATTRIBUTE HANDLES
+        // AND VALUE BYTE-ARRAYS.  THE VALUES ARE DECODED DIRECTLY INTO THE ATTRIBUTES OF THE
+        // OBJECT INSTANCE WHEN reflect() IS CALLED, OR INTO _classAndPropertyNameValueMap IF
+        // getClassAndPropertyNameValueMap() IS CALLED.
+        //-------------------------------------------------------------------------------------
+        private int[] _attributeHandleArray = null;
+        private byte[][] _attributeValueArray = null;
+        private int _attributeCount = 0;
+
+        // SET WHILE THIS ObjectReflector IS IN THE POOL, SO THAT RELEASING IT AGAIN DOESN'T ADD IT TO THE POOL TWICE
+        private final AtomicBoolean _pooled = new AtomicBoolean(false);
 
         private void initHlaClassName() {
-            ObjectRoot objectRoot = _objectHandleInstanceMap.get( _objectHandle );
-            if ( objectRoot == null ) return;
-            _hlaClassName = objectRoot.getInstanceHlaClassName();
+            ObjectRoot objectRoot = getObjectRoot();
+            _hlaClassName = objectRoot == null ? "" : objectRoot.getInstanceHlaClassName();
+        }
+
+        private PropertyCodec getPropertyCodec() {
+            return _federatePubSubRegistry == null ?
+              _propertyCodec : get_property_codec_or_default(_federatePubSubRegistry.getPropertyCodec());
         }
 
         public ObjectReflector(int objectHandle, Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap) {
@@ -451,15 +552,38 @@ public class ObjectRoot implements ObjectRootInterface {
         public ObjectReflector(
                 int objectHandle, String hlaClassName, Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
         ) {
-            this(objectHandle, classAndPropertyNameValueMap);
+            this(null, objectHandle, hlaClassName, classAndPropertyNameValueMap);
+        }
+
+        private ObjectReflector(
+                FederatePubSubRegistry federatePubSubRegistry,
+                int objectHandle,
+                String hlaClassName,
+                Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
+        ) {
+            _federatePubSubRegistry = federatePubSubRegistry;
+            _objectHandle = objectHandle;
+            _classAndPropertyNameValueMap = new HashMap<>(classAndPropertyNameValueMap);
+            _time = -1;
+            initHlaClassName();
             if (_hlaClassName == null || _hlaClassName.isEmpty()) {
                 _hlaClassName = hlaClassName;
-                ObjectRoot.discover(_hlaClassName, _objectHandle);
+                ObjectRoot.discover(getObjectHandleInstanceMap(), _hlaClassName, _objectHandle);
             }
         }
 
+        private ObjectHandleTable<ObjectRoot> getObjectHandleInstanceMap() {
+            return _federatePubSubRegistry == null ?
+              _objectHandleInstanceMap : _federatePubSubRegistry.getObjectHandleInstanceMap();
+        }
+
+        /**
+         * DO NOT USE -- Should only be used directly by the SyncronizedFederate class.
+         * The {@link SynchronizedFederate#reflectAttributeValues(int, ReflectedAttributes, byte[])}
+         * method uses this constructor to create a new "receive-order" ObjectReflector.
+         */
         public ObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
-            this(objectHandle, ObjectRoot.getClassAndPropertyNameValueMap(reflectedAttributes));
+            set(null, objectHandle, reflectedAttributes, -1);
         }
 
         /**
@@ -474,14 +598,160 @@ public class ObjectRoot implements ObjectRootInterface {
         ) {
             _objectHandle = objectHandle;
             _classAndPropertyNameValueMap = new HashMap<>(classAndPropertyNameValueMap);
+            _time = get_time(logicalTime);
+            initHlaClassName();
+        }
+
+        public ObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime) {
+            set(null, objectHandle, reflectedAttributes, get_time(logicalTime));
+        }
+
+        private static double get_time(LogicalTime logicalTime) {
             DoubleTime doubleTime = new DoubleTime();
             doubleTime.setTo(logicalTime);
-            _time = doubleTime.getTime();
+            return doubleTime.getTime();
+        }
+
+        private void set(
+          FederatePubSubRegistry federatePubSubRegistry,
+          int objectHandle,
+          ReflectedAttributes reflectedAttributes,
+          double time
+        ) {
+            _federatePubSubRegistry = federatePubSubRegistry;
+            _objectHandle = objectHandle;
+            _time = time;
+            _federateSequence = "[]";
+            _classAndPropertyNameValueMap = null;
+
+            int size = reflectedAttributes.size();
+            if (_attributeHandleArray == null || _attributeHandleArray.length < size) {
+                _attributeHandleArray = new int[size];
+                _attributeValueArray = new byte[size][];
+            }
+            _attributeCount = 0;
+            for( int ix = 0 ; ix < size ; ++ix ) {
+                try {
+                    _attributeHandleArray[_attributeCount] = reflectedAttributes.getAttributeHandle(ix);
+                    _attributeValueArray[_attributeCount] = reflectedAttributes.getValue(ix);
+                    ++_attributeCount;
+                } catch ( Exception e ) {
+                    logger.error( "ObjectReflector: Exception caught!" );
+                    logger.error("{}", CpswtUtils.getStackTrace(e));
+                }
+            }
             initHlaClassName();
         }
 
-        public ObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime) {
-            this(objectHandle, ObjectRoot.getClassAndPropertyNameValueMap(reflectedAttributes), logicalTime);
+        //-------------------------------------------------------------------------------------
+        // ObjectReflector POOL
+        //
+        // DISABLED BY DEFAULT.  IF ENABLED (WITH A POSITIVE MAXIMUM SIZE), ObjectReflectorS CREATED
+        // WITH acquire ARE REUSED ONCE THEY ARE RETURNED WITH release.  AN ObjectReflector MUST NOT
+        // BE USED AFTER IT IS RELEASED.
+        //-------------------------------------------------------------------------------------
+        private static final ConcurrentLinkedQueue<ObjectReflector> _objectReflectorPool =
+          new ConcurrentLinkedQueue<>();
+        private static final AtomicInteger _objectReflectorPoolSize = new AtomicInteger(0);
+        private static volatile int _maximumObjectReflectorPoolSize = 0;
+
+        public static void set_maximum_pool_size(int maximumPoolSize) {
+            _maximumObjectReflectorPoolSize = Math.max(maximumPoolSize, 0);
+            while(_objectReflectorPoolSize.get() > _maximumObjectReflectorPoolSize) {
+                if (_objectReflectorPool.poll() == null) {
+                    break;
+                }
+                _objectReflectorPoolSize.decrementAndGet();
+            }
+        }
+
+        public static int get_maximum_pool_size() {
+            return _maximumObjectReflectorPoolSize;
+        }
+
+        private static ObjectReflector acquire(
+          FederatePubSubRegistry federatePubSubRegistry,
+          int objectHandle,
+          ReflectedAttributes reflectedAttributes,
+          double time
+        ) {
+            ObjectReflector objectReflector = _objectReflectorPool.poll();
+            if (objectReflector == null) {
+                return new ObjectReflector(federatePubSubRegistry, objectHandle, reflectedAttributes, time);
+            }
+            _objectReflectorPoolSize.decrementAndGet();
+            objectReflector._pooled.set(false);
+            objectReflector.set(federatePubSubRegistry, objectHandle, reflectedAttributes, time);
+            return objectReflector;
+        }
+
+        private ObjectReflector(
+          FederatePubSubRegistry federatePubSubRegistry,
+          int objectHandle,
+          ReflectedAttributes reflectedAttributes,
+          double time
+        ) {
+            set(federatePubSubRegistry, objectHandle, reflectedAttributes, time);
+        }
+
+        /**
+         * Like {@link #ObjectReflector(int, ReflectedAttributes)}, except that the ObjectReflector
+         * is taken from the ObjectReflector pool, if the pool is enabled and not empty.
+         */
+        public static ObjectReflector acquire(int objectHandle, ReflectedAttributes reflectedAttributes) {
+            return acquire(null, objectHandle, reflectedAttributes, -1);
+        }
+
+        /**
+         * Like {@link #ObjectReflector(int, ReflectedAttributes, LogicalTime)}, except that the
+         * ObjectReflector is taken from the ObjectReflector pool, if the pool is enabled and not empty.
+         */
+        public static ObjectReflector acquire(
+          int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
+        ) {
+            return acquire(null, objectHandle, reflectedAttributes, get_time(logicalTime));
+        }
+
+        /**
+         * Like {@link #acquire(int, ReflectedAttributes)}, except that the reflection is of an object
+         * instance of the federate that uses "rti", and its values are decoded with the property codec
+         * of this federate (see {@link FederatePubSubRegistry}).
+         */
+        public static ObjectReflector acquire(
+          RTIambassador rti, int objectHandle, ReflectedAttributes reflectedAttributes
+        ) {
+            return acquire(FederatePubSubRegistry.get(rti), objectHandle, reflectedAttributes, -1);
+        }
+
+        /**
+         * Like {@link #acquire(int, ReflectedAttributes, LogicalTime)}, except that the reflection is of
+         * an object instance of the federate that uses "rti", and its values are decoded with the property
+         * codec of this federate (see {@link FederatePubSubRegistry}).
+         */
+        public static ObjectReflector acquire(
+          RTIambassador rti, int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
+        ) {
+            return acquire(FederatePubSubRegistry.get(rti), objectHandle, reflectedAttributes, get_time(logicalTime));
+        }
+
+        /**
+         * Returns this ObjectReflector to the ObjectReflector pool, if the pool is enabled and not
+         * full.  Call this when done with an ObjectReflector, e.g. after calling {@link #reflect()}.
+         * Releasing an ObjectReflector that is already in the pool has no effect.
+         */
+        public void release() {
+            if (_attributeHandleArray == null || !_pooled.compareAndSet(false, true)) {
+                return;
+            }
+            if (_objectReflectorPoolSize.incrementAndGet() > _maximumObjectReflectorPoolSize) {
+                _objectReflectorPoolSize.decrementAndGet();
+                _pooled.set(false);
+                return;
+            }
+            Arrays.fill(_attributeValueArray, 0, _attributeCount, null);
+            _attributeCount = 0;
+            _classAndPropertyNameValueMap = null;
+            _objectReflectorPool.add(this);
         }
 
         /**
@@ -490,15 +760,24 @@ public class ObjectRoot implements ObjectRootInterface {
          * instance contained by this ObjectReflector object.
          */
         public void reflect() {
-            if (_time < 0) {
-                ObjectRoot.reflect(_objectHandle, _classAndPropertyNameValueMap);
+            ObjectRoot objectRoot = getObjectRoot();
+            if (objectRoot == null) {
+                return;
             }
-            else {
-                ObjectRoot.reflect(_objectHandle, _classAndPropertyNameValueMap, _time);
+            if (_classAndPropertyNameValueMap == null) {
+                objectRoot.reflect(_attributeHandleArray, _attributeValueArray, _attributeCount, _time, getPropertyCodec());
+            } else {
+                objectRoot.setAttributes(_classAndPropertyNameValueMap);
+                objectRoot.setTime(_time < 0 ? -1 : _time);
             }
         }
 
         public Map<ClassAndPropertyName, Object> getClassAndPropertyNameValueMap() {
+            if (_classAndPropertyNameValueMap == null) {
+                _classAndPropertyNameValueMap = ObjectRoot.getClassAndPropertyNameValueMap(
+                  _attributeHandleArray, _attributeValueArray, _attributeCount, getPropertyCodec()
+                );
+            }
             return _classAndPropertyNameValueMap;
         }
 
@@ -514,29 +793,192 @@ public class ObjectRoot implements ObjectRootInterface {
             return _federateSequence;
         }
 
-        public String toJson() {
-            ObjectNode topLevelJSONObject = objectMapper.createObjectNode();
-            topLevelJSONObject.put("messaging_type", "object");
-            topLevelJSONObject.put("messaging_name", _hlaClassName);
-            topLevelJSONObject.put("object_handle", _objectHandle);
-            topLevelJSONObject.put("federateSequence", _federateSequence);
+        public int getObjectHandle() {
+            return _objectHandle;
+        }
+
+        private int findRawAttributeIndex(int attributeHandle) {
+            for(int ix = 0 ; ix < _attributeCount ; ++ix) {
+                if (_attributeHandleArray[ix] == attributeHandle) {
+                    return ix;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Merges a later reflection of the same object into this one:  the attribute values of the
+         * later reflection replace those of this one, and attributes that only this one reflects are
+         * kept.  The time and federate sequence of this reflection are not changed.
+         *
+         * @param later later reflection of the same object
+         */
+        public void merge(ObjectReflector later) {
+            if (_classAndPropertyNameValueMap == null && later._classAndPropertyNameValueMap == null) {
+                // BOTH ARE STILL RAW -- MERGE THE UNDECODED VALUES
+                for(int ix = 0 ; ix < later._attributeCount ; ++ix) {
+                    int attributeHandle = later._attributeHandleArray[ix];
+                    int position = findRawAttributeIndex(attributeHandle);
+                    if (position < 0) {
+                        if (_attributeCount == _attributeHandleArray.length) {
+                            int newLength = Math.max(2 * _attributeCount, 4);
+                            _attributeHandleArray = Arrays.copyOf(_attributeHandleArray, newLength);
+                            _attributeValueArray = Arrays.copyOf(_attributeValueArray, newLength);
+                        }
+                        position = _attributeCount++;
+                        _attributeHandleArray[position] = attributeHandle;
+                    }
+                    _attributeValueArray[position] = later._attributeValueArray[ix];
+                }
+                return;
+            }
+
+            Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap =
+              new HashMap<>(getClassAndPropertyNameValueMap());
+            classAndPropertyNameValueMap.putAll(later.getClassAndPropertyNameValueMap());
+            _classAndPropertyNameValueMap = classAndPropertyNameValueMap;
+        }
 
-            ObjectNode propertyJSONObject = objectMapper.createObjectNode();
+        /**
+         * Writes this reflection in its raw form:  the attribute values are written as encoded by the
+         * property codec of the federate that received the reflection, so they are only decoded if the
+         * reflection is read back with {@link #read_raw(DataInput)} and used.
+         *
+         * @param dataOutput where to write the reflection
+         * @throws IOException if the reflection cannot be written
+         */
+        public void writeRaw(DataOutput dataOutput) throws IOException {
+            dataOutput.writeInt(_objectHandle);
+            dataOutput.writeDouble(_time);
+            dataOutput.writeUTF(_hlaClassName);
+            dataOutput.writeUTF(_federateSequence);
+            if (_classAndPropertyNameValueMap == null) {
+                dataOutput.writeInt(_attributeCount);
+                for(int ix = 0 ; ix < _attributeCount ; ++ix) {
+                    dataOutput.writeInt(_attributeHandleArray[ix]);
+                    dataOutput.writeInt(_attributeValueArray[ix].length);
+                    dataOutput.write(_attributeValueArray[ix]);
+                }
+                return;
+            }
+            Map<Integer, byte[]> attributeHandleValueMap = new HashMap<>();
             for(Map.Entry<ClassAndPropertyName, Object> entry : _classAndPropertyNameValueMap.entrySet()) {
-                String key = entry.getKey().toString();
+                Integer attributeHandle = _classAndPropertyNameHandleMap.get(entry.getKey());
+                if (attributeHandle == null) {
+                    logger.warn("writeRaw: no handle for attribute \"{}\" -- not written", entry.getKey());
+                    continue;
+                }
                 Object value = entry.getValue();
+                if (value instanceof Attribute) {
+                    value = ((Attribute<?>)value).getValue();
+                }
+                attributeHandleValueMap.put(attributeHandle, getPropertyCodec().encode(value));
+            }
+            dataOutput.writeInt(attributeHandleValueMap.size());
+            for(Map.Entry<Integer, byte[]> entry : attributeHandleValueMap.entrySet()) {
+                dataOutput.writeInt(entry.getKey());
+                dataOutput.writeInt(entry.getValue().length);
+                dataOutput.write(entry.getValue());
+            }
+        }
 
-                if (value instanceof JsonNode) {
-                    propertyJSONObject.set(key, (JsonNode)value);
-                } else if (value instanceof Character) {
-                    int intValue = (int)(char)value;
-                    propertyJSONObject.put(key, intValue);
-                } else {
-                    propertyJSONObject.putPOJO(key, value);
+        /**
+         * Reads a reflection written by {@link #writeRaw(DataOutput)}.
+         *
+         * @param dataInput from where to read the reflection
+         * @return the reflection
+         * @throws IOException if the reflection cannot be read
+         */
+        public static ObjectReflector read_raw(DataInput dataInput) throws IOException {
+            return read_raw((FederatePubSubRegistry)null, dataInput);
+        }
+
+        /**
+         * Like {@link #read_raw(DataInput)}, except that the reflection is of an object instance of the
+         * federate that uses "rti", as it was when it was written.
+         *
+         * @param rti the federate's RTIambassador
+         * @param dataInput from where to read the reflection
+         * @return the reflection
+         * @throws IOException if the reflection cannot be read
+         */
+        public static ObjectReflector read_raw(RTIambassador rti, DataInput dataInput) throws IOException {
+            return read_raw(FederatePubSubRegistry.get(rti), dataInput);
+        }
+
+        private static ObjectReflector read_raw(
+          FederatePubSubRegistry federatePubSubRegistry, DataInput dataInput
+        ) throws IOException {
+            ObjectReflector objectReflector = new ObjectReflector();
+            objectReflector._federatePubSubRegistry = federatePubSubRegistry;
+            objectReflector._objectHandle = dataInput.readInt();
+            objectReflector._time = dataInput.readDouble();
+            objectReflector._hlaClassName = dataInput.readUTF();
+            objectReflector._federateSequence = dataInput.readUTF();
+            int attributeCount = dataInput.readInt();
+            objectReflector._attributeHandleArray = new int[attributeCount];
+            objectReflector._attributeValueArray = new byte[attributeCount][];
+            for(int ix = 0 ; ix < attributeCount ; ++ix) {
+                objectReflector._attributeHandleArray[ix] = dataInput.readInt();
+                byte[] byteArrayValue = new byte[dataInput.readInt()];
+                dataInput.readFully(byteArrayValue);
+                objectReflector._attributeValueArray[ix] = byteArrayValue;
+            }
+            objectReflector._attributeCount = attributeCount;
+            return objectReflector;
+        }
+
+        private ObjectReflector() { }
+
+        public String toJson() {
+            return MessagingJsonCodec.write(jsonGenerator -> {
+                jsonGenerator.writeStringField("messaging_type", "object");
+                jsonGenerator.writeStringField("messaging_name", _hlaClassName);
+                jsonGenerator.writeNumberField("object_handle", _objectHandle);
+                jsonGenerator.writeStringField("federateSequence", _federateSequence);
+
+                jsonGenerator.writeObjectFieldStart("properties");
+                for(Map.Entry<ClassAndPropertyName, Object> entry : getClassAndPropertyNameValueMap().entrySet()) {
+                    // VALUES IN AN ObjectReflector ARE Attribute WRAPPERS -- WRITE THE VALUE ITSELF
+                    Object value = entry.getValue();
+                    if (value instanceof Attribute) {
+                        value = ((Attribute<?>)value).getValue();
+                    }
+                    MessagingJsonCodec.write_property(jsonGenerator, entry.getKey().toString(), value);
                 }
+                jsonGenerator.writeEndObject();
+            });
+        }
+
+        /**
+         * Returns the binary payload of this ObjectReflector (see {@link MessagingBinaryCodec}).
+         *
+         * @return the binary payload, or null if the class of the object is not defined
+         */
+        public String toBinary() {
+            PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout = get_attribute_slot_layout(_hlaClassName);
+            if (attributeSlotLayout == null) {
+                logger.error("ObjectReflector:  toBinary:  no class \"{}\" is defined", _hlaClassName);
+                return null;
             }
-            topLevelJSONObject.set("properties", propertyJSONObject);
-            return topLevelJSONObject.toPrettyString();
+
+            return MessagingBinaryCodec.write(MessagingBinaryCodec.OBJECT_MESSAGING_TYPE, writer -> {
+                writer.writeString(_hlaClassName);
+                writer.writeInt(_objectHandle);
+                writer.writeString(_federateSequence);
+                writer.writePropertySlotLayout(attributeSlotLayout);
+                for(Map.Entry<ClassAndPropertyName, Object> entry : getClassAndPropertyNameValueMap().entrySet()) {
+                    int slot = attributeSlotLayout.getSlot(entry.getKey());
+                    if (slot < 0) {
+                        continue;
+                    }
+                    Object value = entry.getValue();
+                    if (value instanceof Attribute) {
+                        value = ((Attribute<?>)value).getValue();
+                    }
+                    writer.writeProperty(slot, value);
+                }
+            });
         }
 
         /**
@@ -554,7 +996,8 @@ public class ObjectRoot implements ObjectRootInterface {
          * @return the object class instance contained by the ObjectReflector object.
          */
         public ObjectRoot getObjectRoot() {
-            return ObjectRoot.get_object(_objectHandle);
+            return _federatePubSubRegistry == null ?
+              ObjectRoot.get_object(_objectHandle) : getObjectHandleInstanceMap().get(_objectHandle);
         }
 
         public void setTime(double time) {
@@ -590,9 +1033,9 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Set<String> _hlaClassNameSet = new HashSet<>();
+    protected static Set<String> _hlaClassNameSet = ConcurrentHashMap.newKeySet();
 
-    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new HashSet<>();
+    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = ConcurrentHashMap.newKeySet();
 
     //--------------------------------------------------------------
     // METHODS THAT USE HLA CLASS-NAME-SET
@@ -619,7 +1062,7 @@ public class ObjectRoot implements ObjectRootInterface {
     //---------------------------
     // DYNAMIC HLA CLASS-NAME SET
     //---------------------------
-    private static final Set<String> _dynamicHlaClassNameSet = new HashSet<>();
+    private static final Set<String> _dynamicHlaClassNameSet = ConcurrentHashMap.newKeySet();
 
     //--------------------------------------------
     // METHODS THAT USE DYNAMIC HLA CLASS-NAME SET
@@ -647,7 +1090,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PROPERTY-NAME-SET MAP
@@ -690,7 +1133,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new ConcurrentHashMap<>();
 
     //----------------------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME ALL-PROPERTY-NAME-SET MAP
@@ -726,7 +1169,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<String, Integer> _classNameHandleMap = new HashMap<>();
+    protected static Map<String, Integer> _classNameHandleMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------
     // METHODS THAT USE CLASS-NAME CLASS-HANDLE MAP
@@ -760,7 +1203,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<Integer, String> _classHandleNameMap = new HashMap<>();
+    protected static Map<Integer, String> _classHandleNameMap = new ConcurrentHashMap<>();
 
     //--------------------------------------------------
     // METHODS THAT USE ONLY CLASS-HANDLE CLASS-NAME MAP
@@ -876,7 +1319,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     //-------------------------------------------------------------------------
-    protected static Map<String, ObjectRoot> _hlaClassNameInstanceMap = new HashMap<>();
+    protected static Map<String, ObjectRoot> _hlaClassNameInstanceMap = new ConcurrentHashMap<>();
 
     //-----------------------------------------
     // METHODS THAT USE CLASS-NAME INSTANCE MAP
@@ -920,14 +1363,22 @@ public class ObjectRoot implements ObjectRootInterface {
     //------------------------------
     // CLASS-NAME PUBLISH-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //------------------------------
-    protected static final HashMap<String, Boolean> _classNamePublishStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNamePublishStatusMap = new ConcurrentHashMap<>();
 
     //-----------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISH-STATUS MAP
     //-----------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has published the class (see
+     * {@link #get_is_published(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_published(String hlaClassName) {
         if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -942,6 +1393,24 @@ public class ObjectRoot implements ObjectRootInterface {
         return get_is_published(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_published(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the publish-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_published(String hlaClassName, RTIambassador rti) {
+        if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isPublished(hlaClassName);
+    }
+
+    public Boolean getIsPublished(RTIambassador rti) {
+        return get_is_published(getInstanceHlaClassName(), rti);
+    }
+
     private static void set_is_published(String hlaClassName, boolean publishStatus) {
         if (!_classNamePublishStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -960,14 +1429,22 @@ public class ObjectRoot implements ObjectRootInterface {
     //--------------------------------
     // CLASS-NAME SUBSCRIBE-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------
-    protected static final HashMap<String, Boolean> _classNameSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSubscribeStatusMap = new ConcurrentHashMap<>();
 
     //-------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBE-STATUS MAP
     //-------------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has subscribed to the class (see
+     * {@link #get_is_subscribed(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_subscribed(String hlaClassName) {
         if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -982,6 +1459,24 @@ public class ObjectRoot implements ObjectRootInterface {
         return get_is_subscribed(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_subscribed(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the subscribe-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_subscribed(String hlaClassName, RTIambassador rti) {
+        if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isSubscribed(hlaClassName);
+    }
+
+    public Boolean getIsSubscribed(RTIambassador rti) {
+        return get_is_subscribed(getInstanceHlaClassName(), rti);
+    }
+
 
     private static void set_is_subscribed(String hlaClassName, boolean subscribeStatus) {
         if (!_classNameSubscribeStatusMap.containsKey(hlaClassName)) {
@@ -1001,14 +1496,22 @@ public class ObjectRoot implements ObjectRootInterface {
     //-------------------------------------
     // CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
     //
+    // STATUS FOR ALL FEDERATES IN THE JVM.  THE STATUS FOR EACH FEDERATE IS KEPT IN
+    // ITS FederatePubSubRegistry.
+    //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //-------------------------------------
-    protected static final HashMap<String, Boolean> _classNameSoftSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSoftSubscribeStatusMap = new ConcurrentHashMap<>();
 
     //------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
     //------------------------------------------------------
+    /**
+     * @param hlaClassName name of the class
+     * @return true if any federate in this JVM has soft-subscribed to the class (see
+     * {@link #get_is_soft_subscribed(String, RTIambassador)} for a single federate), or null if there is no such class
+     */
     public static Boolean get_is_soft_subscribed(String hlaClassName) {
         if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
             logger.warn(
@@ -1024,6 +1527,24 @@ public class ObjectRoot implements ObjectRootInterface {
         return get_is_soft_subscribed(getInstanceHlaClassName());
     }
 
+    /**
+     * Like {@link #get_is_soft_subscribed(String)}, but for the federate that uses rti only.
+     *
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the soft-subscribe-status of the class for the federate, or null if there is no such class
+     */
+    public static Boolean get_is_soft_subscribed(String hlaClassName, RTIambassador rti) {
+        if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
+            return null;
+        }
+        return FederatePubSubRegistry.get(rti).isSoftSubscribed(hlaClassName);
+    }
+
+    public Boolean getIsSoftSubscribed(RTIambassador rti) {
+        return get_is_soft_subscribed(getInstanceHlaClassName(), rti);
+    }
+
 
     private static void set_is_soft_subscribed(String hlaClassName, boolean softSubscribeStatus) {
         if (!_classNameSoftSubscribeStatusMap.containsKey(hlaClassName)) {
@@ -1047,7 +1568,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePublishedAttributeNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePublishedAttributeNameSetMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISHED-ATTRIBUTE-NAME SET
@@ -1099,6 +1620,9 @@ public class ObjectRoot implements ObjectRootInterface {
         } else {
             classNamePubSubAttributeNameSetMap.get(hlaClassName).remove(key);
         }
+        if (publish) {
+            _attributePublicationVersion.incrementAndGet();
+        }
     }
 
     public static void publish_attribute(String className, String attributeClassName, String attributeName) {
@@ -1167,7 +1691,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //-----------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNameSubscribedAttributeNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNameSubscribedAttributeNameSetMap = new ConcurrentHashMap<>();
 
     //----------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-NAME SET
@@ -1247,7 +1771,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // - init(RTIambassador) ABOVE
     //----------------------------------------------
     protected static Map<String, Set<ClassAndPropertyName>> _classNameSoftSubscribedAttributeNameSetMap =
-            new HashMap<>();
+            new ConcurrentHashMap<>();
 
     //----------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-NAME SET
@@ -1341,7 +1865,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new ConcurrentHashMap<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME-PROPERTY-NAME PROPERTY-HANDLE MAP
@@ -1350,8 +1874,45 @@ public class ObjectRoot implements ObjectRootInterface {
     // PUBLISH AND SUBSCRIBE METHODS BELOW
     //--------------------------------------------------------------
 
+    //----------------------------------------------------------------------------------
+    // CLASS-NAME PROPERTY-NAME RESOLUTION INDEX
+    //
+    // FOR EACH CLASS, MAPS THE NAME OF EACH OF ITS PROPERTIES (INCLUDING INHERITED ONES) TO
+    // THE ClassAndPropertyName OF THE MOST-DERIVED CLASS THAT DEFINES IT, I.E. WHAT
+    // findProperty RETURNS.
+    //
+    // POPULATED BY commonInit, WHICH IS CALLED FOR EACH CLASS BY:
+    // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
+    // - readFederateDynamicMessageClasses
+    //----------------------------------------------------------------------------------
+    private static final Map<String, Map<String, ClassAndPropertyName>> _classNamePropertyNameResolutionMap =
+      new ConcurrentHashMap<>();
+
+    private static void index_class_properties(String hlaClassName) {
+        Map<String, ClassAndPropertyName> propertyNameResolutionMap = new HashMap<>();
+        Set<ClassAndPropertyName> allClassAndPropertyNameSet =
+          _allClassNamePropertyNameSetMap.getOrDefault(hlaClassName, Collections.emptySet());
+        for(ClassAndPropertyName classAndPropertyName: allClassAndPropertyNameSet) {
+            ClassAndPropertyName canonicalClassAndPropertyName = classAndPropertyName.intern();
+            propertyNameResolutionMap.merge(
+              classAndPropertyName.getPropertyName(),
+              canonicalClassAndPropertyName,
+              (existing, candidate) ->
+                candidate.getClassName().length() > existing.getClassName().length() ? candidate : existing
+            );
+        }
+        _classNamePropertyNameResolutionMap.put(hlaClassName, propertyNameResolutionMap);
+    }
+
     public static ClassAndPropertyName findProperty(String className, String propertyName) {
 
+        Map<String, ClassAndPropertyName> propertyNameResolutionMap =
+          _classNamePropertyNameResolutionMap.get(className);
+        if (propertyNameResolutionMap != null) {
+            return propertyNameResolutionMap.get(propertyName);
+        }
+
+        // className IS NOT A LOADED CLASS -- SEARCH ITS ANCESTORS
         List<String> classNameComponents = new ArrayList<>(Arrays.asList(className.split("\\.")));
 
         while(!classNameComponents.isEmpty()) {
@@ -1389,30 +1950,52 @@ public class ObjectRoot implements ObjectRootInterface {
 
         return _classAndPropertyNameHandleMap.get(key);
     }
-    protected SuppliedAttributes createSuppliedAttributes(boolean force) {
+    protected SuppliedAttributes createSuppliedAttributes(boolean force, PropertyCodec propertyCodec) {
         SuppliedAttributes suppliedAttributes = _rtiFactory.createSuppliedAttributes();
+        Set<ClassAndPropertyName> publishedAttributeNameSet =
+          _classNamePublishedAttributeNameSetMap.get(getInstanceHlaClassName());
+
+        if (!force && isDirtyAttributeSlotSetValid()) {
+            // ONLY THE ATTRIBUTES THAT HAVE BEEN SET SINCE THE LAST UPDATE NEED TO BE LOOKED AT
+            PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout =
+              _dirtyTrackedAttributeSlotMap.getPropertySlotLayout();
+            for(
+              int slot = _dirtyAttributeSlotSet.nextSetBit(0) ;
+              slot >= 0 ;
+              slot = _dirtyAttributeSlotSet.nextSetBit(slot + 1)
+            ) {
+                ClassAndPropertyName key = attributeSlotLayout.getKey(slot);
+                if (!publishedAttributeNameSet.contains(key)) {
+                    continue;
+                }
+                Attribute<?> attribute = (Attribute<?>)_dirtyTrackedAttributeSlotMap.getSlotValue(slot);
+                if (attribute.getShouldBeUpdated(false)) {
+                    byte[] byteArrayValue = propertyCodec.encode(attribute.getValue());
+                    suppliedAttributes.add(_classAndPropertyNameHandleMap.get(key), byteArrayValue );
+                    attribute.setUpdateSent();
+                }
+            }
+            _dirtyAttributeSlotSet.clear();
+            return suppliedAttributes;
+        }
 
-        for(ClassAndPropertyName key: _classNamePublishedAttributeNameSetMap.get(getInstanceHlaClassName())) {
+        int attributePublicationVersion = _attributePublicationVersion.get();
+        for(ClassAndPropertyName key: publishedAttributeNameSet) {
             int handle = _classAndPropertyNameHandleMap.get(key);
             Attribute<?> attribute = (Attribute<?>)classAndPropertyNameValueMap.get(key);
             if (attribute.getShouldBeUpdated(force)) {
-                Object value = attribute.getValue();
-                String stringValue;
-                if (value instanceof Boolean) {
-                    stringValue = (Boolean)value ? "1" : "0";
-                } else if (value instanceof Character) {
-                    stringValue = String.valueOf((short) ((Character) value).charValue());
-                } else if (value instanceof JsonNode) {
-                    stringValue = ((JsonNode)value).toPrettyString();
-                } else {
-                    stringValue = value.toString();
-                }
-                byte[] byteArrayValue = stringValue.getBytes();
+                byte[] byteArrayValue = propertyCodec.encode(attribute.getValue());
                 suppliedAttributes.add(handle, byteArrayValue );
                 attribute.setUpdateSent();
             }
         }
 
+        // ALL PUBLISHED ATTRIBUTES ARE NOW UP TO DATE, SO THE DIRTY-ATTRIBUTE SET IS VALID AGAIN
+        if (_dirtyTrackedAttributeSlotMap != null && classAndPropertyNameValueMap == _dirtyTrackedAttributeSlotMap) {
+            _dirtyAttributeSlotSet.clear();
+            _dirtyAttributeSlotSetPublicationVersion = attributePublicationVersion;
+        }
+
         return suppliedAttributes;
     }
 
@@ -1446,7 +2029,11 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new HashMap<>();
+    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new ConcurrentHashMap<>();
+
+    // SAME CONTENTS AS _handleClassAndPropertyNameMap, BUT WITHOUT BOXING THE HANDLE -- USED WHEN REFLECTING
+    private static final ObjectHandleTable<ClassAndPropertyName> _attributeHandleClassAndPropertyNameTable =
+      new ObjectHandleTable<>();
 
     //-------------------------------------------------------------
     // METHODS THAT USE PROPERTY-HANDLE CLASS-AND-PROPERTY-NAME MAP
@@ -1536,7 +2123,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------------------------
-    protected static Map<String, AttributeHandleSet> _classNamePublishedAttributeHandleSetMap = new HashMap<>();
+    protected static Map<String, AttributeHandleSet> _classNamePublishedAttributeHandleSetMap = new ConcurrentHashMap<>();
 
     //---------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISHED-ATTRIBUTE-HANDLE-SET MAP
@@ -1549,7 +2136,8 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (Boolean.TRUE.equals(get_is_published(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (federatePubSubRegistry.isPublished(hlaClassName)) {
             return;
         }
 
@@ -1588,6 +2176,7 @@ public class ObjectRoot implements ObjectRootInterface {
 
         logger.debug("publish: {}", hlaClassName);
 
+        federatePubSubRegistry.setPublished(hlaClassName, true);
         set_is_published(hlaClassName, true);
     }
 
@@ -1605,7 +2194,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //-----------------------------------------------
-    protected static Map<String, AttributeHandleSet> _classNameSubscribedAttributeHandleSetMap = new HashMap<>();
+    protected static Map<String, AttributeHandleSet> _classNameSubscribedAttributeHandleSetMap = new ConcurrentHashMap<>();
 
     //----------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-HANDLE-SET MAP
@@ -1618,7 +2207,8 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (Boolean.TRUE.equals(get_is_subscribed(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (federatePubSubRegistry.isSubscribed(hlaClassName)) {
             return;
         }
 
@@ -1657,6 +2247,7 @@ public class ObjectRoot implements ObjectRootInterface {
 
         logger.debug("subscribe: {}", hlaClassName);
 
+        federatePubSubRegistry.setSubscribed(hlaClassName, true);
         set_is_subscribed(hlaClassName, true);
     }
 
@@ -1666,6 +2257,7 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
+        FederatePubSubRegistry.get(rti).setSoftSubscribed(hlaClassName, true);
         set_is_soft_subscribed(hlaClassName, true);
     }
 
@@ -1684,7 +2276,8 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (Boolean.FALSE.equals(get_is_published(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (!federatePubSubRegistry.isPublished(hlaClassName)) {
             return;
         }
 
@@ -1713,7 +2306,8 @@ public class ObjectRoot implements ObjectRootInterface {
 
         logger.debug("unpublish: {}", hlaClassName);
 
-        set_is_published(hlaClassName, false);
+        federatePubSubRegistry.setPublished(hlaClassName, false);
+        set_is_published(hlaClassName, FederatePubSubRegistry.is_published_by_any(hlaClassName));
     }
 
     public static void unsubscribe_object(String hlaClassName, RTIambassador rti) {
@@ -1723,7 +2317,8 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (Boolean.FALSE.equals(get_is_subscribed(hlaClassName))) {
+        FederatePubSubRegistry federatePubSubRegistry = FederatePubSubRegistry.get(rti);
+        if (!federatePubSubRegistry.isSubscribed(hlaClassName)) {
             return;
         }
 
@@ -1752,7 +2347,8 @@ public class ObjectRoot implements ObjectRootInterface {
 
         logger.debug("unsubscribe: {}", hlaClassName);
 
-        set_is_subscribed(hlaClassName, false);
+        federatePubSubRegistry.setSubscribed(hlaClassName, false);
+        set_is_subscribed(hlaClassName, FederatePubSubRegistry.is_subscribed_by_any(hlaClassName));
     }
 
     public static void soft_unsubscribe_object(String hlaClassName, RTIambassador rti) {
@@ -1761,7 +2357,8 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        set_is_soft_subscribed(hlaClassName, false);
+        FederatePubSubRegistry.get(rti).setSoftSubscribed(hlaClassName, false);
+        set_is_soft_subscribed(hlaClassName, FederatePubSubRegistry.is_soft_subscribed_by_any(hlaClassName));
     }
 
     //--------------
@@ -1787,10 +2384,48 @@ public class ObjectRoot implements ObjectRootInterface {
     // END METHODS THAT USE ONLY OBJECT HANDLE
     //----------------------------------------
 
-    //----------------------------------
+    //----------------------------------------------------------------------------------
     // OBJECT-HANDLE OBJECT-INSTANCE MAP
-    //----------------------------------
-    private static final Map<Integer, ObjectRoot> _objectHandleInstanceMap = new HashMap<>();
+    //
+    // THE OBJECT INSTANCES A FEDERATE REGISTERS OR DISCOVERS THROUGH ITS RTIambassador ARE
+    // KEPT IN THE MAP OF ITS FederatePubSubRegistry, SO THAT FEDERATES IN ONE JVM DON'T SEE
+    // EACH OTHER'S OBJECTS.  THE MAP BELOW HOLDS THE INSTANCES DISCOVERED BY THE METHODS
+    // THAT ARE NOT GIVEN THE FEDERATE'S RTIambassador.
+    //----------------------------------------------------------------------------------
+    private static final ObjectHandleTable<ObjectRoot> _objectHandleInstanceMap = new ObjectHandleTable<>();
+
+    private static ObjectHandleTable<ObjectRoot> get_object_handle_instance_map(RTIambassador rti) {
+        return FederatePubSubRegistry.get(rti).getObjectHandleInstanceMap();
+    }
+
+    /**
+     * Returns statistics (number of instances, capacity, load factor, and insert and
+     * remove counts) of the internal table of registered and discovered object instances.
+     *
+     * @return statistics of the object-handle object-instance map
+     */
+    public static ObjectHandleTable.Stats get_object_instance_stats() {
+        return _objectHandleInstanceMap.getStats();
+    }
+
+    /**
+     * Like {@link #get_object_instance_stats()}, but for the object instances of the federate
+     * that uses "rti".
+     *
+     * @param rti the federate's RTIambassador
+     * @return statistics of the federate's object-handle object-instance map
+     */
+    public static ObjectHandleTable.Stats get_object_instance_stats(RTIambassador rti) {
+        return get_object_handle_instance_map(rti).getStats();
+    }
+
+    public static int get_object_instance_count() {
+        return _objectHandleInstanceMap.size();
+    }
+
+    public static int get_object_instance_count(RTIambassador rti) {
+        return get_object_handle_instance_map(rti).size();
+    }
 
     //--------------------------------------------------------
     // METHODS THAT USE ONLY OBJECT-HANDLE OBJECT-INSTANCE MAP
@@ -1803,13 +2438,30 @@ public class ObjectRoot implements ObjectRootInterface {
       * actual class, the returned reference must be cast down through the
       * inhertance hierarchy.
       *
+      * If there is no such instance in this map, the object instance with this
+      * handle that any federate in the JVM has registered or discovered is returned.
+      *
       * @param object_handle handle (RTI assigned) of object instance to retrieve
       * from the map internal to the ObjectRoot class.
       * @return object instance corresponding to the object_handle (RTI assigned)
       * in the map that is internal to the ObjectRoot class.
       */
     public static ObjectRoot get_object( int object_handle ) {
-        return _objectHandleInstanceMap.getOrDefault( object_handle, null );
+        ObjectRoot objectRoot = _objectHandleInstanceMap.get( object_handle );
+        return objectRoot != null ? objectRoot : FederatePubSubRegistry.get_object_of_any( object_handle );
+    }
+
+    /**
+     * Returns the object instance corresponding to the "object_handle" (RTI
+     * assigned) that the federate that uses "rti" has registered or discovered.
+     *
+     * @param rti the federate's RTIambassador
+     * @param object_handle handle (RTI assigned) of object instance to retrieve
+     * @return object instance corresponding to the object_handle, or null if
+     * the federate has no such instance
+     */
+    public static ObjectRoot get_object( RTIambassador rti, int object_handle ) {
+        return get_object_handle_instance_map( rti ).get( object_handle );
     }
 
     /**
@@ -1830,6 +2482,19 @@ public class ObjectRoot implements ObjectRootInterface {
         return _objectHandleInstanceMap.remove( object_handle );
     }
 
+    /**
+     * Like {@link #get_object( RTIambassador rti, int object_handle )}, except
+     * the object instance is also removed from the instances of the federate.
+     *
+     * @param rti the federate's RTIambassador
+     * @param object_handle handle (RTI assigned) of object instance to remove
+     * @return object instance corresponding to the object_handle, or null if
+     * the federate has no such instance
+     */
+    public static ObjectRoot remove_object( RTIambassador rti, int object_handle ) {
+        return get_object_handle_instance_map( rti ).remove( object_handle );
+    }
+
     private void setAttributes(Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap) {
         for(Map.Entry<ClassAndPropertyName, Object> entry: classAndPropertyNameValueMap.entrySet()) {
             ((Attribute<Object>)this.classAndPropertyNameValueMap.get(entry.getKey())).setValue(
@@ -1857,7 +2522,7 @@ public class ObjectRoot implements ObjectRootInterface {
     public static ObjectRoot reflect(
             int object_handle, Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
     ) {
-        ObjectRoot objectRoot = _objectHandleInstanceMap.get( object_handle );
+        ObjectRoot objectRoot = get_object( object_handle );
         if ( objectRoot == null ) return null;
         objectRoot.setAttributes(classAndPropertyNameValueMap);
         objectRoot.setTime(-1);
@@ -1865,7 +2530,7 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public static ObjectRoot reflect( int object_handle, ReflectedAttributes reflectedAttributes ) {
-        return reflect(object_handle, getClassAndPropertyNameValueMap(reflectedAttributes));
+        return reflect(object_handle, getClassAndPropertyNameValueMap(reflectedAttributes, _propertyCodec));
     }
 
     /**
@@ -1883,7 +2548,7 @@ public class ObjectRoot implements ObjectRootInterface {
     public static ObjectRoot reflect(
             int object_handle, Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap, double time
     ) {
-        ObjectRoot objectRoot = _objectHandleInstanceMap.get( object_handle );
+        ObjectRoot objectRoot = get_object( object_handle );
         if ( objectRoot == null ) return null;
         objectRoot.setAttributes(classAndPropertyNameValueMap);
         objectRoot.setTime( time );
@@ -1893,7 +2558,7 @@ public class ObjectRoot implements ObjectRootInterface {
     public static ObjectRoot reflect(
             int object_handle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
     ) {
-        return reflect(object_handle, getClassAndPropertyNameValueMap(reflectedAttributes));
+        return reflect(object_handle, getClassAndPropertyNameValueMap(reflectedAttributes, _propertyCodec));
     }
 
     /**
@@ -1909,13 +2574,30 @@ public class ObjectRoot implements ObjectRootInterface {
      * @return the object instance with updated attribute values
      */
     public static ObjectRoot reflect( int object_handle, ReflectedAttributes reflectedAttributes, double time ) {
-        ObjectRoot objectRoot = _objectHandleInstanceMap.get( object_handle );
+        ObjectRoot objectRoot = get_object( object_handle );
         if ( objectRoot == null ) return null;
         objectRoot.setTime( time );
         objectRoot.setAttributes( reflectedAttributes );
         return objectRoot;
     }
 
+    // REFLECTS AN ObjectReflector's RAW VALUES, DECODED WITH propertyCodec.  A TIMESTAMPED REFLECTION UPDATES THE TIMES OF THE REFLECTED
+    // ATTRIBUTES, AS reflect(int, ReflectedAttributes, double) DOES.  A RECEIVE-ORDER REFLECTION (time < 0) LEAVES
+    // THEM AS THEY WERE, AND ONLY SETS THE OBJECT'S TIME TO -1, AS reflect(int, Map) DOES.
+    private void reflect(
+      int[] attributeHandleArray,
+      byte[][] attributeValueArray,
+      int attributeCount,
+      double time,
+      PropertyCodec propertyCodec
+    ) {
+        boolean timestamped = time >= 0;
+        setTime( timestamped ? time : -1 );
+        for( int ix = 0 ; ix < attributeCount ; ++ix ) {
+            setAttribute( attributeHandleArray[ix], attributeValueArray[ix], timestamped, propertyCodec );
+        }
+    }
+
     //------------------------------------------------------------
     // END METHODS THAT USE ONLY OBJECT-HANDLE OBJECT-INSTANCE MAP
     //------------------------------------------------------------
@@ -1923,10 +2605,9 @@ public class ObjectRoot implements ObjectRootInterface {
     //---------------------------------------------------
     // METHODS THAT USE BOTH OBJECT MAP AND OBJECT HANDLE
     //---------------------------------------------------
-    private void setObjectHandle( int object_handle ) {
-        _objectHandleInstanceMap.remove( object_handle );
+    private void setObjectHandle( RTIambassador rti, int object_handle ) {
         _objectHandle = object_handle;
-        _objectHandleInstanceMap.put( object_handle, this );
+        get_object_handle_instance_map( rti ).put( object_handle, this );
     }
 
     //-------------------------------------------------------
@@ -1939,15 +2620,40 @@ public class ObjectRoot implements ObjectRootInterface {
     //--------------------------------------------
 
     public static ObjectRoot discover( String full_hla_class_name, int object_handle ) {
-        if (_objectHandleInstanceMap.containsKey(object_handle)) {
-            return _objectHandleInstanceMap.get(object_handle);
+        return discover( _objectHandleInstanceMap, full_hla_class_name, object_handle );
+    }
+
+    /**
+     * Like {@link #discover( String full_hla_class_name, int object_handle )}, except
+     * the instance is one of the object instances of the federate that uses "rti".
+     *
+     * @param rti the federate's RTIambassador
+     * @param full_hla_class_name name of the object class for which to create an instance
+     * @param object_handle handle (RTI assigned) of the instance
+     * @return the federate's instance corresponding to object_handle
+     */
+    public static ObjectRoot discover( RTIambassador rti, String full_hla_class_name, int object_handle ) {
+        return discover( get_object_handle_instance_map( rti ), full_hla_class_name, object_handle );
+    }
+
+    private static ObjectRoot discover(
+      ObjectHandleTable<ObjectRoot> objectHandleInstanceMap, String full_hla_class_name, int object_handle
+    ) {
+        ObjectRoot existingInstance = objectHandleInstanceMap.get(object_handle);
+        if (existingInstance != null) {
+            return existingInstance;
         }
 
         ObjectRoot instance = create_object( full_hla_class_name );
 
         if (instance != null) {
-            instance.setObjectHandle( object_handle );
-            _objectHandleInstanceMap.put(object_handle, instance);
+            instance._objectHandle = object_handle;
+
+            // IF ANOTHER THREAD DISCOVERED THE SAME OBJECT FIRST, USE ITS INSTANCE
+            existingInstance = objectHandleInstanceMap.putIfAbsent(object_handle, instance);
+            if (existingInstance != null) {
+                return existingInstance;
+            }
         }
 
         return instance;
@@ -1979,6 +2685,21 @@ public class ObjectRoot implements ObjectRootInterface {
         return className == null ? null : discover(className, object_handle);
     }
 
+    /**
+     * Like {@link #discover( int class_handle, int object_handle )}, except the
+     * instance is one of the object instances of the federate that uses "rti".
+     *
+     * @param rti the federate's RTIambassador
+     * @param class_handle handle of object class (RTI assigned) for which to create
+     * an instance
+     * @param object_handle handle (also RTI assigned) of the instance
+     * @return the federate's instance corresponding to object_handle
+     */
+    public static ObjectRoot discover( RTIambassador rti, int class_handle, int object_handle ) {
+        String className = _classHandleNameMap.get( class_handle );
+        return className == null ? null : discover(rti, className, object_handle);
+    }
+
     //----------------------------------------------------------------------------------------------------------
     // END METHODS THAT USE OBJECT-HANDLE INSTANCE MAP, CLASS-HANDLE CLASS-NAME MAP, AND CLASS-NAME INSTANCE MAP
     //----------------------------------------------------------------------------------------------------------
@@ -2003,7 +2724,7 @@ public class ObjectRoot implements ObjectRootInterface {
         while (!_isRegistered) {
             try {
                 synchronized (rti) {
-                    setObjectHandle( rti.registerObjectInstance(getClassHandle()) );
+                    setObjectHandle( rti, rti.registerObjectInstance(getClassHandle()) );
                 }
                 _isRegistered = true;
             } catch (ObjectClassNotDefined | ObjectClassNotPublished | FederateNotExecutionMember e) {
@@ -2030,7 +2751,7 @@ public class ObjectRoot implements ObjectRootInterface {
         while (!_isRegistered) {
             try {
                 synchronized (rti) {
-                    setObjectHandle( rti.registerObjectInstance(getClassHandle(), name) );
+                    setObjectHandle( rti, rti.registerObjectInstance(getClassHandle(), name) );
                 }
                 _isRegistered = true;
             } catch (ObjectClassNotDefined | ObjectClassNotPublished | FederateNotExecutionMember ex) {
@@ -2058,7 +2779,7 @@ public class ObjectRoot implements ObjectRootInterface {
                 synchronized( rti ) {
                     rti.deleteObjectInstance(getObjectHandle(), null);
                 }
-                _objectHandleInstanceMap.remove( getObjectHandle() );
+                get_object_handle_instance_map( rti ).remove( getObjectHandle() );
                 _isRegistered = false;
             } catch ( ObjectNotKnown | DeletePrivilegeNotHeld | FederateNotExecutionMember e) {
                 logger.error("{}", CpswtUtils.getStackTrace(e));
@@ -2117,10 +2838,150 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
+    //----------------------------------------------------------------------------------
+    // PROPERTY CODEC
+    //
+    // ENCODES ATTRIBUTE VALUES TO, AND DECODES THEM FROM, THE BYTE-ARRAYS USED BY THE RTI.
+    // ALL FEDERATES IN A FEDERATION MUST USE THE SAME CODEC.
+    //
+    // A FEDERATE SETS ITS OWN CODEC IN ITS FederatePubSubRegistry, SO THAT FEDERATES IN ONE
+    // JVM CAN USE DIFFERENT CODECS.  THE CODEC BELOW IS USED FOR A FEDERATE THAT HAS NOT SET
+    // ONE, AND BY THE METHODS THAT ARE NOT GIVEN THE FEDERATE'S RTIambassador.
+    //----------------------------------------------------------------------------------
+    private static PropertyCodec _propertyCodec = StringPropertyCodec.INSTANCE;
+
+    public static PropertyCodec get_property_codec() {
+        return _propertyCodec;
+    }
+
+    /**
+     * @param rti the federate's RTIambassador
+     * @return the codec of the federate that uses rti, or {@link #get_property_codec()} if it has not set one
+     */
+    public static PropertyCodec get_property_codec(RTIambassador rti) {
+        return get_property_codec_or_default(FederatePubSubRegistry.get(rti).getPropertyCodec());
+    }
+
+    private static PropertyCodec get_property_codec_or_default(PropertyCodec propertyCodec) {
+        return propertyCodec == null ? _propertyCodec : propertyCodec;
+    }
+
+    public static void set_property_codec(PropertyCodec propertyCodec) {
+        if (propertyCodec == null) {
+            logger.warn("set_property_codec: cannot set property codec to null -- ignoring");
+            return;
+        }
+        _propertyCodec = propertyCodec;
+    }
+
+    //----------------------------------------------------------------------------------
+    // CLASS-NAME ATTRIBUTE-SLOT-LAYOUT MAP
+    //
+    // THE SLOT LAYOUT OF A CLASS ASSIGNS EACH OF ITS ATTRIBUTES (INCLUDING INHERITED ONES)
+    // TO AN INDEX IN THE VALUE ARRAY OF EACH INSTANCE OF THE CLASS.  IT IS COMPUTED ONCE, IN
+    // commonInit, AND IS SHARED BY ALL INSTANCES OF THE CLASS.
+    //----------------------------------------------------------------------------------
+    protected static Map<String, PropertySlotLayout<ClassAndPropertyName>> _classNameAttributeSlotLayoutMap =
+      new ConcurrentHashMap<>();
+
+    public static PropertySlotLayout<ClassAndPropertyName> get_attribute_slot_layout(String hlaClassName) {
+        PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout =
+          _classNameAttributeSlotLayoutMap.get(hlaClassName);
+        if (attributeSlotLayout != null) {
+            return attributeSlotLayout;
+        }
+
+        Set<ClassAndPropertyName> allClassAndPropertyNameSet = _allClassNamePropertyNameSetMap.get(hlaClassName);
+        return allClassAndPropertyNameSet == null ? null : _classNameAttributeSlotLayoutMap.computeIfAbsent(
+          hlaClassName, k -> new PropertySlotLayout<>(allClassAndPropertyNameSet)
+        );
+    }
+
     //-------------------------------------------
     // CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
+    //
+    // FOR A DEFINED CLASS, THIS IS A PropertySlotMap THAT USES THE CLASS'S SLOT LAYOUT
     //-------------------------------------------
-    protected Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+    protected Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap;
+
+    //----------------------
+    // DIRTY-ATTRIBUTE SLOTS
+    //
+    // THE SLOTS OF THE ATTRIBUTES THAT HAVE BEEN SET SINCE THE LAST UPDATE, SO THAT AN UPDATE ONLY HAS TO LOOK AT
+    // THEM.  THE SET IS VALID ONLY WHILE classAndPropertyNameValueMap IS THE PropertySlotMap WHOSE ATTRIBUTES MARK
+    // IT, AND NO ATTRIBUTE HAS BEEN PUBLISHED OR UNPUBLISHED SINCE THE LAST UPDATE OF ALL PUBLISHED ATTRIBUTES.
+    // OTHERWISE, AN UPDATE LOOKS AT ALL PUBLISHED ATTRIBUTES.
+    //----------------------
+    private static final AtomicInteger _attributePublicationVersion = new AtomicInteger();
+
+    private PropertySlotMap<ClassAndPropertyName> _dirtyTrackedAttributeSlotMap = null;
+    private BitSet _dirtyAttributeSlotSet = null;
+    private int _dirtyAttributeSlotSetPublicationVersion = -1;
+    private Consumer<ObjectRoot> _attributeDirtyListener = null;
+
+    /**
+     * Returns a number that changes whenever an attribute of any object class is published or
+     * unpublished.
+     *
+     * @return the current attribute publication version
+     */
+    public static int get_attribute_publication_version() {
+        return _attributePublicationVersion.get();
+    }
+
+    private void attachAttributes() {
+        if (!(classAndPropertyNameValueMap instanceof PropertySlotMap)) {
+            _dirtyTrackedAttributeSlotMap = null;
+            return;
+        }
+        PropertySlotMap<ClassAndPropertyName> attributeSlotMap =
+          (PropertySlotMap<ClassAndPropertyName>)classAndPropertyNameValueMap;
+        int size = attributeSlotMap.getPropertySlotLayout().size();
+        _dirtyTrackedAttributeSlotMap = attributeSlotMap;
+        _dirtyAttributeSlotSet = new BitSet(size);
+        _dirtyAttributeSlotSetPublicationVersion = -1;
+        for(int slot = 0 ; slot < size ; ++slot) {
+            ((Attribute<?>)attributeSlotMap.getSlotValue(slot)).setOwner(this, slot);
+        }
+    }
+
+    private boolean isDirtyAttributeSlotSetValid() {
+        return _dirtyTrackedAttributeSlotMap != null &&
+          classAndPropertyNameValueMap == _dirtyTrackedAttributeSlotMap &&
+          _dirtyAttributeSlotSetPublicationVersion == _attributePublicationVersion.get();
+    }
+
+    private void markAttributeSlotDirty(int slot) {
+        boolean wasClean = _dirtyAttributeSlotSet.isEmpty();
+        _dirtyAttributeSlotSet.set(slot);
+        Consumer<ObjectRoot> attributeDirtyListener = _attributeDirtyListener;
+        if (wasClean && attributeDirtyListener != null) {
+            attributeDirtyListener.accept(this);
+        }
+    }
+
+    /**
+     * Returns whether this object may have attributes that need to be sent in its next
+     * (non-forced) attribute update.  This does not look at the attributes themselves, so it is
+     * cheap, but it may return true when an update would send nothing.
+     *
+     * @return false if this object's next attribute update is known to send nothing, true otherwise
+     */
+    public boolean hasDirtyAttributes() {
+        return !isDirtyAttributeSlotSetValid() || !_dirtyAttributeSlotSet.isEmpty();
+    }
+
+    /**
+     * Sets a listener that is called with this object whenever one of its attributes is set
+     * after all of its attributes had been sent, i.e. when the object goes from having nothing to
+     * update to having something to update.  Used by attribute-update schedulers, so that they only
+     * look at the objects that have changed.
+     *
+     * @param attributeDirtyListener listener to call, or null for none
+     */
+    public void setAttributeDirtyListener(Consumer<ObjectRoot> attributeDirtyListener) {
+        _attributeDirtyListener = attributeDirtyListener;
+    }
 
     //------------------------------------------------------------
     // METHODS THAT USE CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
@@ -2130,6 +2991,16 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     private static Object getValueForClassAndPropertyName(ClassAndPropertyName classAndPropertyName, Object value) {
+        return getValueForClassAndPropertyName(
+          classAndPropertyName,
+          ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(classAndPropertyName)).getValue(),
+          value
+        );
+    }
+
+    private static Object getValueForClassAndPropertyName(
+      ClassAndPropertyName classAndPropertyName, Object initialValueForType, Object value
+    ) {
         String hlaClassName = classAndPropertyName.getClassName();
         String propertyName = classAndPropertyName.getPropertyName();
 
@@ -2141,8 +3012,6 @@ public class ObjectRoot implements ObjectRootInterface {
             );
             return null;
         }
-        Object initialValueForType =
-          ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(classAndPropertyName)).getValue();
 
         // IF value IS A STRING, AND THE TYPE OF THE ATTRIBUTE IS A NUMBER-TYPE, TRY TO SEE IF THE
         // STRING CAN BE CONVERTED TO A NUMBER.
@@ -2748,13 +3617,15 @@ public class ObjectRoot implements ObjectRootInterface {
     // - fromJson()
     // - readFederateDynamicMessageClasses(Reader reader) BELOW
     //------------------------------------------
-    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new ConcurrentHashMap<>();
 
     //-------------
     // CONSTRUCTORS
     //-------------
 
-    protected ObjectRoot(NoInstanceInit noInstanceInit) { }
+    protected ObjectRoot(NoInstanceInit noInstanceInit) {
+        classAndPropertyNameValueMap = new HashMap<>();
+    }
 
     /**
      * Creates a new ObjectRoot instance.
@@ -2766,17 +3637,21 @@ public class ObjectRoot implements ObjectRootInterface {
               "hlaClassName \"{}\" is not defined -- creating dummy object with fictitious type \"{}\"",
               hlaClassName, hlaClassName
             );
+            classAndPropertyNameValueMap = new HashMap<>();
             return;
         }
 
-        Set<ClassAndPropertyName> allClassAndPropertyNameSet =
-          _allClassNamePropertyNameSetMap.getOrDefault(hlaClassName, null);
-        if (allClassAndPropertyNameSet != null) {
-            for(ClassAndPropertyName classAndPropertyName: allClassAndPropertyNameSet) {
-                Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
-                classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute((Attribute<Object>)(initialValue)));
-            }
+        PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout = _classNameAttributeSlotLayoutMap.computeIfAbsent(
+          hlaClassName,
+          k -> new PropertySlotLayout<>(_allClassNamePropertyNameSetMap.getOrDefault(k, Collections.emptySet()))
+        );
+        PropertySlotMap<ClassAndPropertyName> attributeSlotMap = new PropertySlotMap<>(attributeSlotLayout);
+        for(int slot = 0 ; slot < attributeSlotLayout.size() ; ++slot) {
+            Object initialValue = _classAndPropertyNameInitialValueMap.get(attributeSlotLayout.getKey(slot));
+            attributeSlotMap.setSlotValue(slot, new Attribute((Attribute<Object>)(initialValue)));
         }
+        classAndPropertyNameValueMap = attributeSlotMap;
+        attachAttributes();
     }
 
     public ObjectRoot( String hlaClassName, LogicalTime logicalTime ) {
@@ -2808,6 +3683,7 @@ public class ObjectRoot implements ObjectRootInterface {
         classAndPropertyNameValueMap.replaceAll(
                 (k, v) -> new Attribute<>((Attribute<Object>) classAndPropertyNameValueMap.get(k))
         );
+        attachAttributes();
     }
 
     //-----------------
@@ -2823,6 +3699,7 @@ public class ObjectRoot implements ObjectRootInterface {
                         key, new Attribute<>((Attribute<Object>)messagingRoot.classAndPropertyNameValueMap.get(key)));
                 }
             }
+            attachAttributes();
         }
     }
 
@@ -2838,7 +3715,7 @@ public class ObjectRoot implements ObjectRootInterface {
         int size = propertyMap.size();
         for( int ix = 0 ; ix < size ; ++ix ) {
             try {
-                setAttribute(  propertyMap.getAttributeHandle( ix ), propertyMap.getValue( ix )  );
+                setAttribute(  propertyMap.getAttributeHandle( ix ), propertyMap.getValue( ix ), true, _propertyCodec  );
             } catch ( Exception e ) {
                 logger.error( "setAttributes: Exception caught!" );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
@@ -2846,16 +3723,34 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
-    private void setAttribute( int handle, byte[] value ) {
+    private void setAttribute( int handle, byte[] value, boolean updateTime, PropertyCodec propertyCodec ) {
         if ( value == null ) {
             logger.error( "set:  Attempt to set null value  class \"{}\"", getClass().getName());
             return;
         }
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+        ClassAndPropertyName classAndPropertyName = _attributeHandleClassAndPropertyNameTable.get(handle);
+        if (classAndPropertyName == null) {
+            logger.error("setAttribute(int, byte[] value): propertyHandle {} does not exist.", handle);
+            return;
+        }
+        Object newValue = decodeValue(classAndPropertyName, value, propertyCodec);
+        if (newValue == null) {
+            return;
+        }
+
+        // DECODE DIRECTLY INTO THE ATTRIBUTE -- classAndPropertyName IS ALREADY RESOLVED BY THE HANDLE
+        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(classAndPropertyName);
+        if (attribute == null) {
+            logger.error(
+              "setAttribute(int, byte[] value): attribute \"{}\" (handle {}) is not an attribute of class \"{}\"",
+              classAndPropertyName, handle, getInstanceHlaClassName()
+            );
+            return;
+        }
+        attribute.setValue(newValue);
+        if (updateTime) {
+            attribute.setTime(getTime());
         }
-        setAttribute(handle, valueAsString);
     }
 
     /**
@@ -2872,7 +3767,7 @@ public class ObjectRoot implements ObjectRootInterface {
      */
     public void updateAttributeValues( RTIambassador rti, double time, boolean force ) {
 
-        SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force );
+        SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force, get_property_codec( rti ) );
         if ( suppliedAttributes.size() == 0 ) return;
 
         synchronized( rti ) {
@@ -2928,7 +3823,7 @@ public class ObjectRoot implements ObjectRootInterface {
      */
     public void updateAttributeValues( RTIambassador rti, boolean force ) {
 
-        SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force );
+        SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force, get_property_codec( rti ) );
         if ( suppliedAttributes.size() == 0 ) return;
 
         synchronized( rti ) {
@@ -2967,9 +3862,79 @@ public class ObjectRoot implements ObjectRootInterface {
         updateAttributeValues( rti, false );
     }
 
+    /**
+     * Like {@link #updateAttributeValues( RTIambassador rti, double time, boolean force )}, but the
+     * update is sent by the given {@link RTIExecutor}, so this method does not wait for the RTI.
+     * The attribute values are encoded before this method returns, so the object may be changed
+     * afterwards.
+     *
+     * @param rtiExecutor executor through which to send the update
+     * @param time timestamp on attribute values of this object, or a negative value to send them
+     * without a timestamp
+     * @param force if "false", only the attributes whose values have changed since
+     * the last call to "updateAttributeValues" will be broadcast to the RTI.  If
+     * "true", all attributes and their values are broadcast to the RTI.
+     */
+    public void updateAttributeValues( RTIExecutor rtiExecutor, double time, boolean force ) {
+
+        SuppliedAttributes suppliedAttributes =
+          createSuppliedAttributes( force, get_property_codec( rtiExecutor.getRTI() ) );
+        if ( suppliedAttributes.size() == 0 ) return;
+
+        int objectHandle = getObjectHandle();
+        String className = getClass().getName();
+        rtiExecutor.execute(rti -> {
+            try {
+                if (time >= 0) {
+                    rti.updateAttributeValues( objectHandle, suppliedAttributes, null, new DoubleTime( time ) );
+                } else {
+                    rti.updateAttributeValues( objectHandle, suppliedAttributes, null );
+                }
+            } catch ( Exception e ) {
+                logger.error( "{}:  could not update attributes:  {}", className, e.getClass().getSimpleName() );
+                logger.error("{}", CpswtUtils.getStackTrace(e));
+            }
+        });
+    }
+
+    /**
+     * Like {@link #updateAttributeValues( RTIExecutor rtiExecutor, double time, boolean force )},
+     * except the attribute values are sent without a timestamp.
+     *
+     * @param rtiExecutor executor through which to send the update
+     * @param force if "false", only the attributes whose values have changed since
+     * the last call to "updateAttributeValues" will be broadcast to the RTI.  If
+     * "true", all attributes and their values are broadcast to the RTI.
+     */
+    public void updateAttributeValues( RTIExecutor rtiExecutor, boolean force ) {
+        updateAttributeValues( rtiExecutor, -1, force );
+    }
+
+    /**
+     * Like {@link #updateAttributeValues( RTIambassador rti, double time, boolean force )}, but the
+     * update is added to the given {@link OutboundStepBatch}, and is sent to the RTI when the batch is
+     * flushed.  An update of this object with the same timestamp that is already in the batch is
+     * merged with this one, keeping the latest value of each attribute.
+     *
+     * @param outboundStepBatch batch to which to add the update
+     * @param time timestamp on attribute values of this object, or a negative value to send them
+     * without a timestamp
+     * @param force if "false", only the attributes whose values have changed since
+     * the last call to "updateAttributeValues" will be broadcast to the RTI.  If
+     * "true", all attributes and their values are broadcast to the RTI.
+     */
+    public void updateAttributeValues( OutboundStepBatch outboundStepBatch, double time, boolean force ) {
+
+        SuppliedAttributes suppliedAttributes =
+          createSuppliedAttributes( force, get_property_codec_or_default( outboundStepBatch.getPropertyCodec() ) );
+        if ( suppliedAttributes.size() == 0 ) return;
+
+        outboundStepBatch.addAttributeUpdate( getObjectHandle(), suppliedAttributes, time, getClass().getName() );
+    }
+
     protected static String _fedName = null;
-    protected static Map<String, String> _pubAttributeLogMap = new HashMap<>();
-    protected static Map<String, String> _subAttributeLogMap = new HashMap<>();
+    protected static Map<String, String> _pubAttributeLogMap = new ConcurrentHashMap<>();
+    protected static Map<String, String> _subAttributeLogMap = new ConcurrentHashMap<>();
 
     /**
      * For use with the melding API -- this method is used to cast
@@ -3181,75 +4146,235 @@ public class ObjectRoot implements ObjectRootInterface {
     //-------------------------------------------------------------------
 
     public String toJson(boolean force) {
-        ObjectNode topLevelJSONObject = objectMapper.createObjectNode();
-        topLevelJSONObject.put("messaging_type", "object");
-        topLevelJSONObject.put("messaging_name", getInstanceHlaClassName());
-        topLevelJSONObject.put("federateSequence", "[]");
-        topLevelJSONObject.put("object_handle", getObjectHandle());
-
-        ObjectNode propertyJSONObject = objectMapper.createObjectNode();
-        topLevelJSONObject.set("properties", propertyJSONObject);
-        for(ClassAndPropertyName key : getPublishedAttributeNameSet()) {
-            Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-            if (attribute.getShouldBeUpdated(force)) {
-                Object value = attribute.getValue();
-                if (value instanceof JsonNode) {
-                    propertyJSONObject.set(key.toString(), (JsonNode)value);
-                } else if (value instanceof Character) {
-                    int intValue = (int)(char)value;
-                    propertyJSONObject.put(key.toString(), intValue);
-                } else {
-                    propertyJSONObject.putPOJO(key.toString(), value);
+        return MessagingJsonCodec.write(jsonGenerator -> {
+            jsonGenerator.writeStringField("messaging_type", "object");
+            jsonGenerator.writeStringField("messaging_name", getInstanceHlaClassName());
+            jsonGenerator.writeStringField("federateSequence", "[]");
+            jsonGenerator.writeNumberField("object_handle", getObjectHandle());
+
+            jsonGenerator.writeObjectFieldStart("properties");
+            for(ClassAndPropertyName key : getPublishedAttributeNameSet()) {
+                Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
+                if (attribute.getShouldBeUpdated(force)) {
+                    MessagingJsonCodec.write_property(jsonGenerator, key.toString(), attribute.getValue());
                 }
             }
-        }
-        return topLevelJSONObject.toPrettyString();
+            jsonGenerator.writeEndObject();
+        });
     }
 
     public String toJson() {
         return toJson(false);
     }
 
+    private static void readProperties(
+      JsonParser jsonParser,
+      Set<ClassAndPropertyName> softSubscribedAttributeNameSet,
+      Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
+    ) throws IOException {
+        while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            ClassAndPropertyName classAndPropertyName = ClassAndPropertyName.find(jsonParser.getCurrentName());
+            jsonParser.nextToken();
+
+            if (classAndPropertyName == null || !softSubscribedAttributeNameSet.contains(classAndPropertyName)) {
+                jsonParser.skipChildren();
+                continue;
+            }
+
+            Class<?> desiredType = ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(
+              classAndPropertyName
+            )).getValue().getClass();
+            Object object = MessagingJsonCodec.read_value(jsonParser, desiredType);
+            classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(object));
+        }
+    }
+
     public static ObjectReflector fromJson(String jsonString) {
-        ObjectNode jsonObject;
-        try {
-            jsonObject = (ObjectNode)objectMapper.readTree(jsonString);
-        } catch (JsonProcessingException jsonProcessingException) {
-            logger.error("Exception parsing JSON for object reflector: ", jsonProcessingException);
+        return fromJson((FederatePubSubRegistry)null, jsonString);
+    }
+
+    /**
+     * Like {@link #fromJson(String)}, except that the object is discovered as one of the object
+     * instances of the federate that uses "rti", if this federate does not have it yet.
+     *
+     * @param rti the federate's RTIambassador
+     * @param jsonString JSON of the object reflector
+     * @return the object reflector, or null if the JSON cannot be decoded
+     */
+    public static ObjectReflector fromJson(RTIambassador rti, String jsonString) {
+        return fromJson(FederatePubSubRegistry.get(rti), jsonString);
+    }
+
+    private static ObjectReflector fromJson(FederatePubSubRegistry federatePubSubRegistry, String jsonString) {
+        int objectHandle = 0;
+        String className = null;
+        String federateSequence = "[]";
+        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = null;
+        Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+        JsonNode deferredPropertyJSONObject = null;
+
+        try (JsonParser jsonParser = MessagingJsonCodec.create_parser(jsonString)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                logger.error("ObjectRoot:  fromJson:  JSON for object reflector is not a JSON object");
+                return null;
+            }
+            while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                switch(fieldName) {
+                    case "object_handle" -> objectHandle = jsonParser.getValueAsInt();
+                    case "federateSequence" -> federateSequence = jsonParser.getText();
+                    case "messaging_name" -> {
+                        className = jsonParser.getText();
+                        softSubscribedAttributeNameSet = ObjectRoot.get_soft_subscribed_attribute_name_set(
+                          className
+                        );
+                        if (softSubscribedAttributeNameSet == null) {
+                            logger.error("ObjectRoot:  fromJson:  no class \"{}\" is defined", className);
+                            return null;
+                        }
+                    }
+                    case "properties" -> {
+                        // PROPERTIES CAN ONLY BE DECODED ONCE THE CLASS IS KNOWN
+                        if (softSubscribedAttributeNameSet == null) {
+                            deferredPropertyJSONObject = jsonParser.readValueAsTree();
+                        } else {
+                            readProperties(jsonParser, softSubscribedAttributeNameSet, classAndPropertyNameValueMap);
+                        }
+                    }
+                    default -> jsonParser.skipChildren();
+                }
+            }
+
+            if (className == null) {
+                logger.error("ObjectRoot:  fromJson:  JSON for object reflector has no \"messaging_name\"");
+                return null;
+            }
+            if (deferredPropertyJSONObject != null) {
+                try (JsonParser propertyJsonParser = MessagingJsonCodec.create_parser(deferredPropertyJSONObject)) {
+                    readProperties(propertyJsonParser, softSubscribedAttributeNameSet, classAndPropertyNameValueMap);
+                }
+            }
+        } catch (IOException ioException) {
+            logger.error("Exception parsing JSON for object reflector: ", ioException);
             return null;
         }
-        int objectHandle = jsonObject.get("object_handle").asInt();
-        String className = jsonObject.get("messaging_name").asText();
-        String federateSequence = jsonObject.get("federateSequence").asText();
 
-        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = ObjectRoot.get_soft_subscribed_attribute_name_set(
-          className
-        );
-        if (softSubscribedAttributeNameSet == null) {
-            logger.error("ObjectRoot:  fromJson:  no class \"{}\" is defined", className);
+        ObjectReflector objectReflector =
+          new ObjectReflector(federatePubSubRegistry, objectHandle, className, classAndPropertyNameValueMap);
+        objectReflector.setFederateSequence(federateSequence);
+        return objectReflector;
+    }
+
+    /**
+     * Returns the binary payload of the published attributes of this object that should be updated
+     * (see {@link MessagingBinaryCodec}).
+     *
+     * @param force if true, all published attributes are included, whether they have changed or not
+     * @return the binary payload, or null if the class of this object is not defined
+     */
+    public String toBinary(boolean force) {
+        PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout =
+          get_attribute_slot_layout(getInstanceHlaClassName());
+        if (attributeSlotLayout == null) {
+            logger.error("ObjectRoot:  toBinary:  no class \"{}\" is defined", getInstanceHlaClassName());
             return null;
         }
 
-        Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
-        ObjectNode propertyJSONObject = (ObjectNode)jsonObject.get("properties");
-        Iterator<String> keyIterator = propertyJSONObject.fieldNames();
-        while(keyIterator.hasNext()) {
-            String key = keyIterator.next();
-            ClassAndPropertyName classAndPropertyName = new ClassAndPropertyName(key);
-            if (softSubscribedAttributeNameSet.contains(classAndPropertyName)) {
-                Class<?> desiredType = ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(
+        return MessagingBinaryCodec.write(MessagingBinaryCodec.OBJECT_MESSAGING_TYPE, writer -> {
+            writer.writeString(getInstanceHlaClassName());
+            writer.writeInt(getObjectHandle());
+            writer.writeString("[]");
+            writer.writePropertySlotLayout(attributeSlotLayout);
+            for(ClassAndPropertyName key : getPublishedAttributeNameSet()) {
+                Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
+                int slot = attributeSlotLayout.getSlot(key);
+                if (slot >= 0 && attribute.getShouldBeUpdated(force)) {
+                    writer.writeProperty(slot, attribute.getValue());
+                }
+            }
+        });
+    }
+
+    public String toBinary() {
+        return toBinary(false);
+    }
+
+    public static ObjectReflector fromBinary(String payload) {
+        return fromBinary((FederatePubSubRegistry)null, payload);
+    }
+
+    /**
+     * Like {@link #fromBinary(String)}, except that the object is discovered as one of the object
+     * instances of the federate that uses "rti", if this federate does not have it yet.
+     *
+     * @param rti the federate's RTIambassador
+     * @param payload binary payload of the object reflector
+     * @return the object reflector, or null if the payload cannot be decoded
+     */
+    public static ObjectReflector fromBinary(RTIambassador rti, String payload) {
+        return fromBinary(FederatePubSubRegistry.get(rti), payload);
+    }
+
+    private static ObjectReflector fromBinary(FederatePubSubRegistry federatePubSubRegistry, String payload) {
+        MessagingBinaryCodec.Reader reader =
+          MessagingBinaryCodec.create_reader(payload, MessagingBinaryCodec.OBJECT_MESSAGING_TYPE);
+        if (reader == null) {
+            return null;
+        }
+
+        try {
+            String className = reader.readString();
+            int objectHandle = reader.readInt();
+            String federateSequence = reader.readString();
+
+            Set<ClassAndPropertyName> softSubscribedAttributeNameSet =
+              ObjectRoot.get_soft_subscribed_attribute_name_set(className);
+            if (softSubscribedAttributeNameSet == null) {
+                logger.error("ObjectRoot:  fromBinary:  no class \"{}\" is defined", className);
+                return null;
+            }
+
+            PropertySlotLayout<ClassAndPropertyName> attributeSlotLayout = get_attribute_slot_layout(className);
+            if (attributeSlotLayout == null || !reader.readPropertySlotLayout(attributeSlotLayout)) {
+                logger.error(
+                  "ObjectRoot:  fromBinary:  attributes of class \"{}\" are not defined as in the sending federate",
+                  className
+                );
+                return null;
+            }
+
+            Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+            while(reader.hasMoreProperties()) {
+                int slot = reader.readPropertySlot();
+                ClassAndPropertyName classAndPropertyName =
+                  slot >= 0 && slot < attributeSlotLayout.size() ? attributeSlotLayout.getKey(slot) : null;
+                if (classAndPropertyName == null || !softSubscribedAttributeNameSet.contains(classAndPropertyName)) {
+                    reader.skipPropertyValue();
+                    continue;
+                }
+
+                Object initialValueForType = ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(
                   classAndPropertyName
-                )).getValue().getClass();
-                Object object = castJsonToType(propertyJSONObject.get(key), desiredType);
-                classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(object));
+                )).getValue();
+                Object value = reader.readPropertyValue(initialValueForType);
+                if (value != null) {
+                    classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(value));
+                }
             }
+
+            ObjectReflector objectReflector =
+              new ObjectReflector(federatePubSubRegistry, objectHandle, className, classAndPropertyNameValueMap);
+            objectReflector.setFederateSequence(federateSequence);
+            return objectReflector;
+
+        } catch (BufferUnderflowException bufferUnderflowException) {
+            logger.error("ObjectRoot:  fromBinary:  binary payload is truncated");
         }
-        ObjectReflector objectReflector = new ObjectReflector(objectHandle, className, classAndPropertyNameValueMap);
-        objectReflector.setFederateSequence(federateSequence);
-        return objectReflector;
+        return null;
     }
 
-    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishDirectSetMap = new HashMap<>();
+    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishDirectSetMap = new ConcurrentHashMap<>();
 
     public static void add_federate_name_soft_publish_direct(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -3259,33 +4384,29 @@ public class ObjectRoot implements ObjectRootInterface {
             );
             return;
         }
-        if (!_hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishDirectSetMap.put(hlaClassName, new HashSet<>());
-        }
-        _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName).add(federateName);
+        _hlaClassNameToFederateNameSoftPublishDirectSetMap.computeIfAbsent(hlaClassName, k -> ConcurrentHashMap.newKeySet()).add(federateName);
 
     }
 
     public static void remove_federate_name_soft_publish_direct(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName)) {
-            Set<String> stringSet = _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName);
-            stringSet.remove(federateName);
-            if (stringSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishDirectSetMap.remove(hlaClassName);
-            }
-        }
+        // REMOVE THE SET ATOMICALLY WHEN IT BECOMES EMPTY
+        _hlaClassNameToFederateNameSoftPublishDirectSetMap.computeIfPresent(hlaClassName, (k, federateNameSet) -> {
+            federateNameSet.remove(federateName);
+            return federateNameSet.isEmpty() ? null : federateNameSet;
+        });
     }
 
     public static Set<String> get_federate_name_soft_publish_direct_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName) ?
-            new HashSet<>(_hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName)) : new HashSet<>();
+        return new HashSet<>(
+          _hlaClassNameToFederateNameSoftPublishDirectSetMap.getOrDefault(hlaClassName, Collections.emptySet())
+        );
     }
 
     public Set<String> getFederateNameSoftPublishDirectSet() {
         return get_federate_name_soft_publish_direct_set(getInstanceHlaClassName());
     }
 
-    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new HashMap<>();
+    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new ConcurrentHashMap<>();
 
     public static void add_federate_name_soft_publish(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -3296,40 +4417,78 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (!_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishSetMap.put(hlaClassName, new HashSet<>());
-        }
-        _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName).add(federateName);
+        _hlaClassNameToFederateNameSoftPublishSetMap.computeIfAbsent(hlaClassName, k -> ConcurrentHashMap.newKeySet()).add(federateName);
     }
 
     public void addFederateNameSoftPublish(String federateName) {
         add_federate_name_soft_publish(getInstanceHlaClassName(), federateName);
     }
 
-    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            Set<String> federateNameSoftPublishSet =
-              _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
-            federateNameSoftPublishSet.remove(federateName);
-            if (federateNameSoftPublishSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
-            }
+    /**
+     * Like {@link #add_federate_name_soft_publish(String, String)}, but only for the federate that
+     * uses rti:  other federates in this JVM do not soft-publish the class to federateName.
+     *
+     * @param hlaClassName name of the class
+     * @param federateName name of the federate to which to soft-publish the class
+     * @param rti the soft-publishing federate's RTIambassador
+     */
+    public static void add_federate_name_soft_publish(String hlaClassName, String federateName, RTIambassador rti) {
+        if (!_classNameHandleMap.containsKey(hlaClassName)) {
+            logger.warn(
+              "add_federate_name_soft_publish(\"{}\", \"{}\", rti) -- no such object class \"{}\"",
+              hlaClassName, federateName, hlaClassName
+            );
+            return;
         }
+
+        FederatePubSubRegistry.get(rti).addFederateNameSoftPublish(hlaClassName, federateName);
+    }
+
+    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
+        // REMOVE THE SET ATOMICALLY WHEN IT BECOMES EMPTY
+        _hlaClassNameToFederateNameSoftPublishSetMap.computeIfPresent(hlaClassName, (k, federateNameSet) -> {
+            federateNameSet.remove(federateName);
+            return federateNameSet.isEmpty() ? null : federateNameSet;
+        });
     }
 
     public void removeFederateNameSoftPublish(String federateName) {
         remove_federate_name_soft_publish(getInstanceHlaClassName(), federateName);
     }
 
+    public static void remove_federate_name_soft_publish(String hlaClassName, String federateName, RTIambassador rti) {
+        FederatePubSubRegistry.get(rti).removeFederateNameSoftPublish(hlaClassName, federateName);
+    }
+
     public Set<String> get_federate_name_soft_publish_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName) ?
-          new HashSet<>(_hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName)) : new HashSet<>();
+        return new HashSet<>(
+          _hlaClassNameToFederateNameSoftPublishSetMap.getOrDefault(hlaClassName, Collections.emptySet())
+        );
     }
 
     public Set<String> getFederateNameSoftPublishSet() {
         return get_federate_name_soft_publish_set(getInstanceHlaClassName());
     }
 
+    /**
+     * @param hlaClassName name of the class
+     * @param rti the federate's RTIambassador
+     * @return the names of the federates to which the federate that uses rti soft-publishes the class:
+     * those added for every federate in this JVM, and those added for this federate only
+     */
+    public static Set<String> get_federate_name_soft_publish_set(String hlaClassName, RTIambassador rti) {
+        return FederatePubSubRegistry.get(rti).addFederateNameSoftPublishSet(
+          hlaClassName,
+          new HashSet<>(
+            _hlaClassNameToFederateNameSoftPublishSetMap.getOrDefault(hlaClassName, Collections.emptySet())
+          )
+        );
+    }
+
+    public Set<String> getFederateNameSoftPublishSet(RTIambassador rti) {
+        return get_federate_name_soft_publish_set(getInstanceHlaClassName(), rti);
+    }
+
     private static ObjectNode federationJson = null;
 
     public static void readFederationJson(File federationJsonFile) {
@@ -3350,7 +4509,7 @@ public class ObjectRoot implements ObjectRootInterface {
         federationJson = (ObjectNode)objectMapper.readTree(reader);
     }
 
-    private static final Map<String, Attribute<Object>> _typeInitialValueMap = new HashMap<>();
+    private static final Map<String, Attribute<Object>> _typeInitialValueMap = new ConcurrentHashMap<>();
     static {
         _typeInitialValueMap.put("boolean", new Attribute<>(false));
         _typeInitialValueMap.put("byte", new Attribute<>((byte)0));
@@ -3432,13 +4591,20 @@ public class ObjectRoot implements ObjectRootInterface {
             Iterator<String> fieldNameIterator = messagingPropertyDataMap.fieldNames();
             while(fieldNameIterator.hasNext()) {
                 String propertyName = fieldNameIterator.next();
-                ClassAndPropertyName classAndPropertyName = new ClassAndPropertyName(hlaClassName, propertyName);
+                ClassAndPropertyName classAndPropertyName = ClassAndPropertyName.get(hlaClassName, propertyName);
                 classAndPropertyNameSet.add(classAndPropertyName);
 
                 ObjectNode typeDataMap = (ObjectNode)messagingPropertyDataMap.get(propertyName);
                 if (!typeDataMap.get("Hidden").asBoolean()) {
                     String propertyTypeString = typeDataMap.get("ParameterType").asText();
                     Object initialValue = _typeInitialValueMap.get(propertyTypeString);
+                    if (initialValue == null) {
+                        logger.error(
+                          "readFederateDynamicMessageClasses: unknown type \"{}\" for property \"{}\"",
+                          propertyTypeString, classAndPropertyName
+                        );
+                        continue;
+                    }
                     _classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
                 }
             }
@@ -0,0 +1,296 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+
+import hla.rti.RTIambassador;
+import hla.rti.SuppliedAttributes;
+import hla.rti.SuppliedParameters;
+
+import org.portico.impl.hla13.types.DoubleTime;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Collects the interactions and attribute updates a federate sends during one time-step, so that
+ * they can be sent to the RTI in one pass, under one acquisition of the RTIambassador's monitor
+ * (or as one {@link RTIExecutor} command), when the time-step ends.
+ * <p>
+ * Parameter and attribute values are encoded when they are added, so the interactions and objects
+ * may be changed afterwards.  Updates of the same object with the same timestamp are coalesced:
+ * the batch keeps the last value of each attribute, and sends the update at the position of the
+ * first one.  Otherwise, messages are sent in the order in which they were added.
+ */
+public class OutboundStepBatch {
+
+    private static final Logger logger = LogManager.getLogger(OutboundStepBatch.class);
+
+    private interface Message {
+        void send(RTIambassador rti);
+    }
+
+    private static class InteractionMessage implements Message {
+        private final List<Integer> _classHandleList;
+        private final SuppliedParameters _suppliedParameters;
+        private final double _time;
+        private final String _className;
+
+        private InteractionMessage(
+          List<Integer> classHandleList, SuppliedParameters suppliedParameters, double time, String className
+        ) {
+            _classHandleList = classHandleList;
+            _suppliedParameters = suppliedParameters;
+            _time = time;
+            _className = className;
+        }
+
+        public void send(RTIambassador rti) {
+            for(int classHandle : _classHandleList) {
+                try {
+                    if (_time >= 0) {
+                        rti.sendInteraction( classHandle, _suppliedParameters, null, new DoubleTime( _time ) );
+                    } else {
+                        rti.sendInteraction( classHandle, _suppliedParameters, null );
+                    }
+                } catch ( Exception e ) {
+                    logger.error( "{}:  could not send interaction as class with handle {}", _className, classHandle );
+                    logger.error("{}", CpswtUtils.getStackTrace(e));
+                }
+            }
+        }
+    }
+
+    private static class AttributeUpdateKey {
+        private final int _objectHandle;
+        private final double _time;
+
+        private AttributeUpdateKey(int objectHandle, double time) {
+            _objectHandle = objectHandle;
+            // ALL UPDATES WITHOUT A TIMESTAMP SHARE ONE KEY
+            _time = time >= 0 ? time : -1;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof AttributeUpdateKey)) {
+                return false;
+            }
+            AttributeUpdateKey otherKey = (AttributeUpdateKey)other;
+            return _objectHandle == otherKey._objectHandle && Double.compare(_time, otherKey._time) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * _objectHandle + Double.hashCode(_time);
+        }
+    }
+
+    private static class AttributeUpdateMessage implements Message {
+        private final int _objectHandle;
+        private final double _time;
+        private final String _className;
+        private final Map<Integer, byte[]> _attributeValueMap = new LinkedHashMap<>();
+        private SuppliedAttributes _suppliedAttributes;
+        private int _updateCount = 0;
+
+        private AttributeUpdateMessage(int objectHandle, double time, String className) {
+            _objectHandle = objectHandle;
+            _time = time;
+            _className = className;
+        }
+
+        private void merge(SuppliedAttributes suppliedAttributes) {
+            for(int ix = 0 ; ix < suppliedAttributes.size() ; ++ix) {
+                try {
+                    _attributeValueMap.put(suppliedAttributes.getHandle(ix), suppliedAttributes.getValue(ix));
+                } catch ( Exception e ) {
+                    logger.error( "{}:  could not read supplied attribute {}", _className, ix );
+                    logger.error("{}", CpswtUtils.getStackTrace(e));
+                }
+            }
+            // THE SuppliedAttributes OF THE FIRST UPDATE IS REUSED, AND ONLY REFILLED IF LATER UPDATES WERE MERGED
+            if (_suppliedAttributes == null) {
+                _suppliedAttributes = suppliedAttributes;
+            }
+            ++_updateCount;
+        }
+
+        public void send(RTIambassador rti) {
+            if (_updateCount > 1) {
+                _suppliedAttributes.empty();
+                for(Map.Entry<Integer, byte[]> entry : _attributeValueMap.entrySet()) {
+                    _suppliedAttributes.add(entry.getKey(), entry.getValue());
+                }
+            }
+            try {
+                if (_time >= 0) {
+                    rti.updateAttributeValues( _objectHandle, _suppliedAttributes, null, new DoubleTime( _time ) );
+                } else {
+                    rti.updateAttributeValues( _objectHandle, _suppliedAttributes, null );
+                }
+            } catch ( Exception e ) {
+                logger.error( "{}:  could not update attributes:  {}", _className, e.getClass().getSimpleName() );
+                logger.error("{}", CpswtUtils.getStackTrace(e));
+            }
+        }
+    }
+
+    private List<Message> _messageList = new ArrayList<>();
+    private Map<AttributeUpdateKey, AttributeUpdateMessage> _attributeUpdateMessageMap = new HashMap<>();
+    private int _coalescedUpdateCount = 0;
+
+    // null UNLESS SET, IN WHICH CASE VALUES ARE ENCODED WITH THE CODEC OF InteractionRoot OR ObjectRoot
+    private volatile PropertyCodec _propertyCodec = null;
+
+    /**
+     * @return the codec with which the values of the interactions and attribute updates added to this
+     * batch are encoded, or null if it has not been set
+     */
+    public PropertyCodec getPropertyCodec() {
+        return _propertyCodec;
+    }
+
+    /**
+     * Sets the codec with which the values of the interactions and attribute updates added to this
+     * batch are encoded, i.e. the codec of the federate that sends the batch.
+     *
+     * @param propertyCodec the codec, or null to use the codec of {@link InteractionRoot} and
+     *                      {@link ObjectRoot}
+     */
+    public void setPropertyCodec(PropertyCodec propertyCodec) {
+        _propertyCodec = propertyCodec;
+    }
+
+    synchronized void addInteraction(
+      List<Integer> classHandleList, SuppliedParameters suppliedParameters, double time, String className
+    ) {
+        _messageList.add( new InteractionMessage(classHandleList, suppliedParameters, time, className) );
+    }
+
+    synchronized void addAttributeUpdate(
+      int objectHandle, SuppliedAttributes suppliedAttributes, double time, String className
+    ) {
+        AttributeUpdateKey attributeUpdateKey = new AttributeUpdateKey(objectHandle, time);
+        AttributeUpdateMessage attributeUpdateMessage = _attributeUpdateMessageMap.get(attributeUpdateKey);
+        if (attributeUpdateMessage == null) {
+            attributeUpdateMessage = new AttributeUpdateMessage(objectHandle, time, className);
+            _attributeUpdateMessageMap.put(attributeUpdateKey, attributeUpdateMessage);
+            _messageList.add(attributeUpdateMessage);
+        } else {
+            ++_coalescedUpdateCount;
+        }
+        attributeUpdateMessage.merge(suppliedAttributes);
+    }
+
+    /**
+     * Returns the number of messages in this batch, where coalesced attribute updates count as one.
+     *
+     * @return the number of messages in this batch
+     */
+    public synchronized int size() {
+        return _messageList.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return _messageList.isEmpty();
+    }
+
+    /**
+     * Returns the number of attribute updates that have been merged into an earlier update of the
+     * same object with the same timestamp, since this batch was created.
+     *
+     * @return the number of coalesced attribute updates
+     */
+    public synchronized int getCoalescedUpdateCount() {
+        return _coalescedUpdateCount;
+    }
+
+    /**
+     * Discards the messages in this batch without sending them.
+     */
+    public synchronized void clear() {
+        takeMessageList();
+    }
+
+    private synchronized List<Message> takeMessageList() {
+        List<Message> messageList = _messageList;
+        _messageList = new ArrayList<>();
+        _attributeUpdateMessageMap = new HashMap<>();
+        return messageList;
+    }
+
+    private static void send_message_list(RTIambassador rti, List<Message> messageList) {
+        for(Message message : messageList) {
+            message.send(rti);
+        }
+    }
+
+    /**
+     * Sends the messages in this batch to the RTI, under one acquisition of the RTIambassador's
+     * monitor, and empties the batch.  Messages added while the batch is being sent go into the
+     * next batch.
+     *
+     * @param rti handle to the RTI, usu. obtained through the
+     * {@link SynchronizedFederate#getRTI()} call
+     */
+    public void flush(RTIambassador rti) {
+        List<Message> messageList = takeMessageList();
+        if (messageList.isEmpty()) {
+            return;
+        }
+        synchronized( rti ) {
+            send_message_list(rti, messageList);
+        }
+    }
+
+    /**
+     * Like {@link #flush(RTIambassador)}, but the messages are sent as a single command of the given
+     * {@link RTIExecutor}, so this method does not wait for the RTI.
+     *
+     * @param rtiExecutor executor through which to send the messages
+     */
+    public void flush(RTIExecutor rtiExecutor) {
+        List<Message> messageList = takeMessageList();
+        if (messageList.isEmpty()) {
+            return;
+        }
+        rtiExecutor.execute(rti -> send_message_list(rti, messageList));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+/**
+ * A PropertyCodec converts the value of a parameter (of an interaction) or an
+ * attribute (of an object) to the byte-array that is sent to the RTI, and back.
+ * <p/>
+ * All federates in a federation must use the same codec.  A federate's codec is
+ * selected with {@link FederatePubSubRegistry#setPropertyCodec(PropertyCodec)}, usu. from
+ * the "propertyEncoding" federate parameter.  A federate that does not select one uses the
+ * codec set with {@link InteractionRoot#set_property_codec(PropertyCodec)} and
+ * {@link ObjectRoot#set_property_codec(PropertyCodec)}.  The default is the
+ * {@link StringPropertyCodec}.
+ */
+public interface PropertyCodec {
+
+    String STRING_ENCODING = "string";
+    String BINARY_ENCODING = "binary";
+
+    /**
+     * Returns the name of this codec's encoding, i.e. {@link #STRING_ENCODING} or
+     * {@link #BINARY_ENCODING}.
+     *
+     * @return the name of this codec's encoding
+     */
+    String getEncodingName();
+
+    /**
+     * Encodes a parameter or attribute value for sending to the RTI.
+     *
+     * @param value value of the parameter or attribute.  Must not be null.
+     * @return the byte-array encoding of "value"
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a parameter or attribute value received from the RTI.
+     *
+     * @param value byte-array encoding of the value as received from the RTI
+     * @param initialValueForType initial value of the parameter or attribute -- its type determines the
+     * type of the decoded value
+     * @return the decoded value, which is either of the same type as "initialValueForType" or a String that
+     * is converted to this type by the caller, or null if "value" could not be decoded
+     */
+    Object decode(byte[] value, Object initialValueForType);
+
+    /**
+     * Returns the codec for the given encoding name.
+     *
+     * @param encodingName name of the encoding, i.e. {@link #STRING_ENCODING} or {@link #BINARY_ENCODING}.
+     * A null or empty name selects the {@link #STRING_ENCODING}.
+     * @return the codec for the encoding, or null if there is no such encoding
+     */
+    static PropertyCodec get_codec(String encodingName) {
+        if (encodingName == null || encodingName.isEmpty() || STRING_ENCODING.equalsIgnoreCase(encodingName)) {
+            return StringPropertyCodec.INSTANCE;
+        }
+        if (BINARY_ENCODING.equalsIgnoreCase(encodingName)) {
+            return BinaryPropertyCodec.INSTANCE;
+        }
+        return null;
+    }
+}
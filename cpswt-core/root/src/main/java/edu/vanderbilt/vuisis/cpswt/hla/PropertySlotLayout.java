@@ -0,0 +1,142 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Fixed assignment of the properties of a messaging class to array slots.
+ * A layout is computed once per class, when the class is initialized, and is shared by
+ * all of its instances, so that each instance only needs to store its values in a dense
+ * array (see {@link PropertySlotMap}).
+ *
+ * @param <K> type of the property key (i.e. ClassAndPropertyName)
+ */
+public class PropertySlotLayout<K extends Comparable<K>> {
+
+    /**
+     * A property key that remembers where it sits in the layouts that contain it, so that
+     * {@link #getSlot(Object)} can index the slot array directly instead of hashing the key.
+     * <p>
+     * The cached value is the number of slots that follow the key.  Keys are sorted with derived
+     * classes first, so the keys that follow a key are its later siblings and the properties of the
+     * ancestors of its class:  the same keys in the layout of every class that has the key.
+     */
+    public interface SlotCachingKey {
+        /**
+         * @return the number of slots that follow this key in a layout, or -1 if not yet known
+         */
+        int getCachedSlotsAfter();
+
+        void setCachedSlotsAfter(int slotsAfter);
+    }
+
+    private final Object[] _slotKeyArray;
+    private final Map<K, Integer> _keySlotMap = new HashMap<>();
+    private final int _fingerprint;
+
+    /**
+     * Creates a layout for the given property keys.  Slots are assigned in the natural
+     * order of the keys, so that the layout for a given set of keys is always the same.
+     *
+     * @param keyCollection property keys of the messaging class
+     */
+    public PropertySlotLayout(Collection<K> keyCollection) {
+        _slotKeyArray = new TreeSet<>(keyCollection).toArray();
+        for(int slot = 0 ; slot < _slotKeyArray.length ; ++slot) {
+            @SuppressWarnings("unchecked")
+            K key = (K)_slotKeyArray[slot];
+            _keySlotMap.put(key, slot);
+
+            if (key instanceof SlotCachingKey) {
+                SlotCachingKey slotCachingKey = (SlotCachingKey)key;
+                if (slotCachingKey.getCachedSlotsAfter() < 0) {
+                    slotCachingKey.setCachedSlotsAfter(_slotKeyArray.length - 1 - slot);
+                }
+            }
+        }
+
+        // String.hashCode IS THE SAME IN EVERY JVM, SO FEDERATES THAT LAY OUT THE SAME KEYS GET THE SAME FINGERPRINT
+        int fingerprint = 1;
+        for(Object key : _slotKeyArray) {
+            fingerprint = 31 * fingerprint + key.toString().hashCode();
+        }
+        _fingerprint = fingerprint;
+    }
+
+    /**
+     * @return the number of slots in this layout
+     */
+    public int size() {
+        return _slotKeyArray.length;
+    }
+
+    /**
+     * @return a hash of the keys of this layout in slot order, that is the same for the same keys in
+     * every federate, so that federates can check that they assign the same slots to the same keys
+     */
+    public int getFingerprint() {
+        return _fingerprint;
+    }
+
+    /**
+     * @param key property key
+     * @return the slot of the property key, or -1 if the key is not part of this layout
+     */
+    public int getSlot(Object key) {
+        if (key instanceof SlotCachingKey) {
+            int cachedSlotsAfter = ((SlotCachingKey)key).getCachedSlotsAfter();
+            if (cachedSlotsAfter >= 0) {
+                // THE CACHED VALUE IS ONLY A HINT -- A LAYOUT OF AN ARBITRARY KEY SET MAY PUT THE KEY ELSEWHERE
+                int slot = _slotKeyArray.length - 1 - cachedSlotsAfter;
+                if (slot >= 0 && _slotKeyArray[slot] == key) {
+                    return slot;
+                }
+            }
+        }
+
+        Integer slot = _keySlotMap.get(key);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @param slot slot number
+     * @return the property key assigned to the slot
+     */
+    @SuppressWarnings("unchecked")
+    public K getKey(int slot) {
+        return (K)_slotKeyArray[slot];
+    }
+}
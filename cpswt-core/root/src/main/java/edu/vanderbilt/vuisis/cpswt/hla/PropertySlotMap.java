@@ -0,0 +1,239 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Map of property values that stores the values in a dense array, indexed by the slots of a
+ * {@link PropertySlotLayout} that is shared by all instances of a messaging class.  Unlike a
+ * HashMap, it does not allocate an entry object for each property of each instance.
+ * <p>
+ * Only the keys of the layout can be put in the map.  A slot whose value is null is
+ * treated as absent.
+ *
+ * @param <K> type of the property key (i.e. ClassAndPropertyName)
+ */
+public class PropertySlotMap<K extends Comparable<K>> extends AbstractMap<K, Object> {
+
+    private final PropertySlotLayout<K> _propertySlotLayout;
+    private final Object[] _slotValueArray;
+
+    public PropertySlotMap(PropertySlotLayout<K> propertySlotLayout) {
+        _propertySlotLayout = propertySlotLayout;
+        _slotValueArray = new Object[propertySlotLayout.size()];
+    }
+
+    /**
+     * Creates a shallow copy of "other", sharing its layout.
+     *
+     * @param other map to copy
+     */
+    public PropertySlotMap(PropertySlotMap<K> other) {
+        _propertySlotLayout = other._propertySlotLayout;
+        _slotValueArray = Arrays.copyOf(other._slotValueArray, other._slotValueArray.length);
+    }
+
+    public PropertySlotLayout<K> getPropertySlotLayout() {
+        return _propertySlotLayout;
+    }
+
+    public Object getSlotValue(int slot) {
+        return _slotValueArray[slot];
+    }
+
+    public void setSlotValue(int slot, Object value) {
+        _slotValueArray[slot] = value;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for(Object value: _slotValueArray) {
+            if (value != null) {
+                ++size;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = _propertySlotLayout.getSlot(key);
+        return slot >= 0 && _slotValueArray[slot] != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = _propertySlotLayout.getSlot(key);
+        return slot < 0 ? null : _slotValueArray[slot];
+    }
+
+    @Override
+    public Object put(K key, Object value) {
+        int slot = _propertySlotLayout.getSlot(key);
+        if (slot < 0) {
+            throw new IllegalArgumentException("key \"" + key + "\" is not part of the slot layout");
+        }
+        Object oldValue = _slotValueArray[slot];
+        _slotValueArray[slot] = value;
+        return oldValue;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = _propertySlotLayout.getSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        Object oldValue = _slotValueArray[slot];
+        _slotValueArray[slot] = null;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(_slotValueArray, null);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super Object, ?> function) {
+        for(int slot = 0 ; slot < _slotValueArray.length ; ++slot) {
+            if (_slotValueArray[slot] != null) {
+                _slotValueArray[slot] = function.apply(_propertySlotLayout.getKey(slot), _slotValueArray[slot]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<K, Object>>() {
+            @Override
+            public Iterator<Map.Entry<K, Object>> iterator() {
+                return new SlotEntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PropertySlotMap.this.size();
+            }
+        };
+    }
+
+    private class SlotEntry implements Map.Entry<K, Object> {
+        private final int _slot;
+
+        SlotEntry(int slot) {
+            _slot = slot;
+        }
+
+        @Override
+        public K getKey() {
+            return _propertySlotLayout.getKey(_slot);
+        }
+
+        @Override
+        public Object getValue() {
+            return _slotValueArray[_slot];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object oldValue = _slotValueArray[_slot];
+            _slotValueArray[_slot] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>)object;
+            return getKey().equals(other.getKey()) &&
+              (getValue() == null ? other.getValue() == null : getValue().equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    private class SlotEntryIterator implements Iterator<Map.Entry<K, Object>> {
+        private int _nextSlot = advance(0);
+        private int _lastSlot = -1;
+
+        private int advance(int slot) {
+            while(slot < _slotValueArray.length && _slotValueArray[slot] == null) {
+                ++slot;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _nextSlot < _slotValueArray.length;
+        }
+
+        @Override
+        public Map.Entry<K, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _lastSlot = _nextSlot;
+            _nextSlot = advance(_nextSlot + 1);
+            return new SlotEntry(_lastSlot);
+        }
+
+        @Override
+        public void remove() {
+            if (_lastSlot < 0) {
+                throw new IllegalStateException();
+            }
+            _slotValueArray[_lastSlot] = null;
+            _lastSlot = -1;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+import hla.rti.RTIambassador;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Single thread that makes a federate's calls to its RTIambassador, so that threads that send
+ * interactions and attribute updates never wait for the RTI.
+ * <p>
+ * Commands are put on a lock-free multiple-producer, single-consumer queue and return at
+ * once ({@link #execute(RTICommand)}), or with a future for their completion or result
+ * ({@link #submit(RTICall)}).  The executor thread runs them in the order in which they were
+ * put on the queue, in batches of up to {@link #getMaxBatchSize()} commands per acquisition of
+ * the RTIambassador's monitor.  Calls to the RTI that are made directly (synchronized on the
+ * RTIambassador) therefore still work, and are interleaved with the batches.
+ * <p>
+ * Ticks are commands too ({@link #tick(double, double)}), so they are interleaved fairly with
+ * sends:  a tick runs after the sends queued before it, and sends queued while it runs wait only
+ * for it (which is bounded by its maximum time), not for other threads' ticks.  Since commands are
+ * run in order, a time-advance request made through the executor is only made after all the sends
+ * that were queued before it.
+ */
+public class RTIExecutor {
+
+    private static final Logger logger = LogManager.getLogger(RTIExecutor.class);
+
+    /**
+     * An RTI call with no result.
+     */
+    @FunctionalInterface
+    public interface RTICommand {
+        void execute(RTIambassador rti) throws Exception;
+    }
+
+    /**
+     * An RTI call with a result.
+     *
+     * @param <T> type of the result
+     */
+    @FunctionalInterface
+    public interface RTICall<T> {
+        T call(RTIambassador rti) throws Exception;
+    }
+
+    private static class Task<T> {
+        private final RTICommand _rtiCommand;
+        private final RTICall<T> _rtiCall;
+        private final CompletableFuture<T> _future;
+
+        private Task(RTICommand rtiCommand) {
+            _rtiCommand = rtiCommand;
+            _rtiCall = null;
+            _future = null;
+        }
+
+        private Task(RTICall<T> rtiCall) {
+            _rtiCommand = null;
+            _rtiCall = rtiCall;
+            _future = new CompletableFuture<>();
+        }
+
+        private void run(RTIambassador rti) {
+            try {
+                if (_rtiCall != null) {
+                    _future.complete(_rtiCall.call(rti));
+                } else {
+                    _rtiCommand.execute(rti);
+                }
+            } catch (Throwable throwable) {
+                // EVEN AN Error MUST NOT END THE EXECUTOR THREAD, AS EVERY LATER COMMAND WOULD THEN HANG
+                if (_future != null) {
+                    _future.completeExceptionally(throwable);
+                } else {
+                    logger.error("RTIExecutor:  RTI command failed", throwable);
+                }
+            }
+        }
+    }
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    private final RTIambassador _rti;
+    private final ConcurrentLinkedQueue<Task<?>> _taskQueue = new ConcurrentLinkedQueue<>();
+    private final Thread _thread;
+
+    private volatile int _maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private volatile boolean _running = true;
+    private volatile boolean _idle = false;
+
+    /**
+     * Creates an executor for the given RTIambassador, and starts its thread.
+     *
+     * @param rti RTIambassador on which to run commands
+     */
+    public RTIExecutor(RTIambassador rti) {
+        _rti = rti;
+        _thread = new Thread(this::runLoop, "RTIExecutor");
+        _thread.setDaemon(true);
+        _thread.start();
+    }
+
+    public RTIambassador getRTI() {
+        return _rti;
+    }
+
+    public int getMaxBatchSize() {
+        return _maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of commands run per acquisition of the RTIambassador's monitor.
+     *
+     * @param maxBatchSize maximum number of commands per batch
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        _maxBatchSize = Math.max(maxBatchSize, 1);
+    }
+
+    public boolean isExecutorThread() {
+        return Thread.currentThread() == _thread;
+    }
+
+    private void enqueue(Task<?> task) {
+        if (!_running) {
+            throw new IllegalStateException("RTIExecutor has been shut down");
+        }
+        _taskQueue.offer(task);
+
+        // THE EXECUTOR SETS _idle BEFORE IT CHECKS THE QUEUE FOR THE LAST TIME, SO IT EITHER SEES THIS TASK OR IS UNPARKED
+        if (_idle) {
+            LockSupport.unpark(_thread);
+        }
+    }
+
+    /**
+     * Queues a command, and returns at once.  If the command throws, the exception is logged.
+     *
+     * @param rtiCommand command to run on the RTIambassador
+     */
+    public void execute(RTICommand rtiCommand) {
+        enqueue(new Task<Void>(rtiCommand));
+    }
+
+    /**
+     * Queues a call, and returns a future for its result.
+     *
+     * @param rtiCall call to run on the RTIambassador
+     * @param <T> type of the result
+     * @return future that is completed with the call's result or exception
+     */
+    public <T> CompletableFuture<T> submit(RTICall<T> rtiCall) {
+        Task<T> task = new Task<>(rtiCall);
+        enqueue(task);
+        return task._future;
+    }
+
+    /**
+     * Queues a call, and waits for its result.  If called on the executor thread, the call is
+     * run directly.  Waiting is not interruptible:  if the waiting thread is interrupted, it
+     * keeps waiting, and its interrupt status is restored when the call is complete.
+     *
+     * @param rtiCall call to run on the RTIambassador
+     * @param <T> type of the result
+     * @return the call's result
+     * @throws Exception the exception thrown by the call
+     */
+    public <T> T call(RTICall<T> rtiCall) throws Exception {
+        if (isExecutorThread()) {
+            return rtiCall.call(_rti);
+        }
+
+        CompletableFuture<T> future = submit(rtiCall);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException interruptedException) {
+                    interrupted = true;
+                } catch (ExecutionException | CompletionException exception) {
+                    Throwable cause = exception.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception)cause;
+                    }
+                    throw exception;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Ticks the RTI on the executor thread, and waits for the tick to complete.
+     *
+     * @param minimumSeconds minimum time to spend in the tick
+     * @param maximumSeconds maximum time to spend in the tick
+     * @return the RTI's return value for the tick, i.e. true if callbacks are pending
+     * @throws Exception the exception thrown by the tick
+     */
+    public boolean tick(double minimumSeconds, double maximumSeconds) throws Exception {
+        return call(rti -> rti.tick(minimumSeconds, maximumSeconds));
+    }
+
+    private void runLoop() {
+        while (true) {
+            Task<?> task = _taskQueue.poll();
+            if (task == null) {
+                if (!_running) {
+                    return;
+                }
+                _idle = true;
+                if (_taskQueue.isEmpty() && _running) {
+                    LockSupport.park(this);
+                }
+                _idle = false;
+                continue;
+            }
+
+            int maxBatchSize = _maxBatchSize;
+            synchronized (_rti) {
+                int batchSize = 0;
+                while (true) {
+                    task.run(_rti);
+                    if (++batchSize >= maxBatchSize || (task = _taskQueue.poll()) == null) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting commands, and waits for the executor thread to run the commands that were
+     * already queued and exit.
+     */
+    public void shutdown() {
+        _running = false;
+        LockSupport.unpark(_thread);
+        if (isExecutorThread()) {
+            return;
+        }
+        boolean interrupted = false;
+        while (_thread.isAlive()) {
+            try {
+                _thread.join();
+            } catch (InterruptedException interruptedException) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
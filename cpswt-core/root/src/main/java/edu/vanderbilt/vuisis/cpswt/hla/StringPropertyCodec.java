@@ -0,0 +1,74 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The original CPSWT property encoding:  every value is sent as its string representation.
+ * Booleans are sent as "1" or "0", and chars as their (short) integer value.  Decoded values
+ * are returned as strings, which the caller converts to the type of the parameter or attribute.
+ */
+public class StringPropertyCodec implements PropertyCodec {
+
+    public static final StringPropertyCodec INSTANCE = new StringPropertyCodec();
+
+    protected StringPropertyCodec() { }
+
+    @Override
+    public String getEncodingName() {
+        return STRING_ENCODING;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        String stringValue;
+        if (value instanceof Boolean) {
+            stringValue = (Boolean)value ? "1" : "0";
+        } else if (value instanceof Character) {
+            stringValue = String.valueOf((short) ((Character) value).charValue());
+        } else if (value instanceof JsonNode) {
+            stringValue = ((JsonNode)value).toPrettyString();
+        } else {
+            stringValue = value.toString();
+        }
+        return stringValue.getBytes();
+    }
+
+    @Override
+    public Object decode(byte[] value, Object initialValueForType) {
+        String valueAsString = new String( value, 0, value.length );
+        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
+            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+        }
+        return valueAsString;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+public class ClassAndPropertyNameTests {
+
+    @Test
+    public void interactionCanonicalInstanceTest() {
+        InteractionRootInterface.ClassAndPropertyName canonical =
+          InteractionRootInterface.ClassAndPropertyName.get("InteractionRoot.A", "parameter1");
+
+        Assert.assertSame(
+          canonical, InteractionRootInterface.ClassAndPropertyName.get("InteractionRoot.A", "parameter1")
+        );
+        Assert.assertSame(
+          canonical, InteractionRootInterface.ClassAndPropertyName.get("InteractionRoot.A>parameter1")
+        );
+
+        InteractionRootInterface.ClassAndPropertyName other =
+          new InteractionRootInterface.ClassAndPropertyName("InteractionRoot.A", "parameter1");
+        Assert.assertNotSame(canonical, other);
+        Assert.assertEquals(canonical, other);
+        Assert.assertEquals(canonical.hashCode(), other.hashCode());
+        Assert.assertEquals("InteractionRoot.A>parameter1".hashCode(), other.hashCode());
+        Assert.assertSame(canonical, other.intern());
+
+        Assert.assertNotEquals(
+          canonical, InteractionRootInterface.ClassAndPropertyName.get("InteractionRoot.A", "parameter2")
+        );
+    }
+
+    @Test
+    public void objectCanonicalInstanceTest() {
+        ObjectRootInterface.ClassAndPropertyName canonical =
+          ObjectRootInterface.ClassAndPropertyName.get("ObjectRoot.A", "attribute1");
+
+        Assert.assertSame(canonical, ObjectRootInterface.ClassAndPropertyName.get("ObjectRoot.A", "attribute1"));
+
+        ObjectRootInterface.ClassAndPropertyName other =
+          new ObjectRootInterface.ClassAndPropertyName("ObjectRoot.A", "attribute1");
+        Assert.assertEquals(canonical, other);
+        Assert.assertSame(canonical, other.intern());
+        Assert.assertNotEquals(canonical, ObjectRootInterface.ClassAndPropertyName.get("ObjectRoot.B", "attribute1"));
+    }
+
+    @Test
+    public void findDoesNotInternTest() {
+        InteractionRootInterface.ClassAndPropertyName canonical =
+          InteractionRootInterface.ClassAndPropertyName.get("InteractionRoot.F", "parameter1");
+        Assert.assertSame(
+          canonical, InteractionRootInterface.ClassAndPropertyName.find("InteractionRoot.F>parameter1")
+        );
+
+        // AN UNKNOWN NAME IS NOT MADE CANONICAL
+        InteractionRootInterface.ClassAndPropertyName unknown =
+          InteractionRootInterface.ClassAndPropertyName.find("InteractionRoot.F>unknown");
+        Assert.assertEquals(
+          new InteractionRootInterface.ClassAndPropertyName("InteractionRoot.F", "unknown"), unknown
+        );
+        Assert.assertNotSame(
+          unknown, InteractionRootInterface.ClassAndPropertyName.find("InteractionRoot.F>unknown")
+        );
+        Assert.assertNull(InteractionRootInterface.ClassAndPropertyName.find("no separator"));
+
+        ObjectRootInterface.ClassAndPropertyName objectCanonical =
+          ObjectRootInterface.ClassAndPropertyName.get("ObjectRoot.F", "attribute1");
+        Assert.assertSame(objectCanonical, ObjectRootInterface.ClassAndPropertyName.find("ObjectRoot.F>attribute1"));
+        Assert.assertNotSame(
+          ObjectRootInterface.ClassAndPropertyName.find("ObjectRoot.F>unknown"),
+          ObjectRootInterface.ClassAndPropertyName.find("ObjectRoot.F>unknown")
+        );
+        Assert.assertNull(ObjectRootInterface.ClassAndPropertyName.find("ObjectRoot.F"));
+    }
+}
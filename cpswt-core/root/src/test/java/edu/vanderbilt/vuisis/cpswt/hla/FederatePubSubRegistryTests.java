@@ -0,0 +1,139 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.RTIambassador;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class FederatePubSubRegistryTests {
+
+    // RTIambassador OF ONE FEDERATE -- RECORDS ITS PUBLISH AND SUBSCRIBE CALLS
+    private static RTIambassador create_rti(List<String> callList) {
+        return (RTIambassador)Proxy.newProxyInstance(
+                RTIambassador.class.getClassLoader(),
+                new Class<?>[] { RTIambassador.class },
+                (proxy, method, args) -> {
+                    String methodName = method.getName();
+                    if (methodName.startsWith("publish") || methodName.startsWith("unpublish") ||
+                      methodName.startsWith("subscribe") || methodName.startsWith("unsubscribe")) {
+                        callList.add(methodName);
+                        return null;
+                    }
+                    if ("hashCode".equals(methodName)) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(methodName)) {
+                        return proxy == args[0];
+                    }
+                    if ("toString".equals(methodName)) {
+                        return "rti@" + System.identityHashCode(proxy);
+                    }
+                    // CLASS AND PROPERTY HANDLES
+                    return method.getReturnType() == int.class ? 1 : null;
+                }
+        );
+    }
+
+    @Test
+    public void twoFederatesPublishTest() {
+        String hlaClassName = InteractionRoot.get_hla_class_name();
+
+        List<String> callList1 = Collections.synchronizedList(new ArrayList<>());
+        List<String> callList2 = Collections.synchronizedList(new ArrayList<>());
+        RTIambassador rti1 = create_rti(callList1);
+        RTIambassador rti2 = create_rti(callList2);
+
+        try {
+            // BOTH FEDERATES MUST PUBLISH ON THEIR OWN RTIambassador
+            InteractionRoot.publish_interaction(hlaClassName, rti1);
+            InteractionRoot.publish_interaction(hlaClassName, rti2);
+            Assert.assertEquals(Arrays.asList("publishInteractionClass"), callList1);
+            Assert.assertEquals(Arrays.asList("publishInteractionClass"), callList2);
+            Assert.assertTrue(InteractionRoot.get_is_published(hlaClassName, rti1));
+            Assert.assertTrue(InteractionRoot.get_is_published(hlaClassName, rti2));
+
+            // PUBLISHING AGAIN ON THE SAME RTIambassador DOES NOTHING
+            InteractionRoot.publish_interaction(hlaClassName, rti1);
+            Assert.assertEquals(1, callList1.size());
+
+            // ONE FEDERATE UNPUBLISHING DOES NOT UNPUBLISH FOR THE OTHER
+            InteractionRoot.unpublish_interaction(hlaClassName, rti1);
+            Assert.assertEquals(Arrays.asList("publishInteractionClass", "unpublishInteractionClass"), callList1);
+            Assert.assertFalse(InteractionRoot.get_is_published(hlaClassName, rti1));
+            Assert.assertTrue(InteractionRoot.get_is_published(hlaClassName, rti2));
+            Assert.assertTrue(InteractionRoot.get_is_published(hlaClassName));
+
+            InteractionRoot.unpublish_interaction(hlaClassName, rti2);
+            Assert.assertFalse(InteractionRoot.get_is_published(hlaClassName));
+        } finally {
+            FederatePubSubRegistry.remove(rti1);
+            FederatePubSubRegistry.remove(rti2);
+        }
+    }
+
+    @Test
+    public void softPublishTest() {
+        String hlaClassName = InteractionRoot.get_hla_class_name();
+
+        RTIambassador rti1 = create_rti(new ArrayList<>());
+        RTIambassador rti2 = create_rti(new ArrayList<>());
+
+        try {
+            InteractionRoot.soft_subscribe_interaction(hlaClassName, rti1);
+            Assert.assertTrue(InteractionRoot.get_is_soft_subscribed(hlaClassName, rti1));
+            Assert.assertFalse(InteractionRoot.get_is_soft_subscribed(hlaClassName, rti2));
+
+            InteractionRoot.add_federate_name_soft_publish(hlaClassName, "Receiver1", rti1);
+            InteractionRoot.add_federate_name_soft_publish(hlaClassName, "Receiver2", rti2);
+            Assert.assertEquals(
+              Collections.singleton("Receiver1"), InteractionRoot.get_federate_name_soft_publish_set(hlaClassName, rti1)
+            );
+            Assert.assertEquals(
+              Collections.singleton("Receiver2"), InteractionRoot.get_federate_name_soft_publish_set(hlaClassName, rti2)
+            );
+
+            InteractionRoot.soft_unsubscribe_interaction(hlaClassName, rti1);
+            Assert.assertFalse(InteractionRoot.get_is_soft_subscribed(hlaClassName, rti1));
+        } finally {
+            FederatePubSubRegistry.remove(rti1);
+            FederatePubSubRegistry.remove(rti2);
+        }
+    }
+}
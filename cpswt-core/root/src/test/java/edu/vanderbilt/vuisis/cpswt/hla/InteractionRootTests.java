@@ -236,6 +236,31 @@ public class InteractionRootTests {
         Assert.assertEquals('Q', testDerived.getParameter("field7"));
     }
 
+    @Test
+    public void findPropertyTest() {
+
+        Assert.assertEquals(
+                new ClassAndPropertyName("InteractionRoot.TestBase", "field1"),
+                InteractionRoot.findProperty("InteractionRoot.TestBase.TestDerived", "field1")
+        );
+        Assert.assertSame(
+                InteractionRoot.findProperty("InteractionRoot.TestBase", "field2"),
+                InteractionRoot.findProperty("InteractionRoot.TestBase.TestDerived", "field2")
+        );
+        Assert.assertEquals(
+                new ClassAndPropertyName("InteractionRoot.TestBase.TestDerived", "field3"),
+                InteractionRoot.findProperty("InteractionRoot.TestBase.TestDerived", "field3")
+        );
+        Assert.assertNull(InteractionRoot.findProperty("InteractionRoot.TestBase", "field3"));
+        Assert.assertNull(InteractionRoot.findProperty("InteractionRoot.TestBase.TestDerived", "noSuchField"));
+
+        // CLASS THAT IS NOT LOADED RESOLVES PROPERTIES THROUGH ITS LOADED ANCESTORS
+        Assert.assertEquals(
+                new ClassAndPropertyName("InteractionRoot.TestBase.TestDerived", "field4"),
+                InteractionRoot.findProperty("InteractionRoot.TestBase.TestDerived.NotLoaded", "field4")
+        );
+    }
+
     @Test
     public void publishInteractionTest() {
 
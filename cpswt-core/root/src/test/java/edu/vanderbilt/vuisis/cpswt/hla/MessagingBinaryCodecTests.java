@@ -0,0 +1,188 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.nio.BufferUnderflowException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRootInterface.ClassAndPropertyName;
+
+public class MessagingBinaryCodecTests {
+
+    private static Map<ClassAndPropertyName, Object> get_property_value_map() {
+        Map<ClassAndPropertyName, Object> propertyValueMap = new LinkedHashMap<>();
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "booleanValue"), true);
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "charValue"), 'x');
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "intValue"), -123456);
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "longValue"), 1234567890123L);
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "doubleValue"), 2.25);
+        propertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "stringValue"), "a string \u00e9");
+        return propertyValueMap;
+    }
+
+    private static String write_payload(
+      PropertySlotLayout<ClassAndPropertyName> propertySlotLayout, Map<ClassAndPropertyName, Object> propertyValueMap
+    ) {
+        return MessagingBinaryCodec.write(MessagingBinaryCodec.OBJECT_MESSAGING_TYPE, writer -> {
+            writer.writeString("ObjectRoot.A");
+            writer.writeInt(42);
+            writer.writePropertySlotLayout(propertySlotLayout);
+            for(Map.Entry<ClassAndPropertyName, Object> entry : propertyValueMap.entrySet()) {
+                writer.writeProperty(propertySlotLayout.getSlot(entry.getKey()), entry.getValue());
+            }
+        });
+    }
+
+    @Test
+    public void roundTripTest() {
+        Map<ClassAndPropertyName, Object> propertyValueMap = get_property_value_map();
+        PropertySlotLayout<ClassAndPropertyName> propertySlotLayout =
+          new PropertySlotLayout<>(propertyValueMap.keySet());
+
+        String payload = write_payload(propertySlotLayout, propertyValueMap);
+
+        Assert.assertTrue(MessagingBinaryCodec.is_binary(payload));
+        Assert.assertFalse(MessagingBinaryCodec.is_binary("{\"messaging_type\":\"object\"}"));
+
+        // WRONG MESSAGING TYPE
+        Assert.assertNull(MessagingBinaryCodec.create_reader(payload, MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE));
+
+        MessagingBinaryCodec.Reader reader =
+          MessagingBinaryCodec.create_reader(payload, MessagingBinaryCodec.OBJECT_MESSAGING_TYPE);
+        Assert.assertNotNull(reader);
+        Assert.assertEquals("ObjectRoot.A", reader.readString());
+        Assert.assertEquals(42, reader.readInt());
+        Assert.assertTrue(reader.readPropertySlotLayout(propertySlotLayout));
+
+        Map<ClassAndPropertyName, Object> decodedPropertyValueMap = new HashMap<>();
+        while(reader.hasMoreProperties()) {
+            ClassAndPropertyName key = propertySlotLayout.getKey(reader.readPropertySlot());
+            if (key.getPropertyName().equals("longValue")) {
+                reader.skipPropertyValue();
+                continue;
+            }
+            decodedPropertyValueMap.put(key, reader.readPropertyValue(propertyValueMap.get(key)));
+        }
+
+        propertyValueMap.remove(new ClassAndPropertyName("InteractionRoot.A", "longValue"));
+        Assert.assertEquals(propertyValueMap, decodedPropertyValueMap);
+    }
+
+    @Test
+    public void layoutMismatchTest() {
+        Map<ClassAndPropertyName, Object> propertyValueMap = get_property_value_map();
+        PropertySlotLayout<ClassAndPropertyName> propertySlotLayout =
+          new PropertySlotLayout<>(propertyValueMap.keySet());
+
+        // THE SAME KEYS IN A DIFFERENT ORDER GIVE THE SAME LAYOUT
+        List<ClassAndPropertyName> reversedKeyList = new ArrayList<>(propertyValueMap.keySet());
+        Collections.reverse(reversedKeyList);
+        PropertySlotLayout<ClassAndPropertyName> sameSlotLayout = new PropertySlotLayout<>(reversedKeyList);
+        Assert.assertEquals(propertySlotLayout.getFingerprint(), sameSlotLayout.getFingerprint());
+
+        // A RECEIVER THAT DEFINES THE CLASS WITH AN EXTRA PROPERTY CANNOT READ THE SLOTS
+        Map<ClassAndPropertyName, Object> otherPropertyValueMap = get_property_value_map();
+        otherPropertyValueMap.put(new ClassAndPropertyName("InteractionRoot.A", "extraValue"), 0);
+        PropertySlotLayout<ClassAndPropertyName> otherSlotLayout =
+          new PropertySlotLayout<>(otherPropertyValueMap.keySet());
+
+        MessagingBinaryCodec.Reader reader = MessagingBinaryCodec.create_reader(
+          write_payload(propertySlotLayout, propertyValueMap), MessagingBinaryCodec.OBJECT_MESSAGING_TYPE
+        );
+        Assert.assertNotNull(reader);
+        reader.readString();
+        reader.readInt();
+        Assert.assertFalse(reader.readPropertySlotLayout(otherSlotLayout));
+    }
+
+    @Test
+    public void sizeTest() {
+        Map<ClassAndPropertyName, Object> propertyValueMap = get_property_value_map();
+        PropertySlotLayout<ClassAndPropertyName> propertySlotLayout =
+          new PropertySlotLayout<>(propertyValueMap.keySet());
+
+        String jsonPayload = MessagingJsonCodec.write(jsonGenerator -> {
+            jsonGenerator.writeStringField("messaging_type", "object");
+            jsonGenerator.writeStringField("messaging_name", "ObjectRoot.A");
+            jsonGenerator.writeNumberField("object_handle", 42);
+            jsonGenerator.writeObjectFieldStart("properties");
+            for(Map.Entry<ClassAndPropertyName, Object> entry : propertyValueMap.entrySet()) {
+                MessagingJsonCodec.write_property(jsonGenerator, entry.getKey().toString(), entry.getValue());
+            }
+            jsonGenerator.writeEndObject();
+        });
+        String binaryPayload = write_payload(propertySlotLayout, propertyValueMap);
+
+        // PROPERTIES ARE IDENTIFIED BY SLOT, NOT BY NAME, SO EVEN BASE-64 ENCODED THE PAYLOAD IS MUCH SMALLER
+        Assert.assertTrue(
+          "binary payload (" + binaryPayload.length() + ") is not smaller than half the JSON payload (" +
+            jsonPayload.length() + ")",
+          2 * binaryPayload.length() < jsonPayload.length()
+        );
+    }
+
+    @Test
+    public void versionAndTruncationTest() {
+        Assert.assertNull(
+          MessagingBinaryCodec.create_reader("~99:AA==", MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE)
+        );
+        Assert.assertNull(
+          MessagingBinaryCodec.create_reader("~1:AA==", MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE)
+        );
+        Assert.assertNull(
+          MessagingBinaryCodec.create_reader(
+            "~" + MessagingBinaryCodec.BINARY_VERSION + ":not base 64!", MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE
+          )
+        );
+
+        String payload = MessagingBinaryCodec.write(
+          MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE, writer -> writer.writeString("InteractionRoot.A")
+        );
+        String truncatedPayload = payload.substring(0, payload.length() - 8);
+        MessagingBinaryCodec.Reader reader =
+          MessagingBinaryCodec.create_reader(truncatedPayload, MessagingBinaryCodec.INTERACTION_MESSAGING_TYPE);
+        Assert.assertNotNull(reader);
+        try {
+            reader.readString();
+            Assert.fail("reading a truncated string should throw BufferUnderflowException");
+        } catch (BufferUnderflowException bufferUnderflowException) {
+            // EXPECTED
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class MessagingJsonCodecTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Map<String, Object> readProperties(
+      JsonParser jsonParser, Map<String, Class<?>> propertyTypeMap
+    ) throws IOException {
+        Map<String, Object> propertyValueMap = new HashMap<>();
+        Assert.assertEquals(JsonToken.START_OBJECT, jsonParser.nextToken());
+        while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            propertyValueMap.put(fieldName, MessagingJsonCodec.read_value(jsonParser, propertyTypeMap.get(fieldName)));
+        }
+        return propertyValueMap;
+    }
+
+    @Test
+    public void roundTripTest() throws IOException {
+        ObjectNode jsonValue = objectMapper.createObjectNode();
+        jsonValue.put("name", "value");
+        jsonValue.putArray("list").add(1).add(2);
+
+        Map<String, Object> propertyValueMap = new HashMap<>();
+        propertyValueMap.put("booleanValue", true);
+        propertyValueMap.put("byteValue", (byte)-5);
+        propertyValueMap.put("charValue", 'x');
+        propertyValueMap.put("shortValue", (short)1000);
+        propertyValueMap.put("intValue", 123456);
+        propertyValueMap.put("longValue", 1234567890123L);
+        propertyValueMap.put("floatValue", 1.5F);
+        propertyValueMap.put("doubleValue", 2.25);
+        propertyValueMap.put("stringValue", "a \"quoted\" string");
+        propertyValueMap.put("jsonValue", jsonValue);
+
+        Map<String, Class<?>> propertyTypeMap = new HashMap<>();
+        for(Map.Entry<String, Object> entry : propertyValueMap.entrySet()) {
+            propertyTypeMap.put(entry.getKey(), entry.getValue().getClass());
+        }
+
+        String jsonString = MessagingJsonCodec.write(jsonGenerator -> {
+            for(Map.Entry<String, Object> entry : propertyValueMap.entrySet()) {
+                MessagingJsonCodec.write_property(jsonGenerator, entry.getKey(), entry.getValue());
+            }
+        });
+
+        // OUTPUT IS COMPACT
+        Assert.assertFalse(jsonString.contains("\n"));
+
+        try (JsonParser jsonParser = MessagingJsonCodec.create_parser(jsonString)) {
+            Assert.assertEquals(propertyValueMap, readProperties(jsonParser, propertyTypeMap));
+        }
+
+        // CHARACTER IS ENCODED AS ITS INTEGER CODE
+        Assert.assertEquals((int)'x', objectMapper.readTree(jsonString).get("charValue").asInt());
+
+        // THE REUSED BUFFER DOES NOT CARRY OVER OUTPUT FROM THE PREVIOUS CALL
+        Assert.assertEquals(
+          "{\"intValue\":1}",
+          MessagingJsonCodec.write(jsonGenerator -> MessagingJsonCodec.write_property(jsonGenerator, "intValue", 1))
+        );
+    }
+
+    @Test
+    public void conversionTest() throws IOException {
+        String jsonString = "{\"intFromString\":\"42\",\"longFromDouble\":7.9,\"booleanFromNumber\":1," +
+          "\"booleanFromString\":\"TRUE\",\"stringFromNumber\":12,\"doubleFromObject\":{\"a\":[1,2]}," +
+          "\"stringFromNull\":null}";
+
+        Map<String, Class<?>> propertyTypeMap = new HashMap<>();
+        propertyTypeMap.put("intFromString", Integer.class);
+        propertyTypeMap.put("longFromDouble", Long.class);
+        propertyTypeMap.put("booleanFromNumber", Boolean.class);
+        propertyTypeMap.put("booleanFromString", Boolean.class);
+        propertyTypeMap.put("stringFromNumber", String.class);
+        propertyTypeMap.put("doubleFromObject", Double.class);
+        propertyTypeMap.put("stringFromNull", String.class);
+
+        Map<String, Object> propertyValueMap;
+        try (JsonParser jsonParser = MessagingJsonCodec.create_parser(jsonString)) {
+            propertyValueMap = readProperties(jsonParser, propertyTypeMap);
+        }
+
+        Assert.assertEquals(42, propertyValueMap.get("intFromString"));
+        Assert.assertEquals(7L, propertyValueMap.get("longFromDouble"));
+        Assert.assertEquals(true, propertyValueMap.get("booleanFromNumber"));
+        Assert.assertEquals(true, propertyValueMap.get("booleanFromString"));
+        Assert.assertEquals("12", propertyValueMap.get("stringFromNumber"));
+        Assert.assertEquals(0.0, propertyValueMap.get("doubleFromObject"));
+        Assert.assertEquals("null", propertyValueMap.get("stringFromNull"));
+
+        // A PARSER OVER A TREE READS THE SAME VALUES
+        JsonNode jsonNode = objectMapper.readTree(jsonString);
+        try (JsonParser jsonParser = MessagingJsonCodec.create_parser(jsonNode)) {
+            Map<String, Object> treePropertyValueMap = new HashMap<>();
+            while(jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                treePropertyValueMap.put(
+                  fieldName, MessagingJsonCodec.read_value(jsonParser, propertyTypeMap.get(fieldName))
+                );
+            }
+            Assert.assertEquals(propertyValueMap, treePropertyValueMap);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ObjectHandleTableTests {
+
+    @Test
+    public void putGetRemoveTest() {
+        ObjectHandleTable<String> objectHandleTable = new ObjectHandleTable<>();
+
+        Assert.assertNull(objectHandleTable.get(7));
+        Assert.assertNull(objectHandleTable.put(7, "seven"));
+        Assert.assertNull(objectHandleTable.put(-3, "minus three"));
+        Assert.assertEquals("seven", objectHandleTable.put(7, "SEVEN"));
+        Assert.assertEquals("SEVEN", objectHandleTable.putIfAbsent(7, "ignored"));
+
+        Assert.assertEquals("SEVEN", objectHandleTable.get(7));
+        Assert.assertEquals("minus three", objectHandleTable.get(-3));
+        Assert.assertTrue(objectHandleTable.containsKey(-3));
+        Assert.assertEquals(2, objectHandleTable.size());
+
+        Assert.assertEquals("SEVEN", objectHandleTable.remove(7));
+        Assert.assertNull(objectHandleTable.remove(7));
+        Assert.assertNull(objectHandleTable.get(7));
+        Assert.assertEquals(1, objectHandleTable.size());
+
+        ObjectHandleTable.Stats stats = objectHandleTable.getStats();
+        Assert.assertEquals(1, stats.getSize());
+        Assert.assertEquals(2, stats.getInsertCount());
+        Assert.assertEquals(1, stats.getRemoveCount());
+        Assert.assertEquals(3, stats.getChurn());
+
+        objectHandleTable.resetChurnCounts();
+        Assert.assertEquals(0, objectHandleTable.getStats().getChurn());
+    }
+
+    @Test
+    public void growAndChurnTest() {
+        ObjectHandleTable<Integer> objectHandleTable = new ObjectHandleTable<>();
+
+        int count = 50000;
+        for(int handle = 0 ; handle < count ; ++handle) {
+            objectHandleTable.put(handle, handle);
+        }
+        Assert.assertEquals(count, objectHandleTable.size());
+        Assert.assertTrue(objectHandleTable.getStats().getLoadFactor() <= 0.5);
+
+        // REMOVE AND RE-INSERT REPEATEDLY SO DELETED SLOTS HAVE TO BE RECLAIMED
+        for(int round = 0 ; round < 5 ; ++round) {
+            for(int handle = 0 ; handle < count ; handle += 2) {
+                Assert.assertEquals(handle, (int)objectHandleTable.remove(handle));
+            }
+            for(int handle = 0 ; handle < count ; handle += 2) {
+                Assert.assertNull(objectHandleTable.put(handle, handle));
+            }
+        }
+        for(int handle = 0 ; handle < count ; ++handle) {
+            Assert.assertEquals(handle, (int)objectHandleTable.get(handle));
+        }
+
+        objectHandleTable.clear();
+        Assert.assertEquals(0, objectHandleTable.size());
+        Assert.assertNull(objectHandleTable.get(1));
+    }
+
+    @Test
+    public void concurrentAccessTest() throws Exception {
+        ObjectHandleTable<Integer> objectHandleTable = new ObjectHandleTable<>();
+
+        int threadCount = 4;
+        int handlesPerThread = 20000;
+        List<Thread> threadList = new ArrayList<>();
+        List<Throwable> errorList = new ArrayList<>();
+        for(int threadNo = 0 ; threadNo < threadCount ; ++threadNo) {
+            int base = threadNo * handlesPerThread;
+            Thread thread = new Thread(() -> {
+                try {
+                    for(int handle = base ; handle < base + handlesPerThread ; ++handle) {
+                        objectHandleTable.put(handle, handle);
+                        Assert.assertEquals(handle, (int)objectHandleTable.get(handle));
+                        if (handle % 3 == 0) {
+                            Assert.assertEquals(handle, (int)objectHandleTable.remove(handle));
+                        }
+                    }
+                } catch (Throwable throwable) {
+                    synchronized (errorList) {
+                        errorList.add(throwable);
+                    }
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+        for(Thread thread: threadList) {
+            thread.join();
+        }
+
+        Assert.assertTrue(errorList.toString(), errorList.isEmpty());
+        for(int handle = 0 ; handle < threadCount * handlesPerThread ; ++handle) {
+            Integer value = objectHandleTable.get(handle);
+            if (handle % 3 == 0) {
+                Assert.assertNull(value);
+            } else {
+                Assert.assertEquals(handle, (int)value);
+            }
+        }
+    }
+}
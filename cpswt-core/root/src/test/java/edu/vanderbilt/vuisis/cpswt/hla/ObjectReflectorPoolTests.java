@@ -0,0 +1,75 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.ReflectedAttributes;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.lang.reflect.Proxy;
+
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflector;
+
+public class ObjectReflectorPoolTests {
+
+    // ReflectedAttributes WITH NO ATTRIBUTES
+    private static final ReflectedAttributes emptyReflectedAttributes = (ReflectedAttributes)Proxy.newProxyInstance(
+      ReflectedAttributes.class.getClassLoader(),
+      new Class<?>[] { ReflectedAttributes.class },
+      (proxy, method, args) -> method.getName().equals("size") ? 0 : null
+    );
+
+    @Test
+    public void doubleReleaseTest() {
+        int maximumPoolSize = ObjectReflector.get_maximum_pool_size();
+        ObjectReflector.set_maximum_pool_size(4);
+        try {
+            ObjectReflector objectReflector = ObjectReflector.acquire(1, emptyReflectedAttributes);
+            objectReflector.release();
+            // SECOND RELEASE MUST NOT PUT THE SAME ObjectReflector IN THE POOL AGAIN
+            objectReflector.release();
+
+            ObjectReflector objectReflector1 = ObjectReflector.acquire(2, emptyReflectedAttributes);
+            ObjectReflector objectReflector2 = ObjectReflector.acquire(3, emptyReflectedAttributes);
+            Assert.assertSame(objectReflector, objectReflector1);
+            Assert.assertNotSame(objectReflector1, objectReflector2);
+            Assert.assertEquals(2, objectReflector1.getObjectHandle());
+            Assert.assertEquals(3, objectReflector2.getObjectHandle());
+
+            // ONCE ACQUIRED AGAIN, THE ObjectReflector CAN BE RELEASED AGAIN
+            objectReflector1.release();
+            Assert.assertSame(objectReflector1, ObjectReflector.acquire(4, emptyReflectedAttributes));
+        } finally {
+            ObjectReflector.set_maximum_pool_size(maximumPoolSize);
+        }
+    }
+}
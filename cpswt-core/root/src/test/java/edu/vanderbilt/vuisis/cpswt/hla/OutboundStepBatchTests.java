@@ -0,0 +1,203 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.RTIambassador;
+import hla.rti.SuppliedAttributes;
+import hla.rti.SuppliedParameters;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class OutboundStepBatchTests {
+
+    // SuppliedAttributes BACKED BY TWO LISTS
+    private static SuppliedAttributes create_supplied_attributes(int... handleValuePairs) {
+        List<Integer> handleList = new ArrayList<>();
+        List<byte[]> valueList = new ArrayList<>();
+        for(int ix = 0 ; ix < handleValuePairs.length ; ix += 2) {
+            handleList.add(handleValuePairs[ix]);
+            valueList.add(new byte[] { (byte)handleValuePairs[ix + 1] });
+        }
+        return (SuppliedAttributes)Proxy.newProxyInstance(
+                SuppliedAttributes.class.getClassLoader(),
+                new Class<?>[] { SuppliedAttributes.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "add":
+                            handleList.add((Integer)args[0]);
+                            valueList.add((byte[])args[1]);
+                            return null;
+                        case "empty":
+                            handleList.clear();
+                            valueList.clear();
+                            return null;
+                        case "size":
+                            return handleList.size();
+                        case "getHandle":
+                            return handleList.get((Integer)args[0]);
+                        case "getValue":
+                            return valueList.get((Integer)args[0]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                    }
+                    return null;
+                }
+        );
+    }
+
+    private static SuppliedParameters create_supplied_parameters() {
+        return (SuppliedParameters)Proxy.newProxyInstance(
+                SuppliedParameters.class.getClassLoader(),
+                new Class<?>[] { SuppliedParameters.class },
+                (proxy, method, args) -> "size".equals(method.getName()) ? 1 : null
+        );
+    }
+
+    private static String describe(SuppliedAttributes suppliedAttributes) throws Exception {
+        StringBuilder stringBuilder = new StringBuilder();
+        for(int ix = 0 ; ix < suppliedAttributes.size() ; ++ix) {
+            stringBuilder.append(" ").append(suppliedAttributes.getHandle(ix))
+              .append("=").append(suppliedAttributes.getValue(ix)[0]);
+        }
+        return stringBuilder.toString();
+    }
+
+    // RTIambassador THAT RECORDS ITS SENDS AND UPDATES
+    private static RTIambassador create_rti(List<String> callList) {
+        return (RTIambassador)Proxy.newProxyInstance(
+                RTIambassador.class.getClassLoader(),
+                new Class<?>[] { RTIambassador.class },
+                (proxy, method, args) -> {
+                    if ("sendInteraction".equals(method.getName())) {
+                        Assert.assertTrue(Thread.holdsLock(proxy));
+                        callList.add("interaction " + args[0] + (args.length == 4 ? " tso" : " ro"));
+                        return null;
+                    }
+                    if ("updateAttributeValues".equals(method.getName())) {
+                        Assert.assertTrue(Thread.holdsLock(proxy));
+                        callList.add(
+                          "update " + args[0] + (args.length == 4 ? " tso" : " ro") +
+                          describe((SuppliedAttributes)args[1])
+                        );
+                        return null;
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    return null;
+                }
+        );
+    }
+
+    @Test
+    public void coalesceTest() throws Exception {
+        List<String> callList = new ArrayList<>();
+        RTIambassador rti = create_rti(callList);
+
+        OutboundStepBatch outboundStepBatch = new OutboundStepBatch();
+        outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(10, 1, 11, 2), 1.0, "Test");
+        outboundStepBatch.addInteraction(Arrays.asList(5, 6), create_supplied_parameters(), 1.0, "Test");
+        outboundStepBatch.addAttributeUpdate(2, create_supplied_attributes(10, 7), 1.0, "Test");
+        outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(11, 3, 12, 4), 1.0, "Test");
+        outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(12, 5), -1, "Test");
+        outboundStepBatch.addInteraction(Collections.singletonList(7), create_supplied_parameters(), -1, "Test");
+
+        Assert.assertEquals(5, outboundStepBatch.size());
+        Assert.assertEquals(1, outboundStepBatch.getCoalescedUpdateCount());
+        Assert.assertTrue(callList.isEmpty());
+
+        outboundStepBatch.flush(rti);
+        Assert.assertTrue(outboundStepBatch.isEmpty());
+
+        // THE COALESCED UPDATE IS SENT WHERE THE FIRST UPDATE OF THE OBJECT WAS, WITH THE LATEST VALUES
+        List<String> expectedCallList = Arrays.asList(
+                "update 1 tso 10=1 11=3 12=4",
+                "interaction 5 tso",
+                "interaction 6 tso",
+                "update 2 tso 10=7",
+                "update 1 ro 12=5",
+                "interaction 7 ro"
+        );
+        Assert.assertEquals(expectedCallList, callList);
+
+        // AN EMPTY BATCH SENDS NOTHING, AND A FLUSHED BATCH CAN BE REUSED
+        callList.clear();
+        outboundStepBatch.flush(rti);
+        Assert.assertTrue(callList.isEmpty());
+
+        outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(10, 9), 2.0, "Test");
+        outboundStepBatch.flush(rti);
+        Assert.assertEquals(Collections.singletonList("update 1 tso 10=9"), callList);
+    }
+
+    @Test
+    public void executorTest() throws Exception {
+        List<String> callList = Collections.synchronizedList(new ArrayList<>());
+        RTIExecutor rtiExecutor = new RTIExecutor(create_rti(callList));
+        try {
+            OutboundStepBatch outboundStepBatch = new OutboundStepBatch();
+            outboundStepBatch.addInteraction(Collections.singletonList(5), create_supplied_parameters(), 1.0, "Test");
+            outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(10, 1), 1.0, "Test");
+            outboundStepBatch.flush(rtiExecutor);
+            Assert.assertTrue(outboundStepBatch.isEmpty());
+
+            // A CALL QUEUED AFTER THE FLUSH RUNS AFTER ITS MESSAGES ARE SENT
+            Assert.assertEquals(2, (int)rtiExecutor.call(rti -> callList.size()));
+            Assert.assertEquals(Arrays.asList("interaction 5 tso", "update 1 tso 10=1"), callList);
+        } finally {
+            rtiExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void clearTest() {
+        List<String> callList = new ArrayList<>();
+        OutboundStepBatch outboundStepBatch = new OutboundStepBatch();
+        outboundStepBatch.addAttributeUpdate(1, create_supplied_attributes(10, 1), 1.0, "Test");
+        outboundStepBatch.clear();
+        Assert.assertTrue(outboundStepBatch.isEmpty());
+        outboundStepBatch.flush(create_rti(callList));
+        Assert.assertTrue(callList.isEmpty());
+    }
+}
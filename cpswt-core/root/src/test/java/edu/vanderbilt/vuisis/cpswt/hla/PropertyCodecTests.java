@@ -0,0 +1,98 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+public class PropertyCodecTests {
+
+    private static Object roundTrip(PropertyCodec propertyCodec, Object value) {
+        return propertyCodec.decode(propertyCodec.encode(value), value);
+    }
+
+    @Test
+    public void getCodecTest() {
+        Assert.assertSame(StringPropertyCodec.INSTANCE, PropertyCodec.get_codec(null));
+        Assert.assertSame(StringPropertyCodec.INSTANCE, PropertyCodec.get_codec("string"));
+        Assert.assertSame(BinaryPropertyCodec.INSTANCE, PropertyCodec.get_codec("Binary"));
+        Assert.assertNull(PropertyCodec.get_codec("xml"));
+    }
+
+    @Test
+    public void binaryRoundTripTest() throws Exception {
+        PropertyCodec propertyCodec = BinaryPropertyCodec.INSTANCE;
+
+        Assert.assertEquals(true, roundTrip(propertyCodec, true));
+        Assert.assertEquals((byte)-17, roundTrip(propertyCodec, (byte)-17));
+        Assert.assertEquals('Q', roundTrip(propertyCodec, 'Q'));
+        Assert.assertEquals((short)-1234, roundTrip(propertyCodec, (short)-1234));
+        Assert.assertEquals(-6, roundTrip(propertyCodec, -6));
+        Assert.assertEquals(Long.MIN_VALUE, roundTrip(propertyCodec, Long.MIN_VALUE));
+        Assert.assertEquals(2.5F, roundTrip(propertyCodec, 2.5F));
+        Assert.assertEquals(3.14, roundTrip(propertyCodec, 3.14));
+        Assert.assertEquals("h\u00e9llo\u2603", roundTrip(propertyCodec, "h\u00e9llo\u2603"));
+        Assert.assertEquals("", roundTrip(propertyCodec, ""));
+
+        JsonNode jsonNode = new ObjectMapper().readTree("{ \"a\": [1, 2, 3], \"b\": \"text\" }");
+        Assert.assertEquals(jsonNode, propertyCodec.decode(propertyCodec.encode(jsonNode), new TextNode("")));
+    }
+
+    @Test
+    public void binaryEncodingTest() {
+        PropertyCodec propertyCodec = BinaryPropertyCodec.INSTANCE;
+
+        // FIXED-WIDTH LITTLE-ENDIAN
+        Assert.assertArrayEquals(new byte[] {0x04, 0x03, 0x02, 0x01}, propertyCodec.encode(0x01020304));
+        Assert.assertEquals(Double.BYTES, propertyCodec.encode(1.0).length);
+
+        // LENGTH-PREFIXED UTF-8
+        Assert.assertArrayEquals(new byte[] {0x02, 0x00, 0x00, 0x00, 'h', 'i'}, propertyCodec.encode("hi"));
+
+        // TRUNCATED VALUE CANNOT BE DECODED
+        Assert.assertNull(propertyCodec.decode(new byte[] {0x01, 0x02}, 0));
+        Assert.assertNull(propertyCodec.decode(new byte[] {0x05, 0x00, 0x00, 0x00, 'h', 'i'}, ""));
+    }
+
+    @Test
+    public void stringCodecTest() {
+        PropertyCodec propertyCodec = StringPropertyCodec.INSTANCE;
+
+        Assert.assertEquals("1", roundTrip(propertyCodec, true));
+        Assert.assertEquals("81", roundTrip(propertyCodec, 'Q'));
+        Assert.assertEquals("3.14", roundTrip(propertyCodec, 3.14));
+        Assert.assertEquals("value", propertyCodec.decode("value\0".getBytes(), ""));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.vanderbilt.vuisis.cpswt.hla.ObjectRootInterface.ClassAndPropertyName;
+
+public class PropertySlotMapTests {
+
+    private static final ClassAndPropertyName attribute1 = new ClassAndPropertyName("ObjectRoot.A", "attribute1");
+    private static final ClassAndPropertyName attribute2 = new ClassAndPropertyName("ObjectRoot.A", "attribute2");
+    private static final ClassAndPropertyName attribute3 = new ClassAndPropertyName("ObjectRoot.A.B", "attribute3");
+
+    private static final PropertySlotLayout<ClassAndPropertyName> layout =
+      new PropertySlotLayout<>(Arrays.asList(attribute3, attribute1, attribute2));
+
+    @Test
+    public void layoutTest() {
+        Assert.assertEquals(3, layout.size());
+        for(int slot = 0 ; slot < layout.size() ; ++slot) {
+            Assert.assertEquals(slot, layout.getSlot(layout.getKey(slot)));
+        }
+        Assert.assertEquals(
+          layout.getSlot(attribute1), layout.getSlot(new ClassAndPropertyName("ObjectRoot.A", "attribute1"))
+        );
+        Assert.assertEquals(-1, layout.getSlot(new ClassAndPropertyName("ObjectRoot.A", "attribute4")));
+    }
+
+    @Test
+    public void cachedSlotTest() {
+        ClassAndPropertyName baseAttribute1 = ClassAndPropertyName.get("ObjectRoot.Base", "attribute1");
+        ClassAndPropertyName baseAttribute2 = ClassAndPropertyName.get("ObjectRoot.Base", "attribute2");
+        ClassAndPropertyName derivedAttribute = ClassAndPropertyName.get("ObjectRoot.Base.Derived", "attribute");
+
+        PropertySlotLayout<ClassAndPropertyName> baseLayout =
+          new PropertySlotLayout<>(Arrays.asList(baseAttribute1, baseAttribute2));
+        PropertySlotLayout<ClassAndPropertyName> derivedLayout =
+          new PropertySlotLayout<>(Arrays.asList(baseAttribute2, derivedAttribute, baseAttribute1));
+
+        // AN INHERITED KEY IS FOLLOWED BY THE SAME NUMBER OF SLOTS IN THE BASE AND DERIVED LAYOUTS, SO ONE CACHED
+        // VALUE RESOLVES ITS SLOT IN BOTH
+        for(ClassAndPropertyName key : Arrays.asList(baseAttribute1, baseAttribute2)) {
+            Assert.assertEquals(baseLayout.size() - 1 - baseLayout.getSlot(key), key.getCachedSlotsAfter());
+            Assert.assertEquals(derivedLayout.size() - 1 - derivedLayout.getSlot(key), key.getCachedSlotsAfter());
+            Assert.assertSame(key, baseLayout.getKey(baseLayout.getSlot(key)));
+            Assert.assertSame(key, derivedLayout.getKey(derivedLayout.getSlot(key)));
+        }
+
+        // A LAYOUT WHERE THE CACHED VALUE DOES NOT APPLY STILL FINDS THE SLOT
+        PropertySlotLayout<ClassAndPropertyName> otherLayout = new PropertySlotLayout<>(Arrays.asList(
+          baseAttribute1, ClassAndPropertyName.get("ObjectRoot.Other", "attribute")
+        ));
+        Assert.assertSame(baseAttribute1, otherLayout.getKey(otherLayout.getSlot(baseAttribute1)));
+        Assert.assertEquals(-1, otherLayout.getSlot(derivedAttribute));
+    }
+
+    @Test
+    public void mapTest() {
+        PropertySlotMap<ClassAndPropertyName> propertySlotMap = new PropertySlotMap<>(layout);
+        Assert.assertTrue(propertySlotMap.isEmpty());
+
+        Assert.assertNull(propertySlotMap.put(attribute1, 1));
+        Assert.assertNull(propertySlotMap.put(attribute3, "three"));
+        Assert.assertEquals(1, propertySlotMap.put(attribute1, 11));
+
+        Assert.assertEquals(2, propertySlotMap.size());
+        Assert.assertEquals(11, propertySlotMap.get(attribute1));
+        Assert.assertNull(propertySlotMap.get(attribute2));
+        Assert.assertTrue(propertySlotMap.containsKey(attribute3));
+        Assert.assertFalse(propertySlotMap.containsKey(attribute2));
+
+        Map<ClassAndPropertyName, Object> hashMap = new HashMap<>();
+        hashMap.put(attribute1, 11);
+        hashMap.put(attribute3, "three");
+        Assert.assertEquals(hashMap, propertySlotMap);
+        Assert.assertEquals(propertySlotMap, new HashMap<>(propertySlotMap));
+
+        PropertySlotMap<ClassAndPropertyName> copy = new PropertySlotMap<>(propertySlotMap);
+        copy.replaceAll((k, v) -> v.toString() + "!");
+        Assert.assertEquals("11!", copy.get(attribute1));
+        Assert.assertEquals(11, propertySlotMap.get(attribute1));
+
+        Assert.assertEquals("three", propertySlotMap.remove(attribute3));
+        Assert.assertEquals(1, propertySlotMap.size());
+    }
+
+    @Test
+    public void putUnknownKeyTest() {
+        PropertySlotMap<ClassAndPropertyName> propertySlotMap = new PropertySlotMap<>(layout);
+        try {
+            propertySlotMap.put(new ClassAndPropertyName("ObjectRoot.C", "attribute1"), 0);
+            Assert.fail("put of key not in layout should throw");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            Assert.assertTrue(propertySlotMap.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.RTIambassador;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class RTIExecutorTests {
+
+    // RTIambassador THAT ONLY COUNTS ITS CALLS TO tick(double, double)
+    private static RTIambassador create_rti(List<String> callList) {
+        return (RTIambassador)Proxy.newProxyInstance(
+                RTIambassador.class.getClassLoader(),
+                new Class<?>[] { RTIambassador.class },
+                (proxy, method, args) -> {
+                    if ("tick".equals(method.getName())) {
+                        callList.add("tick");
+                        return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    return null;
+                }
+        );
+    }
+
+    @Test
+    public void orderTest() throws Exception {
+        List<String> callList = Collections.synchronizedList(new ArrayList<>());
+        RTIExecutor rtiExecutor = new RTIExecutor(create_rti(callList));
+        rtiExecutor.setMaxBatchSize(4);
+        try {
+            for(int ix = 0 ; ix < 10 ; ++ix) {
+                final int value = ix;
+                rtiExecutor.execute(rti -> {
+                    Assert.assertTrue(Thread.holdsLock(rti));
+                    callList.add("send" + value);
+                });
+            }
+            Assert.assertFalse(rtiExecutor.tick(0, 0.01));
+            Assert.assertEquals(11, callList.size());
+            for(int ix = 0 ; ix < 10 ; ++ix) {
+                Assert.assertEquals("send" + ix, callList.get(ix));
+            }
+            Assert.assertEquals("tick", callList.get(10));
+
+            Assert.assertEquals(42, (int)rtiExecutor.call(rti -> 42));
+            Assert.assertTrue(rtiExecutor.call(rti -> rtiExecutor.isExecutorThread()));
+            Assert.assertFalse(rtiExecutor.isExecutorThread());
+        } finally {
+            rtiExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void exceptionTest() throws Exception {
+        RTIExecutor rtiExecutor = new RTIExecutor(create_rti(new ArrayList<>()));
+        try {
+            // A FAILED COMMAND IS ONLY LOGGED, AND THE EXECUTOR CARRIES ON
+            rtiExecutor.execute(rti -> { throw new IllegalStateException("test"); });
+
+            CompletableFuture<Integer> future = rtiExecutor.submit(rti -> { throw new IllegalArgumentException("test"); });
+            try {
+                future.get();
+                Assert.fail();
+            } catch (ExecutionException executionException) {
+                Assert.assertTrue(executionException.getCause() instanceof IllegalArgumentException);
+            }
+
+            try {
+                rtiExecutor.call(rti -> { throw new IllegalArgumentException("test"); });
+                Assert.fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+
+            Assert.assertEquals("ok", rtiExecutor.call(rti -> "ok"));
+        } finally {
+            rtiExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void shutdownTest() {
+        List<String> callList = Collections.synchronizedList(new ArrayList<>());
+        RTIExecutor rtiExecutor = new RTIExecutor(create_rti(callList));
+        for(int ix = 0 ; ix < 1000 ; ++ix) {
+            rtiExecutor.execute(rti -> callList.add("send"));
+        }
+
+        // QUEUED COMMANDS ARE RUN BEFORE shutdown RETURNS, AND NO MORE ARE ACCEPTED
+        rtiExecutor.shutdown();
+        Assert.assertEquals(1000, callList.size());
+        try {
+            rtiExecutor.execute(rti -> callList.add("send"));
+            Assert.fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+}
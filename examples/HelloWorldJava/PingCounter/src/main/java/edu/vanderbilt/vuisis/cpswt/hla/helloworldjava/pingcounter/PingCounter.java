@@ -93,8 +93,7 @@ public class PingCounter extends PingCounterBase {
         // TODO perform basic initialization below //
         /////////////////////////////////////////////
 
-        AdvanceTimeRequest atr = new AdvanceTimeRequest(currentTime);
-        putAdvanceTimeRequest(atr);
+        AdvanceTimeRequest atr = putAdvanceTimeRequest(currentTime);
 
         if(!super.isLateJoiner()) {
             log.info("waiting on readyToPopulate...");
@@ -126,9 +125,9 @@ public class PingCounter extends PingCounterBase {
 
             if (!exitCondition) {
                 currentTime += super.getStepSize();
-                AdvanceTimeRequest newATR = new AdvanceTimeRequest(currentTime);
-                putAdvanceTimeRequest(newATR);
+                AdvanceTimeRequest newATR = putAdvanceTimeRequest(currentTime);
                 atr.requestSyncEnd();
+                atr.release();
                 atr = newATR;
             } else {
                 terminateAdvanceTimeThread(atr);
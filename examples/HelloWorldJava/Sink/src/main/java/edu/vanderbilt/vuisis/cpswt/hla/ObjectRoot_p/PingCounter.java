@@ -154,6 +154,12 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         return get_all_attribute_names(get_hla_class_name());
     }
 
+    //---------------------------------------------------------------------
+    // CANONICAL ClassAndPropertyName KEYS FOR THE PROPERTIES OF THIS CLASS
+    //---------------------------------------------------------------------
+    private static final ClassAndPropertyName _pingCount_key =
+      ClassAndPropertyName.get("ObjectRoot.PingCounter", "pingCount");
+
     /*
      * INITIALIZE STATIC PROPERTIES THAT DEAL WITH NAMES
      */
@@ -164,9 +170,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         _hlaClassNameInstanceMap.put(get_hla_class_name(), instance);
 
         Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
-        classAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.PingCounter", "pingCount"
-        ));
+        classAndPropertyNameSet.add(_pingCount_key);
 
         // ADD THIS CLASS'S classAndPropertyNameSet TO _classNamePropertyNameSetMap DEFINED
         // IN ObjectRoot
@@ -176,9 +180,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         Set<ClassAndPropertyName> allClassAndPropertyNameSet = new HashSet<>();
 
-        allClassAndPropertyNameSet.add(new ClassAndPropertyName(
-            "ObjectRoot.PingCounter", "pingCount"
-        ));
+        allClassAndPropertyNameSet.add(_pingCount_key);
 
 
         // ADD THIS CLASS'S _allClassAndPropertyNameSet TO _allClassNamePropertyNameSetMap DEFINED
@@ -187,7 +189,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
 
         ClassAndPropertyName key;
 
-        key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
+        key = _pingCount_key;
         _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
         commonInit(get_hla_class_name());
@@ -449,7 +451,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @param value the new value for the "pingCount" parameter
      */
     public void set_pingCount(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
+        ClassAndPropertyName key = _pingCount_key;
         Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
         attribute.setValue(value);
         attribute.setTime(getTime());
@@ -461,7 +463,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "pingCount" parameter
      */
     public int get_pingCount() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
+        ClassAndPropertyName key = _pingCount_key;
         return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
     }
 
@@ -471,9 +473,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "pingCount" attribute
      */
     public double get_pingCount_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "pingCount")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_pingCount_key)).getTime();
     }
 
     //----------------------------------
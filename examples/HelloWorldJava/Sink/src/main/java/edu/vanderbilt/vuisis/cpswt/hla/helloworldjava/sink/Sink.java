@@ -102,8 +102,7 @@ public class Sink extends SinkBase {
         // TODO perform basic initialization below //
         /////////////////////////////////////////////
 
-        AdvanceTimeRequest atr = new AdvanceTimeRequest(currentTime);
-        putAdvanceTimeRequest(atr);
+        AdvanceTimeRequest atr = putAdvanceTimeRequest(currentTime);
 
         if(!super.isLateJoiner()) {
             log.info("waiting on readyToPopulate...");
@@ -131,9 +130,9 @@ public class Sink extends SinkBase {
 
             if (!exitCondition) {
                 currentTime += super.getStepSize();
-                AdvanceTimeRequest newATR = new AdvanceTimeRequest(currentTime);
-                putAdvanceTimeRequest(newATR);
+                AdvanceTimeRequest newATR = putAdvanceTimeRequest(currentTime);
                 atr.requestSyncEnd();
+                atr.release();
                 atr = newATR;
             } else {
                 terminateAdvanceTimeThread(atr);
@@ -62,8 +62,7 @@ public class Source extends SourceBase {
         // TODO perform basic initialization below //
         /////////////////////////////////////////////
 
-        AdvanceTimeRequest atr = new AdvanceTimeRequest(currentTime);
-        putAdvanceTimeRequest(atr);
+        AdvanceTimeRequest atr = putAdvanceTimeRequest(currentTime);
 
         if(!super.isLateJoiner()) {
             log.info("waiting on readyToPopulate...");
@@ -96,9 +95,9 @@ public class Source extends SourceBase {
 
             if (!exitCondition) {
                 currentTime += super.getStepSize();
-                AdvanceTimeRequest newATR = new AdvanceTimeRequest(currentTime);
-                putAdvanceTimeRequest(newATR);
+                AdvanceTimeRequest newATR = putAdvanceTimeRequest(currentTime);
                 atr.requestSyncEnd();
+                atr.release();
                 atr = newATR;
             } else {
                 terminateAdvanceTimeThread(atr);